@@ -0,0 +1,181 @@
+package me.christianrobert.ora2postgre.benchmarks;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.SynonymMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Function;
+import me.christianrobert.ora2postgre.plsql.ast.OraclePackage;
+import me.christianrobert.ora2postgre.plsql.ast.Procedure;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic inputs shared by the JMH benchmarks.
+ *
+ * The ResultSet and PreparedStatement are plain dynamic proxies over an in-memory row:
+ * a Mockito mock records every invocation, which would dominate the encoding paths being measured.
+ */
+public final class BenchmarkData {
+
+  public static final int SCHEMA_COUNT = 20;
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * Columns of a typical wide table: numbers, strings with characters that need escaping, dates and a CLOB.
+   */
+  public static List<ColumnMetadata> wideTableColumns() {
+    List<ColumnMetadata> columns = new ArrayList<>();
+    columns.add(new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null));
+    columns.add(new ColumnMetadata("AMOUNT", "NUMBER", null, 12, 2, true, null));
+    columns.add(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+    columns.add(new ColumnMetadata("DESCRIPTION", "VARCHAR2", 4000, null, null, true, null));
+    columns.add(new ColumnMetadata("CREATED", "DATE", null, null, null, true, null));
+    columns.add(new ColumnMetadata("UPDATED", "TIMESTAMP(6)", null, null, null, true, null));
+    columns.add(new ColumnMetadata("NOTES", "CLOB", null, null, null, true, null));
+    columns.add(new ColumnMetadata("DELETED", "CHAR", 1, null, null, true, null));
+    return columns;
+  }
+
+  /**
+   * Row values matching {@link #wideTableColumns()}, with one NULL column.
+   */
+  public static Map<String, Object> wideTableRow(int id) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("ID", new BigDecimal(id));
+    row.put("AMOUNT", new BigDecimal("1234.56").add(BigDecimal.valueOf(id)));
+    row.put("NAME", "Customer " + id);
+    row.put("DESCRIPTION", "Line one\twith tab\nline two with \\backslash\\ and some more text to copy");
+    row.put("CREATED", Timestamp.valueOf("2024-03-15 10:30:00"));
+    row.put("UPDATED", Timestamp.valueOf("2024-03-15 10:30:00.123456"));
+    row.put("NOTES", null);
+    row.put("DELETED", "N");
+    return row;
+  }
+
+  /**
+   * A ResultSet positioned on the given row. Getters by column label convert the stored value
+   * to the requested type; all other methods return a neutral default.
+   */
+  public static ResultSet resultSet(Map<String, Object> row) {
+    boolean[] wasNull = new boolean[1];
+    return (ResultSet) Proxy.newProxyInstance(BenchmarkData.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("wasNull")) {
+                return wasNull[0];
+              }
+              if (method.getName().startsWith("get") && args != null && args.length == 1 && args[0] instanceof String) {
+                Object value = row.get((String) args[0]);
+                wasNull[0] = value == null;
+                return convert(value, method);
+              }
+              return defaultValue(method.getReturnType());
+            });
+  }
+
+  /**
+   * A PreparedStatement that accepts and drops all parameters.
+   */
+  public static PreparedStatement discardingStatement() {
+    return (PreparedStatement) Proxy.newProxyInstance(BenchmarkData.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> defaultValue(method.getReturnType()));
+  }
+
+  private static Object convert(Object value, Method method) {
+    Class<?> type = method.getReturnType();
+    if (value == null) {
+      return defaultValue(type);
+    }
+    if (type == String.class) {
+      return value.toString();
+    }
+    if (type.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof Number) {
+      Number number = (Number) value;
+      if (type == int.class) {
+        return number.intValue();
+      } else if (type == long.class) {
+        return number.longValue();
+      } else if (type == double.class) {
+        return number.doubleValue();
+      } else if (type == BigDecimal.class) {
+        return new BigDecimal(number.toString());
+      }
+    }
+    if (type == byte[].class) {
+      return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    return defaultValue(type);
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (type == boolean.class) {
+      return false;
+    } else if (type == int.class) {
+      return 0;
+    } else if (type == long.class) {
+      return 0L;
+    } else if (type == double.class) {
+      return 0.0d;
+    } else if (type == float.class) {
+      return 0.0f;
+    } else if (type == short.class) {
+      return (short) 0;
+    } else if (type == byte.class) {
+      return (byte) 0;
+    }
+    return null;
+  }
+
+  /**
+   * Builds a metadata model with the given number of objects spread evenly over tables, views,
+   * synonyms and packages in {@link #SCHEMA_COUNT} schemas. Object names are OBJ_&lt;n&gt; per kind,
+   * synonyms in schema S point to the table with the same number in schema S+1.
+   */
+  public static Everything syntheticEverything(int objectCount) {
+    Everything data = new Everything();
+    int perKind = objectCount / 4;
+    for (int i = 0; i < perKind; i++) {
+      String schema = schemaName(i);
+
+      TableMetadata table = new TableMetadata(schema, "TAB_" + i);
+      table.addColumn(new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null));
+      table.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+      data.getTableSql().add(table);
+
+      data.getViewDefinition().add(new ViewMetadata(schema, "VIEW_" + i));
+
+      String targetSchema = schemaName(i + 1);
+      data.getSynonyms().add(new SynonymMetadata(schema, "SYN_" + i, targetSchema, "TAB_" + (i + 1), "TABLE"));
+
+      List<Function> functions = new ArrayList<>();
+      functions.add(new Function("GET_VALUE", new ArrayList<>(), new ArrayList<>(), "NUMBER", new ArrayList<>()));
+      List<Procedure> procedures = new ArrayList<>();
+      procedures.add(new Procedure("DO_WORK", new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+      OraclePackage pkg = new OraclePackage("PKG_" + i, schema, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+              new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), functions, procedures,
+              new ArrayList<>());
+      data.getPackageSpecAst().add(pkg);
+    }
+    return data;
+  }
+
+  public static String schemaName(int objectNumber) {
+    return "SCHEMA_" + (objectNumber % SCHEMA_COUNT);
+  }
+}
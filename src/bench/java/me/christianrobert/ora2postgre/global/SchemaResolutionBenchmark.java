@@ -0,0 +1,62 @@
+package me.christianrobert.ora2postgre.global;
+
+import me.christianrobert.ora2postgre.benchmarks.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the name lookups of {@link SchemaResolutionUtils} against a synthetic model.
+ * The looked up objects are the last ones added, so every lookup scans the full lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaResolutionBenchmark {
+
+  @Param({"10000"})
+  public int objectCount;
+
+  private Everything data;
+  private int last;
+
+  @Setup
+  public void setUp() {
+    data = BenchmarkData.syntheticEverything(objectCount);
+    // The synonym of the last object would point past the end, the one before still resolves
+    last = objectCount / 4 - 2;
+  }
+
+  @Benchmark
+  public String tableInOwnSchema() {
+    return SchemaResolutionUtils.lookupSchema4Field(data, "TAB_" + last, BenchmarkData.schemaName(last));
+  }
+
+  @Benchmark
+  public String tableThroughSynonym() {
+    return SchemaResolutionUtils.lookupSchema4Field(data, "SYN_" + last, BenchmarkData.schemaName(last));
+  }
+
+  @Benchmark
+  public String packageProcedureSchema() {
+    return SchemaResolutionUtils.lookupProcedureSchema(data, "DO_WORK", "PKG_" + last, BenchmarkData.schemaName(last));
+  }
+
+  @Benchmark
+  public boolean packageRoutineIsFunction() {
+    return SchemaResolutionUtils.isFunction(data, "GET_VALUE", "PKG_" + last, BenchmarkData.schemaName(last));
+  }
+}
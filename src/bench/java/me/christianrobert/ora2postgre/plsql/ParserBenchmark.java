@@ -0,0 +1,58 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.plsql.ast.OraclePackage;
+import me.christianrobert.ora2postgre.plsql.ast.PlSqlAst;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and transpiling of the package bodies in the PL/SQL corpus.
+ * One invocation processes the whole corpus, so results scale with its size.
+ * PlsqlCorpusTest runs the transpile path once as part of the regular test suite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+  private List<PlsqlCode> corpus;
+  private Everything data;
+
+  @Setup
+  public void setUp() {
+    corpus = PlsqlCorpus.load();
+    data = PlsqlCorpus.everything(corpus);
+  }
+
+  @Benchmark
+  public void parse(Blackhole bh) {
+    for (PlsqlCode code : corpus) {
+      PlSqlAst ast = PlSqlAstMain.processPlsqlCode(code);
+      bh.consume(ast);
+    }
+  }
+
+  @Benchmark
+  public void transpile(Blackhole bh) {
+    for (OraclePackage pkg : data.getPackageBodyAst()) {
+      bh.consume(pkg.toPostgre(data, false));
+    }
+  }
+}
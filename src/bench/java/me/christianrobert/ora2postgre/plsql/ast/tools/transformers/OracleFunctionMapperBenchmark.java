@@ -0,0 +1,51 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Oracle to PostgreSQL function rewriting applied to expressions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OracleFunctionMapperBenchmark {
+
+  private String withFunctions;
+  private String withoutFunctions;
+
+  @Setup
+  public void setUp() {
+    withFunctions = "SELECT NVL(name, 'n/a'), SUBSTR(code, 1, 3), SYSDATE, TO_CHAR(created, 'YYYY-MM-DD'), " +
+            "DECODE(status, 'A', 'Active', 'Inactive'), LENGTH(description) FROM customers WHERE ROWNUM <= 10";
+    withoutFunctions = "SELECT id, name, code, created, status, description FROM customers WHERE id = 10";
+  }
+
+  @Benchmark
+  public String simpleFunctions() {
+    return OracleFunctionMapper.transformSimpleFunctions(withFunctions);
+  }
+
+  @Benchmark
+  public String simpleFunctionsNothingToReplace() {
+    return OracleFunctionMapper.transformSimpleFunctions(withoutFunctions);
+  }
+
+  @Benchmark
+  public String allFunctions() {
+    return OracleFunctionMapper.transformOracleFunctions(withFunctions);
+  }
+}
@@ -0,0 +1,88 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.benchmarks.BenchmarkData;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the value conversions of the batch insert path: ParameterSetter for every column of
+ * a row, object types to composite tuples and ANYDATA to JSON. The object type and the struct
+ * come from {@link MockDataFactory}, the same fixtures the transfer tests use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+  private List<ColumnMetadata> columns;
+  private ResultSet row;
+  private PreparedStatement statement;
+  private ObjectTypeMapper objectTypeMapper;
+  private ObjectType langdata2;
+  private Object langdata2Struct;
+  private ResultSet anydataNumberRow;
+  private ResultSet anydataTextRow;
+
+  @Setup
+  public void setUp() {
+    columns = BenchmarkData.wideTableColumns();
+    row = BenchmarkData.resultSet(BenchmarkData.wideTableRow(42));
+    statement = BenchmarkData.discardingStatement();
+
+    objectTypeMapper = new ObjectTypeMapper();
+    langdata2 = MockDataFactory.createLangdata2ObjectType();
+    langdata2Struct = MockDataFactory.createMockOracleStruct();
+
+    Map<String, Object> numberPayload = new HashMap<>();
+    numberPayload.put("PAYLOAD", new BigDecimal("12345.678"));
+    anydataNumberRow = BenchmarkData.resultSet(numberPayload);
+    Map<String, Object> textPayload = new HashMap<>();
+    textPayload.put("PAYLOAD", "Some \"quoted\" text stored in an ANYDATA column");
+    anydataTextRow = BenchmarkData.resultSet(textPayload);
+  }
+
+  @Benchmark
+  public PreparedStatement setParametersForRow() throws SQLException {
+    for (int i = 0; i < columns.size(); i++) {
+      ParameterSetter.setParameter(statement, i + 1, row, columns.get(i));
+    }
+    return statement;
+  }
+
+  @Benchmark
+  public String objectToCompositeType() {
+    return objectTypeMapper.convertObjectToCompositeType(langdata2Struct, langdata2);
+  }
+
+  @Benchmark
+  public String anydataNumberToJson() throws SQLException {
+    return AnydataConverter.convertAnydataToJson(anydataNumberRow, "PAYLOAD");
+  }
+
+  @Benchmark
+  public String anydataTextToJson() throws SQLException {
+    return AnydataConverter.convertAnydataToJson(anydataTextRow, "PAYLOAD");
+  }
+}
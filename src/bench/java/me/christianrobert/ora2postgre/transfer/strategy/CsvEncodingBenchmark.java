@@ -0,0 +1,69 @@
+package me.christianrobert.ora2postgre.transfer.strategy;
+
+import me.christianrobert.ora2postgre.benchmarks.BenchmarkData;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per row COPY text encoding of {@link StreamingCsvStrategy}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvEncodingBenchmark {
+
+  private StreamingCsvStrategy strategy;
+  private List<ColumnMetadata> columns;
+  private ResultSet row;
+  private String plainText;
+  private String textWithControlCharacters;
+
+  @Setup
+  public void setUp() {
+    strategy = new StreamingCsvStrategy();
+    columns = BenchmarkData.wideTableColumns();
+    row = BenchmarkData.resultSet(BenchmarkData.wideTableRow(42));
+    plainText = "A plain customer name without anything to escape";
+    textWithControlCharacters = "Line one\twith tab\nline two with \\backslash\\ and\r\nwindows line end";
+  }
+
+  @Benchmark
+  public String convertRow() throws SQLException {
+    return strategy.convertRowToCsv(row, columns);
+  }
+
+  @Benchmark
+  public void formatValuePerColumn(Blackhole bh) throws SQLException {
+    for (ColumnMetadata column : columns) {
+      bh.consume(strategy.formatValueForCsv(row, column));
+    }
+  }
+
+  @Benchmark
+  public String escapePlainText() {
+    return strategy.escapeForCsv(plainText);
+  }
+
+  @Benchmark
+  public String escapeControlCharacters() {
+    return strategy.escapeForCsv(textWithControlCharacters);
+  }
+}
@@ -0,0 +1,330 @@
+package me.christianrobert.ora2postgre.config;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+import io.agroal.api.security.NamePrincipal;
+import io.agroal.api.security.SimplePassword;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
+import me.christianrobert.ora2postgre.transfer.ConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * Pooled Oracle and PostgreSQL connections for all migration phases.
+ *
+ * The pools are Agroal datasources built from the connection settings of the
+ * ConfigurationService. When those settings change at runtime, the next request builds a new
+ * pool; the old one is closed as soon as its last connection is returned. Each phase may hold
+ * only a limited number of connections of a pool at a time (pool.phase-limit.*), so a large
+ * transfer cannot starve DDL execution or the status endpoints.
+ *
+ * Callers close the connections they get, which returns them to the pool.
+ */
+@ApplicationScoped
+public class ConnectionPools {
+
+  private static final Logger log = LoggerFactory.getLogger(ConnectionPools.class);
+
+  /** What a connection is used for, each with its own limit per pool. */
+  public enum Phase { EXTRACT, EXECUTE, TRANSFER, STATUS }
+
+  private static final String ORACLE = "oracle";
+  private static final String POSTGRES = "postgres";
+
+  @Inject
+  Config config;
+
+  @Inject
+  ConfigurationService configurationService;
+
+  private final Map<String, Pool> pools = new HashMap<>();
+  private final List<Pool> retiredPools = new ArrayList<>();
+  private final Map<String, Map<Phase, Semaphore>> phaseLimits = new HashMap<>();
+
+  @PostConstruct
+  void init() {
+    phaseLimits.put(ORACLE, createPhaseLimits());
+    phaseLimits.put(POSTGRES, createPhaseLimits());
+    registerMetrics(ORACLE);
+    registerMetrics(POSTGRES);
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (!config.isPoolPrewarm()) {
+      return;
+    }
+    // The datasources open pool.min-size connections in the background
+    try {
+      if (!"xxx".equals(configurationService.getOraclePassword())) {
+        pool(ORACLE);
+      }
+      if (!"xxx".equals(configurationService.getPostgrePassword())) {
+        pool(POSTGRES);
+      }
+    } catch (SQLException e) {
+      log.warn("Could not prewarm the connection pools: {}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  synchronized void shutdown() {
+    pools.values().forEach(Pool::close);
+    retiredPools.forEach(Pool::close);
+    pools.clear();
+    retiredPools.clear();
+  }
+
+  public Connection oracle(Phase phase) throws SQLException {
+    return acquire(ORACLE, phase);
+  }
+
+  public Connection postgres(Phase phase) throws SQLException {
+    return acquire(POSTGRES, phase);
+  }
+
+  /**
+   * Factory for work that opens connections of its own, e.g. parallel partition loads.
+   */
+  public ConnectionFactory oracleFactory(Phase phase) {
+    return () -> oracle(phase);
+  }
+
+  public ConnectionFactory postgresFactory(Phase phase) {
+    return () -> postgres(phase);
+  }
+
+  /**
+   * Size and usage of both pools, for the health endpoint.
+   */
+  public synchronized Map<String, Object> getPoolStatus() {
+    Map<String, Object> status = new HashMap<>();
+    for (String database : List.of(ORACLE, POSTGRES)) {
+      Pool pool = pools.get(database);
+      Map<String, Object> poolStatus = new HashMap<>();
+      poolStatus.put("open", pool != null);
+      if (pool != null) {
+        AgroalDataSourceMetrics metrics = pool.dataSource.getMetrics();
+        poolStatus.put("active", metrics.activeCount());
+        poolStatus.put("available", metrics.availableCount());
+        poolStatus.put("awaiting", metrics.awaitingCount());
+        poolStatus.put("maxUsed", metrics.maxUsedCount());
+        poolStatus.put("created", metrics.creationCount());
+        poolStatus.put("invalid", metrics.invalidCount());
+      }
+      poolStatus.put("maxSize", maxSize(database));
+      status.put(database, poolStatus);
+    }
+    return status;
+  }
+
+  private Connection acquire(String database, Phase phase) throws SQLException {
+    long start = System.nanoTime();
+    Semaphore limit = phaseLimits.get(database).get(phase);
+    try {
+      if (!limit.tryAcquire(config.getPoolAcquisitionTimeoutSeconds(), TimeUnit.SECONDS)) {
+        throw new SQLException("Timed out waiting for a " + database + " connection: phase "
+                + phase + " already holds " + phaseLimit(phase) + " connections");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a " + database + " connection", e);
+    }
+
+    try {
+      Connection connection = pool(database).dataSource.getConnection();
+      MigrationMetrics.recordConnectionAcquire(database, phase.name().toLowerCase(), start);
+      return releasingOnClose(connection, limit);
+    } catch (SQLException | RuntimeException e) {
+      limit.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the pool for the current connection settings, replacing it if they changed.
+   */
+  private synchronized Pool pool(String database) throws SQLException {
+    closeIdleRetiredPools();
+    String url = ORACLE.equals(database) ? configurationService.getOracleUrl() : configurationService.getPostgreUrl();
+    String user = ORACLE.equals(database) ? configurationService.getOracleUser() : configurationService.getPostgreUsername();
+    String password = ORACLE.equals(database) ? configurationService.getOraclePassword() : configurationService.getPostgrePassword();
+
+    Pool pool = pools.get(database);
+    if (pool != null && pool.matches(url, user, password)) {
+      return pool;
+    }
+    if (pool != null) {
+      log.info("Connection settings of {} changed, replacing its pool", database);
+      retiredPools.add(pool);
+    }
+    pool = new Pool(url, user, password, createDataSource(database, url, user, password));
+    pools.put(database, pool);
+    log.info("Opened {} connection pool for {} (max {} connections)", database, url, maxSize(database));
+    return pool;
+  }
+
+  private void closeIdleRetiredPools() {
+    Iterator<Pool> it = retiredPools.iterator();
+    while (it.hasNext()) {
+      Pool pool = it.next();
+      if (pool.dataSource.getMetrics().activeCount() == 0) {
+        pool.close();
+        it.remove();
+      }
+    }
+  }
+
+  private AgroalDataSource createDataSource(String database, String url, String user, String password)
+          throws SQLException {
+    int minSize = Math.min(config.getPoolMinSize(), maxSize(database));
+    AgroalDataSourceConfigurationSupplier configuration = new AgroalDataSourceConfigurationSupplier()
+            .metricsEnabled(true)
+            .connectionPoolConfiguration(pool -> pool
+                    .initialSize(minSize)
+                    .minSize(minSize)
+                    .maxSize(maxSize(database))
+                    .acquisitionTimeout(Duration.ofSeconds(config.getPoolAcquisitionTimeoutSeconds()))
+                    .reapTimeout(Duration.ofMinutes(config.getPoolIdleTimeoutMinutes()))
+                    .validationTimeout(Duration.ofMinutes(2))
+                    .connectionValidator(ConnectionValidator.defaultValidator())
+                    .connectionFactoryConfiguration(factory -> {
+                      factory.jdbcUrl(url)
+                              .principal(new NamePrincipal(user))
+                              .credential(new SimplePassword(password));
+                      if (ORACLE.equals(database)) {
+                        factory.jdbcProperty("oracle.jdbc.implicitStatementCacheSize",
+                                String.valueOf(config.getPoolOracleStatementCacheSize()));
+                      } else {
+                        factory.jdbcProperty("prepareThreshold",
+                                String.valueOf(config.getPoolPostgresPrepareThreshold()));
+                      }
+                      return factory;
+                    }));
+    AgroalDataSource dataSource = AgroalDataSource.from(configuration);
+    if (POSTGRES.equals(database)) {
+      dataSource.setPoolInterceptors(List.of(new ResetSessionInterceptor()));
+    }
+    return dataSource;
+  }
+
+  private Map<Phase, Semaphore> createPhaseLimits() {
+    Map<Phase, Semaphore> limits = new EnumMap<>(Phase.class);
+    for (Phase phase : Phase.values()) {
+      limits.put(phase, new Semaphore(phaseLimit(phase), true));
+    }
+    return limits;
+  }
+
+  private int phaseLimit(Phase phase) {
+    return switch (phase) {
+      case EXTRACT -> config.getPoolPhaseLimitExtract();
+      case EXECUTE -> config.getPoolPhaseLimitExecute();
+      case TRANSFER -> config.getPoolPhaseLimitTransfer();
+      case STATUS -> config.getPoolPhaseLimitStatus();
+    };
+  }
+
+  private int maxSize(String database) {
+    return ORACLE.equals(database) ? config.getPoolOracleMaxSize() : config.getPoolPostgresMaxSize();
+  }
+
+  private void registerMetrics(String database) {
+    Tags tags = Tags.of("database", database);
+    MigrationMetrics.gauge("migration.pool.active", tags, this, p -> p.metric(database, AgroalDataSourceMetrics::activeCount));
+    MigrationMetrics.gauge("migration.pool.available", tags, this, p -> p.metric(database, AgroalDataSourceMetrics::availableCount));
+    MigrationMetrics.gauge("migration.pool.awaiting", tags, this, p -> p.metric(database, AgroalDataSourceMetrics::awaitingCount));
+    MigrationMetrics.gauge("migration.pool.invalid", tags, this, p -> p.metric(database, AgroalDataSourceMetrics::invalidCount));
+  }
+
+  private synchronized double metric(String database, ToLongFunction<AgroalDataSourceMetrics> value) {
+    Pool pool = pools.get(database);
+    return pool != null ? value.applyAsLong(pool.dataSource.getMetrics()) : 0;
+  }
+
+  /**
+   * Wraps a pooled connection so that closing it also frees its phase permit, once.
+   */
+  private static Connection releasingOnClose(Connection connection, Semaphore limit) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(ConnectionPools.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              } finally {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                        && released.compareAndSet(false, true)) {
+                  limit.release();
+                }
+              }
+            });
+  }
+
+  /**
+   * Undoes session settings (session_replication_role of the transfer, SET commands of the
+   * generated files) before a PostgreSQL connection is reused. Prepared statements are kept.
+   */
+  private static class ResetSessionInterceptor implements AgroalPoolInterceptor {
+    @Override
+    public void onConnectionReturn(Connection connection) {
+      try (Statement stmt = connection.createStatement()) {
+        stmt.execute("RESET ALL");
+      } catch (SQLException e) {
+        log.debug("Could not reset a returned PostgreSQL connection: {}", e.getMessage());
+      }
+    }
+  }
+
+  private static class Pool {
+    private final String url;
+    private final String user;
+    private final String password;
+    private final AgroalDataSource dataSource;
+
+    Pool(String url, String user, String password, AgroalDataSource dataSource) {
+      this.url = url;
+      this.user = user;
+      this.password = password;
+      this.dataSource = dataSource;
+    }
+
+    boolean matches(String url, String user, String password) {
+      return Objects.equals(this.url, url) && Objects.equals(this.user, user)
+              && Objects.equals(this.password, password);
+    }
+
+    void close() {
+      dataSource.close();
+    }
+  }
+}
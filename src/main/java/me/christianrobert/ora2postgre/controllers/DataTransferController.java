@@ -2,11 +2,22 @@ package me.christianrobert.ora2postgre.controllers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.MigrationScopes;
 import me.christianrobert.ora2postgre.transfer.DataTransferService;
+import me.christianrobert.ora2postgre.transfer.OracleReadTuning;
+import me.christianrobert.ora2postgre.transfer.TriggerBypass;
+import me.christianrobert.ora2postgre.transfer.delta.ChangeSource;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncConfig;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncResult;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncService;
+import me.christianrobert.ora2postgre.transfer.delta.OracleChangeSource;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
 import me.christianrobert.ora2postgre.jobs.MigrationStep;
 import me.christianrobert.ora2postgre.config.ConfigurationService;
+import me.christianrobert.ora2postgre.config.ConnectionPools;
+import me.christianrobert.ora2postgre.config.ConnectionPools.Phase;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,9 +34,9 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Path("/migration")
 @ApplicationScoped
@@ -35,7 +46,7 @@ public class DataTransferController {
   private static final Logger log = LoggerFactory.getLogger(DataTransferController.class);
 
   @Inject
-  Everything data;
+  MigrationScopes scopes;
 
   @Inject
   Config config;
@@ -46,9 +57,18 @@ public class DataTransferController {
   @Inject
   ConfigurationService configurationService;
 
+  @Inject
+  ConnectionPools connectionPools;
+
   @Inject
   MigrationProgressService progressService;
 
+  @Inject
+  DeltaSyncConfig deltaSyncConfig;
+
+  // SCN up to which PostgreSQL contains the Oracle data of each scope
+  private final Map<String, Long> lastSyncedScn = new ConcurrentHashMap<>();
+
   @POST
   @Path("/transferdata")
   @Produces(MediaType.APPLICATION_JSON)
@@ -58,16 +78,16 @@ public class DataTransferController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Data transfer job started successfully"),
-          @APIResponse(responseCode = "409", description = "Another data transfer job is running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response transferData() {
-    if (jobManager.isAnyJobRunning()) {
+  public Response transferData(@QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("transferdata", () -> {
+    String jobId = jobManager.startJob("transferdata", scope, () -> {
       try {
-        performDataTransfer();
+        performDataTransfer(scopes.get(scope), MigrationScopes.normalize(scope));
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -80,7 +100,71 @@ public class DataTransferController {
     return Response.accepted(result).build();
   }
 
-  public void performDataTransfer() throws Exception {
+  @POST
+  @Path("/transferdata/delta")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Delta Sync Oracle → PostgreSQL",
+          description = "Applies the rows changed in Oracle since the given SCN (default: the snapshot SCN of the last transfer or delta sync) to PostgreSQL. Repeat until cutover."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "202", description = "Delta sync job started successfully"),
+          @APIResponse(responseCode = "400", description = "No start SCN known"),
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
+  })
+  public Response deltaSync(@QueryParam("fromScn") Long fromScn, @QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+    String scopeName = MigrationScopes.normalize(scope);
+    long startScn = fromScn != null ? fromScn : lastSyncedScn.getOrDefault(scopeName, -1L);
+    if (startScn < 0) {
+      Map<String, String> error = new HashMap<>();
+      error.put("status", "error");
+      error.put("message", "No start SCN known - run the data transfer with do.consistent-snapshot=true or pass fromScn");
+      return Response.status(400).entity(error).build();
+    }
+
+    String jobId = jobManager.startJob("deltasync", scopeName, () -> {
+      try {
+        performDeltaSync(scopes.get(scopeName), scopeName, startScn);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    Map<String, Object> result = new HashMap<>();
+    result.put("status", "started");
+    result.put("jobId", jobId);
+    result.put("fromScn", startScn);
+    result.put("message", "delta sync started");
+    return Response.accepted(result).build();
+  }
+
+  public DeltaSyncResult performDeltaSync(Everything data, String scope, long fromScn) throws Exception {
+    try (Connection oracleConn = connectionPools.oracle(Phase.TRANSFER);
+         Connection postgresConn = connectionPools.postgres(Phase.TRANSFER)) {
+
+      ChangeSource source = new OracleChangeSource(oracleConn, deltaSyncConfig.method(),
+              deltaSyncConfig.timestampColumn().orElse(null));
+      DeltaSyncResult result = new DeltaSyncService(deltaSyncConfig.batchSize())
+              .withTriggerBypass(new TriggerBypass(config.getTriggerBypassMode(), data))
+              .syncTables(data.getTableSql(), source, postgresConn, fromScn);
+
+      for (DeltaSyncResult.TableDelta table : result.getTables()) {
+        if (!table.isSuccessful()) {
+          log.error("Delta sync FAILED: {} - {}", table.getTableName(), table.getErrorMessage());
+        }
+      }
+      // Failed tables are retried by the next round, which starts at the same SCN
+      if (result.isSuccessful()) {
+        lastSyncedScn.put(scope, result.getToScn());
+      }
+      return result;
+    }
+  }
+
+  public void performDataTransfer(Everything data, String scope) throws Exception {
     boolean doData = configurationService.isDoData();
 
     if (doData) {
@@ -96,21 +180,18 @@ public class DataTransferController {
 
       log.info("Starting data transfer for {} tables using new streaming approach", data.getTableSql().size());
 
-      try (Connection oracleConn = DriverManager.getConnection(
-              configurationService.getOracleUrl(),
-              configurationService.getOracleUser(),
-              oraclePasswordForExport);
-           Connection postgresConn = DriverManager.getConnection(
-                   configurationService.getPostgreUrl(),
-                   configurationService.getPostgreUsername(),
-                   postgresPassword)) {
+      try (Connection oracleConn = connectionPools.oracle(Phase.TRANSFER);
+           Connection postgresConn = connectionPools.postgres(Phase.TRANSFER)) {
 
         // Use new DataTransferService for direct data transfer
-        DataTransferService transferService = new DataTransferService(true); // Enable fallback
+        DataTransferService transferService = createTransferService();
         DataTransferService.DataTransferResults results = transferService.transferTables(
                 data.getTableSql(), oracleConn, postgresConn, data, config);
 
         log.info("Data transfer completed: {}", results.getSummary());
+        if (results.getSnapshotScn() >= 0) {
+          lastSyncedScn.put(scope, results.getSnapshotScn());
+        }
 
         // Log detailed results
         for (var result : results.getTableResults()) {
@@ -134,7 +215,7 @@ public class DataTransferController {
     }
   }
 
-  public void performDataTransferWithProgress(String jobId) throws Exception {
+  public void performDataTransferWithProgress(String jobId, Everything data, String scope) throws Exception {
     // Check if job was cancelled before starting
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled before data transfer started", jobId);
@@ -158,17 +239,11 @@ public class DataTransferController {
       progressService.updateSubStepProgress(jobId, MigrationStep.TRANSFERDATA, 0,
               "Starting data transfer for " + data.getTableSql().size() + " tables");
 
-      try (Connection oracleConn = DriverManager.getConnection(
-              configurationService.getOracleUrl(),
-              configurationService.getOracleUser(),
-              oraclePasswordForExport);
-           Connection postgresConn = DriverManager.getConnection(
-                   configurationService.getPostgreUrl(),
-                   configurationService.getPostgreUsername(),
-                   postgresPassword)) {
+      try (Connection oracleConn = connectionPools.oracle(Phase.TRANSFER);
+           Connection postgresConn = connectionPools.postgres(Phase.TRANSFER)) {
 
         // Create DataTransferService with progress callback integration
-        DataTransferService transferService = new DataTransferService(true);
+        DataTransferService transferService = createTransferService();
 
         // Track total rows transferred for enhanced progress reporting
         final long[] totalRowsTransferred = {0};
@@ -188,13 +263,26 @@ public class DataTransferController {
             progressService.updateDynamicDataTransferProgress(jobId, tableIndex, totalTables,
                     tableName, false, totalRowsTransferred[0]);
           }
+
+          @Override
+          public void onTransferStart(TransferProgress progress) {
+            progressService.attachTransferProgress(jobId, progress);
+          }
         };
 
         // Execute transfer with dynamic progress tracking
-        DataTransferService.DataTransferResults results = transferService.transferTables(
-                data.getTableSql(), oracleConn, postgresConn, data, config, progressCallback);
+        DataTransferService.DataTransferResults results;
+        try {
+          results = transferService.transferTables(
+                  data.getTableSql(), oracleConn, postgresConn, data, config, progressCallback);
+        } finally {
+          progressService.detachTransferProgress(jobId);
+        }
 
         log.info("Data transfer completed: {}", results.getSummary());
+        if (results.getSnapshotScn() >= 0) {
+          lastSyncedScn.put(scope, results.getSnapshotScn());
+        }
 
         // Log detailed results
         for (var result : results.getTableResults()) {
@@ -221,4 +309,16 @@ public class DataTransferController {
               MigrationStep.TRANSFERDATA.getSubStepCount(), "Data transfer skipped (disabled in configuration)");
     }
   }
+
+  /**
+   * Transfer service with read tuning and parallel partition loading on pooled connections of its own.
+   */
+  private DataTransferService createTransferService() {
+    DataTransferService transferService = new DataTransferService(true, // Enable fallback
+            OracleReadTuning.fromConfig(config));
+    transferService.setPartitionConnections(config.getTransferPartitionParallelism(),
+            connectionPools.oracleFactory(Phase.TRANSFER),
+            connectionPools.postgresFactory(Phase.TRANSFER));
+    return transferService;
+  }
 }
\ No newline at end of file
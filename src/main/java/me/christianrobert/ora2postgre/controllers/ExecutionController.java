@@ -4,6 +4,12 @@ import me.christianrobert.ora2postgre.postgre.PostgresExecuter;
 import me.christianrobert.ora2postgre.postgre.PostgresExecuter.ExecutionPhase;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.config.ConfigurationService;
+import me.christianrobert.ora2postgre.config.ConnectionPools;
+import me.christianrobert.ora2postgre.config.ConnectionPools.Phase;
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.MigrationScopes;
+import me.christianrobert.ora2postgre.transfer.SequenceSynchronizer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +26,6 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Map;
@@ -39,6 +44,15 @@ public class ExecutionController {
   @Inject
   ConfigurationService configurationService;
 
+  @Inject
+  ConnectionPools connectionPools;
+
+  @Inject
+  Config config;
+
+  @Inject
+  MigrationScopes scopes;
+
   @POST
   @Path("/execute-pre")
   @Produces(MediaType.APPLICATION_JSON)
@@ -48,14 +62,14 @@ public class ExecutionController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Pre-transfer execution started successfully"),
-          @APIResponse(responseCode = "409", description = "Another pre-transfer execution is running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response executePreTransferSQL() {
-    if (jobManager.isAnyJobRunning()) {
+  public Response executePreTransferSQL(@QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("execute-pre", () -> {
+    String jobId = jobManager.startJob("execute-pre", scope, () -> {
       try {
         performPreExecution();
       } catch (Exception e) {
@@ -79,16 +93,16 @@ public class ExecutionController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Post-transfer execution started successfully"),
-          @APIResponse(responseCode = "409", description = "Another post-transfer execution is running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response executePostTransferSQL() {
-    if (jobManager.isAnyJobRunning()) {
+  public Response executePostTransferSQL(@QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("execute-post", () -> {
+    String jobId = jobManager.startJob("execute-post", scope, () -> {
       try {
-        performPostExecution();
+        performPostExecution(scopes.get(scope));
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -110,10 +124,7 @@ public class ExecutionController {
         throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before execution");
       }
       String path = configurationService.getPathTargetProjectRoot() + configurationService.getPathTargetProjectPostgre();
-      try (Connection postgresConn = DriverManager.getConnection(
-              configurationService.getPostgreUrl(),
-              configurationService.getPostgreUsername(),
-              postgresPassword)) {
+      try (Connection postgresConn = connectionPools.postgres(Phase.EXECUTE)) {
         PostgresExecuter.executeAllSqlFiles(
                 path,
                 postgresConn,
@@ -134,7 +145,7 @@ public class ExecutionController {
     }
   }
 
-  public void performPostExecution() throws Exception {
+  public void performPostExecution(Everything data) throws Exception {
     boolean doExecutePostgreFiles = configurationService.isDoExecutePostgreFiles();
 
     if (doExecutePostgreFiles) {
@@ -143,10 +154,7 @@ public class ExecutionController {
         throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before execution");
       }
       String path = configurationService.getPathTargetProjectRoot() + configurationService.getPathTargetProjectPostgre();
-      try (Connection postgresConn = DriverManager.getConnection(
-              configurationService.getPostgreUrl(),
-              configurationService.getPostgreUsername(),
-              postgresPassword)) {
+      try (Connection postgresConn = connectionPools.postgres(Phase.EXECUTE)) {
         PostgresExecuter.executeAllSqlFiles(
                 path,
                 postgresConn,
@@ -174,6 +182,19 @@ public class ExecutionController {
           // Don't re-throw the exception - allow migration to continue
         }
 
+        // Move the sequences past the transferred keys before triggers start using them
+        try {
+          int failures = SequenceSynchronizer.synchronize(data,
+                  connectionPools.postgresFactory(Phase.EXECUTE),
+                  config.getSequenceSyncParallelism());
+          if (failures > 0) {
+            log.warn("{} sequences could not be synchronized - set them manually with setval()", failures);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+
         // Execute indexes after constraints but before triggers
         try {
           PostgresExecuter.executeAllSqlFiles(
@@ -1,9 +1,15 @@
 package me.christianrobert.ora2postgre.controllers;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.MigrationScopes;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.JobStatus;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
+import me.christianrobert.ora2postgre.jobs.ProgressSnapshot;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+
+import io.smallrye.mutiny.Multi;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +39,9 @@ public class JobController {
   @Inject
   Everything data;
 
+  @Inject
+  MigrationScopes scopes;
+
   @Inject
   JobManager jobManager;
 
@@ -89,6 +98,26 @@ public class JobController {
     return Response.ok(progressInfo).build();
   }
 
+  @GET
+  @Path("/jobs/{jobId}/progress/stream")
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "📡 Stream Migration Progress",
+          description = "Pushes the progress of a job as server-sent events instead of polling /jobs/{jobId}/progress. An event is sent at most every progress.stream-interval-ms and only when something changed; during data transfer it includes the rows of the current table and the current rows per second. The stream ends after the final job state."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Progress stream opened"),
+          @APIResponse(responseCode = "404", description = "Job not found - invalid or expired jobId")
+  })
+  public Multi<ProgressSnapshot> streamJobProgress(@PathParam("jobId") String jobId) {
+    Multi<ProgressSnapshot> stream = progressService.streamProgress(jobId);
+    if (stream == null) {
+      throw new NotFoundException("Job not found: " + jobId);
+    }
+    return stream;
+  }
+
   @GET
   @Path("/jobs")
   @Produces(MediaType.APPLICATION_JSON)
@@ -101,6 +130,18 @@ public class JobController {
     return Response.ok(jobManager.getAllJobs()).build();
   }
 
+  @GET
+  @Path("/jobs/resources")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "📊 Job Resource Usage",
+          description = "Returns running and queued jobs and how much of the connection and heap budgets they reserve."
+  )
+  @APIResponse(responseCode = "200", description = "Resource usage retrieved successfully")
+  public Response getJobResources() {
+    return Response.ok(jobManager.getResourceUsage()).build();
+  }
+
   @DELETE
   @Path("/jobs/completed")
   @Produces(MediaType.APPLICATION_JSON)
@@ -186,6 +227,7 @@ public class JobController {
     data.getViewDefinition().clear();
     data.getSynonyms().clear();
     data.getIndexes().clear();
+    data.getSequences().clear();
     data.getObjectTypeSpecPlsql().clear();
     data.getObjectTypeBodyPlsql().clear();
     data.getPackageSpecPlsql().clear();
@@ -202,6 +244,12 @@ public class JobController {
     data.getStandaloneProcedureAst().clear();
     data.getTriggerAst().clear();
     data.setTotalRowCount(0);
+    data.discardRawSource();
+    data.markModified();
+    NameNormalizer.clearInterned();
+
+    // Scoped data is simply dropped, new jobs create it again
+    scopes.dropScopes();
 
     // Clear completed jobs from job manager
     jobManager.clearCompletedJobs();
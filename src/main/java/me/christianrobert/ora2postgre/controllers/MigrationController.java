@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.controllers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.MigrationScopes;
 import me.christianrobert.ora2postgre.oracledb.ObjectTypeExtractor;
 import me.christianrobert.ora2postgre.oracledb.PackageExtractor;
 import me.christianrobert.ora2postgre.oracledb.RowCountExtractor;
@@ -9,6 +10,7 @@ import me.christianrobert.ora2postgre.oracledb.StandaloneFunctionExtractor;
 import me.christianrobert.ora2postgre.oracledb.StandaloneProcedureExtractor;
 import me.christianrobert.ora2postgre.oracledb.RowCountConfig;
 import me.christianrobert.ora2postgre.oracledb.SchemaExtractor;
+import me.christianrobert.ora2postgre.oracledb.SequenceExtractor;
 import me.christianrobert.ora2postgre.oracledb.SynonymExtractor;
 import me.christianrobert.ora2postgre.oracledb.TableExtractor;
 import me.christianrobert.ora2postgre.oracledb.ViewExtractor;
@@ -34,15 +36,20 @@ import me.christianrobert.ora2postgre.plsql.ast.tools.managers.RecordTypeCollect
 import me.christianrobert.ora2postgre.writing.ExportStandaloneProcedure;
 import me.christianrobert.ora2postgre.writing.ExportModPlsqlSimulator;
 import me.christianrobert.ora2postgre.writing.ExportSchema;
+import me.christianrobert.ora2postgre.writing.ExportSequence;
 import me.christianrobert.ora2postgre.writing.ExportTable;
 import me.christianrobert.ora2postgre.writing.ExportTrigger;
 import me.christianrobert.ora2postgre.writing.ExportView;
 import me.christianrobert.ora2postgre.writing.ExportConstraint;
 import me.christianrobert.ora2postgre.writing.ExportIndex;
+import me.christianrobert.ora2postgre.writing.FileWriter;
+import me.christianrobert.ora2postgre.writing.ModPlsqlSimulatorConfig;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
 import me.christianrobert.ora2postgre.jobs.MigrationStep;
 import me.christianrobert.ora2postgre.config.ConfigurationService;
+import me.christianrobert.ora2postgre.config.ConnectionPools;
+import me.christianrobert.ora2postgre.config.ConnectionPools.Phase;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,8 +65,8 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -75,7 +82,7 @@ public class MigrationController {
   private static final Logger log = LoggerFactory.getLogger(MigrationController.class);
 
   @Inject
-  Everything data;
+  MigrationScopes scopes;
 
   @Inject
   Config config;
@@ -86,9 +93,15 @@ public class MigrationController {
   @Inject
   ConfigurationService configurationService;
 
+  @Inject
+  ConnectionPools connectionPools;
+
   @Inject
   RowCountConfig rowCountConfig;
 
+  @Inject
+  ModPlsqlSimulatorConfig modPlsqlSimulatorConfig;
+
   @Inject
   MigrationProgressService progressService;
 
@@ -107,23 +120,26 @@ public class MigrationController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Extraction job started successfully"),
-          @APIResponse(responseCode = "409", description = "Another extraction job is already running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response extractData() {
+  public Response extractData(@QueryParam("scope") String scope) {
     log.info("Extract data endpoint called");
 
-    if (jobManager.isAnyJobRunning()) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("extract", () -> {
+    Everything data = scopes.get(scope);
+    String jobId = jobManager.startJob("extract", scope, () -> {
       try {
         log.info("Starting data extraction job");
-        performExtraction();
+        performExtraction(data, scope);
         log.info("Data extraction job completed successfully");
       } catch (Exception e) {
         log.error("Data extraction job failed", e);
         throw new RuntimeException(e);
+      } finally {
+        data.markModified();
       }
     });
 
@@ -144,18 +160,21 @@ public class MigrationController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Parsing job started successfully"),
-          @APIResponse(responseCode = "409", description = "Another parsing job is already running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response parseData() {
-    if (jobManager.isAnyJobRunning()) {
+  public Response parseData(@QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("parse", () -> {
+    Everything data = scopes.get(scope);
+    String jobId = jobManager.startJob("parse", scope, () -> {
       try {
-        performParsing();
+        performParsing(data);
       } catch (Exception e) {
         throw new RuntimeException(e);
+      } finally {
+        data.markModified();
       }
     });
 
@@ -175,16 +194,17 @@ public class MigrationController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Code generation job started successfully"),
-          @APIResponse(responseCode = "409", description = "Another export job is already running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response exportFiles() {
-    if (jobManager.isAnyJobRunning()) {
+  public Response exportFiles(@QueryParam("scope") String scope) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJob("export", () -> {
+    Everything data = scopes.get(scope);
+    String jobId = jobManager.startJob("export", scope, () -> {
       try {
-        performExport();
+        performExport(data);
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -206,16 +226,17 @@ public class MigrationController {
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Full migration pipeline started with progress tracking"),
-          @APIResponse(responseCode = "409", description = "Another full migration is already running")
+          @APIResponse(responseCode = "409", description = "Too many jobs are waiting")
   })
-  public Response runFullMigration() {
+  public Response runFullMigration(@QueryParam("scope") String scope) {
     log.info("Full migration endpoint called");
 
-    if (jobManager.isAnyJobRunning()) {
+    if (!jobManager.canAcceptJob()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
-    String jobId = jobManager.startJobWithId("full", (String currentJobId) -> {
+    Everything data = scopes.get(scope);
+    String jobId = jobManager.startJobWithId("full", scope, (String currentJobId) -> {
       try {
         log.info("Starting full migration job with progress tracking");
 
@@ -225,17 +246,19 @@ public class MigrationController {
         // Phase 1: Extract
         log.info("Phase 1: Starting data extraction");
         progressService.advanceToNextStep(currentJobId, MigrationStep.EXTRACT);
-        performExtractionWithProgress(currentJobId);
+        performExtractionWithProgress(currentJobId, data, scope);
+        data.markModified();
 
         // Phase 2: Parse
         log.info("Phase 2: Starting AST parsing");
         progressService.advanceToNextStep(currentJobId, MigrationStep.PARSE);
-        performParsingWithProgress(currentJobId);
+        performParsingWithProgress(currentJobId, data);
+        data.markModified();
 
         // Phase 3: Export
         log.info("Phase 3: Starting file export");
         progressService.advanceToNextStep(currentJobId, MigrationStep.EXPORT);
-        performExportWithProgress(currentJobId);
+        performExportWithProgress(currentJobId, data);
 
         // Phase 4: Execute Pre
         log.info("Phase 4: Starting pre-transfer SQL execution (schema and tables)");
@@ -245,12 +268,12 @@ public class MigrationController {
         // Phase 5: Transfer Data
         log.info("Phase 5: Starting data transfer");
         progressService.advanceToNextStep(currentJobId, MigrationStep.TRANSFERDATA);
-        dataTransferController.performDataTransferWithProgress(currentJobId);
+        dataTransferController.performDataTransferWithProgress(currentJobId, data, MigrationScopes.normalize(scope));
 
         // Phase 6: Execute Post
         log.info("Phase 6: Starting post-transfer SQL execution (constraints and other objects)");
         progressService.advanceToNextStep(currentJobId, MigrationStep.EXECUTE_POST);
-        performPostExecutionWithProgress(currentJobId);
+        performPostExecutionWithProgress(currentJobId, data);
 
         // Complete the job
         progressService.completeJob(currentJobId);
@@ -269,12 +292,22 @@ public class MigrationController {
     return Response.accepted(result).build();
   }
 
-  private void performExtraction() throws Exception {
-    List<String> doOnlySomeSchema = Arrays.stream(configurationService.getDoOnlyTestSchema().split(","))
+  /**
+   * Schemas to extract: those the scope is named after, the configured test schemas for the default scope.
+   */
+  private List<String> selectedSchemas(String scope) {
+    if (!MigrationScopes.isDefault(scope)) {
+      return MigrationScopes.schemasOf(scope);
+    }
+    return Arrays.stream(configurationService.getDoOnlyTestSchema().split(","))
             .map(String::trim)
             .filter(s -> !s.isEmpty())
             .collect(Collectors.toList());
-    boolean doAllSchema = configurationService.isDoAllSchemas();
+  }
+
+  private void performExtraction(Everything data, String scope) throws Exception {
+    List<String> doOnlySomeSchema = selectedSchemas(scope);
+    boolean doAllSchema = MigrationScopes.isDefault(scope) && configurationService.isDoAllSchemas();
     boolean doAddTestData = config.isDoAddTestData();
     boolean doTable = configurationService.isDoTable();
     boolean doSynonyms = configurationService.isDoSynonyms();
@@ -297,10 +330,9 @@ public class MigrationController {
       throw new RuntimeException("Oracle password not configured - please update configuration with real password before extraction");
     }
 
-    try (Connection conn = DriverManager.getConnection(
-            configurationService.getOracleUrl(),
-            configurationService.getOracleUser(),
-            oraclePassword)) {
+    try (Connection conn = connectionPools.oracle(Phase.EXTRACT)) {
+      // Source released or spilled after the last parse is extracted anew
+      data.replaceRawSource();
 
       if (doOnlySomeSchema.isEmpty() || doAllSchema) {
         data.getUserNames().addAll(SchemaExtractor.fetchUsernames(conn));
@@ -309,9 +341,11 @@ public class MigrationController {
       }
       if (doTable) {
         data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
+        data.getSequences().addAll(SequenceExtractor.extractAllSequences(conn, data.getUserNames()));
       }
       if (doViewSignature) {
         data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
+        extractMaterializedViews(conn, data);
       }
       if (doSynonyms) {
         data.getSynonyms().addAll(SynonymExtractor.extractAllSynonyms(conn, data.getUserNames()));
@@ -357,17 +391,25 @@ public class MigrationController {
     }
   }
 
-  private void performExtractionWithProgress(String jobId) throws Exception {
+  /**
+   * Adds the materialized views to the views. Their container tables are dropped from the
+   * tables, they are recreated as PostgreSQL materialized views instead.
+   */
+  private void extractMaterializedViews(Connection conn, Everything data) throws Exception {
+    List<ViewMetadata> mviews = ViewExtractor.extractAllMaterializedViews(conn, data.getUserNames());
+    data.getViewDefinition().addAll(mviews);
+    data.getTableSql().removeIf(table -> mviews.stream().anyMatch(mview ->
+            mview.getSchema().equalsIgnoreCase(table.getSchema()) && mview.getViewName().equals(table.getTableName())));
+  }
+
+  private void performExtractionWithProgress(String jobId, Everything data, String scope) throws Exception {
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled before extraction started", jobId);
       return;
     }
 
-    List<String> doOnlySomeSchema = Arrays.stream(configurationService.getDoOnlyTestSchema().split(","))
-            .map(String::trim)
-            .filter(s -> !s.isEmpty())
-            .collect(Collectors.toList());
-    boolean doAllSchema = configurationService.isDoAllSchemas();
+    List<String> doOnlySomeSchema = selectedSchemas(scope);
+    boolean doAllSchema = MigrationScopes.isDefault(scope) && configurationService.isDoAllSchemas();
     boolean doAddTestData = config.isDoAddTestData();
     boolean doTable = configurationService.isDoTable();
     boolean doSynonyms = configurationService.isDoSynonyms();
@@ -390,10 +432,9 @@ public class MigrationController {
       throw new RuntimeException("Oracle password not configured - please update configuration with real password before extraction");
     }
 
-    try (Connection conn = DriverManager.getConnection(
-            configurationService.getOracleUrl(),
-            configurationService.getOracleUser(),
-            oraclePassword)) {
+    try (Connection conn = connectionPools.oracle(Phase.EXTRACT)) {
+      // Source released or spilled after the last parse is extracted anew
+      data.replaceRawSource();
 
       int completedSubSteps = 0;
       int totalSubSteps = MigrationStep.EXTRACT.getSubStepCount();
@@ -411,6 +452,7 @@ public class MigrationController {
       progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting table metadata");
       if (doTable) {
         data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
+        data.getSequences().addAll(SequenceExtractor.extractAllSequences(conn, data.getUserNames()));
       }
       completedSubSteps++;
 
@@ -418,6 +460,7 @@ public class MigrationController {
       progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting view definitions");
       if (doViewSignature) {
         data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
+        extractMaterializedViews(conn, data);
       }
       completedSubSteps++;
 
@@ -504,14 +547,14 @@ public class MigrationController {
     }
   }
 
-  private void performParsingWithProgress(String jobId) throws Exception {
+  private void performParsingWithProgress(String jobId, Everything data) throws Exception {
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled before parsing started", jobId);
       return;
     }
 
     progressService.updateSubStepProgress(jobId, MigrationStep.PARSE, 0, "Starting AST parsing");
-    performParsing();
+    performParsing(data);
 
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled during parsing", jobId);
@@ -521,14 +564,14 @@ public class MigrationController {
     progressService.updateSubStepProgress(jobId, MigrationStep.PARSE, MigrationStep.PARSE.getSubStepCount(), "AST parsing completed");
   }
 
-  private void performExportWithProgress(String jobId) throws Exception {
+  private void performExportWithProgress(String jobId, Everything data) throws Exception {
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled before export started", jobId);
       return;
     }
 
     progressService.updateSubStepProgress(jobId, MigrationStep.EXPORT, 0, "Starting file export");
-    performExport();
+    performExport(data);
 
     if (progressService.isJobCancelled(jobId)) {
       log.info("Job {} was cancelled during export", jobId);
@@ -544,13 +587,16 @@ public class MigrationController {
     progressService.updateSubStepProgress(jobId, MigrationStep.EXECUTE_PRE, MigrationStep.EXECUTE_PRE.getSubStepCount(), "Pre-transfer SQL execution completed");
   }
 
-  private void performPostExecutionWithProgress(String jobId) throws Exception {
+  private void performPostExecutionWithProgress(String jobId, Everything data) throws Exception {
     progressService.updateSubStepProgress(jobId, MigrationStep.EXECUTE_POST, 0, "Starting post-transfer SQL execution");
-    executionController.performPostExecution();
+    executionController.performPostExecution(data);
     progressService.updateSubStepProgress(jobId, MigrationStep.EXECUTE_POST, MigrationStep.EXECUTE_POST.getSubStepCount(), "Post-transfer SQL execution completed");
   }
 
-  private void performParsing() throws Exception {
+  private void performParsing(Everything data) throws Exception {
+    if (data.isRawSourceReleased()) {
+      throw new IllegalStateException("The PL/SQL source was released after the last parse (memory.raw-source-after-parse=RELEASE) - extract again before parsing");
+    }
     boolean doViewDdl = configurationService.isDoViewDdl();
     boolean doObjectTypeSpec = configurationService.isDoObjectTypeSpec();
     boolean doObjectTypeBody = configurationService.isDoObjectTypeBody();
@@ -636,10 +682,12 @@ public class MigrationController {
     } else {
       log.info("No object types found in AST parsing");
     }
+
+    data.retainRawSource(config.getRawSourceAfterParse(), Paths.get(config.getSpillDirectory()));
   }
 
   private Trigger parseTriggerFromPlsqlCode(PlsqlCode triggerCode) {
-    String fullCode = triggerCode.code;
+    String fullCode = triggerCode.getCode();
     String schema = triggerCode.schema;
 
     String triggerName = extractTriggerName(fullCode);
@@ -657,6 +705,16 @@ public class MigrationController {
       trigger.setWhenClause(whenClause);
     }
 
+    String header = extractTriggerHeader(fullCode);
+    trigger.setRowLevel(header.toUpperCase().matches("(?s).*\\bFOR\\s+EACH\\s+ROW\\b.*"));
+    java.util.regex.Matcher referencing = java.util.regex.Pattern.compile(
+            "\\bREFERENCING\\s+(.*?)(?=\\s+FOR\\s+EACH\\b|\\s+WHEN\\b|$)",
+            java.util.regex.Pattern.CASE_INSENSITIVE | java.util.regex.Pattern.DOTALL).matcher(header);
+    if (referencing.find()) {
+      trigger.setReferencingClause(referencing.group(1).trim());
+    }
+    trigger.setOracleBody(fullCode.substring(header.length()).trim());
+
     List<Statement> bodyStatements =
             parseSimpleTriggerBody(fullCode);
     trigger.setTriggerBody(bodyStatements);
@@ -664,6 +722,16 @@ public class MigrationController {
     return trigger;
   }
 
+  /**
+   * Everything before the trigger body (DECLARE, BEGIN or COMPOUND TRIGGER).
+   */
+  private String extractTriggerHeader(String code) {
+    java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(
+            "\\b(DECLARE|BEGIN|COMPOUND\\s+TRIGGER)\\b",
+            java.util.regex.Pattern.CASE_INSENSITIVE).matcher(code);
+    return matcher.find() ? code.substring(0, matcher.start()) : code;
+  }
+
   private String extractTriggerName(String code) {
     java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
             "CREATE\\s+(?:OR\\s+REPLACE\\s+)?TRIGGER\\s+(?:\\w+\\.)?([\\w_]+)",
@@ -781,7 +849,7 @@ public class MigrationController {
     return "-- No trigger body found to transform";
   }
 
-  private void performExport() throws Exception {
+  private void performExport(Everything data) throws Exception {
     // Clear any previously collected record types from previous runs
     RecordTypeCollectionManager.clear();
     
@@ -813,7 +881,10 @@ public class MigrationController {
               javaPackageName,
               configurationService.getPostgreUrl(),
               configurationService.getPostgreUsername(),
-              configurationService.getPostgrePassword()
+              configurationService.getPostgrePassword(),
+              modPlsqlSimulatorConfig.executionMode(),
+              modPlsqlSimulatorConfig.expectedConcurrency(),
+              modPlsqlSimulatorConfig.maxConnections()
       );
 
       if (doPackageSpec && doPackageBody) {
@@ -822,7 +893,8 @@ public class MigrationController {
                 javaPackageName,
                 data.getPackageSpecAst(),
                 data.getPackageBodyAst(),
-                data
+                data,
+                modPlsqlSimulatorConfig.executionMode()
         );
       }
     }
@@ -834,6 +906,7 @@ public class MigrationController {
       ExportSchema.saveSql(path, data.getUserNames());
 
       if (doTable) {
+        ExportSequence.saveSql(path, data.getSequences());
         ExportTable.saveSql(path, data.getTableSql(), data);
       }
       if (doConstraints) {
@@ -884,6 +957,7 @@ public class MigrationController {
         log.info("Record type export completed: {}", ExportRecordType.getExportSummary());
       }
     }
+    log.info("Export completed: {} files written", FileWriter.logSummary());
   }
 
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.PlsqlCode;
 import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
 import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
+import me.christianrobert.ora2postgre.services.SqlTranslationCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,8 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -32,6 +35,9 @@ public class SqlTransformController {
   @Inject
   Everything data;
 
+  @Inject
+  SqlTranslationCache translationCache;
+
   @POST
   @Path("/transform/sql")
   @Consumes(MediaType.APPLICATION_JSON)
@@ -64,10 +70,7 @@ public class SqlTransformController {
         return Response.status(400).entity(error).build();
       }
 
-      // Use the existing transformation pipeline with full Everything context
-      SelectStatement ast = (SelectStatement) PlSqlAstMain.processPlsqlCode(
-              new PlsqlCode(schema, sql));
-      String transformedSql = ast.toPostgre(data);
+      String transformedSql = translate(schema, sql);
 
       Map<String, String> result = new HashMap<>();
       result.put("status", "success");
@@ -85,4 +88,102 @@ public class SqlTransformController {
       return Response.status(500).entity(error).build();
     }
   }
+
+  @POST
+  @Path("/transform/sql/batch")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "🔄 Transform a batch of Oracle SQL statements to PostgreSQL",
+          description = "Transforms many Oracle SQL statements of one schema in a single call. Each statement gets its own result, a failing statement does not fail the batch."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Batch transformation completed, see the status of each result"),
+          @APIResponse(responseCode = "400", description = "Invalid request - missing required parameters")
+  })
+  public Response transformSqlBatch(SqlBatchRequest request) {
+    if (request == null || request.getSchema() == null || request.getSchema().trim().isEmpty()) {
+      Map<String, String> error = new HashMap<>();
+      error.put("status", "error");
+      error.put("message", "schema parameter is required");
+      return Response.status(400).entity(error).build();
+    }
+    if (request.getStatements() == null || request.getStatements().isEmpty()) {
+      Map<String, String> error = new HashMap<>();
+      error.put("status", "error");
+      error.put("message", "statements parameter is required");
+      return Response.status(400).entity(error).build();
+    }
+
+    String schema = request.getSchema();
+    List<Map<String, String>> results = new ArrayList<>();
+    for (String sql : request.getStatements()) {
+      Map<String, String> result = new HashMap<>();
+      result.put("originalSql", sql);
+      try {
+        result.put("transformedSql", translate(schema, sql));
+        result.put("status", "success");
+      } catch (Exception e) {
+        log.error("SQL transformation failed in batch for schema {}: {}", schema, sql, e);
+        result.put("status", "error");
+        result.put("message", "SQL transformation failed: " + e.getMessage());
+        result.put("errorType", e.getClass().getSimpleName());
+      }
+      results.add(result);
+    }
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("status", "success");
+    response.put("schema", schema);
+    response.put("results", results);
+    return Response.ok(response).build();
+  }
+
+  @GET
+  @Path("/transform/sql/cache")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "📊 SQL Transformation Cache Statistics",
+          description = "Returns size, hit rate, evictions and invalidations of the runtime SQL translation cache."
+  )
+  @APIResponse(responseCode = "200", description = "Cache statistics retrieved successfully")
+  public Response getCacheStatistics() {
+    return Response.ok(translationCache.getStatistics()).build();
+  }
+
+  /**
+   * Translates one statement through the cache, using the existing transformation
+   * pipeline with full Everything context on a cache miss.
+   */
+  private String translate(String schema, String sql) {
+    return translationCache.getOrTranslate(schema, sql, data.getModelVersion(), () -> {
+      SelectStatement ast = (SelectStatement) PlSqlAstMain.processPlsqlCode(
+              new PlsqlCode(schema, sql));
+      return ast.toPostgre(data);
+    });
+  }
+
+  /**
+   * Request body of the batch transformation endpoint.
+   */
+  public static class SqlBatchRequest {
+    private String schema;
+    private List<String> statements;
+
+    public String getSchema() {
+      return schema;
+    }
+
+    public void setSchema(String schema) {
+      this.schema = schema;
+    }
+
+    public List<String> getStatements() {
+      return statements;
+    }
+
+    public void setStatements(List<String> statements) {
+      this.statements = statements;
+    }
+  }
 }
\ No newline at end of file
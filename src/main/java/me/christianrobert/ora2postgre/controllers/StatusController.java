@@ -3,6 +3,9 @@ package me.christianrobert.ora2postgre.controllers;
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.postgre.PostgresStatsService;
 import me.christianrobert.ora2postgre.config.ConfigurationService;
+import me.christianrobert.ora2postgre.config.ConnectionPools;
+import me.christianrobert.ora2postgre.config.ConnectionPools.Phase;
+import me.christianrobert.ora2postgre.services.LogTailReader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,19 +16,23 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import io.smallrye.mutiny.Multi;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
+import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Path("/migration")
 @ApplicationScoped
@@ -34,6 +41,10 @@ public class StatusController {
 
   private static final Logger log = LoggerFactory.getLogger(StatusController.class);
 
+  static final String LOG_OFFSET_HEADER = "X-Log-Offset";
+  static final String LOG_ROTATED_HEADER = "X-Log-Rotated";
+  private static final Duration LOG_STREAM_INTERVAL = Duration.ofSeconds(1);
+
   @Inject
   Everything data;
 
@@ -43,12 +54,18 @@ public class StatusController {
   @Inject
   ConfigurationService configurationService;
 
+  @Inject
+  ConnectionPools connectionPools;
+
+  @ConfigProperty(name = "quarkus.log.file.path", defaultValue = "logs/migration.log")
+  String logFilePath;
+
   @GET
   @Path("/status")
   @Produces(MediaType.APPLICATION_JSON)
   @Operation(
           summary = "📊 Get Current Migration Status & Statistics",
-          description = "Returns comprehensive statistics about extracted and parsed database objects including tables, views, packages, standalone functions, standalone procedures, and total row counts. Provides instant feedback without triggering processing."
+          description = "Returns comprehensive statistics about extracted and parsed database objects including tables, views, packages, standalone functions, standalone procedures, and total row counts, plus the estimated heap use per category. Provides instant feedback without triggering processing."
   )
   @APIResponse(responseCode = "200", description = "Current migration statistics")
   public Response getStatus() {
@@ -66,6 +83,7 @@ public class StatusController {
     status.put("triggers", data.getTriggerPlsql().size());
     status.put("constraints", data.getTableSql().stream().mapToInt(table -> table.getConstraints().size()).sum());
     status.put("indexes", data.getIndexes().size());
+    status.put("sequences", data.getSequences().size());
     status.put("parsedViews", data.getViewSpecAndQueries().size());
     status.put("parsedObjectTypes", data.getObjectTypeSpecAst().size());
     status.put("parsedPackages", data.getPackageSpecAst().size());
@@ -73,6 +91,7 @@ public class StatusController {
     status.put("parsedStandaloneProcedures", data.getStandaloneProcedureCount());
     status.put("parsedTriggers", data.getTriggerAst().size());
     status.put("totalRowCount", data.getTotalRowCount());
+    status.put("memory", data.getMemoryUsage());
     return Response.ok(status).build();
   }
 
@@ -81,7 +100,7 @@ public class StatusController {
   @Produces(MediaType.APPLICATION_JSON)
   @Operation(
           summary = "🏥 Get System Health Status",
-          description = "Checks connectivity to both Oracle and PostgreSQL databases and returns detailed connection status information including any connection errors."
+          description = "Checks connectivity to both Oracle and PostgreSQL databases and returns detailed connection status information including any connection errors and the usage of the connection pools."
   )
   @APIResponse(responseCode = "200", description = "Health status retrieved successfully")
   public Response getHealthStatus() {
@@ -98,17 +117,14 @@ public class StatusController {
       oracleHealth.put("user", configurationService.getOracleUser());
     } else {
       try {
-        Connection oracleConn = DriverManager.getConnection(
-                configurationService.getOracleUrl(),
-                configurationService.getOracleUser(),
-                oraclePassword);
-        if (oracleConn != null && !oracleConn.isClosed()) {
-          oracleHealth.put("connected", true);
-          oracleHealth.put("url", configurationService.getOracleUrl());
-          oracleHealth.put("user", configurationService.getOracleUser());
-          oracleConn.close();
-        } else {
-          oracleHealth.put("connected", false);
+        try (Connection oracleConn = connectionPools.oracle(Phase.STATUS)) {
+          if (oracleConn.isValid(5)) {
+            oracleHealth.put("connected", true);
+            oracleHealth.put("url", configurationService.getOracleUrl());
+            oracleHealth.put("user", configurationService.getOracleUser());
+          } else {
+            oracleHealth.put("connected", false);
+          }
         }
       } catch (Exception e) {
         oracleHealth.put("connected", false);
@@ -128,17 +144,14 @@ public class StatusController {
       postgresHealth.put("user", configurationService.getPostgreUsername());
     } else {
       try {
-        Connection postgresConn = DriverManager.getConnection(
-                configurationService.getPostgreUrl(),
-                configurationService.getPostgreUsername(),
-                postgresPassword);
-        if (postgresConn != null && !postgresConn.isClosed()) {
-          postgresHealth.put("connected", true);
-          postgresHealth.put("url", configurationService.getPostgreUrl());
-          postgresHealth.put("user", configurationService.getPostgreUsername());
-          postgresConn.close();
-        } else {
-          postgresHealth.put("connected", false);
+        try (Connection postgresConn = connectionPools.postgres(Phase.STATUS)) {
+          if (postgresConn.isValid(5)) {
+            postgresHealth.put("connected", true);
+            postgresHealth.put("url", configurationService.getPostgreUrl());
+            postgresHealth.put("user", configurationService.getPostgreUsername());
+          } else {
+            postgresHealth.put("connected", false);
+          }
         }
       } catch (Exception e) {
         postgresHealth.put("connected", false);
@@ -146,6 +159,7 @@ public class StatusController {
       }
     }
     health.put("postgres", postgresHealth);
+    health.put("pools", connectionPools.getPoolStatus());
 
     return Response.ok(health).build();
   }
@@ -155,33 +169,38 @@ public class StatusController {
   @Produces(MediaType.TEXT_PLAIN)
   @Operation(
           summary = "📋 Get Recent Application Logs",
-          description = "Returns the most recent application log entries for debugging and monitoring purposes. Default returns last 100 lines."
+          description = "Returns the most recent application log entries for debugging and monitoring purposes. Default returns last 100 lines. " +
+                  "The X-Log-Offset header holds the byte offset to pass as 'since' on the next call, which then returns only the lines written after it."
   )
   @APIResponse(responseCode = "200", description = "Log entries retrieved successfully")
-  public Response getLogs(@QueryParam("lines") @DefaultValue("100") int lines) {
+  public Response getLogs(@QueryParam("lines") @DefaultValue("100") int lines,
+                          @QueryParam("since") Long since) {
     try {
-      java.nio.file.Path logFile = Paths.get("logs/migration.log");
+      java.nio.file.Path logFile = Paths.get(logFilePath);
 
       if (!Files.exists(logFile)) {
         log.info("Log file does not exist yet, creating initial log entry");
-        Files.createDirectories(logFile.getParent());
+        if (logFile.getParent() != null) {
+          Files.createDirectories(logFile.getParent());
+        }
         return Response.ok("Log file not created yet. Starting up migration service...\n" +
-                "Timestamp: " + java.time.LocalDateTime.now() + "\n").build();
+                "Timestamp: " + java.time.LocalDateTime.now() + "\n").header(LOG_OFFSET_HEADER, 0).build();
       }
 
-      List<String> allLines = Files.readAllLines(logFile);
+      // Only the requested end of the file is read, never the whole file
+      LogTailReader.LogChunk chunk = since != null
+              ? LogTailReader.readFrom(logFile, since)
+              : LogTailReader.tail(logFile, lines);
 
-      // Get the last N lines
-      int start = Math.max(0, allLines.size() - lines);
-      List<String> recentLines = allLines.subList(start, allLines.size());
-
-      String logs = recentLines.stream().collect(Collectors.joining("\n"));
-
-      if (logs.isEmpty()) {
+      String logs = chunk.getContent();
+      if (logs.isEmpty() && since == null) {
         logs = "No log entries available yet.\nTimestamp: " + java.time.LocalDateTime.now();
       }
 
-      return Response.ok(logs).build();
+      return Response.ok(logs)
+              .header(LOG_OFFSET_HEADER, chunk.getNextOffset())
+              .header(LOG_ROTATED_HEADER, chunk.isRotated())
+              .build();
     } catch (Exception e) {
       log.error("Error fetching logs", e);
       return Response.serverError()
@@ -190,6 +209,43 @@ public class StatusController {
     }
   }
 
+  @GET
+  @Path("/logs/stream")
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  @RestStreamElementType(MediaType.TEXT_PLAIN)
+  @Operation(
+          summary = "📡 Stream Application Logs",
+          description = "Server-sent events with one event per new log line. Starts at the end of the log, or at the byte offset given as 'since'."
+  )
+  public Multi<String> streamLogs(@QueryParam("since") Long since) {
+    java.nio.file.Path logFile = Paths.get(logFilePath);
+    AtomicLong offset = new AtomicLong(since != null ? since : currentLogSize(logFile));
+
+    return Multi.createFrom().ticks().every(LOG_STREAM_INTERVAL)
+            .onOverflow().drop()
+            .onItem().transformToIterable(tick -> {
+              if (!Files.exists(logFile)) {
+                return List.<String>of();
+              }
+              try {
+                LogTailReader.LogChunk chunk = LogTailReader.readFrom(logFile, offset.get());
+                offset.set(chunk.getNextOffset());
+                return chunk.getLines();
+              } catch (IOException e) {
+                log.warn("Error streaming logs: {}", e.getMessage());
+                return List.<String>of();
+              }
+            });
+  }
+
+  private static long currentLogSize(java.nio.file.Path logFile) {
+    try {
+      return Files.exists(logFile) ? Files.size(logFile) : 0;
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
   @GET
   @Path("/target-stats")
   @Produces(MediaType.APPLICATION_JSON)
@@ -208,10 +264,7 @@ public class StatusController {
         return Response.status(400).entity(error).build();
       }
 
-      try (Connection postgresConn = DriverManager.getConnection(
-              configurationService.getPostgreUrl(),
-              configurationService.getPostgreUsername(),
-              postgresPassword)) {
+      try (Connection postgresConn = connectionPools.postgres(Phase.STATUS)) {
 
         Map<String, Object> stats = postgresStatsService.getTargetDatabaseStats(postgresConn);
         Map<String, Object> result = new HashMap<>();
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.global;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import me.christianrobert.ora2postgre.transfer.TriggerBypassMode;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.util.Arrays;
@@ -163,6 +164,99 @@ public class Config {
   @ConfigProperty(name = "do.execute-postgre-files", defaultValue = "true")
   boolean doExecutePostgreFiles;
 
+  @ConfigProperty(name = "do.verify-row-counts", defaultValue = "false")
+  boolean doVerifyRowCounts;
+
+  @ConfigProperty(name = "do.consistent-snapshot", defaultValue = "false")
+  boolean doConsistentSnapshot;
+
+  @ConfigProperty(name = "do.oracle-read-tuning", defaultValue = "false")
+  boolean doOracleReadTuning;
+
+  @ConfigProperty(name = "do.order-by-primary-key", defaultValue = "false")
+  boolean doOrderByPrimaryKey;
+
+  @ConfigProperty(name = "oracle.read.parallel-threshold-rows", defaultValue = "1000000")
+  long oracleParallelThresholdRows;
+
+  @ConfigProperty(name = "oracle.read.max-parallel-degree", defaultValue = "8")
+  int oracleMaxParallelDegree;
+
+  @ConfigProperty(name = "oracle.read.lob-prefetch-size", defaultValue = "32768")
+  int oracleLobPrefetchSize;
+
+  @ConfigProperty(name = "transfer.partition-parallelism", defaultValue = "4")
+  int transferPartitionParallelism;
+
+  @ConfigProperty(name = "transfer.sequence-sync-parallelism", defaultValue = "4")
+  int sequenceSyncParallelism;
+
+  @ConfigProperty(name = "transfer.trigger-bypass", defaultValue = "DISABLE_TRIGGER")
+  TriggerBypassMode triggerBypassMode;
+
+  @ConfigProperty(name = "logging.transfer-row-details", defaultValue = "true")
+  boolean loggingTransferRowDetails;
+
+  @ConfigProperty(name = "progress.stream-interval-ms", defaultValue = "500")
+  long progressStreamIntervalMs;
+
+  @ConfigProperty(name = "jobs.max-concurrent", defaultValue = "5")
+  int jobsMaxConcurrent;
+
+  @ConfigProperty(name = "jobs.max-queued", defaultValue = "20")
+  int jobsMaxQueued;
+
+  @ConfigProperty(name = "jobs.max-oracle-connections", defaultValue = "8")
+  int jobsMaxOracleConnections;
+
+  @ConfigProperty(name = "jobs.max-postgres-connections", defaultValue = "12")
+  int jobsMaxPostgresConnections;
+
+  @ConfigProperty(name = "jobs.max-heap-mb", defaultValue = "0")
+  long jobsMaxHeapMb;
+
+  @ConfigProperty(name = "pool.oracle.max-size", defaultValue = "12")
+  int poolOracleMaxSize;
+
+  @ConfigProperty(name = "pool.postgres.max-size", defaultValue = "16")
+  int poolPostgresMaxSize;
+
+  @ConfigProperty(name = "pool.min-size", defaultValue = "2")
+  int poolMinSize;
+
+  @ConfigProperty(name = "pool.prewarm", defaultValue = "true")
+  boolean poolPrewarm;
+
+  @ConfigProperty(name = "pool.acquisition-timeout-seconds", defaultValue = "300")
+  long poolAcquisitionTimeoutSeconds;
+
+  @ConfigProperty(name = "pool.idle-timeout-minutes", defaultValue = "10")
+  long poolIdleTimeoutMinutes;
+
+  @ConfigProperty(name = "pool.oracle.statement-cache-size", defaultValue = "50")
+  int poolOracleStatementCacheSize;
+
+  @ConfigProperty(name = "pool.postgres.prepare-threshold", defaultValue = "5")
+  int poolPostgresPrepareThreshold;
+
+  @ConfigProperty(name = "pool.phase-limit.extract", defaultValue = "2")
+  int poolPhaseLimitExtract;
+
+  @ConfigProperty(name = "pool.phase-limit.execute", defaultValue = "6")
+  int poolPhaseLimitExecute;
+
+  @ConfigProperty(name = "pool.phase-limit.transfer", defaultValue = "10")
+  int poolPhaseLimitTransfer;
+
+  @ConfigProperty(name = "pool.phase-limit.status", defaultValue = "2")
+  int poolPhaseLimitStatus;
+
+  @ConfigProperty(name = "memory.raw-source-after-parse", defaultValue = "KEEP")
+  RawSourceRetention rawSourceAfterParse;
+
+  @ConfigProperty(name = "memory.spill-directory", defaultValue = "${java.io.tmpdir}/ora2postgre-spill")
+  String spillDirectory;
+
   public boolean isDoAddTestData() {
     return doAddTestData;
   }
@@ -247,6 +341,130 @@ public class Config {
     return doExecutePostgreFiles;
   }
 
+  public boolean isDoVerifyRowCounts() {
+    return doVerifyRowCounts;
+  }
+
+  public boolean isDoConsistentSnapshot() {
+    return doConsistentSnapshot;
+  }
+
+  public boolean isDoOracleReadTuning() {
+    return doOracleReadTuning;
+  }
+
+  public boolean isDoOrderByPrimaryKey() {
+    return doOrderByPrimaryKey;
+  }
+
+  public long getOracleParallelThresholdRows() {
+    return oracleParallelThresholdRows;
+  }
+
+  public int getOracleMaxParallelDegree() {
+    return oracleMaxParallelDegree;
+  }
+
+  public int getOracleLobPrefetchSize() {
+    return oracleLobPrefetchSize;
+  }
+
+  public int getTransferPartitionParallelism() {
+    return transferPartitionParallelism;
+  }
+
+  public int getSequenceSyncParallelism() {
+    return sequenceSyncParallelism;
+  }
+
+  public TriggerBypassMode getTriggerBypassMode() {
+    return triggerBypassMode;
+  }
+
+  public boolean isLoggingTransferRowDetails() {
+    return loggingTransferRowDetails;
+  }
+
+  public long getProgressStreamIntervalMs() {
+    return progressStreamIntervalMs;
+  }
+
+  public int getJobsMaxConcurrent() {
+    return jobsMaxConcurrent;
+  }
+
+  public int getJobsMaxQueued() {
+    return jobsMaxQueued;
+  }
+
+  public int getJobsMaxOracleConnections() {
+    return jobsMaxOracleConnections;
+  }
+
+  public int getJobsMaxPostgresConnections() {
+    return jobsMaxPostgresConnections;
+  }
+
+  public long getJobsMaxHeapMb() {
+    return jobsMaxHeapMb;
+  }
+
+  public int getPoolOracleMaxSize() {
+    return poolOracleMaxSize;
+  }
+
+  public int getPoolPostgresMaxSize() {
+    return poolPostgresMaxSize;
+  }
+
+  public int getPoolMinSize() {
+    return poolMinSize;
+  }
+
+  public boolean isPoolPrewarm() {
+    return poolPrewarm;
+  }
+
+  public long getPoolAcquisitionTimeoutSeconds() {
+    return poolAcquisitionTimeoutSeconds;
+  }
+
+  public long getPoolIdleTimeoutMinutes() {
+    return poolIdleTimeoutMinutes;
+  }
+
+  public int getPoolOracleStatementCacheSize() {
+    return poolOracleStatementCacheSize;
+  }
+
+  public int getPoolPostgresPrepareThreshold() {
+    return poolPostgresPrepareThreshold;
+  }
+
+  public int getPoolPhaseLimitExtract() {
+    return poolPhaseLimitExtract;
+  }
+
+  public int getPoolPhaseLimitExecute() {
+    return poolPhaseLimitExecute;
+  }
+
+  public int getPoolPhaseLimitTransfer() {
+    return poolPhaseLimitTransfer;
+  }
+
+  public int getPoolPhaseLimitStatus() {
+    return poolPhaseLimitStatus;
+  }
+
+  public RawSourceRetention getRawSourceAfterParse() {
+    return rawSourceAfterParse;
+  }
+
+  public String getSpillDirectory() {
+    return spillDirectory;
+  }
+
   public boolean isDoAllSchemas() {
     return doAllSchemas;
   }
@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.global;
 
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.SequenceMetadata;
 import me.christianrobert.ora2postgre.oracledb.SynonymMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
@@ -19,8 +20,14 @@ import me.christianrobert.ora2postgre.plsql.ast.Variable;
 import me.christianrobert.ora2postgre.plsql.ast.VarrayType;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
 public class Everything {
@@ -32,6 +39,7 @@ public class Everything {
   private List<ViewMetadata> viewDefinition = new ArrayList<>();
   private List<SynonymMetadata> synonyms = new ArrayList<>();
   private List<IndexMetadata> indexes = new ArrayList<>();
+  private List<SequenceMetadata> sequences = new ArrayList<>();
   private List<PlsqlCode> objectTypeSpecPlsql = new ArrayList<>();
   private List<PlsqlCode> objectTypeBodyPlsql = new ArrayList<>();
   private List<PlsqlCode> packageSpecPlsql = new ArrayList<>();
@@ -53,6 +61,17 @@ public class Everything {
 
   private long totalRowCount = 0;
 
+  // incremented whenever the extracted or parsed data is reloaded, so caches derived from it can be invalidated
+  private volatile long modelVersion = 0;
+
+  // PL/SQL source moved off the heap after parsing, see retainRawSource
+  private SourceSpill sourceSpill;
+  private boolean rawSourceReleased;
+
+  // heap estimate of the last status call and the state it was computed for
+  private Map<String, Object> memoryUsage;
+  private String memoryUsageKey;
+
   public List<String> getUserNames() {
     return userNames;
   }
@@ -69,6 +88,8 @@ public class Everything {
 
   public List<IndexMetadata> getIndexes() { return indexes; }
 
+  public List<SequenceMetadata> getSequences() { return sequences; }
+
   public List<PlsqlCode> getObjectTypeSpecPlsql() {
     return objectTypeSpecPlsql;
   }
@@ -137,6 +158,128 @@ public class Everything {
     this.totalRowCount = totalRowCount;
   }
 
+  public long getModelVersion() {
+    return modelVersion;
+  }
+
+  /**
+   * Marks the extracted/parsed data as changed. Called after extraction, parsing and reset.
+   */
+  public synchronized void markModified() {
+    modelVersion++;
+  }
+
+  /**
+   * Applies the retention policy to the extracted PL/SQL source once it has been parsed.
+   * Only parsing reads it, so SPILL and RELEASE leave export and execution unaffected.
+   */
+  public synchronized void retainRawSource(RawSourceRetention retention, Path spillDirectory) throws IOException {
+    if (retention == RawSourceRetention.KEEP) {
+      return;
+    }
+    if (retention == RawSourceRetention.SPILL && sourceSpill == null) {
+      sourceSpill = new SourceSpill(spillDirectory);
+    }
+    for (List<PlsqlCode> units : allPlsqlCode()) {
+      for (PlsqlCode unit : units) {
+        if (retention == RawSourceRetention.SPILL) {
+          unit.spillTo(sourceSpill);
+        } else {
+          unit.release();
+          rawSourceReleased = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Whether source was released and cannot be parsed again without a new extraction.
+   */
+  public synchronized boolean isRawSourceReleased() {
+    return rawSourceReleased;
+  }
+
+  /**
+   * Drops the PL/SQL units whose source was released or spilled, together with the spill file,
+   * so that an extraction starts with fresh source and parsing is possible again.
+   */
+  public synchronized void replaceRawSource() {
+    if (sourceSpill == null && !rawSourceReleased) {
+      return;
+    }
+    allPlsqlCode().forEach(List::clear);
+    discardRawSource();
+  }
+
+  /**
+   * Deletes the spill file. Called when the extracted data is reset.
+   */
+  public synchronized void discardRawSource() {
+    if (sourceSpill != null) {
+      sourceSpill.close();
+      sourceSpill = null;
+    }
+    rawSourceReleased = false;
+  }
+
+  /**
+   * Estimated heap use per category of the extracted and parsed data, for /migration/status.
+   * Recomputed only when the data changed since the last call.
+   */
+  public synchronized Map<String, Object> getMemoryUsage() {
+    String key = modelVersion + ":" + tableSql.size() + ":" + viewDefinition.size() + ":"
+            + allPlsqlCode().stream().mapToInt(List::size).sum() + ":" + astLists().stream().mapToInt(List::size).sum()
+            + ":" + (sourceSpill != null ? sourceSpill.getSize() : 0) + ":" + rawSourceReleased;
+    if (!key.equals(memoryUsageKey)) {
+      try {
+        memoryUsage = estimateMemoryUsage();
+        memoryUsageKey = key;
+      } catch (RuntimeException e) {
+        // a job is changing the lists right now, keep the last estimate
+      }
+    }
+
+    Map<String, Object> usage = memoryUsage != null ? new LinkedHashMap<>(memoryUsage) : new LinkedHashMap<>();
+    usage.put("internedNames", NameNormalizer.getInternedCount());
+    Runtime runtime = Runtime.getRuntime();
+    usage.put("jvmHeapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+    usage.put("jvmHeapMaxBytes", runtime.maxMemory());
+    return usage;
+  }
+
+  private Map<String, Object> estimateMemoryUsage() {
+    Map<String, Object> usage = new LinkedHashMap<>();
+    usage.put("tablesBytes", HeapUsageEstimator.estimate(tableSql));
+    usage.put("viewsBytes", HeapUsageEstimator.estimate(viewDefinition) + HeapUsageEstimator.estimate(viewSpecAndQueries));
+    usage.put("otherMetadataBytes", HeapUsageEstimator.estimate(synonyms) + HeapUsageEstimator.estimate(indexes)
+            + HeapUsageEstimator.estimate(sequences));
+    long sourceBytes = 0;
+    for (List<PlsqlCode> units : allPlsqlCode()) {
+      for (PlsqlCode unit : units) {
+        sourceBytes += 64 + unit.getInMemoryLength();
+      }
+    }
+    usage.put("plsqlSourceBytes", sourceBytes);
+    usage.put("plsqlSourceSpilledBytes", sourceSpill != null ? sourceSpill.getSize() : 0L);
+    usage.put("plsqlSourceReleased", rawSourceReleased);
+    long astBytes = 0;
+    for (List<?> asts : astLists()) {
+      astBytes += HeapUsageEstimator.estimate(asts);
+    }
+    usage.put("astBytes", astBytes);
+    return usage;
+  }
+
+  private List<List<PlsqlCode>> allPlsqlCode() {
+    return List.of(objectTypeSpecPlsql, objectTypeBodyPlsql, packageSpecPlsql, packageBodyPlsql,
+            standaloneFunctionPlsql, standaloneProcedurePlsql, triggerPlsql);
+  }
+
+  private List<List<?>> astLists() {
+    return List.of(objectTypeSpecAst, objectTypeBodyAst, packageSpecAst, packageBodyAst,
+            standaloneFunctionAst, standaloneProcedureAst, triggerAst);
+  }
+
   // Statistics methods for standalone functions and procedures
   public int getStandaloneFunctionCount() {
     return standaloneFunctionAst.size();
@@ -158,6 +301,26 @@ public class Everything {
     //TODO
   }
 
+  /**
+   * Looks up an extracted sequence. Without a schema, or if the sequence is not in the given
+   * schema, a sequence of that name is only returned if it exists in exactly one schema.
+   */
+  public SequenceMetadata findSequence(String schema, String sequenceName) {
+    SequenceMetadata found = null;
+    int matches = 0;
+    for (SequenceMetadata sequence : sequences) {
+      if (!sequence.getSequenceName().equalsIgnoreCase(sequenceName)) {
+        continue;
+      }
+      if (schema != null && sequence.getSchema().equalsIgnoreCase(schema)) {
+        return sequence;
+      }
+      found = sequence;
+      matches++;
+    }
+    return matches == 1 ? found : null;
+  }
+
   
   /**
    * Gets all functions from all parsed packages and standalone functions.
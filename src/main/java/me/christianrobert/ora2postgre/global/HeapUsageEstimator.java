@@ -0,0 +1,171 @@
+package me.christianrobert.ora2postgre.global;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rough estimate of the heap retained by the extracted and parsed model.
+ *
+ * Walking 30k ASTs completely would take seconds, so a list is estimated from an evenly spaced
+ * sample of its elements and extrapolated. Object sizes assume a 64 bit JVM with compressed
+ * references and compact (Latin-1) strings. JDK classes other than strings, boxes, arrays,
+ * collections and maps count with their header only. The numbers are meant to compare the
+ * categories and watch them grow, not to match a heap dump.
+ */
+public final class HeapUsageEstimator {
+
+  static final int SAMPLE_SIZE = 32;
+  private static final int MAX_OBJECTS_PER_LIST = 500_000;
+  private static final int HEADER = 12;
+  private static final int REFERENCE = 4;
+
+  private static final Map<Class<?>, ClassLayout> layouts = new ConcurrentHashMap<>();
+
+  private HeapUsageEstimator() {
+  }
+
+  /**
+   * Estimated bytes retained by the elements of the list, including the list itself.
+   */
+  public static long estimate(List<?> elements) {
+    int size = elements.size();
+    if (size == 0) {
+      return 0;
+    }
+    int samples = Math.min(size, SAMPLE_SIZE);
+    List<Object> sample = new ArrayList<>(samples);
+    for (int i = 0; i < samples; i++) {
+      sample.add(elements.get((int) ((long) i * size / samples)));
+    }
+    long sampledBytes = deepSize(sample) - align(16 + (long) REFERENCE * samples) - 24;
+    return align(16 + (long) REFERENCE * size) + 24 + sampledBytes * size / samples;
+  }
+
+  /**
+   * Estimated bytes reachable from root. Objects shared by several paths count once.
+   */
+  static long deepSize(Object root) {
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> pending = new ArrayDeque<>();
+    pending.push(root);
+    long bytes = 0;
+    while (!pending.isEmpty() && visited.size() < MAX_OBJECTS_PER_LIST) {
+      Object object = pending.pop();
+      if (isShared(object) || !visited.add(object)) {
+        continue;
+      }
+      bytes += shallowSize(object, pending);
+    }
+    return bytes;
+  }
+
+  // Objects owned by the runtime or by everything at once, never part of one unit
+  private static boolean isShared(Object object) {
+    return object instanceof Class || object instanceof Enum || object instanceof Everything;
+  }
+
+  private static long shallowSize(Object object, Deque<Object> pending) {
+    if (object instanceof String) {
+      return align(HEADER + 12) + align(16 + ((String) object).length());
+    }
+    if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+      return 16;
+    }
+    Class<?> type = object.getClass();
+    if (type.isArray()) {
+      int length = Array.getLength(object);
+      Class<?> component = type.getComponentType();
+      if (!component.isPrimitive()) {
+        for (int i = 0; i < length; i++) {
+          push(pending, Array.get(object, i));
+        }
+        return align(16 + (long) REFERENCE * length);
+      }
+      return align(16 + (long) primitiveSize(component) * length);
+    }
+    if (object instanceof Collection) {
+      Collection<?> collection = (Collection<?>) object;
+      collection.forEach(element -> push(pending, element));
+      return align(HEADER + 12) + align(16 + (long) REFERENCE * collection.size());
+    }
+    if (object instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) object;
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        push(pending, entry.getKey());
+        push(pending, entry.getValue());
+      }
+      // table slots plus one node per entry
+      return align(HEADER + 36) + align(16 + (long) REFERENCE * map.size() * 2) + 32L * map.size();
+    }
+    ClassLayout layout = layouts.computeIfAbsent(type, ClassLayout::new);
+    for (Field field : layout.references) {
+      try {
+        push(pending, field.get(object));
+      } catch (IllegalAccessException e) {
+        // counted without its references
+      }
+    }
+    return layout.size;
+  }
+
+  private static void push(Deque<Object> pending, Object object) {
+    if (object != null) {
+      pending.push(object);
+    }
+  }
+
+  private static int primitiveSize(Class<?> type) {
+    if (type == long.class || type == double.class) return 8;
+    if (type == int.class || type == float.class) return 4;
+    if (type == short.class || type == char.class) return 2;
+    return 1;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  /**
+   * Instance size and reference fields of a class, looked up once per class.
+   */
+  private static class ClassLayout {
+    private final long size;
+    private final List<Field> references = new ArrayList<>();
+
+    ClassLayout(Class<?> type) {
+      long fieldBytes = 0;
+      boolean jdkClass = type.getName().startsWith("java.") || type.getName().startsWith("javax.")
+              || type.getName().startsWith("jdk.") || type.getName().startsWith("sun.");
+      for (Class<?> c = type; c != null && c != Object.class && !jdkClass; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+          if (field.getType().isPrimitive()) {
+            fieldBytes += primitiveSize(field.getType());
+          } else {
+            fieldBytes += REFERENCE;
+            try {
+              field.setAccessible(true);
+              references.add(field);
+            } catch (RuntimeException e) {
+              // not accessible, its target is not counted
+            }
+          }
+        }
+      }
+      this.size = align(HEADER + fieldBytes);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package me.christianrobert.ora2postgre.global;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Extracted and parsed data per migration scope, so jobs of different scopes can run at the same time.
+ *
+ * The default scope is the injected Everything and covers the schemas of the configuration
+ * (do.all-schemas, do.only-test-schema). Any other scope is named by its comma separated list
+ * of Oracle schemas, e.g. "HR,PAYROLL", and gets its own Everything that holds only those
+ * schemas.
+ */
+@ApplicationScoped
+public class MigrationScopes {
+
+  public static final String DEFAULT_SCOPE = "default";
+
+  @Inject
+  Everything defaultData;
+
+  private final Map<String, Everything> scopes = new ConcurrentHashMap<>();
+
+  /**
+   * Turns a scope parameter into its canonical name: upper case schemas, sorted, without blanks.
+   */
+  public static String normalize(String scope) {
+    if (scope == null || scope.isBlank() || DEFAULT_SCOPE.equalsIgnoreCase(scope.trim())) {
+      return DEFAULT_SCOPE;
+    }
+    return Arrays.stream(scope.split(","))
+            .map(s -> s.trim().toUpperCase())
+            .filter(s -> !s.isEmpty())
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(","));
+  }
+
+  public static boolean isDefault(String scope) {
+    return DEFAULT_SCOPE.equals(normalize(scope));
+  }
+
+  /**
+   * Returns the schemas a scope is restricted to, an empty list for the default scope.
+   */
+  public static List<String> schemasOf(String scope) {
+    String name = normalize(scope);
+    return DEFAULT_SCOPE.equals(name) ? List.of() : Arrays.asList(name.split(","));
+  }
+
+  /**
+   * Returns the data of a scope, creating an empty one for a new scope.
+   */
+  public Everything get(String scope) {
+    String name = normalize(scope);
+    if (DEFAULT_SCOPE.equals(name)) {
+      return defaultData;
+    }
+    return scopes.computeIfAbsent(name, k -> new Everything());
+  }
+
+  public Set<String> getScopeNames() {
+    Set<String> names = new TreeSet<>(scopes.keySet());
+    names.add(DEFAULT_SCOPE);
+    return names;
+  }
+
+  /**
+   * Drops the data of all scopes except the default one, which the caller clears itself.
+   */
+  public void dropScopes() {
+    scopes.values().forEach(Everything::discardRawSource);
+    scopes.clear();
+  }
+}
@@ -1,11 +1,64 @@
 package me.christianrobert.ora2postgre.global;
 
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+
 public class PlsqlCode {
   public String schema;
-  public String code;
+  // null once spilled or released
+  private String code;
+  private SourceSpill.Entry spilled;
+  private boolean released;
 
   public PlsqlCode(String schema, String code) {
-    this.schema = schema;
+    this.schema = NameNormalizer.intern(schema);
     this.code = code;
   }
+
+  /**
+   * Returns the source, reading it back from the spill file if it was spilled.
+   */
+  public String getCode() {
+    if (code != null) {
+      return code;
+    }
+    if (spilled != null) {
+      return spilled.read();
+    }
+    throw new IllegalStateException("PL/SQL source of schema " + schema
+            + " was released after parsing (memory.raw-source-after-parse=RELEASE), extract again to parse it");
+  }
+
+  /**
+   * Moves the source from the heap to the spill file.
+   */
+  public void spillTo(SourceSpill spill) {
+    if (code != null) {
+      spilled = spill.write(code);
+      code = null;
+    }
+  }
+
+  /**
+   * Drops the source, it cannot be parsed again.
+   */
+  public void release() {
+    code = null;
+    spilled = null;
+    released = true;
+  }
+
+  public boolean isInMemory() {
+    return code != null;
+  }
+
+  public boolean isReleased() {
+    return released;
+  }
+
+  /**
+   * Characters held on the heap, 0 once spilled or released.
+   */
+  public int getInMemoryLength() {
+    return code != null ? code.length() : 0;
+  }
 }
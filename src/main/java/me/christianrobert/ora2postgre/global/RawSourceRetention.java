@@ -0,0 +1,22 @@
+package me.christianrobert.ora2postgre.global;
+
+/**
+ * What happens to the extracted PL/SQL source once it has been parsed into ASTs.
+ * Only parsing reads the source, export and execution work on the ASTs.
+ */
+public enum RawSourceRetention {
+  /**
+   * The source stays on the heap.
+   */
+  KEEP,
+
+  /**
+   * The source is written to a spill file and read back only if parsing runs again.
+   */
+  SPILL,
+
+  /**
+   * The source is dropped. Parsing again needs a new extraction.
+   */
+  RELEASE
+}
@@ -0,0 +1,103 @@
+package me.christianrobert.ora2postgre.global;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only file holding PL/SQL source moved off the heap after parsing.
+ *
+ * All units of one Everything share a single file, a unit only keeps its offset and length.
+ * The file is deleted on close and when the JVM exits.
+ */
+public class SourceSpill implements AutoCloseable {
+
+  private final Path file;
+  private final FileChannel channel;
+  private long size;
+
+  public SourceSpill(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    this.file = Files.createTempFile(directory, "plsql-", ".spill");
+    this.file.toFile().deleteOnExit();
+    this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  /**
+   * Appends the text and returns the entry to read it back with.
+   */
+  public synchronized Entry write(String text) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    long offset = size;
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer, offset + buffer.position());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write to spill file " + file, e);
+    }
+    size += bytes.length;
+    return new Entry(this, offset, bytes.length);
+  }
+
+  private synchronized String read(long offset, int length) {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, offset + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of spill file");
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read from spill file " + file, e);
+    }
+    return new String(buffer.array(), StandardCharsets.UTF_8);
+  }
+
+  public synchronized long getSize() {
+    return size;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      channel.close();
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      // Deleted on exit at the latest
+    }
+  }
+
+  /**
+   * Position of one spilled text.
+   */
+  public static class Entry {
+    private final SourceSpill spill;
+    private final long offset;
+    private final int length;
+
+    private Entry(SourceSpill spill, long offset, int length) {
+      this.spill = spill;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    public String read() {
+      return spill.read(offset, length);
+    }
+
+    public int getLength() {
+      return length;
+    }
+  }
+}
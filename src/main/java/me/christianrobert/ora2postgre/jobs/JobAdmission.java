@@ -0,0 +1,231 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import me.christianrobert.ora2postgre.global.MigrationScopes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which jobs may run at the same time.
+ *
+ * Every job type has a demand: Oracle and PostgreSQL connections, an estimate of the heap it
+ * needs, and how it accesses the data of its migration scope, the generated files directory
+ * and the target schemas of its scope in PostgreSQL. A job is admitted when its demand fits
+ * into what the running jobs leave of the budgets and it does not conflict with them: readers
+ * of a resource share it, a writer needs it alone. The extracted data is held per scope name,
+ * while the target schemas of two scopes overlap when they share a schema; the default scope
+ * covers the configured schemas and is taken to overlap every scope. A job is always admitted
+ * when nothing else runs, so a single job larger than a budget still runs on its own.
+ *
+ * Not thread-safe, JobManager calls it under its job lock.
+ */
+public class JobAdmission {
+
+  /** How a job uses a shared resource. */
+  public enum Access { NONE, READ, WRITE }
+
+  private static final String FILES = "files";
+
+  private final int maxJobs;
+  private final int maxOracleConnections;
+  private final int maxPostgresConnections;
+  private final long maxHeapMb;
+
+  private final Map<String, Admitted> running = new HashMap<>();
+  private final Map<String, Integer> readers = new HashMap<>();
+  private final Set<String> writers = new HashSet<>();
+  private int usedOracleConnections;
+  private int usedPostgresConnections;
+  private long usedHeapMb;
+
+  public JobAdmission(int maxJobs, int maxOracleConnections, int maxPostgresConnections, long maxHeapMb) {
+    this.maxJobs = maxJobs;
+    this.maxOracleConnections = maxOracleConnections;
+    this.maxPostgresConnections = maxPostgresConnections;
+    this.maxHeapMb = maxHeapMb;
+  }
+
+  /**
+   * Admits the job if it fits next to the running jobs.
+   *
+   * @return true if the job was admitted and its resources are reserved
+   */
+  public boolean tryAdmit(String jobId, String scope, Demand demand) {
+    if (blockingReason(scope, demand) != null) {
+      return false;
+    }
+    running.put(jobId, new Admitted(scope, demand));
+    usedOracleConnections += demand.oracleConnections;
+    usedPostgresConnections += demand.postgresConnections;
+    usedHeapMb += demand.heapMb;
+    acquire(scopeKey(scope), demand.scopeAccess);
+    acquire(FILES, demand.filesAccess);
+    return true;
+  }
+
+  /**
+   * Returns why the job cannot be admitted now, null if it can.
+   */
+  public String blockingReason(String scope, Demand demand) {
+    if (running.isEmpty()) {
+      return null;
+    }
+    if (running.size() >= maxJobs) {
+      return "all " + maxJobs + " job slots are in use";
+    }
+    if (conflicts(scopeKey(scope), demand.scopeAccess)) {
+      return "another job uses scope " + scope;
+    }
+    if (conflicts(FILES, demand.filesAccess)) {
+      return "another job uses the generated files";
+    }
+    for (Admitted other : running.values()) {
+      if (targetConflict(scope, demand, other.scope, other.demand)) {
+        return "another job uses the target schemas of scope " + other.scope;
+      }
+    }
+    if (usedOracleConnections + demand.oracleConnections > maxOracleConnections) {
+      return "Oracle connection budget exhausted (" + usedOracleConnections + "/" + maxOracleConnections + " in use)";
+    }
+    if (usedPostgresConnections + demand.postgresConnections > maxPostgresConnections) {
+      return "PostgreSQL connection budget exhausted (" + usedPostgresConnections + "/" + maxPostgresConnections + " in use)";
+    }
+    if (usedHeapMb + demand.heapMb > maxHeapMb) {
+      return "heap budget exhausted (" + usedHeapMb + "/" + maxHeapMb + " MB reserved)";
+    }
+    return null;
+  }
+
+  /**
+   * Returns the resources of a finished job. Unknown ids are ignored.
+   */
+  public void release(String jobId) {
+    Admitted admitted = running.remove(jobId);
+    if (admitted == null) {
+      return;
+    }
+    usedOracleConnections -= admitted.demand.oracleConnections;
+    usedPostgresConnections -= admitted.demand.postgresConnections;
+    usedHeapMb -= admitted.demand.heapMb;
+    unlock(scopeKey(admitted.scope), admitted.demand.scopeAccess);
+    unlock(FILES, admitted.demand.filesAccess);
+  }
+
+  /**
+   * Whether two queued jobs must keep their order: they share a scope, the files or target
+   * schemas and one of them writes it.
+   */
+  public static boolean mustRunInOrder(String scopeA, Demand a, String scopeB, Demand b) {
+    boolean sameScope = scopeKey(scopeA).equals(scopeKey(scopeB)) && exclusive(a.scopeAccess, b.scopeAccess);
+    boolean files = exclusive(a.filesAccess, b.filesAccess);
+    return sameScope || files || targetConflict(scopeA, a, scopeB, b);
+  }
+
+  /**
+   * Whether the target schemas of two scopes overlap, the default scope overlaps every scope.
+   */
+  static boolean targetsOverlap(String scopeA, String scopeB) {
+    List<String> schemasA = MigrationScopes.schemasOf(scopeA);
+    List<String> schemasB = MigrationScopes.schemasOf(scopeB);
+    return schemasA.isEmpty() || schemasB.isEmpty() || schemasA.stream().anyMatch(schemasB::contains);
+  }
+
+  private static boolean targetConflict(String scopeA, Demand a, String scopeB, Demand b) {
+    return exclusive(a.targetAccess, b.targetAccess) && targetsOverlap(scopeA, scopeB);
+  }
+
+  private static boolean exclusive(Access a, Access b) {
+    return a != Access.NONE && b != Access.NONE && (a == Access.WRITE || b == Access.WRITE);
+  }
+
+  public int getRunningCount() { return running.size(); }
+  public int getUsedOracleConnections() { return usedOracleConnections; }
+  public int getUsedPostgresConnections() { return usedPostgresConnections; }
+  public long getUsedHeapMb() { return usedHeapMb; }
+  public int getMaxOracleConnections() { return maxOracleConnections; }
+  public int getMaxPostgresConnections() { return maxPostgresConnections; }
+  public long getMaxHeapMb() { return maxHeapMb; }
+
+  public List<String> getRunningJobIds() {
+    return new ArrayList<>(running.keySet());
+  }
+
+  private boolean conflicts(String key, Access access) {
+    if (access == Access.NONE) {
+      return false;
+    }
+    if (writers.contains(key)) {
+      return true;
+    }
+    return access == Access.WRITE && readers.getOrDefault(key, 0) > 0;
+  }
+
+  private void acquire(String key, Access access) {
+    if (access == Access.WRITE) {
+      writers.add(key);
+    } else if (access == Access.READ) {
+      readers.merge(key, 1, Integer::sum);
+    }
+  }
+
+  private void unlock(String key, Access access) {
+    if (access == Access.WRITE) {
+      writers.remove(key);
+    } else if (access == Access.READ) {
+      readers.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  private static String scopeKey(String scope) {
+    return "scope:" + scope;
+  }
+
+  /**
+   * Resources a job needs while it runs.
+   */
+  public static class Demand {
+    private final int oracleConnections;
+    private final int postgresConnections;
+    private final long heapMb;
+    private final Access scopeAccess;
+    private final Access filesAccess;
+    private final Access targetAccess;
+
+    public Demand(int oracleConnections, int postgresConnections, long heapMb,
+                  Access scopeAccess, Access filesAccess, Access targetAccess) {
+      this.oracleConnections = oracleConnections;
+      this.postgresConnections = postgresConnections;
+      this.heapMb = heapMb;
+      this.scopeAccess = scopeAccess;
+      this.filesAccess = filesAccess;
+      this.targetAccess = targetAccess;
+    }
+
+    public int getOracleConnections() { return oracleConnections; }
+    public int getPostgresConnections() { return postgresConnections; }
+    public long getHeapMb() { return heapMb; }
+    public Access getScopeAccess() { return scopeAccess; }
+    public Access getFilesAccess() { return filesAccess; }
+    public Access getTargetAccess() { return targetAccess; }
+
+    @Override
+    public String toString() {
+      return String.format("oracle=%d, postgres=%d, heap=%dMB, scope=%s, files=%s, target=%s",
+              oracleConnections, postgresConnections, heapMb, scopeAccess, filesAccess, targetAccess);
+    }
+  }
+
+  private static class Admitted {
+    private final String scope;
+    private final Demand demand;
+
+    Admitted(String scope, Demand demand) {
+      this.scope = scope;
+      this.demand = demand;
+    }
+  }
+}
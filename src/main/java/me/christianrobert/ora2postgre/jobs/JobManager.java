@@ -1,11 +1,22 @@
 package me.christianrobert.ora2postgre.jobs;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.MigrationScopes;
+import me.christianrobert.ora2postgre.jobs.JobAdmission.Access;
+import me.christianrobert.ora2postgre.jobs.JobAdmission.Demand;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
@@ -14,141 +25,222 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.CancellationException;
 import java.util.Map;
-import java.util.LinkedList;
-import java.util.Queue;
 
+/**
+ * Runs migration jobs in the background.
+ *
+ * Jobs run concurrently as far as JobAdmission allows: within the connection and heap budgets
+ * (jobs.max-*) and without two jobs writing the same migration scope, the generated files or
+ * overlapping target schemas.
+ * Jobs that cannot start yet wait in a bounded queue. They start in queue order, but a waiting
+ * job only holds back later jobs it conflicts with.
+ */
 @ApplicationScoped
 public class JobManager {
 
   private static final Logger logger = LoggerFactory.getLogger(JobManager.class);
 
+  @Inject
+  Config config;
+
   private final Map<String, JobStatus> jobs = new ConcurrentHashMap<>();
   private final Map<String, CompletableFuture<Void>> runningJobs = new ConcurrentHashMap<>();
-  private final ExecutorService executor = Executors.newFixedThreadPool(5);
   private final ReentrantLock globalJobLock = new ReentrantLock();
-  private final Queue<PendingJob> jobQueue = new LinkedList<>();
-  private volatile String currentRunningJobId = null;
+  private final LinkedList<PendingJob> jobQueue = new LinkedList<>();
+  private ExecutorService executor;
+  private JobAdmission admission;
+
+  @PostConstruct
+  void init() {
+    long maxHeapMb = config.getJobsMaxHeapMb() > 0
+            ? config.getJobsMaxHeapMb()
+            : Runtime.getRuntime().maxMemory() / (1024 * 1024) * 3 / 4;
+    admission = new JobAdmission(config.getJobsMaxConcurrent(), config.getJobsMaxOracleConnections(),
+            config.getJobsMaxPostgresConnections(), maxHeapMb);
+    executor = Executors.newFixedThreadPool(config.getJobsMaxConcurrent());
+
+    MigrationMetrics.gauge("migration.jobs.queued", jobQueue, LinkedList::size);
+    MigrationMetrics.gauge("migration.jobs.running", runningJobs, Map::size);
+    MigrationMetrics.monitor(executor, "jobs");
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
 
   public String startJob(String jobType, Runnable task) {
-    String jobId = UUID.randomUUID().toString();
+    return startJob(jobType, MigrationScopes.DEFAULT_SCOPE, task);
+  }
 
-    globalJobLock.lock();
-    try {
-      if (currentRunningJobId != null) {
-        // Queue the job if another job is running
-        jobQueue.offer(new PendingJob(jobId, jobType, task, null));
-        JobStatus status = new JobStatus(jobId, jobType, JobState.RUNNING, LocalDateTime.now());
-        status.setMessage("Job queued - waiting for current job to complete");
-        jobs.put(jobId, status);
-        logger.info("Job {} of type '{}' queued - current job {} is running", jobId, jobType, currentRunningJobId);
-        return jobId;
-      }
+  public String startJob(String jobType, String scope, Runnable task) {
+    return submit(new PendingJob(UUID.randomUUID().toString(), jobType, MigrationScopes.normalize(scope), task, null));
+  }
 
-      // Start the job immediately
-      currentRunningJobId = jobId;
-      JobStatus status = new JobStatus(jobId, jobType, JobState.RUNNING, LocalDateTime.now());
-      jobs.put(jobId, status);
-
-      CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-        try {
-          logger.info("Starting job {} of type: {}", jobId, jobType);
-          task.run();
-
-          // Check if job was cancelled
-          if (status.isCancelled()) {
-            logger.info("Job {} was cancelled during execution", jobId);
-            return;
-          }
-
-          status.setState(JobState.COMPLETED);
-          status.setCompletedAt(LocalDateTime.now());
-          status.setMessage("Job completed successfully");
-          logger.info("Job {} completed successfully", jobId);
-        } catch (CancellationException e) {
-          logger.info("Job {} was cancelled", jobId);
-          status.cancel("Job was cancelled");
-        } catch (Exception e) {
-          logger.error("Job {} of type '{}' failed with exception", jobId, jobType, e);
-
-          status.setState(JobState.FAILED);
-          status.setCompletedAt(LocalDateTime.now());
-          status.setMessage("Job failed: " + e.getMessage());
-          status.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
-
-          logger.error("Job failure details - ID: {}, Type: {}, Error: {}",
-                  jobId, jobType, e.getMessage());
-        } finally {
-          // Job finished, start next job in queue
-          processNextJob();
-        }
-      }, executor);
+  /**
+   * Start a job with access to the jobId for progress tracking
+   */
+  public String startJobWithId(String jobType, java.util.function.Consumer<String> task) {
+    return startJobWithId(jobType, MigrationScopes.DEFAULT_SCOPE, task);
+  }
 
-      runningJobs.put(jobId, future);
-      return jobId;
+  public String startJobWithId(String jobType, String scope, java.util.function.Consumer<String> task) {
+    return submit(new PendingJob(UUID.randomUUID().toString(), jobType, MigrationScopes.normalize(scope), null, task));
+  }
+
+  /**
+   * Whether a new job can be started or queued. Controllers answer 409 with getJobError() otherwise.
+   */
+  public boolean canAcceptJob() {
+    globalJobLock.lock();
+    try {
+      return jobQueue.size() < config.getJobsMaxQueued();
     } finally {
       globalJobLock.unlock();
     }
   }
 
   /**
-   * Start a job with access to the jobId for progress tracking
+   * Resources a job type needs while it runs. Heap figures are rough sizes of the data the
+   * phase holds on top of the extracted model, meant to keep large phases from piling up.
+   * Every job that writes to PostgreSQL writes the target, so execute-pre, transferdata and
+   * execute-post of a scope never overlap and run in the order they were requested.
    */
-  public String startJobWithId(String jobType, java.util.function.Consumer<String> task) {
-    String jobId = UUID.randomUUID().toString();
+  public Demand demandOf(String jobType) {
+    int partitions = Math.max(1, config.getTransferPartitionParallelism());
+    int sequenceSync = Math.max(1, config.getSequenceSyncParallelism());
+    switch (jobType) {
+      case "extract":
+        return new Demand(1, 0, 256, Access.WRITE, Access.NONE, Access.NONE);
+      case "parse":
+        return new Demand(0, 0, 512, Access.WRITE, Access.NONE, Access.NONE);
+      case "export":
+        return new Demand(0, 0, 256, Access.READ, Access.WRITE, Access.NONE);
+      case "execute-pre":
+        return new Demand(0, 1, 64, Access.READ, Access.READ, Access.WRITE);
+      case "execute-post":
+        return new Demand(0, 1 + sequenceSync, 64, Access.READ, Access.READ, Access.WRITE);
+      case "transferdata":
+        return new Demand(1 + partitions, 1 + partitions, 256, Access.READ, Access.NONE, Access.WRITE);
+      case "deltasync":
+        return new Demand(1, 1, 128, Access.READ, Access.NONE, Access.WRITE);
+      case "full":
+        return new Demand(1 + partitions, 1 + Math.max(partitions, sequenceSync), 512, Access.WRITE, Access.WRITE, Access.WRITE);
+      default:
+        // Unknown job types run alone
+        return new Demand(config.getJobsMaxOracleConnections(), config.getJobsMaxPostgresConnections(),
+                Long.MAX_VALUE / 2, Access.WRITE, Access.WRITE, Access.WRITE);
+    }
+  }
 
+  private String submit(PendingJob job) {
     globalJobLock.lock();
     try {
-      if (currentRunningJobId != null) {
-        // Queue the job if another job is running
-        jobQueue.offer(new PendingJob(jobId, jobType, null, task));
-        JobStatus status = new JobStatus(jobId, jobType, JobState.RUNNING, LocalDateTime.now());
-        status.setMessage("Job queued - waiting for current job to complete");
-        jobs.put(jobId, status);
-        logger.info("Job {} of type '{}' queued - current job {} is running", jobId, jobType, currentRunningJobId);
-        return jobId;
+      JobStatus status = new JobStatus(job.getJobId(), job.getJobType(), JobState.RUNNING, LocalDateTime.now());
+      status.setScope(job.getScope());
+      jobs.put(job.getJobId(), status);
+
+      jobQueue.offer(job);
+      startQueuedJobs();
+      if (jobQueue.contains(job)) {
+        // Queue the job until enough resources are free
+        String reason = admission.blockingReason(job.getScope(), job.getDemand());
+        status.setMessage("Job queued - " + (reason != null ? reason : "waiting for an earlier job"));
+        logger.info("Job {} of type '{}' (scope {}) queued: {}", job.getJobId(), job.getJobType(), job.getScope(),
+                status.getMessage());
       }
+      return job.getJobId();
+    } finally {
+      globalJobLock.unlock();
+    }
+  }
 
-      // Start the job immediately
-      currentRunningJobId = jobId;
-      JobStatus status = new JobStatus(jobId, jobType, JobState.RUNNING, LocalDateTime.now());
-      jobs.put(jobId, status);
-
-      CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-        try {
-          logger.info("Starting job {} of type: {}", jobId, jobType);
-          task.accept(jobId);
-
-          // Check if job was cancelled
-          if (status.isCancelled()) {
-            logger.info("Job {} was cancelled during execution", jobId);
-            return;
-          }
-
-          status.setState(JobState.COMPLETED);
-          status.setCompletedAt(LocalDateTime.now());
-          status.setMessage("Job completed successfully");
-          logger.info("Job {} completed successfully", jobId);
-        } catch (CancellationException e) {
-          logger.info("Job {} was cancelled", jobId);
-          status.cancel("Job was cancelled");
-        } catch (Exception e) {
-          logger.error("Job {} of type '{}' failed with exception", jobId, jobType, e);
-
-          status.setState(JobState.FAILED);
-          status.setCompletedAt(LocalDateTime.now());
-          status.setMessage("Job failed: " + e.getMessage());
-          status.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
-
-          logger.error("Job failure details - ID: {}, Type: {}, Error: {}",
-                  jobId, jobType, e.getMessage());
-        } finally {
-          // Job finished, start next job in queue
-          processNextJob();
+  /**
+   * Starts every queued job that can be admitted. A job that must wait keeps the later jobs
+   * it conflicts with waiting as well, so conflicting phases, such as the phases writing the
+   * target of a scope, run in the order they were requested.
+   */
+  private void startQueuedJobs() {
+    List<PendingJob> waiting = new ArrayList<>();
+    Iterator<PendingJob> iterator = jobQueue.iterator();
+    while (iterator.hasNext()) {
+      PendingJob job = iterator.next();
+      JobStatus status = jobs.get(job.getJobId());
+      if (status == null || status.isCancelled()) {
+        iterator.remove();
+        continue;
+      }
+      boolean heldBack = waiting.stream().anyMatch(earlier -> JobAdmission.mustRunInOrder(
+              earlier.getScope(), earlier.getDemand(), job.getScope(), job.getDemand()));
+      if (!heldBack && admission.tryAdmit(job.getJobId(), job.getScope(), job.getDemand())) {
+        iterator.remove();
+        if (status.getMessage() != null) {
+          status.setMessage("Job started from queue");
         }
-      }, executor);
+        launch(job, status);
+      } else {
+        waiting.add(job);
+      }
+    }
+  }
+
+  private void launch(PendingJob job, JobStatus status) {
+    String jobId = job.getJobId();
+    String jobType = job.getJobType();
+
+    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+      try {
+        logger.info("Starting job {} of type: {} (scope {})", jobId, jobType, job.getScope());
+        MigrationMetrics.jobStarted(jobId, jobType);
 
-      runningJobs.put(jobId, future);
-      return jobId;
+        // Execute the appropriate task
+        if (job.getSimpleTask() != null) {
+          job.getSimpleTask().run();
+        } else if (job.getTaskWithId() != null) {
+          job.getTaskWithId().accept(jobId);
+        }
+
+        // Check if job was cancelled
+        if (status.isCancelled()) {
+          logger.info("Job {} was cancelled during execution", jobId);
+          return;
+        }
+
+        status.setState(JobState.COMPLETED);
+        status.setCompletedAt(LocalDateTime.now());
+        status.setMessage("Job completed successfully");
+        logger.info("Job {} completed successfully", jobId);
+      } catch (CancellationException e) {
+        logger.info("Job {} was cancelled", jobId);
+        status.cancel("Job was cancelled");
+      } catch (Exception e) {
+        logger.error("Job {} of type '{}' failed with exception", jobId, jobType, e);
+
+        status.setState(JobState.FAILED);
+        status.setCompletedAt(LocalDateTime.now());
+        status.setMessage("Job failed: " + e.getMessage());
+        status.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        logger.error("Job failure details - ID: {}, Type: {}, Error: {}",
+                jobId, jobType, e.getMessage());
+      } finally {
+        MigrationMetrics.jobFinished(jobId);
+        jobFinished(jobId);
+      }
+    }, executor);
+
+    runningJobs.put(jobId, future);
+  }
+
+  /**
+   * Returns the resources of a finished job and starts the queued jobs that fit now.
+   */
+  private void jobFinished(String jobId) {
+    globalJobLock.lock();
+    try {
+      runningJobs.remove(jobId);
+      admission.release(jobId);
+      startQueuedJobs();
     } finally {
       globalJobLock.unlock();
     }
@@ -168,7 +260,7 @@ public class JobManager {
   }
 
   public boolean isAnyJobRunning() {
-    return currentRunningJobId != null;
+    return !runningJobs.isEmpty();
   }
 
   public void clearCompletedJobs() {
@@ -195,16 +287,20 @@ public class JobManager {
     // Cancel the job
     status.cancel(reason);
 
+    globalJobLock.lock();
+    try {
+      // A queued job never starts, a running one keeps its resources until its task returns
+      if (jobQueue.removeIf(job -> job.getJobId().equals(jobId))) {
+        startQueuedJobs();
+      }
+    } finally {
+      globalJobLock.unlock();
+    }
+
     // Cancel the CompletableFuture if it's running
     CompletableFuture<Void> future = runningJobs.get(jobId);
     if (future != null) {
       future.cancel(true);
-      runningJobs.remove(jobId);
-    }
-
-    // If this is the current running job, process next job
-    if (jobId.equals(currentRunningJobId)) {
-      processNextJob();
     }
 
     logger.info("Job {} cancelled: {}", jobId, reason);
@@ -219,7 +315,17 @@ public class JobManager {
 
     globalJobLock.lock();
     try {
-      // Cancel all running jobs
+      // Cancel all queued jobs
+      while (!jobQueue.isEmpty()) {
+        PendingJob pendingJob = jobQueue.poll();
+        JobStatus status = jobs.get(pendingJob.getJobId());
+        if (status != null) {
+          status.cancel(reason);
+        }
+        logger.info("Cancelled queued job: {}", pendingJob.getJobId());
+      }
+
+      // Cancel all running jobs, their resources are released when their tasks return
       for (Map.Entry<String, CompletableFuture<Void>> entry : runningJobs.entrySet()) {
         String jobId = entry.getKey();
         CompletableFuture<Void> future = entry.getValue();
@@ -232,109 +338,48 @@ public class JobManager {
         future.cancel(true);
         logger.info("Cancelled running job: {}", jobId);
       }
-
-      // Cancel all queued jobs
-      while (!jobQueue.isEmpty()) {
-        PendingJob pendingJob = jobQueue.poll();
-        JobStatus status = jobs.get(pendingJob.getJobId());
-        if (status != null) {
-          status.cancel(reason);
-        }
-        logger.info("Cancelled queued job: {}", pendingJob.getJobId());
-      }
-
-      // Clear state
-      runningJobs.clear();
-      currentRunningJobId = null;
-
     } finally {
       globalJobLock.unlock();
     }
   }
 
   /**
-   * Get current running job ID
+   * Get the IDs of the running jobs
    */
-  public String getCurrentRunningJobId() {
-    return currentRunningJobId;
+  public List<String> getRunningJobIds() {
+    globalJobLock.lock();
+    try {
+      return admission.getRunningJobIds();
+    } finally {
+      globalJobLock.unlock();
+    }
   }
 
   /**
    * Get number of queued jobs
    */
   public int getQueuedJobCount() {
-    return jobQueue.size();
+    globalJobLock.lock();
+    try {
+      return jobQueue.size();
+    } finally {
+      globalJobLock.unlock();
+    }
   }
 
   /**
-   * Process the next job in the queue
+   * Current use of the admission budgets, for the status endpoint.
    */
-  private void processNextJob() {
+  public Map<String, Object> getResourceUsage() {
     globalJobLock.lock();
     try {
-      // Clear current running job
-      currentRunningJobId = null;
-
-      // Get next job from queue
-      PendingJob nextJob = jobQueue.poll();
-      if (nextJob == null) {
-        return; // No more jobs in queue
-      }
-
-      // Start the next job
-      currentRunningJobId = nextJob.getJobId();
-      JobStatus status = jobs.get(nextJob.getJobId());
-      if (status != null) {
-        status.setMessage("Job started from queue");
-      }
-
-      CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-        try {
-          logger.info("Starting queued job {} of type: {}", nextJob.getJobId(), nextJob.getJobType());
-
-          // Execute the appropriate task
-          if (nextJob.getSimpleTask() != null) {
-            nextJob.getSimpleTask().run();
-          } else if (nextJob.getTaskWithId() != null) {
-            nextJob.getTaskWithId().accept(nextJob.getJobId());
-          }
-
-          // Check if job was cancelled
-          if (status != null && status.isCancelled()) {
-            logger.info("Queued job {} was cancelled during execution", nextJob.getJobId());
-            return;
-          }
-
-          if (status != null) {
-            status.setState(JobState.COMPLETED);
-            status.setCompletedAt(LocalDateTime.now());
-            status.setMessage("Job completed successfully");
-          }
-          logger.info("Queued job {} completed successfully", nextJob.getJobId());
-
-        } catch (CancellationException e) {
-          logger.info("Queued job {} was cancelled", nextJob.getJobId());
-          if (status != null) {
-            status.cancel("Job was cancelled");
-          }
-        } catch (Exception e) {
-          logger.error("Queued job {} of type '{}' failed with exception", nextJob.getJobId(), nextJob.getJobType(), e);
-
-          if (status != null) {
-            status.setState(JobState.FAILED);
-            status.setCompletedAt(LocalDateTime.now());
-            status.setMessage("Job failed: " + e.getMessage());
-            status.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
-          }
-        } finally {
-          // Remove from running jobs and process next
-          runningJobs.remove(nextJob.getJobId());
-          processNextJob();
-        }
-      }, executor);
-
-      runningJobs.put(nextJob.getJobId(), future);
-
+      Map<String, Object> usage = new HashMap<>();
+      usage.put("runningJobs", admission.getRunningCount());
+      usage.put("queuedJobs", jobQueue.size());
+      usage.put("oracleConnections", admission.getUsedOracleConnections() + "/" + admission.getMaxOracleConnections());
+      usage.put("postgresConnections", admission.getUsedPostgresConnections() + "/" + admission.getMaxPostgresConnections());
+      usage.put("heapMb", admission.getUsedHeapMb() + "/" + admission.getMaxHeapMb());
+      return usage;
     } finally {
       globalJobLock.unlock();
     }
@@ -343,21 +388,27 @@ public class JobManager {
   /**
    * Inner class to represent a pending job
    */
-  private static class PendingJob {
+  private class PendingJob {
     private final String jobId;
     private final String jobType;
+    private final String scope;
+    private final Demand demand;
     private final Runnable simpleTask;
     private final java.util.function.Consumer<String> taskWithId;
 
-    public PendingJob(String jobId, String jobType, Runnable simpleTask, java.util.function.Consumer<String> taskWithId) {
+    public PendingJob(String jobId, String jobType, String scope, Runnable simpleTask, java.util.function.Consumer<String> taskWithId) {
       this.jobId = jobId;
       this.jobType = jobType;
+      this.scope = scope;
+      this.demand = demandOf(jobType);
       this.simpleTask = simpleTask;
       this.taskWithId = taskWithId;
     }
 
     public String getJobId() { return jobId; }
     public String getJobType() { return jobType; }
+    public String getScope() { return scope; }
+    public Demand getDemand() { return demand; }
     public Runnable getSimpleTask() { return simpleTask; }
     public java.util.function.Consumer<String> getTaskWithId() { return taskWithId; }
   }
@@ -365,8 +416,8 @@ public class JobManager {
   public Map getJobError() {
     Map<String, String> error = new HashMap<>();
     error.put("status", "error");
-    error.put("message", "Another job is already running. Only one job can run at a time.");
-    error.put("currentJobId", this.getCurrentRunningJobId());
+    error.put("message", "Too many jobs are waiting (" + getQueuedJobCount() + "). Try again when running jobs have finished.");
+    error.put("runningJobIds", String.join(",", getRunningJobIds()));
     return error;
   }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ public class JobStatus {
   private String error;
   private Object result;
   private String cancellationReason;
+  private String scope;
 
   // Progress tracking fields
   private String currentStep;
@@ -41,6 +42,7 @@ public class JobStatus {
   public String getError() { return error; }
   public Object getResult() { return result; }
   public String getCancellationReason() { return cancellationReason; }
+  public String getScope() { return scope; }
 
   // Progress getters
   public String getCurrentStep() { return currentStep; }
@@ -63,6 +65,7 @@ public class JobStatus {
   public void setError(String error) { this.error = error; }
   public void setResult(Object result) { this.result = result; }
   public void setCancellationReason(String cancellationReason) { this.cancellationReason = cancellationReason; }
+  public void setScope(String scope) { this.scope = scope; }
 
   // Progress setters
   public void setCurrentStep(String currentStep) { this.currentStep = currentStep; }
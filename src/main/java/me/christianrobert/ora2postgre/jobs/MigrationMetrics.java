@@ -0,0 +1,181 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.search.Search;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer meters for the migration hot paths, exposed by the Prometheus endpoint (/q/metrics).
+ *
+ * Meters are registered in the global registry, so static code in the parser, export and transfer
+ * packages can record without injection. Every meter is tagged with the job it is recorded for
+ * and that job's phase: the job type for single phase jobs, the current MigrationStep for a full
+ * migration. Jobs run concurrently, so the job is bound to the thread running it; worker pools
+ * started by a job pass it on with {@link #propagate(Callable)}.
+ * Transfer meters are recorded per batch, never per row. The meters of a job are removed when it
+ * finishes, so job ids and table or file names do not accumulate in the registry.
+ */
+public final class MigrationMetrics {
+
+  public static final String NO_JOB = "none";
+  public static final String IDLE_PHASE = "idle";
+
+  private static final ThreadLocal<String> currentJob = new ThreadLocal<>();
+  private static final Map<String, String> phases = new ConcurrentHashMap<>();
+
+  private MigrationMetrics() {
+  }
+
+  /**
+   * Binds the job to the calling thread, which then runs it.
+   */
+  public static void jobStarted(String startedJobId, String jobType) {
+    phases.put(startedJobId, jobType);
+    currentJob.set(startedJobId);
+  }
+
+  /**
+   * Unbinds the job and removes the meters tagged with it.
+   */
+  public static void jobFinished(String finishedJobId) {
+    phases.remove(finishedJobId);
+    if (finishedJobId.equals(currentJob.get())) {
+      currentJob.remove();
+    }
+    if (!NO_JOB.equals(finishedJobId)) {
+      for (Meter meter : Search.in(Metrics.globalRegistry).tag("job", finishedJobId).meters()) {
+        Metrics.globalRegistry.remove(meter);
+      }
+    }
+  }
+
+  public static void phaseStarted(String jobId, MigrationStep step) {
+    phases.put(jobId, step.name().toLowerCase());
+  }
+
+  public static String getJobId() {
+    String jobId = currentJob.get();
+    return jobId != null && phases.containsKey(jobId) ? jobId : NO_JOB;
+  }
+
+  public static String getPhase() {
+    String jobId = currentJob.get();
+    return jobId != null ? phases.getOrDefault(jobId, IDLE_PHASE) : IDLE_PHASE;
+  }
+
+  /**
+   * Wraps a task submitted to a worker pool so that its meters are tagged with the submitting job.
+   */
+  public static <T> Callable<T> propagate(Callable<T> task) {
+    String jobId = currentJob.get();
+    if (jobId == null) {
+      return task;
+    }
+    return () -> {
+      String previous = currentJob.get();
+      currentJob.set(jobId);
+      try {
+        return task.call();
+      } finally {
+        if (previous != null) {
+          currentJob.set(previous);
+        } else {
+          currentJob.remove();
+        }
+      }
+    };
+  }
+
+  /**
+   * Rows and bytes written to PostgreSQL for a table. Bytes are the length of the COPY text,
+   * 0 when the strategy writes with bound parameters.
+   */
+  public static void recordTransferred(String table, String strategy, long rows, long bytes) {
+    Tags tags = tags("table", table, "strategy", strategy);
+    Metrics.counter("migration.transfer.rows", tags).increment(rows);
+    if (bytes > 0) {
+      Metrics.counter("migration.transfer.bytes", tags).increment(bytes);
+    }
+  }
+
+  /**
+   * Time spent reading and converting the Oracle rows of one batch.
+   */
+  public static void recordOracleFetch(String table, String strategy, long nanos) {
+    Metrics.timer("migration.transfer.oracle.fetch", tags("table", table, "strategy", strategy))
+            .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Time spent writing one batch to PostgreSQL (COPY or batch insert).
+   */
+  public static void recordPostgresWrite(String table, String strategy, long nanos) {
+    Metrics.timer("migration.transfer.postgres.write", tags("table", table, "strategy", strategy))
+            .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Parse time of one PL/SQL unit, tagged with the kind of AST it produced.
+   */
+  public static void recordParse(String unit, long startNanos) {
+    Metrics.timer("migration.parse", tags("unit", unit)).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Transformation and write time of one exported object.
+   */
+  public static void recordExport(String objectType, long startNanos) {
+    Metrics.timer("migration.export", tags("object_type", objectType))
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Execution time of one generated SQL file.
+   */
+  public static void recordDdlExecution(String file, boolean success, long startNanos) {
+    Metrics.timer("migration.ddl.execution", tags("file", file, "outcome", success ? "success" : "failure"))
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Time to get a pooled connection, including the wait for the phase limit.
+   */
+  public static void recordConnectionAcquire(String database, String usage, long startNanos) {
+    Metrics.timer("migration.pool.acquire", tags("database", database, "usage", usage))
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Registers a gauge for a long lived object such as a queue, untagged by job.
+   */
+  public static <T> void gauge(String name, T stateObject, ToDoubleFunction<T> valueFunction) {
+    Metrics.globalRegistry.gauge(name, stateObject, valueFunction);
+  }
+
+  /**
+   * Registers a gauge for a long lived object with fixed tags, untagged by job.
+   */
+  public static <T> void gauge(String name, Tags tags, T stateObject, ToDoubleFunction<T> valueFunction) {
+    Metrics.globalRegistry.gauge(name, tags, stateObject, valueFunction);
+  }
+
+  /**
+   * Publishes pool size, active threads and queued tasks of a long lived executor.
+   */
+  public static void monitor(ExecutorService executor, String name) {
+    new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(Metrics.globalRegistry);
+  }
+
+  private static Tags tags(String... keyValues) {
+    return Tags.of(keyValues).and("job", getJobId(), "phase", getPhase());
+  }
+}
@@ -1,12 +1,21 @@
 package me.christianrobert.ora2postgre.jobs;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service for tracking detailed progress of migration jobs.
@@ -20,6 +29,12 @@ public class MigrationProgressService {
   @Inject
   JobManager jobManager;
 
+  @Inject
+  Config config;
+
+  // Live per table progress of the jobs currently transferring data, read by the progress streams
+  private final Map<String, TransferProgress> transferProgress = new ConcurrentHashMap<>();
+
   /**
    * Initialize progress tracking for a migration job
    */
@@ -72,6 +87,7 @@ public class MigrationProgressService {
       }
 
       // Initialize next step
+      MigrationMetrics.phaseStarted(jobId, nextStep);
       jobStatus.setCurrentStep(nextStep.getDisplayName());
       jobStatus.setCurrentStepNumber(nextStep.getStepNumber());
       jobStatus.setStepProgress(0.0);
@@ -166,6 +182,49 @@ public class MigrationProgressService {
     }
   }
 
+  /**
+   * Makes the live table progress of a data transfer visible to the progress stream of the job.
+   */
+  public void attachTransferProgress(String jobId, TransferProgress progress) {
+    transferProgress.put(jobId, progress);
+  }
+
+  public void detachTransferProgress(String jobId) {
+    transferProgress.remove(jobId);
+  }
+
+  /**
+   * Pushes the progress of a job instead of having clients poll it.
+   *
+   * The job is sampled at most once per progress.stream-interval-ms, a snapshot is only emitted
+   * when it differs from the previous one. The stream completes after the final state of the job
+   * was sent. Returns null when the job is unknown.
+   */
+  public Multi<ProgressSnapshot> streamProgress(String jobId) {
+    if (jobManager.getJobStatus(jobId) == null) {
+      return null;
+    }
+    AtomicReference<ProgressSnapshot> previous = new AtomicReference<>();
+    AtomicBoolean finished = new AtomicBoolean();
+
+    return Multi.createFrom().ticks().every(Duration.ofMillis(config.getProgressStreamIntervalMs()))
+            .onOverflow().drop()
+            .select().first(tick -> !finished.get())
+            .onItem().transformToUniAndConcatenate(tick -> {
+              JobStatus jobStatus = jobManager.getJobStatus(jobId);
+              if (jobStatus == null) {
+                // Cleared from the job list while streaming, a null item is dropped and the next tick completes
+                finished.set(true);
+                return Uni.createFrom().<ProgressSnapshot>nullItem();
+              }
+              ProgressSnapshot snapshot = ProgressSnapshot.of(jobStatus, transferProgress.get(jobId), previous.get());
+              finished.set(snapshot.isFinal());
+              previous.set(snapshot);
+              return Uni.createFrom().item(snapshot);
+            })
+            .skip().repetitions();
+  }
+
   /**
    * Calculate and update estimated completion time based on current progress
    */
@@ -0,0 +1,129 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+
+import java.util.Objects;
+
+/**
+ * Compact, immutable view of a job's progress as pushed by the progress stream.
+ *
+ * During data transfer it also carries the rows of the current table and the throughput
+ * measured since the previous snapshot. Snapshots are equal when nothing a client shows has
+ * changed, the stream uses this to send only changes.
+ */
+public class ProgressSnapshot {
+
+  private final String jobId;
+  private final JobState state;
+  private final String currentStep;
+  private final int currentStepNumber;
+  private final int stepProgressPercentage;
+  private final int overallProgressPercentage;
+  private final String subStepDetails;
+  private final String error;
+
+  // Data transfer details, empty/zero outside of the transfer step
+  private final String currentTable;
+  private final long currentTableRows;
+  private final long currentTableEstimatedRows;
+  private final long completedTables;
+  private final long totalTables;
+  private final long transferredRows;
+  private final long estimatedRows;
+  private final long rowsPerSecond;
+
+  private final long sampledAtNanos;
+
+  private ProgressSnapshot(JobStatus status, TransferProgress transfer, long rowsPerSecond, long sampledAtNanos) {
+    this.jobId = status.getJobId();
+    this.state = status.getState();
+    this.currentStep = status.getCurrentStep();
+    this.currentStepNumber = status.getCurrentStepNumber();
+    this.stepProgressPercentage = status.getStepProgressPercentage();
+    this.overallProgressPercentage = status.getOverallProgressPercentage();
+    this.subStepDetails = status.getSubStepDetails();
+    this.error = status.getError();
+    this.currentTable = transfer != null ? transfer.getCurrentTable() : "";
+    this.currentTableRows = transfer != null ? transfer.getCurrentTableTransferredRows() : 0;
+    this.currentTableEstimatedRows = transfer != null ? transfer.getCurrentTableTotalRows() : 0;
+    this.completedTables = transfer != null ? transfer.getCompletedTables() : 0;
+    this.totalTables = transfer != null ? transfer.getTotalTables() : 0;
+    this.transferredRows = transfer != null ? transferredRows(transfer) : 0;
+    this.estimatedRows = transfer != null ? transfer.getTotalEstimatedRows() : 0;
+    this.rowsPerSecond = rowsPerSecond;
+    this.sampledAtNanos = sampledAtNanos;
+  }
+
+  /**
+   * Takes a snapshot of the job. The throughput is derived from the rows transferred since the
+   * previous snapshot, pass null for the first one.
+   */
+  public static ProgressSnapshot of(JobStatus status, TransferProgress transfer, ProgressSnapshot previous) {
+    long now = System.nanoTime();
+    long rowsPerSecond = 0;
+    if (transfer != null && previous != null && now > previous.sampledAtNanos) {
+      long rows = transferredRows(transfer) - previous.transferredRows;
+      rowsPerSecond = Math.max(0, rows * 1_000_000_000L / (now - previous.sampledAtNanos));
+    }
+    return new ProgressSnapshot(status, transfer, rowsPerSecond, now);
+  }
+
+  // Finished tables plus the rows of the table in progress
+  private static long transferredRows(TransferProgress transfer) {
+    long rows = transfer.getTotalTransferredRows();
+    if (transfer.getCompletedTables() < transfer.getTotalTables()) {
+      rows += transfer.getCurrentTableTransferredRows();
+    }
+    return rows;
+  }
+
+  public boolean isFinal() {
+    return state == JobState.COMPLETED || state == JobState.FAILED || state == JobState.CANCELLED;
+  }
+
+  // Getters
+  public String getJobId() { return jobId; }
+  public JobState getState() { return state; }
+  public String getCurrentStep() { return currentStep; }
+  public int getCurrentStepNumber() { return currentStepNumber; }
+  public int getStepProgressPercentage() { return stepProgressPercentage; }
+  public int getOverallProgressPercentage() { return overallProgressPercentage; }
+  public String getSubStepDetails() { return subStepDetails; }
+  public String getError() { return error; }
+  public String getCurrentTable() { return currentTable; }
+  public long getCurrentTableRows() { return currentTableRows; }
+  public long getCurrentTableEstimatedRows() { return currentTableEstimatedRows; }
+  public long getCompletedTables() { return completedTables; }
+  public long getTotalTables() { return totalTables; }
+  public long getTransferredRows() { return transferredRows; }
+  public long getEstimatedRows() { return estimatedRows; }
+  public long getRowsPerSecond() { return rowsPerSecond; }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof ProgressSnapshot)) return false;
+    ProgressSnapshot that = (ProgressSnapshot) o;
+    return currentStepNumber == that.currentStepNumber
+            && stepProgressPercentage == that.stepProgressPercentage
+            && overallProgressPercentage == that.overallProgressPercentage
+            && currentTableRows == that.currentTableRows
+            && currentTableEstimatedRows == that.currentTableEstimatedRows
+            && completedTables == that.completedTables
+            && totalTables == that.totalTables
+            && transferredRows == that.transferredRows
+            && estimatedRows == that.estimatedRows
+            && rowsPerSecond == that.rowsPerSecond
+            && Objects.equals(jobId, that.jobId)
+            && state == that.state
+            && Objects.equals(currentStep, that.currentStep)
+            && Objects.equals(subStepDetails, that.subStepDetails)
+            && Objects.equals(error, that.error)
+            && Objects.equals(currentTable, that.currentTable);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(jobId, state, currentStep, subStepDetails, currentTable, transferredRows);
+  }
+}
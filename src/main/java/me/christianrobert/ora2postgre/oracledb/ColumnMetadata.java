@@ -4,6 +4,8 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
 import me.christianrobert.ora2postgre.global.SchemaResolutionUtils;
 import me.christianrobert.ora2postgre.oracledb.tools.CodeCleaner;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.OracleFunctionMapper;
 import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.TypeConverter;
 
 // Represents a column's metadata
@@ -15,11 +17,15 @@ public class ColumnMetadata {
   private Integer numericScale; // For NUMBER
   private boolean nullable;
   private String defaultValue;
+  private long numDistinct = -1; // Distinct values from optimizer statistics, -1 if not analyzed
+  private long numNulls = -1; // NULL values from optimizer statistics, -1 if not analyzed
+  private boolean identity; // Oracle 12c identity column
 
   public ColumnMetadata(String columnName, String dataType, Integer characterLength,
                         Integer numericPrecision, Integer numericScale, boolean nullable, String defaultValue) {
-    this.columnName = columnName;
-    this.dataType = dataType;
+    // Tables share few distinct type names and many column names, keep one instance of each
+    this.columnName = NameNormalizer.intern(columnName);
+    this.dataType = NameNormalizer.intern(dataType);
     this.characterLength = characterLength;
     this.numericPrecision = numericPrecision;
     this.numericScale = numericScale;
@@ -35,6 +41,19 @@ public class ColumnMetadata {
   public Integer getNumericScale() { return numericScale; }
   public boolean isNullable() { return nullable; }
   public String getDefaultValue() { return defaultValue; }
+  public long getNumDistinct() { return numDistinct; }
+  public void setNumDistinct(long numDistinct) { this.numDistinct = numDistinct; }
+  public long getNumNulls() { return numNulls; }
+  public void setNumNulls(long numNulls) { this.numNulls = numNulls; }
+  public boolean isIdentity() { return identity; }
+  public void setIdentity(boolean identity) { this.identity = identity; }
+
+  /**
+   * PostgreSQL only allows identity on integer types, Oracle identity columns are NUMBER.
+   */
+  private String identityType() {
+    return numericPrecision != null && numericPrecision <= 9 ? "integer" : "bigint";
+  }
 
   @Override
   public String toString() {
@@ -47,7 +66,7 @@ public class ColumnMetadata {
             .append(PostgreSqlIdentifierUtils.quoteIdentifier(this.getColumnName()))
             .append(" ");
     String b4convert = this.getDataType();
-    String afterConvert = TypeConverter.toPostgre(b4convert);
+    String afterConvert = this.isIdentity() ? identityType() : TypeConverter.toPostgre(b4convert);
     if (afterConvert.equalsIgnoreCase(b4convert)) {
       String schema = SchemaResolutionUtils.lookupSchema4ObjectType(data, afterConvert, schemaWhereWeAreNow);
       if (schema != null) {
@@ -59,7 +78,11 @@ public class ColumnMetadata {
     if (!this.isNullable()) {
       colDef.append(" NOT NULL");
     }
-    if (this.getDefaultValue() != null && !this.getDefaultValue().isEmpty()) {
+    if (this.isIdentity()) {
+      // BY DEFAULT instead of ALWAYS, the transferred rows keep their Oracle values.
+      // The identity sequence is moved past them after the transfer.
+      colDef.append(" GENERATED BY DEFAULT AS IDENTITY");
+    } else if (this.getDefaultValue() != null && !this.getDefaultValue().isEmpty()) {
       // Handle simple default values; complex expressions may need manual review
       String defaultValue = CodeCleaner.noComments(this.getDefaultValue()).trim();
 
@@ -79,6 +102,9 @@ public class ColumnMetadata {
         colDef.append(" DEFAULT CURRENT_USER");
       } else if (defaultValue.equalsIgnoreCase("NULL")) {
         colDef.append(" DEFAULT NULL");
+      } else if (OracleFunctionMapper.isSequenceReference(defaultValue)) {
+        // Oracle 12c DEFAULT seq.NEXTVAL
+        colDef.append(" DEFAULT ").append(OracleFunctionMapper.transformSequenceFunctions(defaultValue, data, schemaWhereWeAreNow));
       } else {
         // TODO find real default value
         data.findDefaultExpression(schemaWhereWeAreNow, myTableName, columnName);
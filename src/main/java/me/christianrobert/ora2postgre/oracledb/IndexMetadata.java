@@ -103,7 +103,8 @@ public class IndexMetadata {
   }
 
   public boolean isValid() {
-    return "VALID".equalsIgnoreCase(status);
+    // Oracle keeps the status of a partitioned index per partition, the index itself is N/A
+    return "VALID".equalsIgnoreCase(status) || (partitioned && "N/A".equalsIgnoreCase(status));
   }
 
   /**
@@ -0,0 +1,82 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partitioning of an Oracle table, extracted from ALL_PART_TABLES, ALL_PART_KEY_COLUMNS
+ * and ALL_TAB_PARTITIONS. Only the top level is migrated, subpartitions are merged into their partition.
+ */
+public class PartitionMetadata {
+
+  /**
+   * A single partition with its Oracle bound expression (ALL_TAB_PARTITIONS.high_value).
+   */
+  public static class Partition {
+    private final String partitionName;
+    private final int position;
+    private final String highValue;
+
+    public Partition(String partitionName, int position, String highValue) {
+      this.partitionName = partitionName;
+      this.position = position;
+      this.highValue = highValue;
+    }
+
+    public String getPartitionName() { return partitionName; }
+    public int getPosition() { return position; }
+    public String getHighValue() { return highValue; }
+  }
+
+  private final String partitioningType; // RANGE, LIST, HASH (REFERENCE, SYSTEM are not supported)
+  private final String subpartitioningType; // NONE if not subpartitioned
+  private final List<String> keyColumns = new ArrayList<>();
+  private final List<Partition> partitions = new ArrayList<>();
+
+  public PartitionMetadata(String partitioningType, String subpartitioningType) {
+    this.partitioningType = partitioningType;
+    this.subpartitioningType = subpartitioningType;
+  }
+
+  public String getPartitioningType() { return partitioningType; }
+  public String getSubpartitioningType() { return subpartitioningType; }
+  public List<String> getKeyColumns() { return keyColumns; }
+  public List<Partition> getPartitions() { return partitions; }
+
+  public void addKeyColumn(String column) { keyColumns.add(column); }
+  public void addPartition(Partition partition) { partitions.add(partition); }
+
+  public boolean isSubpartitioned() {
+    return subpartitioningType != null && !"NONE".equalsIgnoreCase(subpartitioningType);
+  }
+
+  /**
+   * PostgreSQL supports RANGE, LIST and HASH partitioning with a partition key made of columns.
+   */
+  public boolean isSupportedInPostgre() {
+    if (keyColumns.isEmpty() || partitions.isEmpty()) {
+      return false;
+    }
+    // PostgreSQL list partitioning takes a single column
+    return "RANGE".equals(partitioningType) || "HASH".equals(partitioningType)
+            || ("LIST".equals(partitioningType) && keyColumns.size() == 1);
+  }
+
+  /**
+   * Name of the PostgreSQL child table of a partition. Used by the DDL generation and
+   * by the transfer, which loads partitions straight into their child tables.
+   */
+  public static String childTableName(String tableName, String partitionName) {
+    String name = tableName + "_" + partitionName;
+    if (name.length() <= 63) {
+      return name;
+    }
+    String hash = String.format("%08x", name.hashCode()).substring(0, 7);
+    return name.substring(0, 55) + "_" + hash;
+  }
+
+  @Override
+  public String toString() {
+    return "PartitionMetadata{type=" + partitioningType + ", keyColumns=" + keyColumns + ", partitions=" + partitions.size() + "}";
+  }
+}
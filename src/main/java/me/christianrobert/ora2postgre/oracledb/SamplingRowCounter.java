@@ -69,7 +69,23 @@ public class SamplingRowCounter {
    * @throws SQLException if database query fails
    */
   public static long getExactRowCount(Connection conn, String owner, String tableName) throws SQLException {
-    String sql = String.format("SELECT COUNT(*) FROM %s.%s", owner.toUpperCase(), tableName.toUpperCase());
+    return getExactRowCount(conn, owner, tableName, -1);
+  }
+
+  /**
+   * Gets exact row count using SELECT COUNT(*) as of the given SCN, so the count matches rows
+   * read from the same snapshot even while the table changes.
+   *
+   * @param conn Oracle database connection
+   * @param owner table owner/schema
+   * @param tableName table name
+   * @param snapshotScn the snapshot SCN, negative to count the current rows
+   * @return exact row count
+   * @throws SQLException if database query fails
+   */
+  public static long getExactRowCount(Connection conn, String owner, String tableName, long snapshotScn) throws SQLException {
+    String sql = String.format("SELECT COUNT(*) FROM %s.%s%s", owner.toUpperCase(), tableName.toUpperCase(),
+            ScnExtractor.asOfScnClause(snapshotScn));
 
     log.debug("Getting exact row count for {}.{}: {}", owner, tableName, sql);
 
@@ -0,0 +1,61 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Utility class for Oracle system change numbers (SCN) used for consistent snapshot reads.
+ * All transfer SELECTs of one session run AS OF the same SCN (flashback query), so tables
+ * read at different times or on different connections still see the same point in time.
+ */
+public class ScnExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(ScnExtractor.class);
+
+  /**
+   * Returns the current SCN of the database.
+   * Reads V$DATABASE.CURRENT_SCN and falls back to DBMS_FLASHBACK for users
+   * without access to the V$ views.
+   *
+   * @param conn Oracle database connection
+   * @return the current SCN
+   * @throws SQLException if neither source is accessible
+   */
+  public static long getCurrentScn(Connection conn) throws SQLException {
+    try {
+      return querySingleLong(conn, "SELECT current_scn FROM v$database");
+    } catch (SQLException e) {
+      log.debug("V$DATABASE not accessible, using DBMS_FLASHBACK: {}", e.getMessage());
+    }
+    return querySingleLong(conn, "SELECT DBMS_FLASHBACK.GET_SYSTEM_CHANGE_NUMBER FROM dual");
+  }
+
+  /**
+   * Returns the flashback clause to place after the table reference of a SELECT,
+   * or an empty string when no snapshot SCN is used.
+   *
+   * @param scn the snapshot SCN, negative for none
+   * @return " AS OF SCN n" or ""
+   */
+  public static String asOfScnClause(long scn) {
+    if (scn < 0) {
+      return "";
+    }
+    return " AS OF SCN " + scn;
+  }
+
+  private static long querySingleLong(Connection conn, String sql) throws SQLException {
+    try (PreparedStatement stmt = conn.prepareStatement(sql);
+         ResultSet rs = stmt.executeQuery()) {
+      if (rs.next()) {
+        return rs.getLong(1);
+      }
+    }
+    throw new SQLException("No result for: " + sql);
+  }
+}
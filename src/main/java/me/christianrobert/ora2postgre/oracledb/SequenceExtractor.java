@@ -0,0 +1,108 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.oracledb.tools.UserExcluder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SequenceExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(SequenceExtractor.class);
+
+  /**
+   * Extracts all sequences of the specified schemas from an Oracle database.
+   * System generated sequences of identity columns (ISEQ$$_) are skipped, the identity
+   * columns get their own PostgreSQL identity sequences.
+   *
+   * @param oracleConn Oracle database connection
+   * @param users      List of schema names (Oracle users)
+   * @return List of SequenceMetadata objects
+   * @throws SQLException if database operations fail
+   */
+  public static List<SequenceMetadata> extractAllSequences(Connection oracleConn, List<String> users) throws SQLException {
+    List<SequenceMetadata> sequenceMetadataList = new ArrayList<>();
+
+    for (String user : users) {
+      if (UserExcluder.is2BeExclueded(user)) {
+        continue;
+      }
+
+      List<SequenceMetadata> sequences = fetchSequences(oracleConn, user);
+      fetchUsingTables(oracleConn, user, sequences);
+      sequenceMetadataList.addAll(sequences);
+      log.info("Extracted {} sequences from schema {}", sequences.size(), user);
+    }
+    return sequenceMetadataList;
+  }
+
+  private static List<SequenceMetadata> fetchSequences(Connection oracleConn, String owner) throws SQLException {
+    List<SequenceMetadata> result = new ArrayList<>();
+    String sql = "SELECT sequence_name, min_value, max_value, increment_by, cycle_flag, cache_size, last_number " +
+            "FROM all_sequences WHERE sequence_owner = ? AND sequence_name NOT LIKE 'ISEQ$$%' ORDER BY sequence_name";
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          result.add(new SequenceMetadata(
+                  owner,
+                  rs.getString("sequence_name"),
+                  toBigInteger(rs.getBigDecimal("min_value")),
+                  toBigInteger(rs.getBigDecimal("max_value")),
+                  rs.getLong("increment_by"),
+                  "Y".equals(rs.getString("cycle_flag")),
+                  rs.getLong("cache_size"),
+                  toBigInteger(rs.getBigDecimal("last_number"))));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds the tables whose triggers reference a sequence (the classic
+   * ":NEW.id := seq.NEXTVAL" pattern). Their keys are used to move the
+   * sequences past the loaded data after the transfer.
+   */
+  private static void fetchUsingTables(Connection oracleConn, String owner, List<SequenceMetadata> sequences) throws SQLException {
+    if (sequences.isEmpty()) {
+      return;
+    }
+    Map<String, SequenceMetadata> byName = new HashMap<>();
+    for (SequenceMetadata sequence : sequences) {
+      byName.put(sequence.getSequenceName(), sequence);
+    }
+
+    String sql = "SELECT d.referenced_name, t.table_owner, t.table_name " +
+            "FROM all_dependencies d JOIN all_triggers t ON t.owner = d.owner AND t.trigger_name = d.name " +
+            "WHERE d.type = 'TRIGGER' AND d.referenced_type = 'SEQUENCE' AND d.referenced_owner = ? " +
+            "AND t.base_object_type = 'TABLE'";
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          SequenceMetadata sequence = byName.get(rs.getString("referenced_name"));
+          if (sequence != null) {
+            sequence.addUsingTable(rs.getString("table_owner"), rs.getString("table_name"));
+          }
+        }
+      }
+    }
+  }
+
+  private static BigInteger toBigInteger(BigDecimal value) {
+    return value != null ? value.toBigInteger() : null;
+  }
+}
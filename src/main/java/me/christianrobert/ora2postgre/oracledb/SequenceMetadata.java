@@ -0,0 +1,106 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents an Oracle sequence from all_sequences
+public class SequenceMetadata {
+  private static final BigInteger PG_BIGINT_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+  private static final BigInteger PG_BIGINT_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+  private String schema; // Oracle schema (sequence owner)
+  private String sequenceName;
+  private BigInteger minValue;
+  private BigInteger maxValue; // Oracle allows up to 28 digits
+  private long incrementBy;
+  private boolean cycle;
+  private long cacheSize; // 0 for NOCACHE
+  private BigInteger lastNumber; // Next value not yet handed out (beyond the cached values)
+  private List<String> usingTables = new ArrayList<>(); // OWNER.TABLE of the tables whose triggers use the sequence
+
+  public SequenceMetadata(String schema, String sequenceName, BigInteger minValue, BigInteger maxValue,
+                          long incrementBy, boolean cycle, long cacheSize, BigInteger lastNumber) {
+    this.schema = schema;
+    this.sequenceName = sequenceName;
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.incrementBy = incrementBy;
+    this.cycle = cycle;
+    this.cacheSize = cacheSize;
+    this.lastNumber = lastNumber;
+  }
+
+  // Getters
+  public String getSchema() { return schema; }
+  public String getSequenceName() { return sequenceName; }
+  public BigInteger getMinValue() { return minValue; }
+  public BigInteger getMaxValue() { return maxValue; }
+  public long getIncrementBy() { return incrementBy; }
+  public boolean isCycle() { return cycle; }
+  public long getCacheSize() { return cacheSize; }
+  public BigInteger getLastNumber() { return lastNumber; }
+  public List<String> getUsingTables() { return usingTables; }
+
+  public void addUsingTable(String owner, String tableName) {
+    String qualified = owner + "." + tableName;
+    if (!usingTables.contains(qualified)) {
+      usingTables.add(qualified);
+    }
+  }
+
+  /**
+   * Schema qualified PostgreSQL name, as used in nextval('...') and setval('...').
+   */
+  public String getQualifiedPostgreName() {
+    return schema.toLowerCase() + "." + sequenceName.toLowerCase();
+  }
+
+  @Override
+  public String toString() {
+    return "SequenceMetadata{schema='" + schema + "', name='" + sequenceName + "', increment=" + incrementBy +
+            ", cache=" + cacheSize + ", lastNumber=" + lastNumber + "}";
+  }
+
+  /**
+   * Generates the CREATE SEQUENCE statement. The sequence starts at Oracle's last_number,
+   * so it never hands out a value Oracle may already have used; CACHE keeps the Oracle
+   * setting (PostgreSQL has no NOCACHE, the minimum is 1). Bounds outside the bigint
+   * range of PostgreSQL sequences are clamped.
+   */
+  public String toPostgre() {
+    BigInteger min = clamp(minValue);
+    BigInteger max = clamp(maxValue);
+    BigInteger start = lastNumber != null ? clamp(lastNumber) : null;
+    if (start != null && min != null && start.compareTo(min) < 0) {
+      start = min;
+    }
+    if (start != null && max != null && start.compareTo(max) > 0) {
+      start = max;
+    }
+
+    StringBuilder sql = new StringBuilder();
+    sql.append("CREATE SEQUENCE IF NOT EXISTS ").append(getQualifiedPostgreName());
+    sql.append(" INCREMENT BY ").append(incrementBy);
+    if (min != null) {
+      sql.append(" MINVALUE ").append(min);
+    }
+    if (max != null) {
+      sql.append(" MAXVALUE ").append(max);
+    }
+    if (start != null) {
+      sql.append(" START WITH ").append(start);
+    }
+    sql.append(" CACHE ").append(Math.max(1, cacheSize));
+    sql.append(cycle ? " CYCLE" : " NO CYCLE");
+    sql.append(";");
+    return sql.toString();
+  }
+
+  private static BigInteger clamp(BigInteger value) {
+    if (value == null) {
+      return null;
+    }
+    return value.max(PG_BIGINT_MIN).min(PG_BIGINT_MAX);
+  }
+}
@@ -21,6 +21,8 @@ public class TableExtractor {
       }
 
       List<String> tables = fetchTableNames(oracleConn, user);
+      Map<String, Long> rowStatistics = fetchRowStatistics(oracleConn, user);
+      Map<String, PartitionMetadata> partitionings = fetchPartitionings(oracleConn, user);
 
       for (String table : tables) {
         //if (table.matches("SYS_IOT_OVER_.*|BIN\\$.*|BW_STUDIUM_SEM_CFG_BAK\\$.*|DR\\$.*|MLOG\\$_.*|RUPD\\$_.*|AQ\\$.*|QUEUE_TABLE.*|ISEQ\\$\\$_.*|SYS_LOB.*|LOB\\$.*|WRI\\$_.*|SHSPACE.*|SQL\\$.*")) {
@@ -34,6 +36,11 @@ public class TableExtractor {
 
         TableMetadata tableMetadata =
                 fetchTableMetadata(oracleConn, user, table);
+        Long numRows = rowStatistics.get(table);
+        if (numRows != null) {
+          tableMetadata.setEstimatedRowCount(numRows);
+        }
+        tableMetadata.setPartitioning(partitionings.get(table));
         tableMetadataList.add(tableMetadata);
       }
       log.info("Extracted tables from schema {}", user);
@@ -56,6 +63,85 @@ public class TableExtractor {
     return result;
   }
 
+  /**
+   * Reads the optimizer statistics (all_tables.num_rows) of all tables of a schema in one query.
+   * Tables that were never analyzed are not contained in the result.
+   * The data transfer uses these values as row estimates instead of counting every table.
+   */
+  private static Map<String, Long> fetchRowStatistics(Connection oracleConn, String owner) throws SQLException {
+    Map<String, Long> result = new HashMap<>();
+    String sql = "SELECT table_name, num_rows FROM all_tables WHERE owner = ? AND num_rows IS NOT NULL";
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          result.put(rs.getString("table_name"), rs.getLong("num_rows"));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Reads the partitioning of all partitioned tables of a schema: type, key columns and partitions
+   * with their bounds. Subpartitions are not extracted.
+   */
+  private static Map<String, PartitionMetadata> fetchPartitionings(Connection oracleConn, String owner) throws SQLException {
+    Map<String, PartitionMetadata> result = new HashMap<>();
+
+    String partTablesSql = "SELECT table_name, partitioning_type, subpartitioning_type " +
+            "FROM all_part_tables WHERE owner = ?";
+    try (PreparedStatement ps = oracleConn.prepareStatement(partTablesSql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          result.put(rs.getString("table_name"),
+                  new PartitionMetadata(rs.getString("partitioning_type"), rs.getString("subpartitioning_type")));
+        }
+      }
+    }
+    if (result.isEmpty()) {
+      return result;
+    }
+
+    String keyColumnsSql = "SELECT name, column_name FROM all_part_key_columns " +
+            "WHERE owner = ? AND object_type = 'TABLE' ORDER BY name, column_position";
+    try (PreparedStatement ps = oracleConn.prepareStatement(keyColumnsSql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          PartitionMetadata partitioning = result.get(rs.getString("name"));
+          if (partitioning != null) {
+            partitioning.addKeyColumn(rs.getString("column_name"));
+          }
+        }
+      }
+    }
+
+    // high_value is a LONG column, it has to be read in select list order
+    String partitionsSql = "SELECT table_name, partition_name, partition_position, high_value " +
+            "FROM all_tab_partitions WHERE table_owner = ? ORDER BY table_name, partition_position";
+    try (PreparedStatement ps = oracleConn.prepareStatement(partitionsSql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          String tableName = rs.getString("table_name");
+          String partitionName = rs.getString("partition_name");
+          int position = rs.getInt("partition_position");
+          String highValue = rs.getString("high_value");
+          PartitionMetadata partitioning = result.get(tableName);
+          if (partitioning != null) {
+            partitioning.addPartition(new PartitionMetadata.Partition(partitionName, position, highValue));
+          }
+        }
+      }
+    }
+
+    log.info("Extracted partitioning of {} tables from schema {}", result.size(), owner);
+    return result;
+  }
+
   private static boolean isGlobalTemporaryTable(Connection oracleConn, String owner, String table) throws SQLException {
     String sql = "SELECT temporary FROM all_tables WHERE owner = ? AND table_name = ?";
     try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
@@ -74,7 +160,7 @@ public class TableExtractor {
     TableMetadata tableMetadata = new TableMetadata(owner, table);
 
     // Fetch column metadata (exclude hidden, virtual, and system-generated columns)
-    String columnSql = "SELECT column_name, data_type, char_length, data_precision, data_scale, nullable, data_default " +
+    String columnSql = "SELECT column_name, data_type, char_length, data_precision, data_scale, nullable, data_default, num_distinct, num_nulls, identity_column " +
             "FROM all_tab_cols WHERE owner = ? AND table_name = ? " +
             "AND hidden_column = 'NO' AND virtual_column = 'NO' AND user_generated = 'YES' " +
             "ORDER BY column_id";
@@ -98,6 +184,12 @@ public class TableExtractor {
           }
 
           ColumnMetadata column = new ColumnMetadata(columnName, dataType, charLength, precision, scale, nullable, defaultValue);
+          long numDistinct = rs.getLong("num_distinct");
+          if (!rs.wasNull()) {
+            column.setNumDistinct(numDistinct);
+            column.setNumNulls(rs.getLong("num_nulls"));
+          }
+          column.setIdentity("YES".equals(rs.getString("identity_column")));
           tableMetadata.addColumn(column);
         }
       }
@@ -12,6 +12,8 @@ public class TableMetadata {
   private String tableName;
   private List<ColumnMetadata> columns;
   private List<ConstraintMetadata> constraints;
+  private long estimatedRowCount = -1; // all_tables.num_rows, -1 if the table has no statistics
+  private PartitionMetadata partitioning; // null if the table is not partitioned
 
   // TODO use new map
   // Common Oracle to PostgreSQL data type mapping
@@ -43,6 +45,31 @@ public class TableMetadata {
   public List<ColumnMetadata> getColumns() { return columns; }
   public List<ConstraintMetadata> getConstraints() { return constraints; }
 
+  public long getEstimatedRowCount() { return estimatedRowCount; }
+  public void setEstimatedRowCount(long estimatedRowCount) { this.estimatedRowCount = estimatedRowCount; }
+  public boolean hasRowCountEstimate() { return estimatedRowCount >= 0; }
+  public PartitionMetadata getPartitioning() { return partitioning; }
+  public void setPartitioning(PartitionMetadata partitioning) { this.partitioning = partitioning; }
+  public boolean isPartitioned() { return partitioning != null; }
+
+  /**
+   * Partition key columns missing from the columns of a PRIMARY KEY, UNIQUE constraint or unique
+   * index, which PostgreSQL requires on a partitioned table. Empty if the table is not partitioned
+   * in PostgreSQL.
+   */
+  public List<String> getMissingPartitionKeyColumns(List<String> columnNames) {
+    List<String> missing = new ArrayList<>();
+    if (!isPartitioned() || !partitioning.isSupportedInPostgre()) {
+      return missing;
+    }
+    for (String keyColumn : partitioning.getKeyColumns()) {
+      if (columnNames.stream().noneMatch(keyColumn::equalsIgnoreCase)) {
+        missing.add(keyColumn);
+      }
+    }
+    return missing;
+  }
+
   public void addColumn(ColumnMetadata column) { columns.add(column); }
   public void addConstraint(ConstraintMetadata constraint) { constraints.add(constraint); }
 
@@ -141,12 +141,17 @@ public class TriggerExtractor {
   private static String buildFullTriggerCode(TriggerMetadata trigger) {
     StringBuilder fullCode = new StringBuilder();
     
+    // all_triggers.trigger_type is e.g. "BEFORE EACH ROW" or "AFTER STATEMENT"
+    String triggerType = trigger.getTriggerType() != null ? trigger.getTriggerType().trim() : "";
+    boolean statementLevel = triggerType.toUpperCase().endsWith("STATEMENT");
+    String timing = triggerType.replaceAll("(?i)\\s+(EACH\\s+ROW|STATEMENT)$", "");
+
     fullCode.append("CREATE OR REPLACE TRIGGER ")
             .append(trigger.getSchema()).append(".").append(trigger.getTriggerName())
-            .append("\n  ").append(trigger.getTriggerType())
+            .append("\n  ").append(timing)
             .append(" ").append(trigger.getTriggeringEvent())
             .append(" ON ").append(trigger.getTableOwner()).append(".").append(trigger.getTableName())
-            .append("\n  FOR EACH ROW\n")
+            .append(statementLevel ? "\n" : "\n  FOR EACH ROW\n")
             .append(trigger.getTriggerBody());
     
     // Ensure proper termination
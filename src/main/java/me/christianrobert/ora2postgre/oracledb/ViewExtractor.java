@@ -10,7 +10,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ViewExtractor {
 
@@ -48,6 +50,77 @@ public class ViewExtractor {
     return viewMetadataList;
   }
 
+  /**
+   * Extracts all materialized views of the specified schemas from all_mviews.
+   * Their container tables also show up in all_tables, the caller has to drop them from the tables.
+   *
+   * @param oracleConn Oracle database connection
+   * @param users      List of schema names (Oracle users)
+   * @return List of ViewMetadata objects flagged as materialized
+   * @throws SQLException if database operations fail
+   */
+  public static List<ViewMetadata> extractAllMaterializedViews(Connection oracleConn, List<String> users) throws SQLException {
+    List<ViewMetadata> viewMetadataList = new ArrayList<>();
+
+    for (String user : users) {
+      if (UserExcluder.is2BeExclueded(user)) {
+        continue;
+      }
+
+      Map<String, String> refreshIntervals = fetchRefreshIntervals(oracleConn, user);
+      List<ViewMetadata> mviews = new ArrayList<>();
+      String sql = "SELECT mview_name, refresh_method, refresh_mode, fast_refreshable, query " +
+              "FROM all_mviews WHERE owner = ? ORDER BY mview_name";
+      try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+        ps.setString(1, user.toUpperCase());
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            // query is a LONG column, it has to be read in select list order
+            String mviewName = rs.getString("mview_name");
+            ViewMetadata viewMetadata = new ViewMetadata(user, mviewName);
+            viewMetadata.setMaterialized(true);
+            viewMetadata.setRefreshMethod(rs.getString("refresh_method"));
+            viewMetadata.setRefreshMode(rs.getString("refresh_mode"));
+            String fastRefreshable = rs.getString("fast_refreshable");
+            viewMetadata.setFastRefreshable(fastRefreshable != null && fastRefreshable.contains("DML"));
+            String rawQuery = rs.getString("query");
+            viewMetadata.setRawQuery(rawQuery != null ? rawQuery.trim() : "");
+            viewMetadata.setRefreshInterval(refreshIntervals.get(mviewName));
+            mviews.add(viewMetadata);
+          }
+        }
+      }
+
+      for (ViewMetadata viewMetadata : mviews) {
+        fetchColumns(oracleConn, user, viewMetadata.getViewName(), viewMetadata);
+      }
+      viewMetadataList.addAll(mviews);
+      log.info("Extracted materialized views from schema {}", user);
+    }
+    return viewMetadataList;
+  }
+
+  /**
+   * Reads the automatic refresh intervals (NEXT clause or refresh group) of the materialized views of a schema.
+   */
+  private static Map<String, String> fetchRefreshIntervals(Connection oracleConn, String owner) throws SQLException {
+    Map<String, String> result = new HashMap<>();
+    String sql = "SELECT name, interval FROM all_refresh_children WHERE owner = ? AND type = 'SNAPSHOT'";
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, owner.toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          String interval = rs.getString("interval");
+          if (interval != null && !interval.isBlank()) {
+            result.put(rs.getString("name"), interval.trim());
+          }
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Fetches view names for a given schema from all_views.
    */
@@ -71,10 +144,30 @@ public class ViewExtractor {
    */
   private static ViewMetadata fetchViewMetadata(Connection oracleConn, String owner, String view) throws SQLException {
     ViewMetadata viewMetadata = new ViewMetadata(owner, view);
+    fetchColumns(oracleConn, owner, view, viewMetadata);
 
-    // Fetch column metadata from all_tab_cols
+    // Fetch raw query text from all_views
+    String viewSql = "SELECT text FROM all_views WHERE owner = ? AND view_name = ?";
+    try (PreparedStatement ps = oracleConn.prepareStatement(viewSql)) {
+      ps.setString(1, owner.toUpperCase());
+      ps.setString(2, view);
+      try (ResultSet rs = ps.executeQuery()) {
+        if (rs.next()) {
+          String rawQuery = rs.getString("text");
+          viewMetadata.setRawQuery(rawQuery != null ? rawQuery.trim() : "");
+        }
+      }
+    }
+
+    return viewMetadata;
+  }
+
+  /**
+   * Fetches the column metadata of a view or materialized view from all_tab_cols.
+   */
+  private static void fetchColumns(Connection oracleConn, String owner, String view, ViewMetadata viewMetadata) throws SQLException {
     String columnSql = "SELECT column_name, data_type, char_length, data_precision, data_scale, nullable " +
-                       "FROM all_tab_cols WHERE owner = ? AND table_name = ? ORDER BY column_id";
+                       "FROM all_tab_cols WHERE owner = ? AND table_name = ? AND hidden_column = 'NO' ORDER BY column_id";
     try (PreparedStatement ps = oracleConn.prepareStatement(columnSql)) {
       ps.setString(1, owner.toUpperCase());
       ps.setString(2, view);
@@ -95,20 +188,5 @@ public class ViewExtractor {
         }
       }
     }
-
-    // Fetch raw query text from all_views
-    String viewSql = "SELECT text FROM all_views WHERE owner = ? AND view_name = ?";
-    try (PreparedStatement ps = oracleConn.prepareStatement(viewSql)) {
-      ps.setString(1, owner.toUpperCase());
-      ps.setString(2, view);
-      try (ResultSet rs = ps.executeQuery()) {
-        if (rs.next()) {
-          String rawQuery = rs.getString("text");
-          viewMetadata.setRawQuery(rawQuery != null ? rawQuery.trim() : "");
-        }
-      }
-    }
-
-    return viewMetadata;
   }
 }
\ No newline at end of file
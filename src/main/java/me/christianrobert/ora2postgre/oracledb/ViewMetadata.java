@@ -13,7 +13,12 @@ public class ViewMetadata {
   private String schema; // Oracle schema (user)
   private String viewName;
   private List<ColumnMetadata> columns;
-  private String rawQuery; // Raw SQL query from all_views.text
+  private String rawQuery; // Raw SQL query from all_views.text or all_mviews.query
+  private boolean materialized; // Oracle materialized view from all_mviews
+  private String refreshMethod; // FAST, COMPLETE, FORCE or NEVER
+  private String refreshMode; // DEMAND, COMMIT or NEVER
+  private boolean fastRefreshable; // all_mviews.fast_refreshable supports DML changes
+  private String refreshInterval; // Oracle date expression of the automatic refresh, e.g. SYSDATE + 1/24
 
   public ViewMetadata(String schema, String viewName) {
     this.schema = schema;
@@ -28,6 +33,16 @@ public class ViewMetadata {
   public List<ColumnMetadata> getColumns() { return columns; }
   public String getRawQuery() { return rawQuery; }
   public void setRawQuery(String rawQuery) { this.rawQuery = rawQuery; }
+  public boolean isMaterialized() { return materialized; }
+  public void setMaterialized(boolean materialized) { this.materialized = materialized; }
+  public String getRefreshMethod() { return refreshMethod; }
+  public void setRefreshMethod(String refreshMethod) { this.refreshMethod = refreshMethod; }
+  public String getRefreshMode() { return refreshMode; }
+  public void setRefreshMode(String refreshMode) { this.refreshMode = refreshMode; }
+  public boolean isFastRefreshable() { return fastRefreshable; }
+  public void setFastRefreshable(boolean fastRefreshable) { this.fastRefreshable = fastRefreshable; }
+  public String getRefreshInterval() { return refreshInterval; }
+  public void setRefreshInterval(String refreshInterval) { this.refreshInterval = refreshInterval; }
 
   public void addColumn(ColumnMetadata column) { columns.add(column); }
 
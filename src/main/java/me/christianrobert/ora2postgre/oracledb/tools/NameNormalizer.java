@@ -1,5 +1,8 @@
 package me.christianrobert.ora2postgre.oracledb.tools;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Utility class for normalizing Oracle identifier names.
  *
@@ -17,6 +20,9 @@ package me.christianrobert.ora2postgre.oracledb.tools;
  */
 public class NameNormalizer {
 
+  // Identifiers and type names repeat across thousands of units, each distinct value is kept once
+  private static final Map<String, String> internPool = new ConcurrentHashMap<>();
+
   /**
    * Normalizes an Oracle object type name by removing quotes and converting to uppercase.
    *
@@ -69,7 +75,7 @@ public class NameNormalizer {
     }
 
     // Convert to uppercase for consistency
-    return trimmed.toUpperCase();
+    return intern(trimmed.toUpperCase());
   }
 
   /**
@@ -113,10 +119,39 @@ public class NameNormalizer {
       String[] parts = trimmed.split("\\.", 2);
       String schema = normalizeIdentifier(parts[0]);
       String type = normalizeIdentifier(parts[1]);
-      return schema + "." + type;
+      return intern(schema + "." + type);
     }
 
     // Handle simple names
     return normalizeIdentifier(trimmed);
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns the shared instance of an identifier or type name, so that the extracted metadata
+   * and the ASTs hold each distinct name only once.
+   *
+   * @param name The name to share, may be null
+   * @return The shared instance equal to name
+   */
+  public static String intern(String name) {
+    if (name == null) {
+      return null;
+    }
+    String shared = internPool.putIfAbsent(name, name);
+    return shared != null ? shared : name;
+  }
+
+  /**
+   * Number of distinct names shared by {@link #intern(String)}.
+   */
+  public static int getInternedCount() {
+    return internPool.size();
+  }
+
+  /**
+   * Forgets the shared names, e.g. after the extracted data was reset.
+   */
+  public static void clearInterned() {
+    internPool.clear();
+  }
+}
@@ -9,6 +9,7 @@ import me.christianrobert.ora2postgre.plsql.builderfncs.VisitCallStatement;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitCursorDeclaration;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitLogicalExpression;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitLoopStatement;
+import me.christianrobert.ora2postgre.plsql.builderfncs.VisitForallStatement;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitIfStatement;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitSelectListElements;
 import me.christianrobert.ora2postgre.plsql.builderfncs.VisitReturnStatement;
@@ -163,6 +164,11 @@ public class PlSqlAstBuilder extends PlSqlParserBaseVisitor<PlSqlAst> {
     return VisitLoopStatement.visit(ctx, this);
   }
 
+  @Override
+  public PlSqlAst visitForall_statement(PlSqlParser.Forall_statementContext ctx) {
+    return VisitForallStatement.visit(ctx, this);
+  }
+
   @Override
   public PlSqlAst visitSelect_statement(PlSqlParser.Select_statementContext ctx) {
     return VisitSelectStatement.visit(ctx, this);
@@ -3,6 +3,7 @@ package me.christianrobert.ora2postgre.plsql;
 import me.christianrobert.ora2postgre.global.PlsqlCode;
 import me.christianrobert.ora2postgre.antlr.PlSqlLexer;
 import me.christianrobert.ora2postgre.antlr.PlSqlParser;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.Function;
 import me.christianrobert.ora2postgre.plsql.ast.PlSqlAst;
 import me.christianrobert.ora2postgre.plsql.ast.Procedure;
@@ -18,13 +19,16 @@ public class PlSqlAstMain {
   private static final Logger log = LoggerFactory.getLogger(PlSqlAstMain.class);
 
   public static PlSqlAst processPlsqlCode(PlsqlCode plSqlCode) {
-    ParseTree tree = parsePlSql(plSqlCode.code);
+    long start = System.nanoTime();
+    String code = plSqlCode.getCode();
+    ParseTree tree = parsePlSql(code);
     PlSqlAstBuilder astBuilder = new PlSqlAstBuilder(plSqlCode.schema);
     PlSqlAst visited = astBuilder.visit(tree);
     if (visited == null) {
-      throw new RuntimeException("Failed to parse plsql code: " + plSqlCode.code);
+      throw new RuntimeException("Failed to parse plsql code: " + code);
     }
     log.debug("AST: {}", visited.toString().substring(0, Math.min(200, visited.toString().length())));
+    MigrationMetrics.recordParse(visited.getClass().getSimpleName(), start);
 
     return visited;
   }
@@ -3,14 +3,19 @@ package me.christianrobert.ora2postgre.plsql.ast;
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.SchemaResolutionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents an Oracle BULK COLLECT INTO statement that loads multiple rows into arrays.
  * 
  * Oracle: SELECT column1, column2 BULK COLLECT INTO array_var1, array_var2 FROM table_name WHERE condition;
- * PostgreSQL: array_var1 := ARRAY(SELECT column1 FROM table_name WHERE condition);
- *             array_var2 := ARRAY(SELECT column2 FROM table_name WHERE condition);
+ * PostgreSQL: SELECT COALESCE(array_agg(column1), '{}'), COALESCE(array_agg(column2), '{}')
+ *             INTO array_var1, array_var2 FROM table_name WHERE condition;
+ *
+ * All arrays are filled in one scan, so their elements line up row by row. An ORDER BY
+ * of the query is applied inside every array_agg. COALESCE keeps Oracle's empty
+ * collection (instead of NULL) when no row matches.
  */
 public class BulkCollectStatement extends Statement {
   private final List<String> selectedColumns; // SELECT column list
@@ -18,14 +23,24 @@ public class BulkCollectStatement extends Statement {
   private final String tableName;
   private final String schemaName;
   private final Expression whereClause; // Optional WHERE condition
+  private final List<Expression> orderByExpressions; // Optional ORDER BY
+  private final List<String> orderByModifiers; // ASC/DESC and NULLS FIRST/LAST per ORDER BY expression
 
-  public BulkCollectStatement(List<String> selectedColumns, List<String> intoArrays, 
-                            String schemaName, String tableName, Expression whereClause) {
+  public BulkCollectStatement(List<String> selectedColumns, List<String> intoArrays,
+                            String schemaName, String tableName, Expression whereClause,
+                            List<Expression> orderByExpressions, List<String> orderByModifiers) {
     this.selectedColumns = selectedColumns;
     this.intoArrays = intoArrays;
     this.schemaName = schemaName;
     this.tableName = tableName;
     this.whereClause = whereClause;
+    this.orderByExpressions = orderByExpressions != null ? orderByExpressions : List.of();
+    this.orderByModifiers = orderByModifiers != null ? orderByModifiers : List.of();
+  }
+
+  public BulkCollectStatement(List<String> selectedColumns, List<String> intoArrays, 
+                            String schemaName, String tableName, Expression whereClause) {
+    this(selectedColumns, intoArrays, schemaName, tableName, whereClause, null, null);
   }
 
   // Constructor without WHERE clause
@@ -58,6 +73,10 @@ public class BulkCollectStatement extends Statement {
     return whereClause != null;
   }
 
+  public List<Expression> getOrderByExpressions() {
+    return orderByExpressions;
+  }
+
   @Override
   public <T> T accept(PlSqlAstVisitor<T> visitor) {
     return visitor.visit(this);
@@ -76,67 +95,73 @@ public class BulkCollectStatement extends Statement {
   public String toPostgre(Everything data) {
     StringBuilder b = new StringBuilder();
 
-    // Transform BULK COLLECT by generating separate assignment statements for each array
-    // Oracle: SELECT col1, col2 BULK COLLECT INTO arr1, arr2 FROM table WHERE condition;
-    // PostgreSQL: arr1 := ARRAY(SELECT col1 FROM table WHERE condition);
-    //             arr2 := ARRAY(SELECT col2 FROM table WHERE condition);
-
-    if (selectedColumns != null && intoArrays != null && 
-        selectedColumns.size() == intoArrays.size()) {
-      
-      for (int i = 0; i < selectedColumns.size(); i++) {
-        if (i > 0) {
-          b.append("\n");
-        }
-        
-        String column = selectedColumns.get(i);
-        String arrayVar = intoArrays.get(i);
-        
-        b.append(arrayVar).append(" := ARRAY(");
-        b.append("SELECT ").append(column.toLowerCase());
-        
-        // Handle FROM clause with schema resolution
-        b.append(" FROM ");
-        String resolvedSchema = resolveSchemaName(data);
-        if (resolvedSchema != null && !resolvedSchema.isEmpty()) {
-          b.append(resolvedSchema.toUpperCase()).append(".");
-        }
-        b.append(tableName.toUpperCase());
-        
-        // Handle WHERE clause
-        if (hasWhereClause()) {
-          b.append(" WHERE ");
-          b.append(whereClause.toPostgre(data));
-        }
-        
-        b.append(");");
-      }
-    } else if (selectedColumns != null && selectedColumns.size() == 1 && 
-               selectedColumns.get(0).equals("*") && intoArrays != null && intoArrays.size() == 1) {
-      // Special case: SELECT * BULK COLLECT INTO single_array
-      // This is a more complex scenario - for now, generate a comment
-      b.append("-- BULK COLLECT with SELECT * requires manual conversion");
-      b.append("\n").append("-- ").append(intoArrays.get(0));
-      b.append(" := ARRAY(SELECT ROW(*) FROM ");
-      
-      String resolvedSchema = resolveSchemaName(data);
-      if (resolvedSchema != null && !resolvedSchema.isEmpty()) {
-        b.append(resolvedSchema.toUpperCase()).append(".");
-      }
-      b.append(tableName.toUpperCase());
-      
-      if (hasWhereClause()) {
-        b.append(" WHERE ");
-        b.append(whereClause.toPostgre(data));
+    if (selectedColumns == null || intoArrays == null || intoArrays.isEmpty()) {
+      b.append("-- BULK COLLECT: Column/array count mismatch - requires manual conversion");
+      b.append("\n").append("-- Columns: ").append(selectedColumns);
+      b.append("\n").append("-- Arrays: ").append(intoArrays);
+      return b.toString();
+    }
+
+    String orderBy = buildOrderBy(data);
+    List<String> aggregates = new ArrayList<>();
+    if (selectedColumns.size() == intoArrays.size() && !selectedColumns.get(0).equals("*")) {
+      // One array per column
+      for (String column : selectedColumns) {
+        aggregates.add(arrayAgg(column.toLowerCase(), orderBy));
       }
-      b.append(");");
+    } else if (intoArrays.size() == 1 && selectedColumns.size() == 1 && selectedColumns.get(0).equals("*")) {
+      // SELECT * into a collection of table%ROWTYPE records: whole row reference of the table
+      aggregates.add(arrayAgg(tableName.toUpperCase(), orderBy));
+    } else if (intoArrays.size() == 1) {
+      // Several columns into a collection of records
+      aggregates.add(arrayAgg("ROW(" + String.join(", ", selectedColumns).toLowerCase() + ")", orderBy));
     } else {
       // Column count mismatch or other issues - generate comment
       b.append("-- BULK COLLECT: Column/array count mismatch - requires manual conversion");
       b.append("\n").append("-- Columns: ").append(selectedColumns);
       b.append("\n").append("-- Arrays: ").append(intoArrays);
+      return b.toString();
+    }
+
+    b.append("SELECT ").append(String.join(", ", aggregates));
+    b.append(" INTO ").append(String.join(", ", intoArrays));
+
+    // Handle FROM clause with schema resolution
+    b.append(" FROM ");
+    String resolvedSchema = resolveSchemaName(data);
+    if (resolvedSchema != null && !resolvedSchema.isEmpty()) {
+      b.append(resolvedSchema.toUpperCase()).append(".");
+    }
+    b.append(tableName.toUpperCase());
+
+    // Handle WHERE clause
+    if (hasWhereClause()) {
+      b.append(" WHERE ");
+      b.append(whereClause.toPostgre(data));
     }
+    b.append(";");
+
+    return b.toString();
+  }
+
+  private static String arrayAgg(String element, String orderBy) {
+    return "COALESCE(array_agg(" + element + orderBy + "), '{}')";
+  }
 
+  private String buildOrderBy(Everything data) {
+    if (orderByExpressions.isEmpty()) {
+      return "";
+    }
+    StringBuilder b = new StringBuilder(" ORDER BY ");
+    for (int i = 0; i < orderByExpressions.size(); i++) {
+      if (i > 0) {
+        b.append(", ");
+      }
+      b.append(orderByExpressions.get(i).toPostgre(data));
+      if (i < orderByModifiers.size() && !orderByModifiers.get(i).isEmpty()) {
+        b.append(" ").append(orderByModifiers.get(i));
+      }
+    }
     return b.toString();
   }
 
@@ -8,14 +8,26 @@ import java.util.List;
  * AST class representing FETCH cursor statements.
  * Oracle: FETCH cursor_name INTO variable1, variable2, ...;
  * PostgreSQL: Same syntax
+ *
+ * Oracle: FETCH cursor_name BULK COLLECT INTO array1, array2 [LIMIT n];
+ * PostgreSQL: a block that fetches up to n rows one by one into a record and appends
+ *             the fields to the arrays (PL/pgSQL cannot fetch several rows at once)
  */
 public class FetchStatement extends Statement {
   private final String cursorName;
   private final List<String> intoVariables; // Variables to fetch into
+  private final boolean bulkCollect;
+  private final String limit; // Optional LIMIT of a BULK COLLECT fetch (number or variable)
 
   public FetchStatement(String cursorName, List<String> intoVariables) {
+    this(cursorName, intoVariables, false, null);
+  }
+
+  public FetchStatement(String cursorName, List<String> intoVariables, boolean bulkCollect, String limit) {
     this.cursorName = cursorName;
     this.intoVariables = intoVariables;
+    this.bulkCollect = bulkCollect;
+    this.limit = limit;
   }
 
   public String getCursorName() {
@@ -30,6 +42,14 @@ public class FetchStatement extends Statement {
     return intoVariables != null && !intoVariables.isEmpty();
   }
 
+  public boolean isBulkCollect() {
+    return bulkCollect;
+  }
+
+  public String getLimit() {
+    return limit;
+  }
+
   @Override
   public <T> T accept(PlSqlAstVisitor<T> visitor) {
     return visitor.visit(this);
@@ -40,6 +60,7 @@ public class FetchStatement extends Statement {
     return "FetchStatement{" +
             "cursor='" + cursorName + '\'' +
             ", variables=" + (intoVariables != null ? intoVariables.size() : 0) +
+            (bulkCollect ? ", bulkCollect=true, limit=" + limit : "") +
             '}';
   }
 
@@ -49,6 +70,10 @@ public class FetchStatement extends Statement {
    */
   @Override
   public String toPostgre(Everything data) {
+    if (bulkCollect && hasIntoVariables()) {
+      return toPostgreBulkCollect();
+    }
+
     StringBuilder b = new StringBuilder();
     
     b.append("FETCH ").append(cursorName);
@@ -68,4 +93,46 @@ public class FetchStatement extends Statement {
     
     return b.toString();
   }
-}
\ No newline at end of file
+
+  /**
+   * Generates the batch fetch. The fields of each row are read in column order through
+   * row_to_json and assigned to the array elements, PL/pgSQL converts them to the element
+   * type. A single array with a multi column cursor is a collection of records and gets
+   * the whole row. FOUND is left as set by the last FETCH, like Oracle's %NOTFOUND after
+   * a batch with fewer than LIMIT rows.
+   */
+  private String toPostgreBulkCollect() {
+    StringBuilder b = new StringBuilder();
+    b.append("DECLARE\n");
+    b.append("  bulk_row RECORD;\n");
+    b.append("  bulk_values text[];\n");
+    b.append("  bulk_count integer := 0;\n");
+    b.append("BEGIN\n");
+    for (String array : intoVariables) {
+      b.append("  ").append(array).append(" := '{}';\n");
+    }
+    b.append("  LOOP\n");
+    if (limit != null) {
+      b.append("    EXIT WHEN bulk_count >= ").append(limit).append(";\n");
+    }
+    b.append("    FETCH ").append(cursorName).append(" INTO bulk_row;\n");
+    b.append("    EXIT WHEN NOT FOUND;\n");
+    b.append("    bulk_count := bulk_count + 1;\n");
+    b.append("    bulk_values := ARRAY(SELECT value FROM json_each_text(row_to_json(bulk_row)));\n");
+    if (intoVariables.size() == 1) {
+      String array = intoVariables.get(0);
+      b.append("    IF cardinality(bulk_values) = 1 THEN\n");
+      b.append("      ").append(array).append("[bulk_count] := bulk_values[1];\n");
+      b.append("    ELSE\n");
+      b.append("      ").append(array).append("[bulk_count] := bulk_row;\n");
+      b.append("    END IF;\n");
+    } else {
+      for (int i = 0; i < intoVariables.size(); i++) {
+        b.append("    ").append(intoVariables.get(i)).append("[bulk_count] := bulk_values[").append(i + 1).append("];\n");
+      }
+    }
+    b.append("  END LOOP;\n");
+    b.append("END;");
+    return b.toString();
+  }
+}
@@ -55,7 +55,7 @@ public class ForLoopStatement extends Statement {
     b.append("LOOP\n");
     
     // Generate statements inside the loop
-    for (Statement stmt : statements) {
+    for (Statement stmt : HtpStatement.coalesceConstantCalls(statements, data)) {
       b.append(stmt.toPostgre(data));
     }
     
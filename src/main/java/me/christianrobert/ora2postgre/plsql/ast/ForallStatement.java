@@ -0,0 +1,294 @@
+package me.christianrobert.ora2postgre.plsql.ast;
+
+import me.christianrobert.ora2postgre.global.Everything;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an Oracle FORALL bulk DML statement.
+ *
+ * Oracle: FORALL i IN 1..arr.COUNT [SAVE EXCEPTIONS] INSERT INTO t (a, b) VALUES (arr1(i), arr2(i));
+ * PostgreSQL: INSERT INTO t (a, b) SELECT arr1[forall_rows.i], arr2[forall_rows.i]
+ *             FROM generate_series(1, cardinality(arr)) AS forall_rows(i);
+ *
+ * The index becomes a column of a row source (generate_series for a range,
+ * generate_subscripts for INDICES OF, unnest for VALUES OF) that is joined into the DML,
+ * so the whole FORALL is one statement: INSERT ... SELECT, UPDATE ... FROM, DELETE ... USING.
+ * DML that cannot be rewritten that way is executed in a loop per index.
+ *
+ * SAVE EXCEPTIONS: the set-based statement runs in its own block. If it fails, its changes
+ * are rolled back and the iterations are repeated one by one, each failing iteration is
+ * reported and skipped. ORA-24381 is raised at the end when any iteration failed.
+ */
+public class ForallStatement extends Statement {
+
+  public enum BoundsType { RANGE, INDICES_OF, VALUES_OF }
+
+  private static final String ROW_SOURCE_ALIAS = "forall_rows";
+
+  private final String indexName;
+  private final BoundsType boundsType;
+  private final Concatenation lowerBound; // RANGE, optional for INDICES_OF
+  private final Concatenation upperBound; // RANGE, optional for INDICES_OF
+  private final String collectionName; // INDICES_OF and VALUES_OF
+  private final boolean saveExceptions;
+  private final Statement dmlStatement;
+
+  public ForallStatement(String indexName, BoundsType boundsType, Concatenation lowerBound, Concatenation upperBound,
+                         String collectionName, boolean saveExceptions, Statement dmlStatement) {
+    this.indexName = indexName;
+    this.boundsType = boundsType;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.collectionName = collectionName;
+    this.saveExceptions = saveExceptions;
+    this.dmlStatement = dmlStatement;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public BoundsType getBoundsType() {
+    return boundsType;
+  }
+
+  public Concatenation getLowerBound() {
+    return lowerBound;
+  }
+
+  public Concatenation getUpperBound() {
+    return upperBound;
+  }
+
+  public String getCollectionName() {
+    return collectionName;
+  }
+
+  public boolean isSaveExceptions() {
+    return saveExceptions;
+  }
+
+  public Statement getDmlStatement() {
+    return dmlStatement;
+  }
+
+  @Override
+  public <T> T accept(PlSqlAstVisitor<T> visitor) {
+    return visitor.visit(this);
+  }
+
+  @Override
+  public String toString() {
+    return "ForallStatement{index=" + indexName + ", bounds=" + boundsType +
+            ", saveExceptions=" + saveExceptions + ", dml=" + dmlStatement + "}";
+  }
+
+  @Override
+  public String toPostgre(Everything data) {
+    String setBased = toSetBasedStatement(data);
+    if (setBased == null) {
+      // Not rewritable as one statement, keep the per index execution
+      return toRowByRowLoop(data, false);
+    }
+    if (!saveExceptions) {
+      return setBased;
+    }
+
+    StringBuilder b = new StringBuilder();
+    b.append("BEGIN\n");
+    b.append(setBased).append("\n");
+    b.append("EXCEPTION\n");
+    b.append("  WHEN OTHERS THEN\n");
+    b.append(toRowByRowLoop(data, true)).append("\n");
+    b.append("END;");
+    return b.toString();
+  }
+
+  /**
+   * Rewrites the DML as a single statement over the row source of the indexes.
+   *
+   * @return the statement, or null if the DML cannot be rewritten
+   */
+  private String toSetBasedStatement(Everything data) {
+    String dml = stripSemicolon(dmlStatement.toPostgre(data));
+    String rowSource = buildRowSource(data);
+
+    if (dmlStatement instanceof InsertStatement) {
+      InsertStatement insert = (InsertStatement) dmlStatement;
+      if (insert.isInsertValues()) {
+        Matcher m = Pattern.compile("(?s)^(INSERT INTO .*?) VALUES \\((.*)\\)$").matcher(dml);
+        if (m.matches()) {
+          // The column list names target columns, only the values are expressions
+          return m.group(1) + " SELECT " + qualifyIndex(m.group(2)) + " FROM " + rowSource + ";";
+        }
+      } else if (insert.isInsertSelect()) {
+        String select = stripSemicolon(insert.getSelectStatement().toPostgre(data));
+        if (dml.endsWith(" " + select)) {
+          String prefix = dml.substring(0, dml.length() - select.length() - 1);
+          return prefix + " SELECT forall_query.* FROM " + rowSource +
+                  " CROSS JOIN LATERAL (" + qualifyIndex(select) + ") forall_query;";
+        }
+      }
+      return null;
+    }
+    if (dmlStatement instanceof UpdateStatement) {
+      return joinRowSource(dml, ((UpdateStatement) dmlStatement).getWhereClause(), " FROM " + rowSource, data);
+    }
+    if (dmlStatement instanceof DeleteStatement) {
+      return joinRowSource(dml, ((DeleteStatement) dmlStatement).getWhereClause(), " USING " + rowSource, data);
+    }
+    return null;
+  }
+
+  /**
+   * Adds the row source in front of the WHERE clause of an UPDATE (FROM) or DELETE (USING).
+   */
+  private String joinRowSource(String dml, Expression whereClause, String join, Everything data) {
+    if (whereClause == null) {
+      return qualifySetValues(dml) + join + ";";
+    }
+    String where = " WHERE " + whereClause.toPostgre(data);
+    if (!dml.endsWith(where)) {
+      return null;
+    }
+    return qualifySetValues(dml.substring(0, dml.length() - where.length())) + join + qualifyIndex(where) + ";";
+  }
+
+  /**
+   * Qualifies the index in the assigned values of an UPDATE, the table and the SET targets are
+   * names and stay as they are. A DELETE without SET clause has no expressions before its WHERE.
+   */
+  private String qualifySetValues(String dml) {
+    int set = dml.indexOf(" SET ");
+    if (set < 0) {
+      return dml;
+    }
+    StringBuilder b = new StringBuilder(dml.substring(0, set + 5));
+    String assignments = dml.substring(set + 5);
+    int depth = 0;
+    boolean inLiteral = false;
+    int start = 0;
+    for (int i = 0; i <= assignments.length(); i++) {
+      char c = i < assignments.length() ? assignments.charAt(i) : ',';
+      if (c == '\'') {
+        inLiteral = !inLiteral;
+      } else if (!inLiteral && c == '(') {
+        depth++;
+      } else if (!inLiteral && c == ')') {
+        depth--;
+      } else if (!inLiteral && depth == 0 && c == ',') {
+        String assignment = assignments.substring(start, Math.min(i, assignments.length()));
+        int eq = assignment.indexOf('=');
+        b.append(eq < 0 ? assignment : assignment.substring(0, eq + 1) + qualifyIndex(assignment.substring(eq + 1)));
+        if (i < assignments.length()) {
+          b.append(',');
+        }
+        start = i + 1;
+      }
+    }
+    return b.toString();
+  }
+
+  private String buildRowSource(Everything data) {
+    String alias = ROW_SOURCE_ALIAS + "(" + indexName + ")";
+    switch (boundsType) {
+      case VALUES_OF:
+        return "unnest(" + collectionName + ") AS " + alias;
+      case INDICES_OF:
+        if (lowerBound == null) {
+          return "generate_subscripts(" + collectionName + ", 1) AS " + alias;
+        }
+        // PostgreSQL arrays have no gaps, the indices between the bounds all exist
+        return "generate_series(GREATEST(" + lowerBound.toPostgre(data) + ", array_lower(" + collectionName + ", 1)), LEAST(" +
+                upperBound.toPostgre(data) + ", array_upper(" + collectionName + ", 1))) AS " + alias;
+      default:
+        return "generate_series(" + lowerBound.toPostgre(data) + ", " + upperBound.toPostgre(data) + ") AS " + alias;
+    }
+  }
+
+  /**
+   * Executes the DML once per index. With saveExceptions every iteration runs in its own
+   * block, failures are counted and reported, and ORA-24381 is raised at the end.
+   */
+  private String toRowByRowLoop(Everything data, boolean withSavedExceptions) {
+    String dml = dmlStatement.toPostgre(data);
+    StringBuilder b = new StringBuilder();
+    boolean needsIndexDeclaration = boundsType == BoundsType.VALUES_OF;
+
+    if (withSavedExceptions || needsIndexDeclaration) {
+      b.append("DECLARE\n");
+      if (withSavedExceptions) {
+        b.append("  forall_errors integer := 0;\n");
+      }
+      if (needsIndexDeclaration) {
+        b.append("  ").append(indexName).append(" integer;\n");
+      }
+      b.append("BEGIN\n");
+    }
+
+    switch (boundsType) {
+      case VALUES_OF:
+        b.append("FOREACH ").append(indexName).append(" IN ARRAY ").append(collectionName).append(" LOOP\n");
+        break;
+      case INDICES_OF:
+        b.append("FOR ").append(indexName).append(" IN ")
+                .append(lowerBound != null ? lowerBound.toPostgre(data) : "COALESCE(array_lower(" + collectionName + ", 1), 1)")
+                .append("..")
+                .append(upperBound != null ? upperBound.toPostgre(data) : "COALESCE(array_upper(" + collectionName + ", 1), 0)")
+                .append(" LOOP\n");
+        break;
+      default:
+        b.append("FOR ").append(indexName).append(" IN ").append(lowerBound.toPostgre(data))
+                .append("..").append(upperBound.toPostgre(data)).append(" LOOP\n");
+    }
+
+    if (withSavedExceptions) {
+      b.append("  BEGIN\n");
+      b.append("    ").append(dml).append("\n");
+      b.append("  EXCEPTION\n");
+      b.append("    WHEN OTHERS THEN\n");
+      b.append("      forall_errors := forall_errors + 1;\n");
+      b.append("      RAISE NOTICE 'FORALL iteration % failed: % (SQLSTATE %)', ").append(indexName).append(", SQLERRM, SQLSTATE;\n");
+      b.append("  END;\n");
+    } else {
+      b.append(dml).append("\n");
+    }
+    b.append("END LOOP;");
+
+    if (withSavedExceptions) {
+      b.append("\nIF forall_errors > 0 THEN\n");
+      b.append("  RAISE EXCEPTION 'ORA-24381: error(s) in array DML, % iterations failed', forall_errors USING ERRCODE = 'P0001';\n");
+      b.append("END IF;");
+    }
+    if (withSavedExceptions || needsIndexDeclaration) {
+      b.append("\nEND;");
+    }
+    return b.toString();
+  }
+
+  /**
+   * Replaces the FORALL index in a generated SQL expression by the row source column, string
+   * literals and column aliases (AS name) are left alone.
+   */
+  private String qualifyIndex(String sql) {
+    Pattern index = Pattern.compile("(?i)(?<![\\w.$#\"])(?<!\\bAS\\s)" + Pattern.quote(indexName) + "(?![\\w$#\"(])");
+    String qualified = ROW_SOURCE_ALIAS + "." + indexName;
+    StringBuilder b = new StringBuilder();
+    String[] parts = sql.split("'", -1);
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        b.append("'");
+      }
+      // Even parts are outside of string literals
+      b.append(i % 2 == 0 ? index.matcher(parts[i]).replaceAll(Matcher.quoteReplacement(qualified)) : parts[i]);
+    }
+    return b.toString();
+  }
+
+  private static String stripSemicolon(String sql) {
+    String trimmed = sql.trim();
+    return trimmed.endsWith(";") ? trimmed.substring(0, trimmed.length() - 1).trim() : trimmed;
+  }
+}
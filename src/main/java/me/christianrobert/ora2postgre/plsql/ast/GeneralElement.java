@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.plsql.ast;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.OracleFunctionMapper;
 import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.PackageVariableReferenceTransformer;
 import me.christianrobert.ora2postgre.services.TransformationContext;
 import java.util.ArrayList;
@@ -103,6 +104,19 @@ public class GeneralElement extends PlSqlAst {
     return false;
   }
 
+  /**
+   * Check if this is a sequence pseudo column (e.g., seq.NEXTVAL, schema.seq.CURRVAL).
+   */
+  public boolean isSequenceReference() {
+    if (!isChainedAccess()) {
+      return false;
+    }
+    GeneralElementPart last = chainedParts.get(chainedParts.size() - 1);
+    return last.isSimpleIdentifier() &&
+            ("NEXTVAL".equalsIgnoreCase(last.getIdExpression()) || "CURRVAL".equalsIgnoreCase(last.getIdExpression())) &&
+            OracleFunctionMapper.isSequenceReference(toString());
+  }
+
   /**
    * Get the variable name for collection operations.
    */
@@ -165,6 +179,9 @@ public class GeneralElement extends PlSqlAst {
     } else if (isCollectionIndexing()) {
       // Handle collection indexing: arr(index)
       return transformCollectionIndexing(data);
+    } else if (isSequenceReference()) {
+      // Handle sequence pseudo columns: seq.NEXTVAL → nextval('schema.seq')
+      return OracleFunctionMapper.transformSequenceFunctions(toString(), data, null);
     } else if (isCollectionMethodCall()) {
       // Handle collection method calls: arr.COUNT
       return transformCollectionMethodCall(data);
@@ -2,8 +2,15 @@ package me.christianrobert.ora2postgre.plsql.ast;
 
 import me.christianrobert.ora2postgre.global.Everything;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
 public class HtpStatement extends Statement {
 
+  /** A single SQL string literal, e.g. 'abc' or 'it''s' */
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
   private Expression argument;
 
   public HtpStatement(Expression argument) {
@@ -40,4 +47,64 @@ public class HtpStatement extends Statement {
     return b.toString();
   }
 
-}
\ No newline at end of file
+  /**
+   * Returns the transformed argument if it is a constant string literal, otherwise null.
+   */
+  private String getConstantLiteral(Everything data) {
+    if (argument == null) {
+      return "''";
+    }
+    String transformed = argument.toPostgre(data).trim();
+    return STRING_LITERAL.matcher(transformed).matches() ? transformed : null;
+  }
+
+  /**
+   * Merges runs of adjacent htp.p calls with constant string arguments into one call.
+   * The fragments are joined with a newline, which is how SYS.HTP_page() separates
+   * printed lines, so the rendered page stays the same with fewer buffer appends.
+   *
+   * @param statements The statements of a block, in order
+   * @param data The global context used to transform the HTP arguments
+   * @return A new list with coalesced HTP calls; other statements are kept as they are
+   */
+  public static List<Statement> coalesceConstantCalls(List<Statement> statements, Everything data) {
+    List<Statement> result = new ArrayList<>();
+    List<String> pendingLiterals = new ArrayList<>();
+    Statement pendingStatement = null;
+
+    for (Statement statement : statements) {
+      String literal = statement instanceof HtpStatement
+              ? ((HtpStatement) statement).getConstantLiteral(data)
+              : null;
+      if (literal != null) {
+        pendingLiterals.add(literal);
+        pendingStatement = statement;
+        continue;
+      }
+      flushLiterals(result, pendingLiterals, pendingStatement);
+      result.add(statement);
+    }
+    flushLiterals(result, pendingLiterals, pendingStatement);
+
+    return result;
+  }
+
+  private static void flushLiterals(List<Statement> result, List<String> literals, Statement lastStatement) {
+    if (literals.size() == 1) {
+      result.add(lastStatement);
+    } else if (literals.size() > 1) {
+      StringBuilder merged = new StringBuilder("'");
+      for (int i = 0; i < literals.size(); i++) {
+        if (i > 0) {
+          merged.append("\n");
+        }
+        String literal = literals.get(i);
+        merged.append(literal, 1, literal.length() - 1);
+      }
+      merged.append("'");
+      result.add(new HtpStatement(merged.toString()));
+    }
+    literals.clear();
+  }
+
+}
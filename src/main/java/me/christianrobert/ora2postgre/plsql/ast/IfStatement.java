@@ -54,7 +54,7 @@ public class IfStatement extends Statement {
     b.append("IF ").append(condition.toPostgre(data)).append(" THEN\n");
 
     // THEN statements
-    for (Statement stmt : thenStatements) {
+    for (Statement stmt : HtpStatement.coalesceConstantCalls(thenStatements, data)) {
       b.append(stmt.toPostgre(data)).append("\n");
     }
 
@@ -62,7 +62,7 @@ public class IfStatement extends Statement {
     if (elsifParts != null) {
       for (ElsifPart elsif : elsifParts) {
         b.append("ELSIF ").append(elsif.getCondition().toPostgre(data)).append(" THEN\n");
-        for (Statement stmt : elsif.getStatements()) {
+        for (Statement stmt : HtpStatement.coalesceConstantCalls(elsif.getStatements(), data)) {
           b.append(stmt.toPostgre(data)).append("\n");
         }
       }
@@ -71,7 +71,7 @@ public class IfStatement extends Statement {
     // ELSE part
     if (elseStatements != null && !elseStatements.isEmpty()) {
       b.append("ELSE\n");
-      for (Statement stmt : elseStatements) {
+      for (Statement stmt : HtpStatement.coalesceConstantCalls(elseStatements, data)) {
         b.append(stmt.toPostgre(data)).append("\n");
       }
     }
@@ -41,7 +41,7 @@ public class LoopStatement extends Statement {
     b.append("LOOP\n");
 
     // Loop body statements
-    for (Statement stmt : statements) {
+    for (Statement stmt : HtpStatement.coalesceConstantCalls(statements, data)) {
       b.append(stmt.toPostgre(data)).append("\n");
     }
 
@@ -9,7 +9,9 @@ public class SelectQueryBlock extends PlSqlAst {
   List<SelectListElement> selectedFields;
   List<TableReference> fromTables;
   WhereClause whereClause;
-  // TODO other clauses like GROUP BY, HAVING, ORDER BY, etc.
+  List<Expression> groupByElements; // null entries are ROLLUP, CUBE or GROUPING SETS, which are not supported
+  Expression havingCondition;
+  // TODO other clauses like ORDER BY, etc.
 
   @Override
   public <T> T accept(PlSqlAstVisitor<T> visitor) {
@@ -17,10 +19,17 @@ public class SelectQueryBlock extends PlSqlAst {
   }
 
   public SelectQueryBlock(String schema, List<SelectListElement> selectedFields, List<TableReference> fromTables, WhereClause whereClause) {
+    this(schema, selectedFields, fromTables, whereClause, List.of(), null);
+  }
+
+  public SelectQueryBlock(String schema, List<SelectListElement> selectedFields, List<TableReference> fromTables, WhereClause whereClause,
+                          List<Expression> groupByElements, Expression havingCondition) {
     this.schema = schema;
     this.selectedFields = selectedFields;
     this.fromTables = fromTables;
     this.whereClause = whereClause;
+    this.groupByElements = groupByElements;
+    this.havingCondition = havingCondition;
   }
 
   public List<SelectListElement> getSelectedField() {
@@ -35,6 +44,14 @@ public class SelectQueryBlock extends PlSqlAst {
     return whereClause;
   }
 
+  public List<Expression> getGroupByElements() {
+    return groupByElements;
+  }
+
+  public Expression getHavingCondition() {
+    return havingCondition;
+  }
+
   // there is no toJava function here ... the java code will use the postgre sql
   // for to get the data with native queries
 
@@ -67,6 +84,7 @@ public class SelectQueryBlock extends PlSqlAst {
     if (whereClause != null) {
       b.append("\n").append(whereClause.toPostgre(data));
     }
+    appendGroupByAndHaving(b, data);
     
     return b.toString();
   }
@@ -104,7 +122,24 @@ public class SelectQueryBlock extends PlSqlAst {
     if (whereClause != null) {
       b.append("\n").append(whereClause.toPostgre(data));
     }
+    appendGroupByAndHaving(b, data);
     
     return b.toString();
   }
+
+  private void appendGroupByAndHaving(StringBuilder b, Everything data) {
+    if (!groupByElements.isEmpty()) {
+      b.append("\nGROUP BY ");
+      for (int i = 0; i < groupByElements.size(); i++) {
+        Expression element = groupByElements.get(i);
+        b.append(element != null ? element.toPostgre(data) : "/* ROLLUP, CUBE or GROUPING SETS not supported */");
+        if (i < groupByElements.size() - 1) {
+          b.append(", ");
+        }
+      }
+    }
+    if (havingCondition != null) {
+      b.append("\nHAVING ").append(havingCondition.toPostgre(data));
+    }
+  }
 }
@@ -22,6 +22,8 @@ public class Trigger extends PlSqlAst {
     private List<Statement> triggerBody;      // Parsed trigger body statements
     private String schema;             // Owner schema
     private String status;             // ENABLED/DISABLED
+    private boolean rowLevel;          // FOR EACH ROW, false for statement-level triggers
+    private String oracleBody;         // Original Oracle body (DECLARE/BEGIN ... END)
 
     public Trigger(String triggerName, String tableName, String tableOwner, String schema) {
         this.triggerName = triggerName;
@@ -35,6 +37,7 @@ public class Trigger extends PlSqlAst {
         this.updateColumns = new ArrayList<>();
         this.triggerBody = new ArrayList<>();
         this.status = "ENABLED";
+        this.rowLevel = true;
     }
 
     // Getters and setters
@@ -110,6 +113,18 @@ public class Trigger extends PlSqlAst {
         this.status = status;
     }
 
+    public void setRowLevel(boolean rowLevel) {
+        this.rowLevel = rowLevel;
+    }
+
+    public String getOracleBody() {
+        return oracleBody;
+    }
+
+    public void setOracleBody(String oracleBody) {
+        this.oracleBody = oracleBody;
+    }
+
     @Override
     public <T> T accept(PlSqlAstVisitor<T> visitor) {
         return visitor.visit(this);
@@ -200,11 +215,12 @@ public class Trigger extends PlSqlAst {
                 .append(" ").append(getPostgreEventList())
                 .append("\n  ON ").append(tableOwner.toLowerCase())
                 .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(tableName))
-                .append("\n  FOR EACH ROW");
+                .append(rowLevel ? "\n  FOR EACH ROW" : "\n  FOR EACH STATEMENT");
         
         // Add WHEN clause if present or if UPDATE OF columns are specified
+        // (NEW and OLD only exist for row-level triggers)
         String combinedWhenClause = buildCombinedWhenClause(everything);
-        if (combinedWhenClause != null && !combinedWhenClause.trim().isEmpty()) {
+        if (rowLevel && combinedWhenClause != null && !combinedWhenClause.trim().isEmpty()) {
             trigger.append("\n  WHEN (").append(combinedWhenClause).append(")");
         }
         
@@ -298,23 +314,21 @@ public class Trigger extends PlSqlAst {
      * Helper method to determine if this is a row-level trigger.
      */
     public boolean needsRowLevelTrigger() {
-        // For now, assume all triggers are row-level
-        // This can be enhanced based on trigger analysis
-        return true;
+        return rowLevel;
     }
 
     /**
      * Generate PostgreSQL function name following package naming convention.
      * Pattern: SCHEMA.TRIGGERFUNCTION_triggername (uppercase schema and prefix, lowercase trigger name)
      */
-    private String getPostgreFunctionName() {
+    public String getPostgreFunctionName() {
         return schema.toUpperCase() + ".TRIGGERFUNCTION_" + triggerName.toLowerCase();
     }
 
     /**
      * Generate PostgreSQL trigger name based on Oracle trigger name.
      */
-    private String getPostgreTriggerName() {
+    public String getPostgreTriggerName() {
         return triggerName.toLowerCase() + "_pg";
     }
 
@@ -388,6 +402,10 @@ public class Trigger extends PlSqlAst {
      * Generate appropriate return statement based on trigger type.
      */
     private String generateReturnStatement() {
+        if (!rowLevel) {
+            // The return value of statement-level triggers is ignored
+            return "  RETURN NULL;";
+        }
         // Use TriggerTransformer to determine the correct return statement
         return "  " + TriggerTransformer.getPostgreTriggerReturn(triggeringEvent, triggerType);
     }
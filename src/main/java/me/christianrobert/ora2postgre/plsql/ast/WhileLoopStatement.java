@@ -44,7 +44,7 @@ public class WhileLoopStatement extends Statement {
     b.append("WHILE ").append(condition.toPostgre(data)).append(" LOOP\n");
 
     // Loop body statements
-    for (Statement stmt : statements) {
+    for (Statement stmt : HtpStatement.coalesceConstantCalls(statements, data)) {
       b.append(stmt.toPostgre(data)).append("\n");
     }
 
@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.plsql.ast.tools.managers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
 import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.*;
@@ -24,13 +25,24 @@ public class IndexMigrationStrategyManager {
   private final UnsupportedIndexStrategy unsupportedStrategy;
 
   /**
-   * Constructor that initializes all available strategies.
+   * Constructor that initializes all available strategies without migration context.
    */
   public IndexMigrationStrategyManager() {
+    this(null);
+  }
+
+  /**
+   * Constructor that initializes all available strategies.
+   *
+   * @param context Migration context, used for expression transformation and column statistics (may be null)
+   */
+  public IndexMigrationStrategyManager(Everything context) {
     this.strategies = new ArrayList<>();
     this.unsupportedStrategy = new UnsupportedIndexStrategy();
 
     // Register strategies in priority order (highest priority first)
+    registerStrategy(new FunctionBasedIndexStrategy(context));
+    registerStrategy(new BitmapIndexStrategy(context));
     registerStrategy(new UniqueIndexStrategy());
     registerStrategy(new CompositeIndexStrategy());
     registerStrategy(new BTreeIndexStrategy());
@@ -114,6 +126,16 @@ public class IndexMigrationStrategyManager {
     }
 
     for (IndexMetadata index : filteredIndexes) {
+      String missingKeyColumns = getMissingPartitionKeyColumns(index, context);
+      if (missingKeyColumns != null) {
+        log.warn("Skipping unique index {}: partitioned table {} requires partition key columns {} in the index",
+                index.getIndexName(), index.getFullTableName(), missingKeyColumns);
+        unsupportedIndexes.add(new PostgreSQLIndexDDL(index.getIndexName(), index.getTableName(), index.getSchemaName(),
+                "The table is partitioned and PostgreSQL requires unique indexes to include all partition key columns, missing: "
+                        + missingKeyColumns));
+        strategyUsageStats.merge("Partition Key Missing", 1, Integer::sum);
+        continue;
+      }
       try {
         PostgreSQLIndexDDL result = convertIndex(index);
 
@@ -182,6 +204,27 @@ public class IndexMigrationStrategyManager {
     return new ArrayList<>(strategies);
   }
 
+  /**
+   * Partition key columns missing from a unique index of a partitioned table, or null if the
+   * index can be created.
+   */
+  private String getMissingPartitionKeyColumns(IndexMetadata index, Everything context) {
+    if (context == null || !index.isUniqueIndex()) {
+      return null;
+    }
+    for (TableMetadata table : context.getTableSql()) {
+      if (table.getSchema().equalsIgnoreCase(index.getSchemaName())
+              && table.getTableName().equalsIgnoreCase(index.getTableName())) {
+        List<String> missing = table.getMissingPartitionKeyColumns(index.getColumns().stream()
+                .map(IndexColumn::getColumnName)
+                .filter(Objects::nonNull)
+                .toList());
+        return missing.isEmpty() ? null : String.join(", ", missing);
+      }
+    }
+    return null;
+  }
+
   /**
    * Filters out indexes that would conflict with constraint-generated indexes.
    * PostgreSQL constraints automatically create indexes, so we need to avoid duplicates.
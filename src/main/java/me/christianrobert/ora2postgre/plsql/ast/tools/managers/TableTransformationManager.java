@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.plsql.ast.tools.managers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.PartitionedTableStrategy;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.StandardTableStrategy;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.TableTransformationStrategy;
 import org.slf4j.Logger;
@@ -28,6 +29,7 @@ public class TableTransformationManager {
     this.standardStrategy = new StandardTableStrategy();
 
     // Register strategies in priority order (highest priority first)
+    registerStrategy(new PartitionedTableStrategy());
     registerStrategy(standardStrategy);
 
     log.info("Initialized TableTransformationManager with {} strategies", strategies.size());
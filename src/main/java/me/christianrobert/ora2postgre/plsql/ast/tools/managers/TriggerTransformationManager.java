@@ -4,6 +4,7 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.oracledb.TriggerMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.Trigger;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.BasicTriggerStrategy;
+import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.StatementLevelTriggerStrategy;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.TriggerTransformationStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ public class TriggerTransformationManager {
     this.strategyByType = new HashMap<>();
 
     // Register strategies in priority order (highest priority first)
+    registerStrategy(new StatementLevelTriggerStrategy());
     registerStrategy(new BasicTriggerStrategy());
 
     log.info("Initialized TriggerTransformationManager with {} strategies", strategies.size());
@@ -4,6 +4,7 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.BasicViewStrategy;
+import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.MaterializedViewStrategy;
 import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.ViewTransformationStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ public class ViewTransformationManager {
     this.strategyByComplexity = new HashMap<>();
 
     // Register strategies in priority order (highest priority first)
+    registerStrategy(new MaterializedViewStrategy());
     registerStrategy(new BasicViewStrategy());
 
     log.info("Initialized ViewTransformationManager with {} strategies", strategies.size());
@@ -0,0 +1,197 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.PostgreSQLIndexDDL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Strategy for replacing Oracle bitmap indexes, which PostgreSQL does not have.
+ * PostgreSQL builds bitmaps at query time from ordinary indexes, so the replacement
+ * is chosen from the Oracle column statistics:
+ * - BRIN for a date column of a large table, where rows usually arrive in date order
+ * - a partial index for a low cardinality column that is mostly NULL
+ * - a B-tree otherwise, multi-column ones ordered by descending cardinality
+ */
+public class BitmapIndexStrategy implements IndexMigrationStrategy {
+
+  static final long BRIN_MIN_ROWS = 1_000_000;
+  static final long LOW_CARDINALITY = 10;
+
+  private final Everything context;
+
+  public BitmapIndexStrategy(Everything context) {
+    this.context = context != null ? context : new Everything();
+  }
+
+  @Override
+  public boolean supports(IndexMetadata index) {
+    return index.isBitmap() &&
+            !index.isFunctional() &&
+            index.isValid() &&
+            !index.getColumns().isEmpty();
+  }
+
+  @Override
+  public PostgreSQLIndexDDL convert(IndexMetadata index) {
+    if (!supports(index)) {
+      throw new UnsupportedOperationException("Index not supported by BitmapIndexStrategy: " + index.getIndexName());
+    }
+
+    TableMetadata table = findTable(index);
+    List<IndexColumn> columns = new ArrayList<>(index.getColumns());
+    String using = "";
+    String where = "";
+    String notes;
+
+    ColumnMetadata single = columns.size() == 1 ? findColumn(table, columns.get(0).getColumnName()) : null;
+    long tableRows = table != null ? table.getEstimatedRowCount() : -1;
+
+    if (single != null && isDateColumn(single) && tableRows >= BRIN_MIN_ROWS) {
+      using = " USING brin";
+      notes = "Bitmap index replaced by BRIN index on date column of a " + tableRows +
+              " row table; effective while rows are inserted in date order";
+    } else if (single != null && single.getNumDistinct() >= 0 && single.getNumDistinct() <= LOW_CARDINALITY &&
+            single.isNullable() && tableRows > 0 && single.getNumNulls() * 2 > tableRows) {
+      where = " WHERE " + columns.get(0).getColumnName().toLowerCase() + " IS NOT NULL";
+      notes = "Bitmap index replaced by partial B-tree index on the non-NULL rows (" +
+              single.getNumDistinct() + " distinct values, " + single.getNumNulls() + " of " + tableRows + " rows NULL)";
+    } else if (columns.size() > 1) {
+      columns.sort(Comparator.comparingLong((IndexColumn c) -> numDistinct(table, c.getColumnName())).reversed());
+      notes = "Bitmap index replaced by multi-column B-tree index, columns ordered by descending cardinality";
+    } else {
+      notes = "Bitmap index replaced by B-tree index";
+      if (single != null && single.getNumDistinct() >= 0 && single.getNumDistinct() <= LOW_CARDINALITY) {
+        notes += "; low cardinality (" + single.getNumDistinct() + " distinct values), consider a partial index on the rarely occurring values";
+      }
+      List<String> siblings = findSiblingBitmapColumns(index);
+      if (!siblings.isEmpty()) {
+        notes += "; table has further bitmap indexes on " + String.join(", ", siblings) +
+                ", a multi-column B-tree may serve combined filters better";
+      }
+    }
+
+    StringBuilder sql = new StringBuilder();
+    sql.append("CREATE INDEX ");
+
+    String pgIndexName = generatePostgreSQLIndexName(index);
+    sql.append(pgIndexName);
+
+    sql.append(" ON ");
+    if (index.getSchemaName() != null) {
+      sql.append(index.getSchemaName().toLowerCase()).append(".");
+    }
+    sql.append(index.getTableName().toLowerCase());
+    sql.append(using);
+
+    sql.append(" (");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(columns.get(i).getColumnName().toLowerCase());
+    }
+    sql.append(")");
+
+    if (index.getTablespace() != null &&
+            !index.getTablespace().trim().isEmpty() &&
+            !"USERS".equalsIgnoreCase(index.getTablespace()) &&
+            !"SYSTEM".equalsIgnoreCase(index.getTablespace())) {
+      sql.append(" TABLESPACE ").append(index.getTablespace().toLowerCase());
+    }
+    sql.append(where);
+
+    return new PostgreSQLIndexDDL(
+            sql.toString(),
+            pgIndexName,
+            index.getIndexName(),
+            index.getTableName(),
+            index.getSchemaName(),
+            "POST_TRANSFER_INDEXES",
+            notes
+    );
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Bitmap Index Replacement";
+  }
+
+  @Override
+  public int getPriority() {
+    return 30;
+  }
+
+  private TableMetadata findTable(IndexMetadata index) {
+    for (TableMetadata table : context.getTableSql()) {
+      if (table.getTableName().equalsIgnoreCase(index.getTableName()) &&
+              table.getSchema().equalsIgnoreCase(index.getSchemaName())) {
+        return table;
+      }
+    }
+    return null;
+  }
+
+  private static ColumnMetadata findColumn(TableMetadata table, String columnName) {
+    if (table == null) {
+      return null;
+    }
+    for (ColumnMetadata column : table.getColumns()) {
+      if (column.getColumnName().equalsIgnoreCase(columnName)) {
+        return column;
+      }
+    }
+    return null;
+  }
+
+  private static long numDistinct(TableMetadata table, String columnName) {
+    ColumnMetadata column = findColumn(table, columnName);
+    return column != null ? column.getNumDistinct() : -1;
+  }
+
+  private static boolean isDateColumn(ColumnMetadata column) {
+    String dataType = column.getDataType().toUpperCase();
+    return dataType.equals("DATE") || dataType.startsWith("TIMESTAMP");
+  }
+
+  /**
+   * Columns of the other single-column bitmap indexes on the same table.
+   */
+  private List<String> findSiblingBitmapColumns(IndexMetadata index) {
+    List<String> columns = new ArrayList<>();
+    for (IndexMetadata other : context.getIndexes()) {
+      if (!other.equals(index) && other.isBitmap() && other.getColumns().size() == 1 &&
+              other.getTableName().equalsIgnoreCase(index.getTableName()) &&
+              other.getSchemaName().equalsIgnoreCase(index.getSchemaName())) {
+        columns.add(other.getColumns().get(0).getColumnName().toLowerCase());
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Generates a PostgreSQL-compatible index name, handling the 63-character limit.
+   */
+  private String generatePostgreSQLIndexName(IndexMetadata index) {
+    String originalName = index.getIndexName().toLowerCase();
+
+    if (originalName.length() <= 63) {
+      return originalName;
+    }
+
+    String baseNameTruncated = originalName.substring(0, 55);
+    String hash = String.format("%08x", originalName.hashCode()).substring(0, 7);
+    return baseNameTruncated + "_" + hash;
+  }
+
+  @Override
+  public String getConversionNotes(IndexMetadata index) {
+    return "Oracle bitmap index replaced by a PostgreSQL index chosen from column statistics";
+  }
+}
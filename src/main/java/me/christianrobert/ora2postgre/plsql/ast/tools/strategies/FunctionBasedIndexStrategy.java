@@ -0,0 +1,154 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.IndexExpressionTransformer;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.PostgreSQLIndexDDL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Strategy for converting Oracle function-based indexes to PostgreSQL expression indexes.
+ * Each expression from DBA_IND_EXPRESSIONS is transformed with {@link IndexExpressionTransformer}.
+ * Indexes whose expressions cannot be transformed, or use functions that are not immutable
+ * in PostgreSQL, are reported as not converted.
+ */
+public class FunctionBasedIndexStrategy implements IndexMigrationStrategy {
+
+  private static final Logger log = LoggerFactory.getLogger(FunctionBasedIndexStrategy.class);
+
+  private final Everything context;
+
+  public FunctionBasedIndexStrategy(Everything context) {
+    this.context = context != null ? context : new Everything();
+  }
+
+  @Override
+  public boolean supports(IndexMetadata index) {
+    return index.isFunctional() &&
+            !index.getIndexType().toUpperCase().contains("BITMAP") &&
+            index.isValid() &&
+            !index.getColumns().isEmpty();
+  }
+
+  @Override
+  public PostgreSQLIndexDDL convert(IndexMetadata index) {
+    if (!supports(index)) {
+      throw new UnsupportedOperationException("Index not supported by FunctionBasedIndexStrategy: " + index.getIndexName());
+    }
+
+    StringBuilder columns = new StringBuilder();
+    int expressions = 0;
+    for (int i = 0; i < index.getColumns().size(); i++) {
+      IndexColumn column = index.getColumns().get(i);
+      if (i > 0) {
+        columns.append(", ");
+      }
+
+      if (column.isFunctional()) {
+        String expression;
+        try {
+          expression = IndexExpressionTransformer.transform(column.getColumnExpression(),
+                  index.getSchemaName(), index.getTableName(), context);
+        } catch (RuntimeException e) {
+          log.debug("Could not transform expression of index {}: {}", index.getIndexName(), e.getMessage());
+          return notConverted(index, "Expression could not be transformed: " + column.getColumnExpression());
+        }
+
+        String nonImmutable = IndexExpressionTransformer.findNonImmutableFunction(expression);
+        if (nonImmutable != null) {
+          return notConverted(index, "Expression " + expression + " uses " + nonImmutable +
+                  ", which is not immutable in PostgreSQL");
+        }
+
+        // Expressions other than plain column references need their own parentheses
+        if (expression.matches("\"?[A-Za-z_][A-Za-z0-9_$]*\"?")) {
+          columns.append(expression.startsWith("\"") ? expression : expression.toLowerCase());
+        } else {
+          columns.append("(").append(expression).append(")");
+          expressions++;
+        }
+      } else {
+        columns.append(column.getColumnName().toLowerCase());
+      }
+
+      if (column.isDescending()) {
+        columns.append(" DESC");
+      }
+    }
+
+    StringBuilder sql = new StringBuilder();
+    sql.append(index.isUniqueIndex() ? "CREATE UNIQUE INDEX " : "CREATE INDEX ");
+
+    String pgIndexName = generatePostgreSQLIndexName(index);
+    sql.append(pgIndexName);
+
+    sql.append(" ON ");
+    if (index.getSchemaName() != null) {
+      sql.append(index.getSchemaName().toLowerCase()).append(".");
+    }
+    sql.append(index.getTableName().toLowerCase());
+    sql.append(" (").append(columns).append(")");
+
+    if (index.getTablespace() != null &&
+            !index.getTablespace().trim().isEmpty() &&
+            !"USERS".equalsIgnoreCase(index.getTablespace()) &&
+            !"SYSTEM".equalsIgnoreCase(index.getTablespace())) {
+      sql.append(" TABLESPACE ").append(index.getTablespace().toLowerCase());
+    }
+
+    String notes = expressions > 0
+            ? "Expression index with " + expressions + " transformed expression(s)"
+            : "Descending column index";
+
+    return new PostgreSQLIndexDDL(
+            sql.toString(),
+            pgIndexName,
+            index.getIndexName(),
+            index.getTableName(),
+            index.getSchemaName(),
+            "POST_TRANSFER_INDEXES",
+            notes
+    );
+  }
+
+  private PostgreSQLIndexDDL notConverted(IndexMetadata index, String reason) {
+    return new PostgreSQLIndexDDL(
+            index.getIndexName(),
+            index.getTableName(),
+            index.getSchemaName(),
+            reason
+    );
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Function-Based Index";
+  }
+
+  @Override
+  public int getPriority() {
+    return 40; // Checked before the column based strategies
+  }
+
+  /**
+   * Generates a PostgreSQL-compatible index name, handling the 63-character limit.
+   */
+  private String generatePostgreSQLIndexName(IndexMetadata index) {
+    String originalName = index.getIndexName().toLowerCase();
+
+    if (originalName.length() <= 63) {
+      return originalName;
+    }
+
+    String baseNameTruncated = originalName.substring(0, 55);
+    String hash = String.format("%08x", originalName.hashCode()).substring(0, 7);
+    return baseNameTruncated + "_" + hash;
+  }
+
+  @Override
+  public String getConversionNotes(IndexMetadata index) {
+    return "Oracle function-based index converted to PostgreSQL expression index";
+  }
+}
@@ -0,0 +1,78 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.TypeConverter;
+
+import java.util.List;
+
+/**
+ * Strategy for Oracle materialized views. Generates the CREATE MATERIALIZED VIEW header;
+ * the query, the unique index and the incremental maintenance are added by
+ * MaterializedViewTransformer when the full view is exported.
+ */
+public class MaterializedViewStrategy implements ViewTransformationStrategy {
+
+  @Override
+  public boolean supports(ViewMetadata viewMetadata) {
+    return viewMetadata != null && viewMetadata.isMaterialized();
+  }
+
+  @Override
+  public boolean supports(SelectStatement selectStatement) {
+    // Materialized views are recognized by their metadata, not by the query
+    return false;
+  }
+
+  @Override
+  public String transformViewMetadata(ViewMetadata viewMetadata, boolean withDummyQuery, Everything context) {
+    if (!supports(viewMetadata)) {
+      throw new UnsupportedOperationException("Not a materialized view: " + viewMetadata);
+    }
+
+    StringBuilder createView = new StringBuilder("CREATE MATERIALIZED VIEW IF NOT EXISTS ");
+    createView.append(viewMetadata.getSchema().toLowerCase())
+            .append(".")
+            .append(PostgreSqlIdentifierUtils.quoteIdentifier(viewMetadata.getViewName()))
+            .append(" (");
+
+    List<String> columnDefs = viewMetadata.getColumns().stream()
+            .map(col -> PostgreSqlIdentifierUtils.quoteIdentifier(col.getColumnName()))
+            .toList();
+    createView.append(String.join(", ", columnDefs));
+    createView.append(") AS\n");
+
+    if (withDummyQuery) {
+      List<String> nullColumns = viewMetadata.getColumns().stream()
+              .map(col -> "NULL::" + TypeConverter.toPostgre(col.getDataType()) + " AS " + PostgreSqlIdentifierUtils.quoteIdentifier(col.getColumnName()))
+              .toList();
+      createView.append("SELECT ")
+              .append(String.join(", ", nullColumns))
+              .append("\nWITH NO DATA\n;");
+    }
+    return createView.toString();
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Materialized View Strategy";
+  }
+
+  @Override
+  public int getPriority() {
+    return 20; // Checked before the basic strategy, which accepts every view
+  }
+
+  @Override
+  public String getViewComplexity() {
+    return "MATERIALIZED";
+  }
+
+  @Override
+  public String getConversionNotes(ViewMetadata viewMetadata) {
+    return "Oracle materialized view converted to PostgreSQL materialized view (refresh method " +
+            viewMetadata.getRefreshMethod() + ", refresh mode " + viewMetadata.getRefreshMode() + ")";
+  }
+}
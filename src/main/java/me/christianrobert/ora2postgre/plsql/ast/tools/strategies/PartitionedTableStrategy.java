@@ -0,0 +1,157 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.PartitionMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Transforms Oracle RANGE, LIST and HASH partitioned tables to PostgreSQL declarative partitioning.
+ * The parent table gets a PARTITION BY clause and every Oracle partition becomes a child table
+ * created with PARTITION OF, named by {@link PartitionMetadata#childTableName}.
+ * Subpartitions are not migrated, their rows end up in the child table of their partition.
+ */
+public class PartitionedTableStrategy extends StandardTableStrategy {
+
+  private static final Logger log = LoggerFactory.getLogger(PartitionedTableStrategy.class);
+
+  private static final Pattern TO_DATE_PATTERN =
+          Pattern.compile("^TO_DATE\\s*\\(\\s*'([^']*)'.*\\)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  private static final Pattern TIMESTAMP_PATTERN =
+          Pattern.compile("^TIMESTAMP\\s*'([^']*)'$", Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public boolean supports(TableMetadata table) {
+    return table.isPartitioned() && table.getPartitioning().isSupportedInPostgre();
+  }
+
+  @Override
+  public List<String> transform(TableMetadata table, Everything context) {
+    PartitionMetadata partitioning = table.getPartitioning();
+    log.debug("Transforming table {}.{} using PartitionedTableStrategy ({})",
+            table.getSchema(), table.getTableName(), partitioning);
+
+    if (partitioning.isSubpartitioned()) {
+      log.warn("Table {}.{} is {} subpartitioned, subpartitions are not migrated",
+              table.getSchema(), table.getTableName(), partitioning.getSubpartitioningType());
+    }
+
+    List<String> keyColumns = new ArrayList<>();
+    for (String column : partitioning.getKeyColumns()) {
+      keyColumns.add(PostgreSqlIdentifierUtils.quoteIdentifier(column));
+    }
+
+    List<String> statements = new ArrayList<>();
+    statements.add(buildCreateTable(table, context) + "\nPARTITION BY " + partitioning.getPartitioningType() +
+            " (" + String.join(", ", keyColumns) + ");");
+
+    String parentName = table.getSchema() + "." + table.getTableName();
+    List<String> lowerBound = Collections.nCopies(keyColumns.size(), "MINVALUE");
+    for (PartitionMetadata.Partition partition : partitioning.getPartitions()) {
+      String childName = table.getSchema() + "." +
+              PartitionMetadata.childTableName(table.getTableName(), partition.getPartitionName());
+      String forValues;
+
+      switch (partitioning.getPartitioningType()) {
+        case "RANGE":
+          List<String> upperBound = convertBoundValues(partition.getHighValue());
+          forValues = "FOR VALUES FROM (" + String.join(", ", lowerBound) + ") TO (" + String.join(", ", upperBound) + ")";
+          lowerBound = upperBound;
+          break;
+        case "LIST":
+          if ("DEFAULT".equalsIgnoreCase(partition.getHighValue().trim())) {
+            forValues = "DEFAULT";
+          } else {
+            forValues = "FOR VALUES IN (" + String.join(", ", convertBoundValues(partition.getHighValue())) + ")";
+          }
+          break;
+        default: // HASH, rows are redistributed by PostgreSQL's own hash function, so the data is loaded through the parent
+          forValues = "FOR VALUES WITH (MODULUS " + partitioning.getPartitions().size() +
+                  ", REMAINDER " + (partition.getPosition() - 1) + ")";
+      }
+
+      statements.add("CREATE TABLE " + childName + " PARTITION OF " + parentName + " " + forValues + ";");
+    }
+
+    log.debug("Generated {} DDL statements for partitioned table {}", statements.size(), parentName);
+    return statements;
+  }
+
+  /**
+   * Converts an Oracle partition bound (ALL_TAB_PARTITIONS.high_value) into PostgreSQL bound values.
+   * Date and timestamp bounds are reduced to their literal, numbers, strings, NULL and MAXVALUE are kept.
+   */
+  static List<String> convertBoundValues(String highValue) {
+    List<String> values = new ArrayList<>();
+    for (String value : splitTopLevel(highValue)) {
+      String trimmed = value.trim();
+      Matcher toDate = TO_DATE_PATTERN.matcher(trimmed);
+      Matcher timestamp = TIMESTAMP_PATTERN.matcher(trimmed);
+      if (toDate.matches()) {
+        values.add("'" + toDate.group(1).trim() + "'");
+      } else if (timestamp.matches()) {
+        values.add("'" + timestamp.group(1).trim() + "'");
+      } else if ("MAXVALUE".equalsIgnoreCase(trimmed) || "NULL".equalsIgnoreCase(trimmed)) {
+        values.add(trimmed.toUpperCase());
+      } else {
+        values.add(trimmed);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Splits on commas that are neither inside quotes nor inside parentheses.
+   */
+  private static List<String> splitTopLevel(String expression) {
+    List<String> parts = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    int depth = 0;
+    boolean inQuotes = false;
+    for (char c : expression.toCharArray()) {
+      if (c == '\'') {
+        inQuotes = !inQuotes;
+      } else if (!inQuotes && c == '(') {
+        depth++;
+      } else if (!inQuotes && c == ')') {
+        depth--;
+      } else if (!inQuotes && depth == 0 && c == ',') {
+        parts.add(current.toString());
+        current.setLength(0);
+        continue;
+      }
+      current.append(c);
+    }
+    parts.add(current.toString());
+    return parts;
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Partitioned Table";
+  }
+
+  @Override
+  public int getPriority() {
+    return 10;
+  }
+
+  @Override
+  public String getConversionNotes(TableMetadata table) {
+    PartitionMetadata partitioning = table.getPartitioning();
+    String notes = "Converted to PostgreSQL " + partitioning.getPartitioningType() + " partitioning with " +
+            partitioning.getPartitions().size() + " partitions";
+    if (partitioning.isSubpartitioned()) {
+      notes += ", " + partitioning.getSubpartitioningType() + " subpartitions not migrated";
+    }
+    return notes;
+  }
+}
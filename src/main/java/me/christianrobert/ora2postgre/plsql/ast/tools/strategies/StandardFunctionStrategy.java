@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.plsql.ast.Function;
+import me.christianrobert.ora2postgre.plsql.ast.HtpStatement;
 import me.christianrobert.ora2postgre.plsql.ast.Parameter;
 import me.christianrobert.ora2postgre.plsql.ast.Statement;
 import me.christianrobert.ora2postgre.plsql.ast.tools.helpers.StatementDeclarationCollector;
@@ -119,7 +120,7 @@ public class StandardFunctionStrategy implements FunctionTransformationStrategy
       // Use function context during statement transformation
       transformationContext.withFunctionContext(function, () -> {
         // Add function body statements
-        for (Statement statement : function.getStatements()) {
+        for (Statement statement : HtpStatement.coalesceConstantCalls(function.getStatements(), context)) {
           b.append(statement.toPostgre(context))
                   .append("\n");
         }
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.plsql.ast.HtpStatement;
 import me.christianrobert.ora2postgre.plsql.ast.Procedure;
 import me.christianrobert.ora2postgre.plsql.ast.Statement;
 import me.christianrobert.ora2postgre.plsql.ast.tools.helpers.StatementDeclarationCollector;
@@ -113,7 +114,7 @@ public class StandardProcedureStrategy implements ProcedureTransformationStrateg
       // Use procedure context during statement transformation
       transformationContext.withProcedureContext(procedure, () -> {
         // Add procedure body statements
-        for (Statement statement : procedure.getStatements()) {
+        for (Statement statement : HtpStatement.coalesceConstantCalls(procedure.getStatements(), context)) {
           b.append(statement.toPostgre(context))
                   .append("\n");
         }
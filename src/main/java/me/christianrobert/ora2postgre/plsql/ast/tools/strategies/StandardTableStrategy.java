@@ -30,8 +30,18 @@ public class StandardTableStrategy implements TableTransformationStrategy {
             table.getSchema(), table.getTableName());
 
     List<String> statements = new ArrayList<>();
+    statements.add(buildCreateTable(table, context) + ";");
 
-    // Build CREATE TABLE statement
+    log.debug("Generated {} DDL statements for table {}.{}",
+            statements.size(), table.getSchema(), table.getTableName());
+
+    return statements;
+  }
+
+  /**
+   * Builds the CREATE TABLE statement with all columns, without terminating semicolon.
+   */
+  protected String buildCreateTable(TableMetadata table, Everything context) {
     StringBuilder createTable = new StringBuilder("CREATE TABLE ");
     createTable.append(table.getSchema())
             .append(".")
@@ -43,13 +53,8 @@ public class StandardTableStrategy implements TableTransformationStrategy {
       columnDefs.add(col.toPostgre(context, table.getSchema(), table.getTableName()));
     }
     createTable.append(String.join(",\n", columnDefs));
-    createTable.append("\n);");
-    statements.add(createTable.toString());
-
-    log.debug("Generated {} DDL statements for table {}.{}",
-            statements.size(), table.getSchema(), table.getTableName());
-
-    return statements;
+    createTable.append("\n)");
+    return createTable.toString();
   }
 
   @Override
@@ -0,0 +1,125 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.TriggerMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Trigger;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.SetBasedTriggerTransformer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy for Oracle row-level AFTER triggers that only need the set of affected rows,
+ * like audit inserts and summary maintenance. They become FOR EACH STATEMENT triggers
+ * with transition tables that run one set-based statement instead of one per row.
+ *
+ * PostgreSQL only allows transition tables on single event triggers, so one trigger per
+ * event is created, all calling the same function that branches on TG_OP.
+ */
+public class StatementLevelTriggerStrategy implements TriggerTransformationStrategy {
+
+  @Override
+  public boolean supports(Trigger trigger) {
+    return trigger != null && SetBasedTriggerTransformer.transform(trigger, null) != null;
+  }
+
+  @Override
+  public boolean supports(TriggerMetadata triggerMetadata) {
+    // Stubs carry no body to analyze
+    return false;
+  }
+
+  @Override
+  public String transformTriggerFunction(Trigger trigger, Everything context) {
+    Map<String, List<String>> statements = SetBasedTriggerTransformer.transform(trigger, context);
+    if (statements == null) {
+      // UPDATE of a table without primary key, old and new rows cannot be paired
+      return trigger.toPostgreTriggerFunction(context);
+    }
+
+    StringBuilder function = new StringBuilder();
+    function.append("CREATE OR REPLACE FUNCTION ")
+            .append(PostgreSqlIdentifierUtils.quoteIdentifier(trigger.getPostgreFunctionName()))
+            .append("() RETURNS TRIGGER AS $$\n")
+            .append("BEGIN\n")
+            .append("  -- Set-based translation of row-level trigger ").append(trigger.getTriggerName()).append("\n");
+
+    boolean first = true;
+    for (Map.Entry<String, List<String>> entry : statements.entrySet()) {
+      function.append(first ? "  IF" : "  ELSIF").append(" TG_OP = '").append(entry.getKey()).append("' THEN\n");
+      if (entry.getValue().isEmpty()) {
+        function.append("    NULL;\n");
+      }
+      for (String statement : entry.getValue()) {
+        function.append("    ").append(statement).append("\n");
+      }
+      first = false;
+    }
+    function.append("  END IF;\n")
+            .append("  RETURN NULL;\n")
+            .append("END;\n")
+            .append("$$ LANGUAGE plpgsql;\n");
+    return function.toString();
+  }
+
+  @Override
+  public String transformTriggerDefinition(Trigger trigger, Everything context) {
+    if (SetBasedTriggerTransformer.transform(trigger, context) == null) {
+      return trigger.toPostgreTriggerDefinition(context);
+    }
+    List<String> events = trigger.getTriggeringEvents();
+    StringBuilder definition = new StringBuilder();
+
+    for (String event : events) {
+      String triggerName = trigger.getPostgreTriggerName() + (events.size() > 1 ? "_" + event.toLowerCase() : "");
+      definition.append("CREATE TRIGGER ")
+              .append(PostgreSqlIdentifierUtils.quoteIdentifier(triggerName))
+              .append("\n  AFTER ").append(event)
+              .append("\n  ON ").append(trigger.getTableOwner().toLowerCase())
+              .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(trigger.getTableName()))
+              .append("\n  REFERENCING ");
+      switch (event) {
+        case "INSERT" -> definition.append("NEW TABLE AS ").append(SetBasedTriggerTransformer.NEW_ROWS);
+        case "DELETE" -> definition.append("OLD TABLE AS ").append(SetBasedTriggerTransformer.OLD_ROWS);
+        default -> definition.append("OLD TABLE AS ").append(SetBasedTriggerTransformer.OLD_ROWS)
+                .append(" NEW TABLE AS ").append(SetBasedTriggerTransformer.NEW_ROWS);
+      }
+      definition.append("\n  FOR EACH STATEMENT")
+              .append("\n  EXECUTE FUNCTION ")
+              .append(PostgreSqlIdentifierUtils.quoteIdentifier(trigger.getPostgreFunctionName()))
+              .append("();\n");
+    }
+    return definition.toString();
+  }
+
+  @Override
+  public String transformTriggerFunctionStub(TriggerMetadata triggerMetadata, Everything context) {
+    throw new UnsupportedOperationException("Statement-level strategy does not generate stubs");
+  }
+
+  @Override
+  public String transformTriggerDefinitionStub(TriggerMetadata triggerMetadata, Everything context) {
+    throw new UnsupportedOperationException("Statement-level strategy does not generate stubs");
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Statement-Level Trigger Strategy";
+  }
+
+  @Override
+  public int getPriority() {
+    return 20; // Checked before the basic strategy, which accepts every trigger
+  }
+
+  @Override
+  public String getTriggerType() {
+    return "AFTER EACH ROW (SET-BASED)";
+  }
+
+  @Override
+  public String getConversionNotes(Trigger trigger) {
+    return "Row-level trigger with a DML-only body converted to FOR EACH STATEMENT triggers with transition tables";
+  }
+}
@@ -114,14 +114,6 @@ public class UnsupportedIndexStrategy implements IndexMigrationStrategy {
       return reason.toString();
     }
 
-    // Check for partitioned indexes with complex partitioning
-    if (index.isPartitioned()) {
-      reason.append("Partitioned index may require special handling. ");
-      reason.append("PostgreSQL partitioned indexes work differently than Oracle. ");
-      reason.append("Review partitioning strategy and create appropriate indexes on partitions.");
-      return reason.toString();
-    }
-
     // Check for very long names that would be problematic
     if (index.getIndexName().length() > 63) {
       reason.append("Index name exceeds PostgreSQL 63-character limit. ");
@@ -0,0 +1,66 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
+import me.christianrobert.ora2postgre.plsql.ast.PlSqlAst;
+import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
+
+import java.util.regex.Pattern;
+
+/**
+ * Transforms the column expressions of Oracle function-based indexes (DBA_IND_EXPRESSIONS)
+ * to PostgreSQL. The expression is wrapped into a SELECT on the indexed table, so it goes
+ * through the same AST and toPostgre pipeline as view and runtime SQL.
+ */
+public class IndexExpressionTransformer {
+
+  // Oracle stores index expressions with quoted upper case column names, e.g. UPPER("LAST_NAME")
+  private static final Pattern QUOTED_UPPER_IDENTIFIER = Pattern.compile("\"([A-Z][A-Z0-9_$#]*)\"");
+
+  // Functions that are not IMMUTABLE in PostgreSQL and therefore cannot be used in an index expression
+  private static final Pattern NON_IMMUTABLE_FUNCTION = Pattern.compile(
+          "(?i)\\b(to_char|to_date|to_timestamp|now|clock_timestamp|random|current_date|current_timestamp|localtimestamp)\\b");
+
+  /**
+   * Transforms an Oracle index expression.
+   *
+   * @param expression Oracle expression as stored in DBA_IND_EXPRESSIONS
+   * @param schema Schema of the indexed table
+   * @param tableName Indexed table
+   * @param data Migration context used for function and type lookups
+   * @return the PostgreSQL expression
+   * @throws IllegalArgumentException if the expression cannot be parsed or transformed
+   */
+  public static String transform(String expression, String schema, String tableName, Everything data) {
+    String unquoted = QUOTED_UPPER_IDENTIFIER.matcher(expression.trim()).replaceAll("$1");
+    String select = "SELECT " + unquoted + " FROM " + schema + "." + tableName;
+
+    PlSqlAst ast;
+    try {
+      ast = PlSqlAstMain.processPlsqlCode(new PlsqlCode(schema, select));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Expression could not be parsed: " + expression, e);
+    }
+    if (!(ast instanceof SelectStatement)) {
+      throw new IllegalArgumentException("Expression could not be parsed: " + expression);
+    }
+
+    String transformed = ((SelectStatement) ast).toPostgre(data);
+    int fromIndex = transformed.lastIndexOf(" FROM ");
+    if (!transformed.startsWith("SELECT ") || fromIndex <= "SELECT ".length()) {
+      throw new IllegalArgumentException("Unexpected transformation result for expression: " + expression);
+    }
+    return transformed.substring("SELECT ".length(), fromIndex).trim();
+  }
+
+  /**
+   * PostgreSQL only accepts IMMUTABLE functions in index expressions.
+   *
+   * @return the first function of the expression that is not immutable, or null
+   */
+  public static String findNonImmutableFunction(String postgresExpression) {
+    var matcher = NON_IMMUTABLE_FUNCTION.matcher(postgresExpression);
+    return matcher.find() ? matcher.group(1).toLowerCase() : null;
+  }
+}
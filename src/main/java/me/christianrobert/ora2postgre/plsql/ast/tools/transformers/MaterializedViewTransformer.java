@@ -0,0 +1,617 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.global.ViewSpecAndQuery;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.managers.ViewTransformationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the PostgreSQL objects for an Oracle materialized view.
+ *
+ * Fast refreshable single table aggregates (GROUP BY columns with SUM, COUNT and COUNT(*))
+ * become summary tables kept up to date by statement level triggers on the base table,
+ * which apply the aggregated transition tables as deltas. All other materialized views
+ * become PostgreSQL materialized views, created WITH NO DATA and populated and refreshed
+ * by the generated refresh script. A unique index is added whenever a unique key of the
+ * result is known, so that REFRESH MATERIALIZED VIEW CONCURRENTLY can be used.
+ * Materialized views reading other materialized views are created and refreshed after them.
+ */
+public class MaterializedViewTransformer {
+
+  private static final ViewTransformationManager viewManager = new ViewTransformationManager();
+
+  private static final Pattern SINGLE_TABLE_QUERY = Pattern.compile(
+          "(?is)^SELECT\\s+(?<list>.+?)\\s+FROM\\s+(?<table>[\\w$#\"]+(?:\\.[\\w$#\"]+)?)" +
+                  "(?:\\s+(?:AS\\s+)?(?!WHERE\\b|GROUP\\b)(?<alias>\\w+))?" +
+                  "(?:\\s+WHERE\\s+(?<where>.+?))?(?:\\s+GROUP\\s+BY\\s+(?<group>.+?))?$");
+  private static final Pattern COLUMN = Pattern.compile("(?:\\w+\\.)?\"?([A-Za-z][\\w$#]*)\"?");
+  private static final Pattern SUM = Pattern.compile("(?i)SUM\\s*\\(\\s*((?:\\w+\\.)?\"?[A-Za-z][\\w$#]*\"?)\\s*\\)");
+  private static final Pattern COUNT = Pattern.compile("(?i)COUNT\\s*\\(\\s*((?:\\w+\\.)?\"?[A-Za-z][\\w$#]*\"?)\\s*\\)");
+  private static final Pattern COUNT_STAR = Pattern.compile("(?i)COUNT\\s*\\(\\s*\\*\\s*\\)");
+  private static final Pattern ITEM_ALIAS = Pattern.compile("(?is)^(.+?)(?:\\s+(?:AS\\s+)?\"?\\w+\"?)?$");
+
+  enum ItemKind { COLUMN, SUM, COUNT, COUNT_STAR, OTHER }
+
+  /**
+   * One element of the select list of a single table query.
+   */
+  static final class SelectItem {
+    final ItemKind kind;
+    final String column; // upper case Oracle column name, null for COUNT(*) and OTHER
+
+    SelectItem(ItemKind kind, String column) {
+      this.kind = kind;
+      this.column = column;
+    }
+  }
+
+  /**
+   * Shape of a query that reads a single table, optionally with WHERE and GROUP BY.
+   */
+  static final class QueryShape {
+    final String tableSchema; // null if the table is not qualified
+    final String tableName;
+    final boolean hasWhere;
+    final List<String> groupColumns; // upper case, empty without GROUP BY, null if not all are plain columns
+    final List<SelectItem> items;
+
+    QueryShape(String tableSchema, String tableName, boolean hasWhere, List<String> groupColumns, List<SelectItem> items) {
+      this.tableSchema = tableSchema;
+      this.tableName = tableName;
+      this.hasWhere = hasWhere;
+      this.groupColumns = groupColumns;
+      this.items = items;
+    }
+  }
+
+  /**
+   * Generates the DDL file content for a materialized view.
+   */
+  public static String transform(ViewSpecAndQuery mview, Everything data) {
+    ViewMetadata spec = mview.spec;
+    QueryShape shape = analyzeQuery(spec.getRawQuery());
+    TableMetadata baseTable = findBaseTable(shape, spec.getSchema(), data);
+
+    if (isIncrementallyMaintainable(spec, shape, baseTable)) {
+      return buildSummaryTable(mview, shape, baseTable, data);
+    }
+
+    StringBuilder b = new StringBuilder();
+    b.append(viewManager.transformViewMetadata(spec, false, data))
+            .append(mview.query.toPostgre(data))
+            .append("\nWITH NO DATA\n;\n");
+
+    List<String> keyColumns = findUniqueKeyColumns(spec, shape, baseTable, data);
+    if (keyColumns.isEmpty()) {
+      b.append("-- No unique key known, REFRESH MATERIALIZED VIEW CONCURRENTLY is not possible\n");
+    } else {
+      b.append("CREATE UNIQUE INDEX IF NOT EXISTS ").append(keyIndexName(spec))
+              .append(" ON ").append(qualifiedName(spec))
+              .append(" (").append(String.join(", ", keyColumns)).append(")\n;\n");
+    }
+    return b.toString();
+  }
+
+  /**
+   * Whether the statement level triggers of a summary table are created on the table.
+   */
+  public static boolean hasSummaryTriggers(TableMetadata table, Everything data) {
+    for (ViewMetadata spec : data.getViewDefinition()) {
+      if (!spec.isMaterialized()) {
+        continue;
+      }
+      QueryShape shape = analyzeQuery(spec.getRawQuery());
+      TableMetadata baseTable = findBaseTable(shape, spec.getSchema(), data);
+      if (baseTable != null && baseTable.getSchema().equalsIgnoreCase(table.getSchema())
+              && baseTable.getTableName().equalsIgnoreCase(table.getTableName())
+              && isIncrementallyMaintainable(spec, shape, baseTable)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Orders views so that every view comes after the views of the list its query reads.
+   * Otherwise the given order is kept. Views in a dependency cycle keep their given order.
+   */
+  public static List<ViewSpecAndQuery> orderByDependencies(List<ViewSpecAndQuery> mviews) {
+    Set<ViewSpecAndQuery> ordered = new LinkedHashSet<>();
+    Set<ViewSpecAndQuery> visiting = new LinkedHashSet<>();
+    for (ViewSpecAndQuery mview : mviews) {
+      addAfterDependencies(mview, mviews, ordered, visiting);
+    }
+    return new ArrayList<>(ordered);
+  }
+
+  private static void addAfterDependencies(ViewSpecAndQuery mview, List<ViewSpecAndQuery> mviews,
+                                           Set<ViewSpecAndQuery> ordered, Set<ViewSpecAndQuery> visiting) {
+    if (ordered.contains(mview) || !visiting.add(mview)) {
+      return;
+    }
+    for (ViewSpecAndQuery other : mviews) {
+      if (other != mview && readsView(mview.spec, other.spec)) {
+        addAfterDependencies(other, mviews, ordered, visiting);
+      }
+    }
+    visiting.remove(mview);
+    ordered.add(mview);
+  }
+
+  /**
+   * Whether the query of the view references the other view, qualified or, in the same schema, unqualified.
+   */
+  public static boolean readsView(ViewMetadata view, ViewMetadata other) {
+    if (view.getRawQuery() == null) {
+      return false;
+    }
+    String name = Pattern.quote(other.getViewName());
+    String schema = Pattern.quote(other.getSchema());
+    String reference = other.getSchema().equalsIgnoreCase(view.getSchema())
+            ? "(?:\"?" + schema + "\"?\\s*\\.\\s*)?"
+            : "\"?" + schema + "\"?\\s*\\.\\s*";
+    return Pattern.compile("(?i)(?<![\\w$#.\"])" + reference + "\"?" + name + "\"?(?![\\w$#])")
+            .matcher(view.getRawQuery()).find();
+  }
+
+  /**
+   * Generates the refresh script of the materialized views of one schema: the initial
+   * population of the views created WITH NO DATA, and a pg_cron job per view with an
+   * automatic refresh in Oracle. Incrementally maintained summary tables are skipped.
+   * Views are populated after the materialized views they read.
+   */
+  public static String buildRefreshScript(List<ViewSpecAndQuery> mviews, Everything data) {
+    StringBuilder populate = new StringBuilder();
+    StringBuilder schedule = new StringBuilder();
+
+    for (ViewSpecAndQuery mview : orderByDependencies(mviews)) {
+      ViewMetadata spec = mview.spec;
+      QueryShape shape = analyzeQuery(spec.getRawQuery());
+      TableMetadata baseTable = findBaseTable(shape, spec.getSchema(), data);
+      if (isIncrementallyMaintainable(spec, shape, baseTable)) {
+        continue;
+      }
+
+      populate.append("REFRESH MATERIALIZED VIEW ").append(qualifiedName(spec)).append("\n;\n");
+
+      boolean concurrently = !findUniqueKeyColumns(spec, shape, baseTable, data).isEmpty();
+      String refresh = "REFRESH MATERIALIZED VIEW " + (concurrently ? "CONCURRENTLY " : "") + qualifiedName(spec);
+      String cron = toCronExpression(spec.getRefreshInterval());
+      if (cron != null) {
+        schedule.append("    PERFORM cron.schedule('refresh ").append(qualifiedName(spec)).append("', '")
+                .append(cron).append("', '").append(refresh).append("');\n");
+      } else if (spec.getRefreshInterval() != null) {
+        populate.append("-- ").append(qualifiedName(spec)).append(": Oracle refresh interval '")
+                .append(spec.getRefreshInterval()).append("' could not be converted, schedule ")
+                .append(refresh).append(" manually\n");
+      } else if ("COMMIT".equals(spec.getRefreshMode())) {
+        populate.append("-- ").append(qualifiedName(spec))
+                .append(": refreshed ON COMMIT in Oracle, run ").append(refresh).append(" after changes of the base tables\n");
+      }
+    }
+
+    StringBuilder b = new StringBuilder();
+    b.append("-- Initial population of the materialized views created WITH NO DATA\n").append(populate);
+    if (schedule.length() > 0) {
+      b.append("-- Refresh schedule, converted from the Oracle refresh intervals (requires pg_cron)\n")
+              .append("DO $$\nBEGIN\n")
+              .append("  IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_cron') THEN\n")
+              .append(schedule)
+              .append("  ELSE\n")
+              .append("    RAISE NOTICE 'pg_cron is not installed, the materialized view refresh schedule was not created';\n")
+              .append("  END IF;\n")
+              .append("END\n$$\n;\n");
+    }
+    return b.toString();
+  }
+
+  /**
+   * Converts the common Oracle refresh interval expressions to a cron expression.
+   *
+   * @return the cron expression, or null if the interval has no simple cron equivalent
+   */
+  static String toCronExpression(String oracleInterval) {
+    if (oracleInterval == null) {
+      return null;
+    }
+    String interval = oracleInterval.toUpperCase(Locale.ROOT).replaceAll("\\s+", "");
+
+    Matcher m;
+    if ((m = Pattern.compile("^SYSDATE\\+(\\d+)/24$").matcher(interval)).matches()) {
+      int hours = Integer.parseInt(m.group(1));
+      return hours == 1 ? "0 * * * *" : "0 */" + hours + " * * *";
+    }
+    if ((m = Pattern.compile("^SYSDATE\\+(\\d+)/(?:1440|\\(24\\*60\\))$").matcher(interval)).matches() ||
+            (m = Pattern.compile("^SYSDATE\\+(\\d+)\\*1/1440$").matcher(interval)).matches()) {
+      return "*/" + Integer.parseInt(m.group(1)) + " * * * *";
+    }
+    if (interval.equals("SYSDATE+1") || interval.equals("TRUNC(SYSDATE)+1") || interval.equals("TRUNC(SYSDATE+1)")) {
+      return "0 0 * * *";
+    }
+    if ((m = Pattern.compile("^TRUNC\\(SYSDATE(?:\\)\\+1|\\+1\\))\\+(\\d+)/24$").matcher(interval)).matches()) {
+      return "0 " + Integer.parseInt(m.group(1)) + " * * *";
+    }
+    if (interval.equals("SYSDATE+7") || interval.equals("TRUNC(SYSDATE)+7") || interval.equals("TRUNC(SYSDATE+7)")) {
+      return "0 0 * * 0";
+    }
+    return null;
+  }
+
+  /**
+   * Analyzes the Oracle query of a materialized view.
+   *
+   * @return the shape of a single table query, or null for joins, subqueries and set operations
+   */
+  static QueryShape analyzeQuery(String oracleQuery) {
+    if (oracleQuery == null) {
+      return null;
+    }
+    String query = oracleQuery.trim().replaceAll("\\s+", " ").replaceAll(";$", "");
+    if (query.toUpperCase(Locale.ROOT).indexOf("SELECT", 6) >= 0) {
+      return null; // subqueries and set operations
+    }
+    Matcher matcher = SINGLE_TABLE_QUERY.matcher(query);
+    if (!matcher.matches()) {
+      return null;
+    }
+
+    String[] table = matcher.group("table").replace("\"", "").toUpperCase(Locale.ROOT).split("\\.");
+    String tableSchema = table.length == 2 ? table[0] : null;
+    String tableName = table[table.length - 1];
+
+    List<String> groupColumns = new ArrayList<>();
+    if (matcher.group("group") != null) {
+      for (String element : splitTopLevel(matcher.group("group"))) {
+        Matcher column = COLUMN.matcher(element.trim());
+        if (!column.matches()) {
+          groupColumns = null;
+          break;
+        }
+        groupColumns.add(column.group(1).toUpperCase(Locale.ROOT));
+      }
+    }
+
+    List<SelectItem> items = new ArrayList<>();
+    for (String element : splitTopLevel(matcher.group("list"))) {
+      items.add(classify(element.trim()));
+    }
+    return new QueryShape(tableSchema, tableName, matcher.group("where") != null, groupColumns, items);
+  }
+
+  private static SelectItem classify(String element) {
+    // Try the element as it is first, a plain column would otherwise be mistaken for an alias
+    for (String expression : new String[]{element, stripAlias(element)}) {
+      Matcher m;
+      if ((m = COLUMN.matcher(expression)).matches()) {
+        return new SelectItem(ItemKind.COLUMN, m.group(1).toUpperCase(Locale.ROOT));
+      }
+      if ((m = SUM.matcher(expression)).matches()) {
+        return new SelectItem(ItemKind.SUM, columnName(m.group(1)));
+      }
+      if ((m = COUNT.matcher(expression)).matches()) {
+        return new SelectItem(ItemKind.COUNT, columnName(m.group(1)));
+      }
+      if (COUNT_STAR.matcher(expression).matches()) {
+        return new SelectItem(ItemKind.COUNT_STAR, null);
+      }
+    }
+    return new SelectItem(ItemKind.OTHER, null);
+  }
+
+  private static String stripAlias(String element) {
+    Matcher m = ITEM_ALIAS.matcher(element);
+    return m.matches() ? m.group(1).trim() : element;
+  }
+
+  private static String columnName(String reference) {
+    Matcher m = COLUMN.matcher(reference);
+    return m.matches() ? m.group(1).toUpperCase(Locale.ROOT) : reference.toUpperCase(Locale.ROOT);
+  }
+
+  private static List<String> splitTopLevel(String list) {
+    List<String> parts = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    boolean inString = false;
+    for (int i = 0; i < list.length(); i++) {
+      char c = list.charAt(i);
+      if (c == '\'') {
+        inString = !inString;
+      } else if (!inString && c == '(') {
+        depth++;
+      } else if (!inString && c == ')') {
+        depth--;
+      } else if (!inString && depth == 0 && c == ',') {
+        parts.add(list.substring(start, i));
+        start = i + 1;
+      }
+    }
+    parts.add(list.substring(start));
+    return parts;
+  }
+
+  private static TableMetadata findBaseTable(QueryShape shape, String mviewSchema, Everything data) {
+    if (shape == null) {
+      return null;
+    }
+    String schema = shape.tableSchema != null ? shape.tableSchema : mviewSchema;
+    for (TableMetadata table : data.getTableSql()) {
+      if (table.getSchema().equalsIgnoreCase(schema) && table.getTableName().equalsIgnoreCase(shape.tableName)) {
+        return table;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Incremental maintenance needs an Oracle fast refreshable aggregate over one table,
+   * grouping by plain columns and selecting every group column, with COUNT(*) to detect
+   * groups that become empty. SUM of a nullable column also needs COUNT of that column
+   * (as Oracle does for fast refresh after DML), to tell a sum of 0 from a sum of only NULLs.
+   */
+  static boolean isIncrementallyMaintainable(ViewMetadata spec, QueryShape shape, TableMetadata baseTable) {
+    if (!spec.isFastRefreshable() || "NEVER".equals(spec.getRefreshMethod()) || "COMPLETE".equals(spec.getRefreshMethod())) {
+      return false;
+    }
+    if (shape == null || baseTable == null || shape.hasWhere || shape.groupColumns == null || shape.groupColumns.isEmpty()) {
+      return false;
+    }
+    if (shape.items.size() != spec.getColumns().size()) {
+      return false;
+    }
+    boolean hasCountStar = false;
+    List<String> selectedGroupColumns = new ArrayList<>();
+    for (SelectItem item : shape.items) {
+      switch (item.kind) {
+        case OTHER:
+          return false;
+        case COLUMN:
+          if (!shape.groupColumns.contains(item.column)) {
+            return false;
+          }
+          selectedGroupColumns.add(item.column);
+          break;
+        case COUNT_STAR:
+          hasCountStar = true;
+          break;
+        case SUM:
+          if (isNullable(baseTable, item.column) && findCountOf(shape, item.column) < 0) {
+            return false;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return hasCountStar && selectedGroupColumns.containsAll(shape.groupColumns);
+  }
+
+  /**
+   * Columns of the materialized view that identify a row: the GROUP BY columns, the primary key
+   * of the base table of a single table query, or the columns of an Oracle unique index on the
+   * materialized view container table.
+   */
+  static List<String> findUniqueKeyColumns(ViewMetadata spec, QueryShape shape, TableMetadata baseTable, Everything data) {
+    if (shape != null && shape.items.size() == spec.getColumns().size()) {
+      List<String> keySource = null;
+      if (shape.groupColumns != null && !shape.groupColumns.isEmpty()) {
+        keySource = shape.groupColumns;
+      } else if (shape.groupColumns != null && baseTable != null) {
+        keySource = primaryKeyColumns(baseTable);
+      }
+      List<String> key = mapToViewColumns(spec, shape, keySource);
+      if (!key.isEmpty()) {
+        return key;
+      }
+    }
+
+    for (IndexMetadata index : data.getIndexes()) {
+      if (index.isUniqueIndex() && !index.isFunctional() &&
+              index.getSchemaName().equalsIgnoreCase(spec.getSchema()) &&
+              index.getTableName().equalsIgnoreCase(spec.getViewName())) {
+        List<String> key = new ArrayList<>();
+        for (IndexColumn column : index.getColumns()) {
+          key.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+        }
+        return key;
+      }
+    }
+    return List.of();
+  }
+
+  private static boolean isNullable(TableMetadata table, String columnName) {
+    for (ColumnMetadata column : table.getColumns()) {
+      if (column.getColumnName().equalsIgnoreCase(columnName)) {
+        return column.isNullable();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the position of COUNT(column) in the select list, or -1
+   */
+  private static int findCountOf(QueryShape shape, String column) {
+    for (int i = 0; i < shape.items.size(); i++) {
+      SelectItem item = shape.items.get(i);
+      if (item.kind == ItemKind.COUNT && item.column.equals(column)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static List<String> mapToViewColumns(ViewMetadata spec, QueryShape shape, List<String> sourceColumns) {
+    List<String> key = new ArrayList<>();
+    if (sourceColumns == null || sourceColumns.isEmpty()) {
+      return key;
+    }
+    for (String sourceColumn : sourceColumns) {
+      int position = -1;
+      for (int i = 0; i < shape.items.size(); i++) {
+        SelectItem item = shape.items.get(i);
+        if (item.kind == ItemKind.COLUMN && item.column.equals(sourceColumn)) {
+          position = i;
+          break;
+        }
+      }
+      if (position < 0) {
+        return new ArrayList<>();
+      }
+      key.add(PostgreSqlIdentifierUtils.quoteIdentifier(spec.getColumns().get(position).getColumnName()));
+    }
+    return key;
+  }
+
+  private static List<String> primaryKeyColumns(TableMetadata table) {
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (constraint.isPrimaryKey()) {
+        List<String> columns = new ArrayList<>();
+        for (String column : constraint.getColumnNames()) {
+          columns.add(column.toUpperCase(Locale.ROOT));
+        }
+        return columns;
+      }
+    }
+    return null;
+  }
+
+  private static String buildSummaryTable(ViewSpecAndQuery mview, QueryShape shape, TableMetadata baseTable, Everything data) {
+    ViewMetadata spec = mview.spec;
+    String summary = qualifiedName(spec);
+    String base = baseTable.getSchema().toLowerCase() + "." + baseTable.getTableName().toLowerCase();
+    String functionName = spec.getSchema().toLowerCase() + "." + triggerBaseName(spec) + "_maintain";
+
+    List<String> viewColumns = new ArrayList<>();
+    List<String> deltaColumns = new ArrayList<>();
+    List<String> groupColumns = new ArrayList<>();
+    List<String> joinCondition = new ArrayList<>();
+    List<String> addAssignments = new ArrayList<>();
+    List<String> subtractAssignments = new ArrayList<>();
+    String countStarColumn = null;
+
+    for (int i = 0; i < shape.items.size(); i++) {
+      SelectItem item = shape.items.get(i);
+      String viewColumn = PostgreSqlIdentifierUtils.quoteIdentifier(spec.getColumns().get(i).getColumnName());
+      String baseColumn = item.column != null ? PostgreSqlIdentifierUtils.quoteIdentifier(item.column) : null;
+      viewColumns.add(viewColumn);
+      switch (item.kind) {
+        case COLUMN:
+          deltaColumns.add(baseColumn + " AS " + viewColumn);
+          groupColumns.add(baseColumn);
+          joinCondition.add("mv." + viewColumn + " IS NOT DISTINCT FROM d." + viewColumn);
+          break;
+        case SUM:
+          deltaColumns.add("SUM(" + baseColumn + ") AS " + viewColumn);
+          // Like Oracle, the sum stays NULL as long as the group has only NULL values
+          addAssignments.add(viewColumn + " = COALESCE(mv." + viewColumn + " + EXCLUDED." + viewColumn +
+                  ", mv." + viewColumn + ", EXCLUDED." + viewColumn + ")");
+          int count = findCountOf(shape, item.column);
+          if (count < 0) {
+            // NOT NULL column, the sum is only NULL for an empty group, which is deleted
+            subtractAssignments.add(viewColumn + " = mv." + viewColumn + " - d." + viewColumn);
+          } else {
+            String countColumn = PostgreSqlIdentifierUtils.quoteIdentifier(spec.getColumns().get(count).getColumnName());
+            subtractAssignments.add(viewColumn + " = CASE WHEN mv." + countColumn + " - d." + countColumn +
+                    " = 0 THEN NULL ELSE COALESCE(mv." + viewColumn + ", 0) - COALESCE(d." + viewColumn + ", 0) END");
+          }
+          break;
+        case COUNT:
+        case COUNT_STAR:
+          deltaColumns.add((item.kind == ItemKind.COUNT ? "COUNT(" + baseColumn + ")" : "COUNT(*)") + " AS " + viewColumn);
+          addAssignments.add(viewColumn + " = mv." + viewColumn + " + EXCLUDED." + viewColumn);
+          subtractAssignments.add(viewColumn + " = mv." + viewColumn + " - d." + viewColumn);
+          if (item.kind == ItemKind.COUNT_STAR && countStarColumn == null) {
+            countStarColumn = viewColumn;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    String delta = "SELECT " + String.join(", ", deltaColumns) + " FROM %s GROUP BY " + String.join(", ", groupColumns);
+    List<String> keyColumns = new ArrayList<>();
+    for (int i = 0; i < shape.items.size(); i++) {
+      if (shape.items.get(i).kind == ItemKind.COLUMN) {
+        keyColumns.add(viewColumns.get(i));
+      }
+    }
+
+    StringBuilder b = new StringBuilder();
+    b.append("-- Oracle fast refresh materialized view ").append(spec.getSchema()).append(".").append(spec.getViewName())
+            .append(", maintained incrementally by statement level triggers on ").append(base).append("\n");
+    b.append("CREATE TABLE IF NOT EXISTS ").append(summary).append(" (\n");
+    for (int i = 0; i < spec.getColumns().size(); i++) {
+      ColumnMetadata column = spec.getColumns().get(i);
+      b.append(column.toPostgre(data, spec.getSchema(), spec.getViewName()));
+      b.append(i < spec.getColumns().size() - 1 ? ",\n" : "\n");
+    }
+    b.append(")\n;\n");
+    b.append("CREATE UNIQUE INDEX IF NOT EXISTS ").append(keyIndexName(spec)).append(" ON ").append(summary)
+            .append(" (").append(String.join(", ", keyColumns)).append(") NULLS NOT DISTINCT\n;\n");
+    // Emptied first, so the script can be run again
+    b.append("TRUNCATE ").append(summary).append("\n;\n");
+    b.append("INSERT INTO ").append(summary).append(" (").append(String.join(", ", viewColumns)).append(")\n")
+            .append(mview.query.toPostgre(data)).append("\n;\n");
+
+    b.append("CREATE OR REPLACE FUNCTION ").append(functionName).append("() RETURNS trigger LANGUAGE plpgsql AS $$\n")
+            .append("BEGIN\n")
+            .append("  IF TG_OP IN ('UPDATE', 'DELETE') THEN\n")
+            .append("    UPDATE ").append(summary).append(" AS mv SET ").append(String.join(", ", subtractAssignments)).append("\n")
+            .append("    FROM (").append(String.format(delta, "old_rows")).append(") d\n")
+            .append("    WHERE ").append(String.join(" AND ", joinCondition)).append(";\n")
+            .append("    DELETE FROM ").append(summary).append(" WHERE ").append(countStarColumn).append(" = 0;\n")
+            .append("  END IF;\n")
+            .append("  IF TG_OP IN ('INSERT', 'UPDATE') THEN\n")
+            .append("    INSERT INTO ").append(summary).append(" AS mv (").append(String.join(", ", viewColumns)).append(")\n")
+            .append("    ").append(String.format(delta, "new_rows")).append("\n")
+            .append("    ON CONFLICT (").append(String.join(", ", keyColumns)).append(") DO UPDATE SET ")
+            .append(String.join(", ", addAssignments)).append(";\n")
+            .append("  END IF;\n")
+            .append("  RETURN NULL;\n")
+            .append("END;\n")
+            .append("$$\n;\n");
+
+    // Transition tables are only allowed on triggers for a single event
+    String[][] events = {
+            {"INSERT", "NEW TABLE AS new_rows"},
+            {"UPDATE", "OLD TABLE AS old_rows NEW TABLE AS new_rows"},
+            {"DELETE", "OLD TABLE AS old_rows"}
+    };
+    for (String[] event : events) {
+      b.append("CREATE OR REPLACE TRIGGER ").append(triggerBaseName(spec)).append("_").append(event[0].toLowerCase())
+              .append(" AFTER ").append(event[0]).append(" ON ").append(base)
+              .append(" REFERENCING ").append(event[1])
+              .append(" FOR EACH STATEMENT EXECUTE FUNCTION ").append(functionName).append("()\n;\n");
+    }
+    return b.toString();
+  }
+
+  private static String qualifiedName(ViewMetadata spec) {
+    return spec.getSchema().toLowerCase() + "." + PostgreSqlIdentifierUtils.quoteIdentifier(spec.getViewName());
+  }
+
+  private static String triggerBaseName(ViewMetadata spec) {
+    String name = spec.getViewName().toLowerCase();
+    return name.length() > 50 ? name.substring(0, 50) : name;
+  }
+
+  private static String keyIndexName(ViewMetadata spec) {
+    return triggerBaseName(spec) + "_key";
+  }
+}
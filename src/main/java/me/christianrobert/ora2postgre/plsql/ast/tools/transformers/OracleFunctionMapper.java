@@ -1,5 +1,8 @@
 package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
 
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.SequenceMetadata;
+
 import java.util.Map;
 import java.util.HashMap;
 import java.util.regex.Pattern;
@@ -18,6 +21,11 @@ public class OracleFunctionMapper {
   // Complex function mappings that require parameter transformation
   private static final Map<String, String> COMPLEX_FUNCTION_MAPPINGS = new HashMap<>();
 
+  // [schema.]sequence.NEXTVAL|CURRVAL, optionally quoted as in Oracle column defaults
+  private static final Pattern SEQUENCE_REFERENCE = Pattern.compile(
+          "(?<![\\w$#.\"])(?:\"?(\\w+)\"?\\.)?\"?(\\w+)\"?\\.\"?(NEXTVAL|CURRVAL)\"?(?![\\w$#])",
+          Pattern.CASE_INSENSITIVE);
+
   static {
     initializeSimpleFunctionMappings();
     initializeComplexFunctionMappings();
@@ -113,6 +121,18 @@ public class OracleFunctionMapper {
    * @return PostgreSQL code with transformed function calls
    */
   public static String transformOracleFunctions(String oracleCode) {
+    return transformOracleFunctions(oracleCode, null);
+  }
+
+  /**
+   * Transform Oracle functions in the given code to PostgreSQL equivalents,
+   * resolving sequence references against the extracted sequences.
+   *
+   * @param oracleCode The Oracle PL/SQL code containing function calls
+   * @param data Migration context with the extracted sequences, may be null
+   * @return PostgreSQL code with transformed function calls
+   */
+  public static String transformOracleFunctions(String oracleCode, Everything data) {
     if (oracleCode == null || oracleCode.trim().isEmpty()) {
       return oracleCode;
     }
@@ -126,7 +146,7 @@ public class OracleFunctionMapper {
     transformed = transformComplexFunctions(transformed);
 
     // Transform sequence functions
-    transformed = transformSequenceFunctions(transformed);
+    transformed = transformSequenceFunctions(transformed, data, null);
 
     return transformed;
   }
@@ -282,17 +302,51 @@ public class OracleFunctionMapper {
    * sequence_name.CURRVAL -> currval('sequence_name')
    */
   public static String transformSequenceFunctions(String code) {
-    String transformed = code;
+    return transformSequenceFunctions(code, null, null);
+  }
 
-    // Transform NEXTVAL
-    Pattern nextvalPattern = Pattern.compile("([\\w_]+)\\.NEXTVAL", Pattern.CASE_INSENSITIVE);
-    transformed = nextvalPattern.matcher(transformed).replaceAll("nextval('$1')");
+  /**
+   * Transform Oracle sequence functions to PostgreSQL equivalents, naming the
+   * generated sequence with its schema when it is one of the extracted sequences.
+   * schema.sequence_name.NEXTVAL -> nextval('schema.sequence_name')
+   *
+   * @param code Oracle code containing sequence references
+   * @param data Migration context with the extracted sequences, may be null
+   * @param schema Schema the code belongs to, used for unqualified references, may be null
+   */
+  public static String transformSequenceFunctions(String code, Everything data, String schema) {
+    if (code == null) {
+      return null;
+    }
+    Matcher matcher = SEQUENCE_REFERENCE.matcher(code);
+    StringBuilder result = new StringBuilder();
+    while (matcher.find()) {
+      String function = matcher.group(3).toLowerCase();
+      String replacement = function + "('" + resolveSequenceName(matcher.group(1), matcher.group(2), data, schema) + "')";
+      matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+    }
+    matcher.appendTail(result);
+    return result.toString();
+  }
 
-    // Transform CURRVAL
-    Pattern currvalPattern = Pattern.compile("([\\w_]+)\\.CURRVAL", Pattern.CASE_INSENSITIVE);
-    transformed = currvalPattern.matcher(transformed).replaceAll("currval('$1')");
+  /**
+   * Checks if the given expression is a plain sequence reference like seq.NEXTVAL.
+   */
+  public static boolean isSequenceReference(String expression) {
+    return expression != null && SEQUENCE_REFERENCE.matcher(expression.trim()).matches();
+  }
 
-    return transformed;
+  private static String resolveSequenceName(String schemaPart, String sequenceName, Everything data, String schema) {
+    if (data != null) {
+      SequenceMetadata sequence = data.findSequence(schemaPart != null ? schemaPart : schema, sequenceName);
+      if (sequence != null) {
+        return sequence.getQualifiedPostgreName();
+      }
+    }
+    if (schemaPart != null) {
+      return schemaPart.toLowerCase() + "." + sequenceName.toLowerCase();
+    }
+    return sequenceName.toLowerCase();
   }
 
   /**
@@ -0,0 +1,489 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Trigger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites Oracle AFTER ... FOR EACH ROW triggers whose body is plain DML into set-based
+ * statements over PostgreSQL transition tables, so the trigger runs once per statement.
+ *
+ * Oracle: AFTER INSERT ON orders FOR EACH ROW
+ *         BEGIN INSERT INTO order_audit (id, amount) VALUES (:NEW.id, :NEW.amount); END;
+ * PostgreSQL: INSERT INTO shop.order_audit (id, amount) SELECT n.id, n.amount FROM new_rows n;
+ *
+ * :NEW and :OLD become columns of the new_rows (n) and old_rows (o) transition tables,
+ * for UPDATE they are joined on the primary key. Counter maintenance (SET c = c + :NEW.x)
+ * is aggregated per key first. Anything else (BEFORE triggers, variables, loops, calls,
+ * exception handlers, nested IFs) returns null and stays a row-level trigger.
+ */
+public class SetBasedTriggerTransformer {
+
+  public static final String NEW_ROWS = "new_rows";
+  public static final String OLD_ROWS = "old_rows";
+
+  private static final Pattern DML_REFERENCE = Pattern.compile("(?i)(?<![\\w$#.]):(NEW|OLD)\\.(\"?[\\w$#]+\"?)");
+  private static final Pattern WHEN_REFERENCE = Pattern.compile("(?i)(?<![\\w$#.]):?(NEW|OLD)\\.(\"?[\\w$#]+\"?)");
+  private static final Pattern INSERT_VALUES = Pattern.compile(
+          "(?is)^INSERT\\s+INTO\\s+([\\w$#.\"]+)\\s*(\\([^)]*\\))?\\s*VALUES\\s*\\((.*)\\)$");
+  private static final Pattern UPDATE_SET = Pattern.compile(
+          "(?is)^UPDATE\\s+([\\w$#.\"]+)(?:\\s+(?!SET\\b)(\\w+))?\\s+SET\\s+(.*?)(?:\\s+WHERE\\s+(.*))?$");
+  private static final Pattern DELETE_WHERE = Pattern.compile(
+          "(?is)^DELETE\\s+(?:FROM\\s+)?([\\w$#.\"]+)(?:\\s+(?!WHERE\\b)(\\w+))?(?:\\s+WHERE\\s+(.*))?$");
+
+  /**
+   * Translates the trigger body into one set-based statement list per triggering event.
+   *
+   * @param data migration context for the primary keys, null to only check the body shape
+   * @return the statements by event (INSERT, UPDATE, DELETE in trigger order), or null if
+   *         the trigger has to stay row-level
+   */
+  public static Map<String, List<String>> transform(Trigger trigger, Everything data) {
+    if (!trigger.needsRowLevelTrigger() || !"AFTER".equals(trigger.getPostgreTimingClause())
+            || trigger.getOracleBody() == null || !isBlank(trigger.getReferencingClause())) {
+      return null;
+    }
+    List<String> events = trigger.getTriggeringEvents();
+    if (events.isEmpty() || !List.of("INSERT", "UPDATE", "DELETE").containsAll(events)) {
+      return null;
+    }
+
+    Map<String, List<String>> dmlByEvent = splitBody(trigger.getOracleBody(), events);
+    if (dmlByEvent == null) {
+      return null;
+    }
+
+    Map<String, List<String>> result = new LinkedHashMap<>();
+    for (Map.Entry<String, List<String>> entry : dmlByEvent.entrySet()) {
+      List<String> statements = new ArrayList<>();
+      for (String dml : entry.getValue()) {
+        String setBased = toSetBased(dml, entry.getKey(), trigger, data);
+        if (setBased == null) {
+          return null;
+        }
+        statements.add(setBased);
+      }
+      result.put(entry.getKey(), statements);
+    }
+    return result;
+  }
+
+  /**
+   * Splits the Oracle body into its DML statements per event. Top-level IF INSERTING /
+   * UPDATING / DELETING branches select the events a statement applies to.
+   *
+   * @return the Oracle DML by event, or null if the body contains anything but DML
+   */
+  static Map<String, List<String>> splitBody(String oracleBody, List<String> events) {
+    String body = oracleBody.replaceAll("(?s)/\\*.*?\\*/", " ").replaceAll("--[^\\n]*", " ").trim();
+    Matcher block = Pattern.compile("(?is)^BEGIN\\s+(.*?)\\s*END\\s*\\w*\\s*;?$").matcher(body);
+    if (!block.matches()) {
+      return null;
+    }
+    String inner = block.group(1);
+    String masked = maskStrings(inner);
+    if (Pattern.compile("(?i)\\b(BEGIN|DECLARE|EXCEPTION|LOOP|RETURN|RAISE|CALL|EXECUTE|SELECT\\s+.*\\bINTO)\\b")
+            .matcher(masked).find()) {
+      return null;
+    }
+
+    Map<String, List<String>> result = new LinkedHashMap<>();
+    for (String event : events) {
+      result.put(event, new ArrayList<>());
+    }
+
+    boolean inIf = false;
+    Set<String> scope = new HashSet<>(events);
+    Set<String> covered = new HashSet<>();
+    int start = 0;
+    for (int i = 0; i <= masked.length(); i++) {
+      if (i < masked.length() && masked.charAt(i) != ';') {
+        continue;
+      }
+      String piece = inner.substring(start, i).trim();
+      start = i + 1;
+
+      while (!piece.isEmpty()) {
+        String upper = maskStrings(piece).toUpperCase();
+        Matcher condition = Pattern.compile("(?s)^(IF|ELSIF)\\s+(.*?)\\s+THEN\\b").matcher(upper);
+        if (condition.find()) {
+          if (condition.group(1).equals("IF") == inIf) {
+            return null; // nested IF or ELSIF without IF
+          }
+          Set<String> branch = parseEventCondition(condition.group(2), events);
+          if (branch == null) {
+            return null;
+          }
+          branch.removeAll(covered);
+          covered.addAll(branch);
+          scope = branch;
+          inIf = true;
+          piece = piece.substring(condition.end()).trim();
+        } else if (upper.matches("(?s)^ELSE\\b.*")) {
+          if (!inIf) {
+            return null;
+          }
+          scope = new HashSet<>(events);
+          scope.removeAll(covered);
+          piece = piece.substring(4).trim();
+        } else if (upper.matches("^END\\s+IF$")) {
+          if (!inIf) {
+            return null;
+          }
+          inIf = false;
+          scope = new HashSet<>(events);
+          covered.clear();
+          piece = "";
+        } else {
+          break;
+        }
+      }
+      if (piece.isEmpty() || piece.equalsIgnoreCase("NULL")) {
+        continue;
+      }
+      if (!piece.toUpperCase().matches("(?s)^(INSERT|UPDATE|DELETE)\\b.*")) {
+        return null;
+      }
+      for (String event : events) {
+        if (scope.contains(event)) {
+          result.get(event).add(piece);
+        }
+      }
+    }
+    return inIf ? null : result;
+  }
+
+  private static Set<String> parseEventCondition(String condition, List<String> events) {
+    Set<String> branch = new HashSet<>();
+    for (String part : condition.replaceAll("[()]", " ").trim().split("\\s+OR\\s+")) {
+      switch (part.trim()) {
+        case "INSERTING" -> branch.add("INSERT");
+        case "UPDATING" -> branch.add("UPDATE");
+        case "DELETING" -> branch.add("DELETE");
+        default -> {
+          return null; // UPDATING('col') or a data dependent condition
+        }
+      }
+    }
+    branch.retainAll(events);
+    return branch;
+  }
+
+  /**
+   * Rewrites one Oracle DML statement of the trigger body for the given event.
+   *
+   * @return the set-based statement, or null if the statement cannot be rewritten
+   */
+  static String toSetBased(String dml, String event, Trigger trigger, Everything data) {
+    Set<String> used = new HashSet<>();
+    String rewritten = replaceReferences(dml.trim(), DML_REFERENCE, event, used);
+    rewritten = OracleFunctionMapper.transformOracleFunctions(rewritten, data);
+
+    List<String> filters = new ArrayList<>();
+    if (!isBlank(trigger.getWhenClause())) {
+      String when = replaceReferences(trigger.getWhenClause(), WHEN_REFERENCE, event, used);
+      filters.add("(" + OracleFunctionMapper.transformOracleFunctions(when, data) + ")");
+    }
+    if (event.equals("UPDATE") && trigger.hasUpdateOfColumns()) {
+      List<String> changed = new ArrayList<>();
+      for (String column : trigger.getUpdateOfColumns()) {
+        String quoted = PostgreSqlIdentifierUtils.quoteIdentifier(column);
+        changed.add("o." + quoted + " IS DISTINCT FROM n." + quoted);
+      }
+      filters.add("(" + String.join(" OR ", changed) + ")");
+      used.add("n");
+      used.add("o");
+    }
+
+    String rowSource = buildRowSource(event, used, trigger, data);
+    if (rowSource == null) {
+      return null;
+    }
+    String filter = String.join(" AND ", filters);
+
+    Matcher insert = INSERT_VALUES.matcher(rewritten);
+    if (insert.matches()) {
+      if (maskStrings(insert.group(3)).toUpperCase().matches("(?s).*\\bSELECT\\b.*")) {
+        return null;
+      }
+      String columns = insert.group(2) != null ? " " + insert.group(2).trim() : "";
+      return "INSERT INTO " + qualifyTable(insert.group(1), trigger) + columns +
+              " SELECT " + insert.group(3).trim() + " FROM " + rowSource + where(filter) + ";";
+    }
+
+    Matcher update = UPDATE_SET.matcher(rewritten);
+    if (update.matches()) {
+      return toSetBasedUpdate(update, rowSource, filter, trigger);
+    }
+
+    Matcher delete = DELETE_WHERE.matcher(rewritten);
+    if (delete.matches() && delete.group(3) != null) {
+      String alias = delete.group(2) != null ? " " + delete.group(2) : "";
+      return "DELETE FROM " + qualifyTable(delete.group(1), trigger) + alias + " USING " + rowSource +
+              " WHERE " + and(delete.group(3).trim(), filter) + ";";
+    }
+    return null;
+  }
+
+  /**
+   * UPDATE with plain assignments becomes UPDATE ... FROM transition rows. Assignments that
+   * add to or subtract from the column itself (summary maintenance) are summed per key
+   * first, otherwise several rows for the same key would only count once.
+   */
+  private static String toSetBasedUpdate(Matcher update, String rowSource, String filter, Trigger trigger) {
+    String table = qualifyTable(update.group(1), trigger);
+    String alias = update.group(2);
+    String where = update.group(4) != null ? update.group(4).trim() : null;
+    List<String> assignments = splitTopLevel(update.group(3), ",");
+    if (where == null) {
+      return null;
+    }
+
+    Pattern increment = Pattern.compile("(?s)^(\"?[\\w$#]+\"?)\\s*=\\s*(?:(?![no]\\.)\\w+\\.)?(\"?[\\w$#]+\"?)\\s*([+-])\\s*(.+)$");
+    List<Matcher> increments = new ArrayList<>();
+    for (String assignment : assignments) {
+      Matcher m = increment.matcher(assignment.trim());
+      if (m.matches() && m.group(1).equalsIgnoreCase(m.group(2))) {
+        increments.add(m);
+      }
+    }
+
+    if (increments.isEmpty()) {
+      for (String assignment : assignments) {
+        List<String> sides = splitTopLevel(assignment, "=");
+        String column = sides.get(0).trim().replace("\"", "");
+        if (sides.size() != 2 || Pattern.compile("(?i)(?<![\\w$#.\"])\"?" + Pattern.quote(column) + "\"?(?![\\w$#])")
+                .matcher(maskStrings(sides.get(1))).find()) {
+          return null; // depends on the current value, applying it once per statement is not the same
+        }
+      }
+      return "UPDATE " + table + (alias != null ? " " + alias : "") + " SET " + update.group(3).trim() +
+              " FROM " + rowSource + " WHERE " + and(where, filter) + ";";
+    }
+    if (increments.size() != assignments.size()) {
+      return null;
+    }
+
+    // Every conjunct is either target column = key expression or a condition on the target only
+    List<String> keySelect = new ArrayList<>();
+    List<String> keyJoin = new ArrayList<>();
+    List<String> targetConditions = new ArrayList<>();
+    if (maskStrings(where).toUpperCase().matches("(?s).*\\b(BETWEEN|OR)\\b.*")) {
+      return null;
+    }
+    for (String conjunct : splitTopLevel(where, "AND")) {
+      boolean transition = conjunct.matches("(?s).*(?<![\\w$#])[no]\\..*");
+      if (!transition) {
+        targetConditions.add(conjunct.trim());
+        continue;
+      }
+      List<String> sides = splitTopLevel(conjunct, "=");
+      if (sides.size() != 2) {
+        return null;
+      }
+      String left = sides.get(0).trim();
+      String right = sides.get(1).trim();
+      boolean rightIsKey = right.matches("(?s).*(?<![\\w$#])[no]\\..*");
+      String column = rightIsKey ? left : right;
+      if (!column.matches("(?:\\w+\\.)?\"?[\\w$#]+\"?")) {
+        return null;
+      }
+      String key = "key" + (keySelect.size() + 1);
+      keySelect.add((rightIsKey ? right : left) + " AS " + key);
+      keyJoin.add("trg." + column.substring(column.indexOf('.') + 1) + " = d." + key);
+    }
+
+    List<String> sets = new ArrayList<>();
+    List<String> sums = new ArrayList<>();
+    for (int i = 0; i < increments.size(); i++) {
+      Matcher m = increments.get(i);
+      String delta = "delta" + (i + 1);
+      // The delta is everything after the column with its sign, c - :OLD.x + :NEW.y adds 0 - o.x + n.y
+      String signed = m.group(3).equals("-") ? "0 - " + m.group(4).trim() : m.group(4).trim();
+      sets.add(m.group(1) + " = trg." + m.group(1) + " + d." + delta);
+      sums.add("SUM(" + signed + ") AS " + delta);
+    }
+
+    List<String> selectList = new ArrayList<>(keySelect);
+    selectList.addAll(sums);
+    StringBuilder b = new StringBuilder();
+    b.append("UPDATE ").append(table).append(" AS trg SET ").append(String.join(", ", sets))
+            .append(" FROM (SELECT ").append(String.join(", ", selectList))
+            .append(" FROM ").append(rowSource).append(where(filter));
+    if (!keySelect.isEmpty()) {
+      List<String> groupBy = new ArrayList<>();
+      for (int i = 1; i <= keySelect.size(); i++) {
+        groupBy.add("key" + i);
+      }
+      b.append(" GROUP BY ").append(String.join(", ", groupBy));
+    }
+    // Without rows SUM is NULL, no row must come out of the aggregation then
+    b.append(" HAVING COUNT(*) > 0) d");
+
+    List<String> conditions = new ArrayList<>(keyJoin);
+    for (String condition : targetConditions) {
+      conditions.add(alias != null ? condition.replaceAll("(?i)(?<![\\w$#.])" + Pattern.quote(alias) + "\\.", "trg.") : condition);
+    }
+    if (!conditions.isEmpty()) {
+      b.append(" WHERE ").append(String.join(" AND ", conditions));
+    }
+    return b.append(";").toString();
+  }
+
+  /**
+   * Transition rows for the event: new_rows for INSERT, old_rows for DELETE, and for UPDATE
+   * whichever is referenced, both joined on the primary key if both are needed.
+   */
+  private static String buildRowSource(String event, Set<String> used, Trigger trigger, Everything data) {
+    switch (event) {
+      case "INSERT":
+        return NEW_ROWS + " n";
+      case "DELETE":
+        return OLD_ROWS + " o";
+      default:
+        if (!used.contains("o")) {
+          return NEW_ROWS + " n";
+        }
+        if (!used.contains("n")) {
+          return OLD_ROWS + " o";
+        }
+        List<String> primaryKey = findPrimaryKey(trigger, data);
+        if (primaryKey.isEmpty()) {
+          return null; // old and new rows cannot be paired
+        }
+        List<String> join = new ArrayList<>();
+        for (String column : primaryKey) {
+          String quoted = PostgreSqlIdentifierUtils.quoteIdentifier(column);
+          join.add("o." + quoted + " = n." + quoted);
+        }
+        return NEW_ROWS + " n JOIN " + OLD_ROWS + " o ON " + String.join(" AND ", join);
+    }
+  }
+
+  private static List<String> findPrimaryKey(Trigger trigger, Everything data) {
+    if (data == null) {
+      return List.of("?"); // shape check only, the key is looked up on the real transformation
+    }
+    for (TableMetadata table : data.getTableSql()) {
+      if (table.getSchema().equalsIgnoreCase(trigger.getTableOwner())
+              && table.getTableName().equalsIgnoreCase(trigger.getTableName())) {
+        for (ConstraintMetadata constraint : table.getConstraints()) {
+          if (constraint.isPrimaryKey()) {
+            return constraint.getColumnNames();
+          }
+        }
+      }
+    }
+    return List.of();
+  }
+
+  /**
+   * Replaces :NEW.col and :OLD.col by the transition table columns. A reference to the
+   * side that does not exist for the event (:OLD on INSERT, :NEW on DELETE) is NULL,
+   * as in Oracle. String literals are left alone.
+   */
+  private static String replaceReferences(String sql, Pattern reference, String event, Set<String> used) {
+    StringBuilder b = new StringBuilder();
+    String[] parts = sql.split("'", -1);
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        b.append("'");
+      }
+      if (i % 2 == 1) {
+        b.append(parts[i]);
+        continue;
+      }
+      Matcher m = reference.matcher(parts[i]);
+      StringBuilder part = new StringBuilder();
+      while (m.find()) {
+        boolean isNew = m.group(1).equalsIgnoreCase("NEW");
+        boolean available = isNew ? !event.equals("DELETE") : !event.equals("INSERT");
+        String replacement = "NULL";
+        if (available) {
+          String alias = isNew ? "n" : "o";
+          used.add(alias);
+          replacement = alias + "." + PostgreSqlIdentifierUtils.quoteIdentifier(m.group(2).replace("\"", ""));
+        }
+        m.appendReplacement(part, Matcher.quoteReplacement(replacement));
+      }
+      m.appendTail(part);
+      b.append(part);
+    }
+    return b.toString();
+  }
+
+  private static String qualifyTable(String table, Trigger trigger) {
+    return table.contains(".") ? table : trigger.getSchema().toLowerCase() + "." + table;
+  }
+
+  /**
+   * Splits at a separator (comma, AND or =) outside parentheses and string literals.
+   */
+  private static List<String> splitTopLevel(String text, String separator) {
+    String masked = maskStrings(text).toUpperCase();
+    boolean keyword = Character.isLetter(separator.charAt(0));
+    List<String> parts = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < masked.length(); i++) {
+      char c = masked.charAt(i);
+      if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+      } else if (depth == 0 && masked.startsWith(separator, i)) {
+        if (keyword && (i == 0 || Character.isLetterOrDigit(masked.charAt(i - 1))
+                || i + separator.length() >= masked.length() || Character.isLetterOrDigit(masked.charAt(i + separator.length())))) {
+          continue;
+        }
+        if (separator.equals("=") && i > 0 && "<>!".indexOf(masked.charAt(i - 1)) >= 0) {
+          continue;
+        }
+        parts.add(text.substring(start, i));
+        start = i + separator.length();
+      }
+    }
+    parts.add(text.substring(start));
+    return parts;
+  }
+
+  /**
+   * Blanks the content of string literals so keywords and separators inside them are ignored.
+   */
+  private static String maskStrings(String text) {
+    StringBuilder b = new StringBuilder(text.length());
+    boolean inString = false;
+    for (char c : text.toCharArray()) {
+      if (c == '\'') {
+        inString = !inString;
+        b.append(c);
+      } else {
+        b.append(inString ? ' ' : c);
+      }
+    }
+    return b.toString();
+  }
+
+  private static String where(String filter) {
+    return filter.isEmpty() ? "" : " WHERE " + filter;
+  }
+
+  private static String and(String condition, String filter) {
+    return filter.isEmpty() ? condition : "(" + condition + ") AND " + filter;
+  }
+
+  private static boolean isBlank(String s) {
+    return s == null || s.trim().isEmpty();
+  }
+}
@@ -27,7 +27,7 @@ public class TriggerTransformer {
     transformed = transformOracleReferences(transformed);
 
     // Transform Oracle built-in functions using OracleFunctionMapper
-    transformed = OracleFunctionMapper.transformOracleFunctions(transformed);
+    transformed = OracleFunctionMapper.transformOracleFunctions(transformed, everything);
 
     // Transform Oracle trigger conditions
     transformed = transformOracleTriggerConditions(transformed);
@@ -154,7 +154,7 @@ public class TriggerTransformer {
     transformed = transformOracleReferences(transformed);
 
     // Transform Oracle functions using OracleFunctionMapper
-    transformed = OracleFunctionMapper.transformOracleFunctions(transformed);
+    transformed = OracleFunctionMapper.transformOracleFunctions(transformed, everything);
 
     // Transform Oracle conditions
     transformed = transformOracleTriggerConditions(transformed);
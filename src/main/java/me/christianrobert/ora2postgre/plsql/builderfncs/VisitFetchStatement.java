@@ -14,16 +14,29 @@ public class VisitFetchStatement {
           PlSqlAstBuilder astBuilder) {
     String cursorName = ctx.cursor_name().getText();
     
+    boolean bulkCollect = ctx.BULK() != null;
+    String limit = null;
+    List<PlSqlParser.Variable_or_collectionContext> targets = ctx.variable_or_collection();
+    if (bulkCollect && ctx.LIMIT() != null) {
+      if (ctx.numeric() != null) {
+        limit = ctx.numeric().getText();
+      } else {
+        // LIMIT with a variable: it is the last variable_or_collection
+        limit = targets.get(targets.size() - 1).getText();
+        targets = targets.subList(0, targets.size() - 1);
+      }
+    }
+
     // Parse INTO variables
     List<String> intoVariables = new ArrayList<>();
-    if (ctx.variable_or_collection() != null) {
-      for (PlSqlParser.Variable_or_collectionContext varCtx : ctx.variable_or_collection()) {
+    if (targets != null) {
+      for (PlSqlParser.Variable_or_collectionContext varCtx : targets) {
         // Extract variable name from variable_or_collection context
         String varName = varCtx.getText(); // Simple approach - could be enhanced for complex expressions
         intoVariables.add(varName);
       }
     }
     
-    return new FetchStatement(cursorName, intoVariables);
+    return new FetchStatement(cursorName, intoVariables, bulkCollect, limit);
   }
 }
\ No newline at end of file
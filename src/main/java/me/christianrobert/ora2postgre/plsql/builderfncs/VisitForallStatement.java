@@ -0,0 +1,47 @@
+package me.christianrobert.ora2postgre.plsql.builderfncs;
+
+import me.christianrobert.ora2postgre.antlr.PlSqlParser;
+import me.christianrobert.ora2postgre.plsql.PlSqlAstBuilder;
+import me.christianrobert.ora2postgre.plsql.ast.Comment;
+import me.christianrobert.ora2postgre.plsql.ast.Concatenation;
+import me.christianrobert.ora2postgre.plsql.ast.ForallStatement;
+import me.christianrobert.ora2postgre.plsql.ast.PlSqlAst;
+import me.christianrobert.ora2postgre.plsql.ast.Statement;
+
+public class VisitForallStatement {
+  public static PlSqlAst visit(
+          PlSqlParser.Forall_statementContext ctx,
+          PlSqlAstBuilder astBuilder) {
+    String indexName = ctx.index_name().getText();
+    PlSqlParser.Bounds_clauseContext bounds = ctx.bounds_clause();
+
+    ForallStatement.BoundsType boundsType;
+    Concatenation lowerBound = null;
+    Concatenation upperBound = null;
+    String collectionName = null;
+
+    if (bounds.INDICES() != null) {
+      boundsType = ForallStatement.BoundsType.INDICES_OF;
+      collectionName = bounds.general_element().getText();
+      if (bounds.between_bound() != null) {
+        lowerBound = (Concatenation) astBuilder.visit(bounds.between_bound().lower_bound().concatenation());
+        upperBound = (Concatenation) astBuilder.visit(bounds.between_bound().upper_bound().concatenation());
+      }
+    } else if (bounds.VALUES() != null) {
+      boundsType = ForallStatement.BoundsType.VALUES_OF;
+      collectionName = bounds.index_name().getText();
+    } else {
+      boundsType = ForallStatement.BoundsType.RANGE;
+      lowerBound = (Concatenation) astBuilder.visit(bounds.lower_bound().concatenation());
+      upperBound = (Concatenation) astBuilder.visit(bounds.upper_bound().concatenation());
+    }
+
+    PlSqlAst dml = astBuilder.visit(ctx.data_manipulation_language_statements());
+    if (!(dml instanceof Statement)) {
+      return new Comment("FORALL with unsupported DML: " + ctx.data_manipulation_language_statements().getText());
+    }
+
+    return new ForallStatement(indexName, boundsType, lowerBound, upperBound, collectionName,
+            ctx.SAVE() != null, (Statement) dml);
+  }
+}
@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.plsql.builderfncs;
 
 import me.christianrobert.ora2postgre.antlr.PlSqlParser;
 import me.christianrobert.ora2postgre.plsql.PlSqlAstBuilder;
+import me.christianrobert.ora2postgre.plsql.ast.Expression;
 import me.christianrobert.ora2postgre.plsql.ast.PlSqlAst;
 import me.christianrobert.ora2postgre.plsql.ast.SelectListElement;
 import me.christianrobert.ora2postgre.plsql.ast.SelectQueryBlock;
@@ -42,6 +43,17 @@ public class VisitQueryBlock {
       whereClause = (WhereClause) astBuilder.visit(ctx.where_clause());
     }
 
-    return new SelectQueryBlock(astBuilder.schema, selectedFields, fromTables, whereClause);
+    List<Expression> groupByElements = new ArrayList<>();
+    Expression havingCondition = null;
+    for (PlSqlParser.Group_by_clauseContext groupBy : ctx.group_by_clause()) {
+      for (PlSqlParser.Group_by_elementsContext element : groupBy.group_by_elements()) {
+        groupByElements.add(element.expression() != null ? (Expression) astBuilder.visit(element.expression()) : null);
+      }
+      if (groupBy.having_clause() != null) {
+        havingCondition = (Expression) astBuilder.visit(groupBy.having_clause().condition());
+      }
+    }
+
+    return new SelectQueryBlock(astBuilder.schema, selectedFields, fromTables, whereClause, groupByElements, havingCondition);
   }
 }
\ No newline at end of file
@@ -33,7 +33,9 @@ public class VisitSelectStatement {
       SelectWithClause withClause = ctx.select_only_statement().with_clause() != null ?
               (SelectWithClause) astBuilder.visit(ctx.select_only_statement().with_clause()) : null;
       
-      return visitSelectIntoFromQueryBlock(ctx.select_only_statement().subquery().subquery_basic_elements().query_block(), withClause, astBuilder);
+      PlSqlParser.Order_by_clauseContext orderBy = ctx.order_by_clause() != null && !ctx.order_by_clause().isEmpty() ?
+              ctx.order_by_clause(0) : null;
+      return visitSelectIntoFromQueryBlock(ctx.select_only_statement().subquery().subquery_basic_elements().query_block(), withClause, orderBy, astBuilder);
     }
     
     // Regular SELECT statement - use existing logic
@@ -61,7 +63,8 @@ public class VisitSelectStatement {
   /**
    * Helper method to parse SELECT INTO statements from query_block context
    */
-  private static PlSqlAst visitSelectIntoFromQueryBlock(PlSqlParser.Query_blockContext ctx, SelectWithClause withClause, PlSqlAstBuilder astBuilder) {
+  private static PlSqlAst visitSelectIntoFromQueryBlock(PlSqlParser.Query_blockContext ctx, SelectWithClause withClause,
+                                                        PlSqlParser.Order_by_clauseContext outerOrderBy, PlSqlAstBuilder astBuilder) {
     // Parse selected columns
     List<String> selectedColumns = new ArrayList<>();
     if (ctx.selected_list().ASTERISK() != null) {
@@ -128,7 +131,25 @@ public class VisitSelectStatement {
     
     // Return appropriate statement type based on BULK COLLECT detection
     if (isBulkCollect) {
-      return new BulkCollectStatement(selectedColumns, intoVariables, schemaName, tableName, whereClause);
+      // ORDER BY decides the element order of the collected arrays
+      List<Expression> orderByExpressions = new ArrayList<>();
+      List<String> orderByModifiers = new ArrayList<>();
+      PlSqlParser.Order_by_clauseContext orderBy = ctx.order_by_clause() != null ? ctx.order_by_clause() : outerOrderBy;
+      if (orderBy != null) {
+        for (PlSqlParser.Order_by_elementsContext element : orderBy.order_by_elements()) {
+          orderByExpressions.add((Expression) astBuilder.visit(element.expression()));
+          StringBuilder modifier = new StringBuilder();
+          if (element.DESC() != null) {
+            modifier.append("DESC");
+          }
+          if (element.NULLS() != null) {
+            modifier.append(modifier.length() > 0 ? " " : "").append("NULLS ").append(element.FIRST() != null ? "FIRST" : "LAST");
+          }
+          orderByModifiers.add(modifier.toString());
+        }
+      }
+      return new BulkCollectStatement(selectedColumns, intoVariables, schemaName, tableName, whereClause,
+              orderByExpressions, orderByModifiers);
     } else {
       return new SelectIntoStatement(selectedColumns, intoVariables, schemaName, tableName, whereClause, withClause);
     }
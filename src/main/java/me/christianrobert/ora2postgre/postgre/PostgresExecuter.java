@@ -1,5 +1,6 @@
 package me.christianrobert.ora2postgre.postgre;
 
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,7 +20,7 @@ public class PostgresExecuter {
   private static final Logger logger = LoggerFactory.getLogger(PostgresExecuter.class);
 
   public enum ExecutionPhase {
-    PRE_TRANSFER_TYPES,  // Execute type specs at very first
+    PRE_TRANSFER_TYPES,  // Execute schemas, sequences and type specs at very first
     PRE_TRANSFER_TABLES,  // Execute schema and table files before data transfer
     POST_TRANSFER,  // Execute views, packages, and other files after data transfer
     POST_TRANSFER_CONSTRAINTS,  // Execute constraints after all other objects are created
@@ -121,15 +122,17 @@ public class PostgresExecuter {
     
     switch (phase) {
       case PRE_TRANSFER_TYPES:
-        // Execute types only
+        // Execute schemas, sequences and types only
         return upperFileName.endsWith("SCHEMA.SQL")
+                || upperFileName.equals("ALLSEQUENCE.SQL")
                 || upperFileName.endsWith("OBJECTTYPESPEC.SQL");
       case PRE_TRANSFER_TABLES:
         // Execute table files only
         return upperFileName.endsWith("TABLE.SQL");
       case POST_TRANSFER:
-        // Execute all other files after data transfer (excluding schema, table, constraint, index, and trigger files)
+        // Execute all other files after data transfer (excluding schema, sequence, table, constraint, index, and trigger files)
         return !upperFileName.endsWith("SCHEMA.SQL")
+                && !upperFileName.equals("ALLSEQUENCE.SQL")
                 && !upperFileName.endsWith("TABLE.SQL")
                 && !upperFileName.endsWith("OBJECTTYPESPEC.SQL")
                 && !isTriggerFile
@@ -296,6 +299,10 @@ public class PostgresExecuter {
 
   public static void executeSQLFile(Path sqlFilePath, Connection connection) throws Exception {
     logger.info("Executing PostgreSQL DDL file: {}", sqlFilePath);
+    long start = System.nanoTime();
+    String metricsFile = sqlFilePath.getParent() != null
+            ? sqlFilePath.getParent().getFileName() + "/" + sqlFilePath.getFileName()
+            : String.valueOf(sqlFilePath.getFileName());
 
     // Read entire file as one string
     String sql = Files.readString(sqlFilePath);
@@ -305,15 +312,16 @@ public class PostgresExecuter {
       for (int i = 0; i < statements.length; i++) {
         String statement = statements[i].trim();
         if (!statement.isEmpty()) {
-          String statementPreview = statement.substring(0, Math.min(200, statement.length())).replace("\n", " ");
-          logger.debug("Executing statement {}/{}: {}", i + 1, statements.length, statementPreview);
+          if (logger.isDebugEnabled()) {
+            logger.debug("Executing statement {}/{}: {}", i + 1, statements.length, preview(statement));
+          }
           
           try {
             stmt.execute(statement);
           } catch (SQLException e) {
             // Log comprehensive error context for system logs monitoring
             logger.error("SQL execution failed in file: {}", sqlFilePath, e);
-            logger.error("Failed statement {}/{}: {}", i + 1, statements.length, statementPreview);
+            logger.error("Failed statement {}/{}: {}", i + 1, statements.length, preview(statement));
             logger.error("SQL Error Code: {}, SQL State: {}", e.getErrorCode(), e.getSQLState());
             
             // Re-throw to fail fast instead of continuing with broken state
@@ -328,10 +336,16 @@ public class PostgresExecuter {
         }
       }
       logger.info("Successfully executed {} statements from file: {}", statements.length, sqlFilePath);
+      MigrationMetrics.recordDdlExecution(metricsFile, true, start);
     } catch (Exception e) {
+      MigrationMetrics.recordDdlExecution(metricsFile, false, start);
       // Log any other unexpected errors with full context
       logger.error("Unexpected error executing SQL file: {}", sqlFilePath, e);
       throw e;
     }
   }
+
+  private static String preview(String statement) {
+    return statement.substring(0, Math.min(200, statement.length())).replace("\n", " ");
+  }
 }
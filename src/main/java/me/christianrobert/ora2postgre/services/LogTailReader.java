@@ -0,0 +1,171 @@
+package me.christianrobert.ora2postgre.services;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the end of a growing log file without loading the whole file.
+ *
+ * tail() seeks backwards from the end in blocks until enough line breaks are found,
+ * readFrom() returns the complete lines appended after a byte offset. Both return the offset
+ * to continue from, so clients only fetch new bytes. When the file is shorter than the offset
+ * it was rotated, and reading starts again at its beginning.
+ */
+public class LogTailReader {
+
+  static final int BLOCK_SIZE = 8192;
+
+  /** Upper bound of one answer, a client that fell behind gets the newest part only. */
+  public static final int MAX_BYTES = 1024 * 1024;
+
+  private LogTailReader() {
+  }
+
+  /**
+   * Returns the last lines of a file.
+   */
+  public static LogChunk tail(Path file, int lines) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+      long end = raf.length();
+      long start = end;
+      int newlines = 0;
+      // A line break right at the end terminates the last line, it does not start a new one
+      long scanEnd = end > 0 && byteAt(raf, end - 1) == '\n' ? end - 1 : end;
+      byte[] block = new byte[BLOCK_SIZE];
+
+      long position = scanEnd;
+      search:
+      while (position > 0 && end - position < MAX_BYTES) {
+        int length = (int) Math.min(BLOCK_SIZE, position);
+        position -= length;
+        raf.seek(position);
+        raf.readFully(block, 0, length);
+        for (int i = length - 1; i >= 0; i--) {
+          if (block[i] == '\n' && ++newlines >= lines) {
+            start = position + i + 1;
+            break search;
+          }
+        }
+        start = position;
+      }
+      if (lines <= 0) {
+        start = end;
+      }
+      if (start < end - MAX_BYTES) {
+        // Cut at a line start, never inside a line or a multi byte character
+        start = nextLineStart(raf, end - MAX_BYTES, end);
+      }
+      return new LogChunk(read(raf, start, (int) (end - start)), end, false);
+    }
+  }
+
+  /**
+   * Returns the complete lines written after the given offset. A trailing partial line is left
+   * for the next call.
+   */
+  public static LogChunk readFrom(Path file, long offset) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      boolean rotated = offset > size;
+      long start = rotated || offset < 0 ? 0 : offset;
+      boolean clamped = start < size - MAX_BYTES;
+      start = Math.max(start, size - MAX_BYTES);
+      if (start >= size) {
+        return new LogChunk("", size, rotated);
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate((int) (size - start));
+      while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+        // read until the buffer is full or the end is reached
+      }
+      byte[] bytes = buffer.array();
+      int length = buffer.position();
+      int lastNewline = length - 1;
+      while (lastNewline >= 0 && bytes[lastNewline] != '\n') {
+        lastNewline--;
+      }
+      if (lastNewline < 0) {
+        return new LogChunk("", start, rotated);
+      }
+      int first = 0;
+      if (clamped) {
+        // The clamped start is inside a line, the answer begins with the next complete one
+        while (bytes[first] != '\n') {
+          first++;
+        }
+        first++;
+      }
+      String content = first > lastNewline ? "" : new String(bytes, first, lastNewline - first, StandardCharsets.UTF_8);
+      return new LogChunk(content, start + lastNewline + 1, rotated);
+    }
+  }
+
+  private static long nextLineStart(RandomAccessFile raf, long position, long end) throws IOException {
+    raf.seek(position);
+    byte[] block = new byte[BLOCK_SIZE];
+    while (position < end) {
+      int length = raf.read(block, 0, (int) Math.min(BLOCK_SIZE, end - position));
+      if (length <= 0) {
+        break;
+      }
+      for (int i = 0; i < length; i++) {
+        if (block[i] == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += length;
+    }
+    return end;
+  }
+
+  private static byte byteAt(RandomAccessFile raf, long position) throws IOException {
+    raf.seek(position);
+    return raf.readByte();
+  }
+
+  private static String read(RandomAccessFile raf, long start, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    raf.seek(start);
+    raf.readFully(bytes);
+    String content = new String(bytes, StandardCharsets.UTF_8);
+    return content.endsWith("\n") ? content.substring(0, content.length() - 1) : content;
+  }
+
+  /**
+   * Lines read from the log and the byte offset to continue from.
+   */
+  public static class LogChunk {
+    private final String content;
+    private final long nextOffset;
+    private final boolean rotated;
+
+    public LogChunk(String content, long nextOffset, boolean rotated) {
+      this.content = content;
+      this.nextOffset = nextOffset;
+      this.rotated = rotated;
+    }
+
+    public String getContent() {
+      return content;
+    }
+
+    public List<String> getLines() {
+      return content.isEmpty() ? List.of() : Arrays.asList(content.split("\n", -1));
+    }
+
+    public long getNextOffset() {
+      return nextOffset;
+    }
+
+    public boolean isRotated() {
+      return rotated;
+    }
+  }
+}
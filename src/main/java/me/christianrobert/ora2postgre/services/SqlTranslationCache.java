@@ -0,0 +1,182 @@
+package me.christianrobert.ora2postgre.services;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache for runtime Oracle-to-PostgreSQL SQL translations.
+ * Applications send the same statements over and over, so the lexing, parsing and
+ * transformation through the full migration context is only done once per
+ * (schema, normalized SQL) key. The cache is cleared when the migration model
+ * (Everything) is reloaded, detected through its model version.
+ */
+@ApplicationScoped
+public class SqlTranslationCache {
+
+  @ConfigProperty(name = "sql-transform.cache-size", defaultValue = "1000")
+  int maxEntries;
+
+  private final Map<CacheKey, String> translations = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<CacheKey, String> eldest) {
+      if (size() > maxEntries) {
+        evictions.incrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+  private long cachedModelVersion = -1;
+
+  public SqlTranslationCache() {
+    this(1000);
+  }
+
+  public SqlTranslationCache(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the cached translation or computes and caches it.
+   * Failed translations are not cached, the exception of the translator is propagated.
+   *
+   * @param schema The schema the statement runs in
+   * @param sql The Oracle SQL statement
+   * @param modelVersion The current version of the migration model the translation depends on
+   * @param translator Computes the translation on a cache miss
+   * @return The PostgreSQL statement
+   */
+  public String getOrTranslate(String schema, String sql, long modelVersion, Supplier<String> translator) {
+    CacheKey key = new CacheKey(schema.trim().toUpperCase(), normalizeSql(sql));
+
+    synchronized (translations) {
+      if (modelVersion != cachedModelVersion) {
+        if (!translations.isEmpty()) {
+          invalidations.incrementAndGet();
+        }
+        translations.clear();
+        cachedModelVersion = modelVersion;
+      }
+      String cached = translations.get(key);
+      if (cached != null) {
+        hits.incrementAndGet();
+        return cached;
+      }
+    }
+
+    misses.incrementAndGet();
+    // Translate outside the lock, concurrent misses for the same key simply compute twice
+    String translated = translator.get();
+
+    synchronized (translations) {
+      if (modelVersion == cachedModelVersion) {
+        translations.put(key, translated);
+      }
+    }
+    return translated;
+  }
+
+  /**
+   * Removes all cached translations.
+   */
+  public void invalidate() {
+    synchronized (translations) {
+      translations.clear();
+      invalidations.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns hit/miss statistics of the cache.
+   */
+  public Map<String, Object> getStatistics() {
+    long hitCount = hits.get();
+    long missCount = misses.get();
+    long lookups = hitCount + missCount;
+
+    Map<String, Object> stats = new HashMap<>();
+    synchronized (translations) {
+      stats.put("size", translations.size());
+    }
+    stats.put("maxEntries", maxEntries);
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    stats.put("hitRate", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+    stats.put("evictions", evictions.get());
+    stats.put("invalidations", invalidations.get());
+    return stats;
+  }
+
+  /**
+   * Normalizes a SQL statement for use as cache key: whitespace runs outside of
+   * quoted literals and identifiers collapse to a single space, a trailing semicolon is removed.
+   * Literal values are kept, since the transformation may rewrite them (e.g. date formats).
+   */
+  static String normalizeSql(String sql) {
+    StringBuilder sb = new StringBuilder(sql.length());
+    char quote = 0;
+    boolean pendingSpace = false;
+
+    for (int i = 0; i < sql.length(); i++) {
+      char c = sql.charAt(i);
+      if (quote != 0) {
+        sb.append(c);
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (Character.isWhitespace(c)) {
+        pendingSpace = sb.length() > 0;
+      } else {
+        if (pendingSpace) {
+          sb.append(' ');
+          pendingSpace = false;
+        }
+        if (c == '\'' || c == '"') {
+          quote = c;
+        }
+        sb.append(c);
+      }
+    }
+
+    int end = sb.length();
+    while (end > 0 && sb.charAt(end - 1) == ';') {
+      end--;
+    }
+    return sb.substring(0, end).trim();
+  }
+
+  private static final class CacheKey {
+    private final String schema;
+    private final String sql;
+
+    CacheKey(String schema, String sql) {
+      this.schema = schema;
+      this.sql = sql;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof CacheKey)) return false;
+      CacheKey other = (CacheKey) o;
+      return schema.equals(other.schema) && sql.equals(other.sql);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(schema, sql);
+    }
+  }
+}
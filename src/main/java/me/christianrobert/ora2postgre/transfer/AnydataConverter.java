@@ -63,20 +63,20 @@ public class AnydataConverter {
       Object anydataObject = resultSet.getObject(columnName);
 
       if (anydataObject == null) {
-        log.debug("ANYDATA column '{}' is null", columnName);
+        TransferLogging.rowDebug(log, "ANYDATA column '{}' is null", columnName);
         return null;
       }
 
-      log.debug("Converting ANYDATA column '{}' to JSON, object type: {}",
+      TransferLogging.rowDebug(log, "Converting ANYDATA column '{}' to JSON, object type: {}",
               columnName, anydataObject.getClass().getName());
 
       // Try Oracle-specific ANYDATA handling first
       if (anydataObject instanceof oracle.sql.ANYDATA) {
-        log.debug("Using Oracle-specific ANYDATA conversion for column '{}'", columnName);
+        TransferLogging.rowDebug(log, "Using Oracle-specific ANYDATA conversion for column '{}'", columnName);
         return convertOracleAnydataToJson((oracle.sql.ANYDATA) anydataObject, columnName);
       } else {
         // Fallback to generic JDBC approach
-        log.debug("Using generic JDBC conversion for column '{}' (type: {})",
+        TransferLogging.rowDebug(log, "Using generic JDBC conversion for column '{}' (type: {})",
                 columnName, anydataObject.getClass().getSimpleName());
         return convertGenericObjectToJson(anydataObject, columnName);
       }
@@ -122,7 +122,7 @@ public class AnydataConverter {
       metadata.put("extracted_type", actualTypeName);
       metadata.put("type_code", typeDescriptor.getTypeCode());
 
-      log.debug("ANYDATA type detected: {} (code: {})", actualTypeName, typeDescriptor.getTypeCode());
+      TransferLogging.rowDebug(log, "ANYDATA type detected: {} (code: {})", actualTypeName, typeDescriptor.getTypeCode());
 
       // Extract the actual value using appropriate method
       Datum datum = anydata.accessDatum();
@@ -131,7 +131,7 @@ public class AnydataConverter {
       jsonNode.set("metadata", metadata);
 
       String result = objectMapper.writeValueAsString(jsonNode);
-      log.debug("Oracle ANYDATA converted to JSON: {}", result);
+      TransferLogging.rowDebug(log, "Oracle ANYDATA converted to JSON: {}", result);
       return result;
 
     } catch (Exception e) {
@@ -256,7 +256,7 @@ public class AnydataConverter {
         default:
           // Fallback for other types
           jsonNode.put("value", datum.stringValue());
-          log.debug("Using string fallback for type code: {}", typeCode);
+          TransferLogging.rowDebug(log, "Using string fallback for type code: {}", typeCode);
           break;
       }
 
@@ -369,7 +369,7 @@ public class AnydataConverter {
       jsonNode.set("metadata", metadata);
 
       String result = objectMapper.writeValueAsString(jsonNode);
-      log.debug("Converted ANYDATA to JSON: {}", result);
+      TransferLogging.rowDebug(log, "Converted ANYDATA to JSON: {}", result);
       return result;
 
     } catch (Exception e) {
@@ -63,7 +63,7 @@ public class AqJmsMessageConverter {
         return null;
       }
 
-      log.debug("Converting AQ JMS message from column: {}", columnName);
+      TransferLogging.rowDebug(log, "Converting AQ JMS message from column: {}", columnName);
 
       // Handle Oracle STRUCT type
       if (messageObj instanceof Struct || messageObj instanceof STRUCT) {
@@ -134,7 +134,7 @@ public class AqJmsMessageConverter {
         String textContent = extractTextFromAttribute(attr);
         if (textContent != null && !textContent.trim().isEmpty()) {
           jsonNode.put("text_content", textContent);
-          log.debug("Extracted text content from attribute {}: {} chars", i, textContent.length());
+          TransferLogging.rowDebug(log, "Extracted text content from attribute {}: {} chars", i, textContent.length());
           return;
         }
       }
@@ -220,7 +220,7 @@ public class AqJmsMessageConverter {
           headers.put("attr_" + i, attrStr);
         }
       } catch (Exception e) {
-        log.debug("Could not process attribute {} as header: {}", i, e.getMessage());
+        TransferLogging.rowDebug(log, "Could not process attribute {} as header: {}", i, e.getMessage());
       }
     }
   }
@@ -68,7 +68,7 @@ public class AqRecipientsConverter {
         return null;
       }
 
-      log.debug("Converting AQ recipients from column: {}", columnName);
+      TransferLogging.rowDebug(log, "Converting AQ recipients from column: {}", columnName);
 
       // Handle Oracle STRUCT type
       if (recipientsObj instanceof Struct || recipientsObj instanceof STRUCT) {
@@ -148,7 +148,7 @@ public class AqRecipientsConverter {
           if (recipient != null) {
             recipientsArray.add(recipient);
             recipientCount++;
-            log.debug("Extracted recipient from attribute {}: {}", i, attrValue);
+            TransferLogging.rowDebug(log, "Extracted recipient from attribute {}: {}", i, attrValue);
           }
         }
       }
@@ -206,7 +206,7 @@ public class AqRecipientsConverter {
       return recipient;
 
     } catch (Exception e) {
-      log.debug("Could not create recipient from attribute: {}", e.getMessage());
+      TransferLogging.rowDebug(log, "Could not create recipient from attribute: {}", e.getMessage());
       return null;
     }
   }
@@ -290,7 +290,7 @@ public class AqRecipientsConverter {
       }
 
     } catch (Exception e) {
-      log.debug("Error parsing structured recipient data: {}", e.getMessage());
+      TransferLogging.rowDebug(log, "Error parsing structured recipient data: {}", e.getMessage());
     }
   }
 
@@ -63,7 +63,7 @@ public class AqSigPropConverter {
         return null;
       }
 
-      log.debug("Converting AQ signature property from column: {}", columnName);
+      TransferLogging.rowDebug(log, "Converting AQ signature property from column: {}", columnName);
 
       // Handle Oracle STRUCT type
       if (sigPropObj instanceof Struct || sigPropObj instanceof STRUCT) {
@@ -154,7 +154,7 @@ public class AqSigPropConverter {
               sigProps.put("prop_" + i, attrValue);
               break;
           }
-          log.debug("Extracted signature property from attribute {}: {} chars", i, attrValue.length());
+          TransferLogging.rowDebug(log, "Extracted signature property from attribute {}: {} chars", i, attrValue.length());
         }
       }
 
@@ -0,0 +1,13 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Opens additional database connections for work that runs in parallel to the main transfer connection.
+ * The caller closes the returned connection.
+ */
+@FunctionalInterface
+public interface ConnectionFactory {
+  Connection open() throws SQLException;
+}
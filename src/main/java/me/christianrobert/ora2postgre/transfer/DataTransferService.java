@@ -5,7 +5,9 @@ import me.christianrobert.ora2postgre.global.Config;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.oracledb.RowCountConfig;
 import me.christianrobert.ora2postgre.oracledb.SamplingRowCounter;
+import me.christianrobert.ora2postgre.oracledb.ScnExtractor;
 import me.christianrobert.ora2postgre.transfer.strategy.ObjectTypeMappingStrategy;
+import me.christianrobert.ora2postgre.transfer.strategy.PartitionedCsvStrategy;
 import me.christianrobert.ora2postgre.transfer.strategy.StreamingCsvStrategy;
 import me.christianrobert.ora2postgre.transfer.strategy.TransferStrategy;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
@@ -33,7 +35,9 @@ public class DataTransferService {
   private static final Logger log = LoggerFactory.getLogger(DataTransferService.class);
 
   private final List<TransferStrategy> availableStrategies;
+  private final PartitionedCsvStrategy partitionedCsvStrategy;
   private final boolean enableFallback;
+  private volatile TriggerBypass activeTriggerBypass;
 
   /**
    * Callback interface for reporting data transfer progress.
@@ -56,6 +60,13 @@ public class DataTransferService {
      * @param rowsTransferred Number of rows transferred (0 if failed)
      */
     void onTableComplete(int tableIndex, int totalTables, String tableName, boolean success, long rowsTransferred);
+
+    /**
+     * Called once before the first table with the tracker the strategies update while they transfer.
+     * @param progress Live progress of the whole session and the current table
+     */
+    default void onTransferStart(TransferProgress progress) {
+    }
   }
 
   public DataTransferService() {
@@ -63,8 +74,33 @@ public class DataTransferService {
   }
 
   public DataTransferService(boolean enableFallback) {
+    this(enableFallback, OracleReadTuning.disabled());
+  }
+
+  /**
+   * @param enableFallback Whether to fall back to legacy SQL generation
+   * @param readTuning Oracle read-side tuning applied to the SELECTs of all strategies
+   */
+  public DataTransferService(boolean enableFallback, OracleReadTuning readTuning) {
     this.enableFallback = enableFallback;
-    this.availableStrategies = initializeStrategies();
+    this.partitionedCsvStrategy = new PartitionedCsvStrategy(readTuning);
+    this.availableStrategies = initializeStrategies(readTuning);
+  }
+
+  /**
+   * Lets partitioned tables be loaded with several partitions at a time, each on connections
+   * opened by the factories. Without this, partitions are loaded serially on the transfer connections.
+   */
+  public void setPartitionConnections(int partitionParallelism, ConnectionFactory oracleConnections,
+                                      ConnectionFactory postgresConnections) {
+    partitionedCsvStrategy.setPartitionConnections(partitionParallelism, oracleConnections, () -> {
+      Connection conn = postgresConnections.open();
+      TriggerBypass triggerBypass = activeTriggerBypass;
+      if (triggerBypass != null) {
+        triggerBypass.applyToSession(conn);
+      }
+      return conn;
+    });
   }
 
   /**
@@ -109,58 +145,94 @@ public class DataTransferService {
     TransferProgress progress = new TransferProgress(sessionId);
     long totalEstimatedRows = estimateTotalRows(tables);
     progress.initializeTransfer(tables.size(), totalEstimatedRows);
+    if (progressCallback != null) {
+      progressCallback.onTransferStart(progress);
+    }
+
+    if (config != null && config.isDoConsistentSnapshot()) {
+      captureSnapshotScn(oracleConn, progress);
+    }
 
     List<TransferResult> results = new ArrayList<>();
+    TransferLogging.setRowDetails(config == null || config.isLoggingTransferRowDetails());
 
-    // Process each table
-    for (int tableIndex = 0; tableIndex < tables.size(); tableIndex++) {
-      TableMetadata table = tables.get(tableIndex);
-      String fullTableName = table.getSchema() + "." + table.getTableName();
+    // The migrated triggers must not fire for rows Oracle already processed
+    TriggerBypass triggerBypass = new TriggerBypass(
+            config != null ? config.getTriggerBypassMode() : TriggerBypassMode.NONE, everything);
+    triggerBypass.disableForLoad(postgresConn, tables);
+    activeTriggerBypass = triggerBypass;
 
-      // Notify progress callback that we're starting this table
-      if (progressCallback != null) {
-        progressCallback.onTableStart(tableIndex, tables.size(), fullTableName);
-      }
-
-      try {
-        // Use enhanced analysis if Everything context is available
-        String analysis = everything != null ?
-                TableAnalyzer.analyzeTableWithObjectTypes(table, everything) :
-                TableAnalyzer.analyzeTable(table);
-        log.info("Analyzing table: {}", analysis);
+    try {
+      // Process each table
+      for (int tableIndex = 0; tableIndex < tables.size(); tableIndex++) {
+        TableMetadata table = tables.get(tableIndex);
+        String fullTableName = table.getSchema() + "." + table.getTableName();
 
-        TransferStrategy strategy = selectStrategy(table, everything);
-        if (strategy != null) {
-          log.info("Using {} strategy for {}.{}",
-                  strategy.getStrategyName(), table.getSchema(), table.getTableName());
+        // Notify progress callback that we're starting this table
+        if (progressCallback != null) {
+          progressCallback.onTableStart(tableIndex, tables.size(), fullTableName);
+        }
 
-          TransferResult result = strategy.transferTable(table, oracleConn, postgresConn, progress, everything);
-          results.add(result);
+        try {
+          // Use enhanced analysis if Everything context is available
+          String analysis = everything != null ?
+                  TableAnalyzer.analyzeTableWithObjectTypes(table, everything) :
+                  TableAnalyzer.analyzeTable(table);
+          log.info("Analyzing table: {}", analysis);
+
+          TransferStrategy strategy = selectStrategy(table, everything);
+          if (strategy != null) {
+            log.info("Using {} strategy for {}.{}",
+                    strategy.getStrategyName(), table.getSchema(), table.getTableName());
+
+            TransferResult result = strategy.transferTable(table, oracleConn, postgresConn, progress, everything);
+            if (result.isSuccessful() && config != null && config.isDoVerifyRowCounts()) {
+              result = verifyRowCount(result, oracleConn, progress.getSnapshotScn());
+            }
+            if (progress.hasSnapshotScn()) {
+              result = result.withSnapshotScn(progress.getSnapshotScn());
+            }
+            results.add(result);
 
-          // Notify progress callback of completion
-          if (progressCallback != null) {
-            progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName,
-                    result.isSuccessful(), result.getRowsTransferred());
-          }
+            // Notify progress callback of completion
+            if (progressCallback != null) {
+              progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName,
+                      result.isSuccessful(), result.getRowsTransferred());
+            }
 
-          if (result.isSuccessful()) {
-            log.info("Transfer completed: {}", result.toString());
+            if (result.isSuccessful()) {
+              log.info("Transfer completed: {}", result.toString());
+            } else {
+              log.error("Transfer failed: {}", result.toString());
+              if (result.getException() != null) {
+                log.error("Exception details:", result.getException());
+              }
+            }
           } else {
-            log.error("Transfer failed: {}", result.toString());
-            if (result.getException() != null) {
-              log.error("Exception details:", result.getException());
+            // No strategy available - this is an error, migration should fail
+            String errorMessage = String.format("No transfer strategy can handle table %s.%s. "
+                            + "This table contains data types that are not supported by any available strategy.",
+                    table.getSchema(), table.getTableName());
+            log.error(errorMessage);
+
+            TransferResult failureResult = TransferResult.failure(
+                    table.getSchema(), table.getTableName(), "No Strategy Available",
+                    errorMessage, null);
+            results.add(failureResult);
+
+            // Notify progress callback of failure
+            if (progressCallback != null) {
+              progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName, false, 0);
             }
           }
-        } else {
-          // No strategy available - this is an error, migration should fail
-          String errorMessage = String.format("No transfer strategy can handle table %s.%s. "
-                          + "This table contains data types that are not supported by any available strategy.",
-                  table.getSchema(), table.getTableName());
-          log.error(errorMessage);
+
+        } catch (Exception e) {
+          log.error("Unexpected error transferring table {}.{}: {}",
+                  table.getSchema(), table.getTableName(), e.getMessage(), e);
 
           TransferResult failureResult = TransferResult.failure(
-                  table.getSchema(), table.getTableName(), "No Strategy Available",
-                  errorMessage, null);
+                  table.getSchema(), table.getTableName(), "Unknown",
+                  "Unexpected error: " + e.getMessage(), e);
           results.add(failureResult);
 
           // Notify progress callback of failure
@@ -168,41 +240,82 @@ public class DataTransferService {
             progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName, false, 0);
           }
         }
-
-      } catch (Exception e) {
-        log.error("Unexpected error transferring table {}.{}: {}",
-                table.getSchema(), table.getTableName(), e.getMessage(), e);
-
-        TransferResult failureResult = TransferResult.failure(
-                table.getSchema(), table.getTableName(), "Unknown",
-                "Unexpected error: " + e.getMessage(), e);
-        results.add(failureResult);
-
-        // Notify progress callback of failure
-        if (progressCallback != null) {
-          progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName, false, 0);
-        }
+        TransferLogging.logTableSummary(log, fullTableName);
       }
+
+    } finally {
+      activeTriggerBypass = null;
+      triggerBypass.restore(postgresConn);
+      TransferLogging.clear();
     }
 
     // All tables should now be handled by proper strategies
     // If any failures occurred, they are captured in the results list
 
     log.info("Data transfer session {} completed. Processed {} tables", sessionId, results.size());
+    String replayScript = triggerBypass.buildReplayScript();
+    if (!replayScript.isEmpty()) {
+      log.info("Trigger side effects skipped during the load:\n{}", replayScript);
+    }
 
-    return new DataTransferResults(sessionId, results, progress);
+    return new DataTransferResults(sessionId, results, progress, triggerBypass.getBypassedTables(), replayScript);
   }
 
-  private List<TransferStrategy> initializeStrategies() {
+  /**
+   * Captures the current Oracle SCN once per session. All strategies read AS OF this SCN,
+   * which keeps the data of all tables consistent even when they are read at different
+   * times or on different connections. The SCN is the starting point for a later delta sync.
+   */
+  private void captureSnapshotScn(Connection oracleConn, TransferProgress progress) {
+    try {
+      long scn = ScnExtractor.getCurrentScn(oracleConn);
+      progress.setSnapshotScn(scn);
+      log.info("Data transfer session {} reads consistent snapshot as of SCN {}", progress.getSessionId(), scn);
+    } catch (Exception e) {
+      log.warn("Could not capture current SCN, transferring without consistent snapshot: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Verification mode: counts the source table exactly and records the count in the result.
+   * Strategies only use row estimates, so this is the only place a COUNT(*) is issued.
+   * With a snapshot SCN the count is taken as of that SCN, like the rows that were read.
+   */
+  private TransferResult verifyRowCount(TransferResult result, Connection oracleConn, long snapshotScn) {
+    try {
+      long exactCount = SamplingRowCounter.getExactRowCount(oracleConn, result.getSchemaName(), result.getTableName(),
+              snapshotScn);
+      if (exactCount != result.getRowsTransferred()) {
+        log.warn("Row count mismatch for {}: {} rows in Oracle, {} rows transferred",
+                result.getFullTableName(), exactCount, result.getRowsTransferred());
+      }
+      return new TransferResult.Builder(result.getSchemaName(), result.getTableName())
+              .successful(true)
+              .rowsTransferred(result.getRowsTransferred())
+              .sourceRowCount(exactCount)
+              .transferTimeMs(result.getTransferTimeMs())
+              .strategyUsed(result.getStrategyUsed())
+              .build();
+    } catch (Exception e) {
+      log.warn("Could not verify row count for {}: {}", result.getFullTableName(), e.getMessage());
+      return result;
+    }
+  }
+
+  private List<TransferStrategy> initializeStrategies(OracleReadTuning readTuning) {
     List<TransferStrategy> strategies = new ArrayList<>();
 
     // Add unified object type and complex data strategy first (highest priority)
     // Handles tables with object types OR complex data types (or both)
-    strategies.add(new ObjectTypeMappingStrategy());
+    strategies.add(new ObjectTypeMappingStrategy(readTuning));
     log.debug("Added ObjectTypeMappingStrategy (unified object types and complex data)");
 
+    // Partitioned simple tables are copied partition by partition into their child tables
+    strategies.add(partitionedCsvStrategy);
+    log.debug("Added PartitionedCsvStrategy");
+
     // Add CSV streaming strategy for simple tables (lowest priority)
-    strategies.add(new StreamingCsvStrategy());
+    strategies.add(new StreamingCsvStrategy(readTuning));
     log.debug("Added StreamingCsvStrategy");
 
     log.debug("Initialized {} transfer strategies", strategies.size());
@@ -293,48 +406,10 @@ public class DataTransferService {
   }
 
   /**
-   * Estimates table rows using heuristic approach based on table metadata.
+   * Estimates table rows from the extracted statistics, falling back to name heuristics.
    */
   private long estimateTableRowsHeuristic(TableMetadata table) {
-    // Use table name patterns to make educated guesses
-    String tableName = table.getTableName().toLowerCase();
-
-    // Configuration/reference tables - typically small
-    if (tableName.contains("config") || tableName.contains("setting") ||
-            tableName.contains("lookup") || tableName.contains("ref") ||
-            tableName.startsWith("cfg_") || tableName.endsWith("_config")) {
-      return 100;
-    }
-
-    // Log/audit tables - typically large
-    if (tableName.contains("log") || tableName.contains("audit") ||
-            tableName.contains("history") || tableName.contains("trace") ||
-            tableName.startsWith("log_") || tableName.endsWith("_log") ||
-            tableName.endsWith("_audit") || tableName.endsWith("_history")) {
-      return 100000;
-    }
-
-    // Transaction/data tables - medium to large
-    if (tableName.contains("transaction") || tableName.contains("order") ||
-            tableName.contains("payment") || tableName.contains("invoice") ||
-            tableName.contains("data") || tableName.startsWith("t_")) {
-      return 10000;
-    }
-
-    // User/customer tables - medium size
-    if (tableName.contains("user") || tableName.contains("customer") ||
-            tableName.contains("account") || tableName.contains("person")) {
-      return 5000;
-    }
-
-    // Junction/mapping tables - small to medium
-    if (tableName.contains("_") && (tableName.contains("map") ||
-            tableName.matches(".*_[a-z]+_[a-z]+.*"))) { // Pattern like table_other_mapping
-      return 1000;
-    }
-
-    // Default estimate for unknown tables
-    return 2000;
+    return TableAnalyzer.estimateRowCount(table);
   }
 
 
@@ -345,16 +420,28 @@ public class DataTransferService {
     private final String sessionId;
     private final List<TransferResult> tableResults;
     private final TransferProgress finalProgress;
+    private final List<String> triggerBypassedTables;
+    private final String triggerReplayScript;
 
     public DataTransferResults(String sessionId, List<TransferResult> tableResults, TransferProgress finalProgress) {
+      this(sessionId, tableResults, finalProgress, List.of(), "");
+    }
+
+    public DataTransferResults(String sessionId, List<TransferResult> tableResults, TransferProgress finalProgress,
+                               List<String> triggerBypassedTables, String triggerReplayScript) {
       this.sessionId = sessionId;
       this.tableResults = tableResults;
       this.finalProgress = finalProgress;
+      this.triggerBypassedTables = triggerBypassedTables;
+      this.triggerReplayScript = triggerReplayScript;
     }
 
     public String getSessionId() { return sessionId; }
     public List<TransferResult> getTableResults() { return tableResults; }
     public TransferProgress getFinalProgress() { return finalProgress; }
+    public long getSnapshotScn() { return finalProgress.getSnapshotScn(); }
+    public List<String> getTriggerBypassedTables() { return triggerBypassedTables; }
+    public String getTriggerReplayScript() { return triggerReplayScript; }
 
     public boolean isOverallSuccess() {
       return tableResults.stream().allMatch(TransferResult::isSuccessful);
@@ -386,9 +473,16 @@ public class DataTransferService {
       long totalRows = getTotalRowsTransferred();
       long totalTime = getTotalTransferTimeMs();
 
-      return String.format(
+      String summary = String.format(
               "Session %s: %d/%d tables successful, %d rows transferred in %d ms",
               sessionId, successful, successful + failed, totalRows, totalTime);
+      if (finalProgress.hasSnapshotScn()) {
+        summary += " (snapshot SCN " + finalProgress.getSnapshotScn() + ")";
+      }
+      if (!triggerBypassedTables.isEmpty()) {
+        summary += ", triggers bypassed on " + triggerBypassedTables.size() + " tables";
+      }
+      return summary;
     }
 
     @Override
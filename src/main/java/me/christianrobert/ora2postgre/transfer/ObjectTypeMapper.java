@@ -203,7 +203,7 @@ public class ObjectTypeMapper {
 
       default:
         // For unknown types, treat as string with escaping
-        log.debug("Unknown data type '{}', converting to string", dataType);
+        TransferLogging.rowDebug(log, "Unknown data type '{}', converting to string", dataType);
         String defaultValue = attributeValue.toString();
         return "'" + defaultValue.replace("'", "''") + "'";
     }
@@ -251,7 +251,7 @@ public class ObjectTypeMapper {
 
       default:
         // For unknown types, treat as string with escaping
-        log.debug("Unknown data type '{}', converting to string", dataType);
+        TransferLogging.rowDebug(log, "Unknown data type '{}', converting to string", dataType);
         String defaultValue = attributeValue.toString();
         return "\"" + defaultValue.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
     }
@@ -299,7 +299,7 @@ public class ObjectTypeMapper {
 
       default:
         // For unknown types, convert to string
-        log.debug("Unknown data type '{}', converting to string", dataType);
+        TransferLogging.rowDebug(log, "Unknown data type '{}', converting to string", dataType);
         return JsonNodeFactory.instance.textNode(attributeValue.toString());
     }
   }
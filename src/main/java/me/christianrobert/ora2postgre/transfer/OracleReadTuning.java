@@ -0,0 +1,163 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import oracle.jdbc.OracleStatement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Oracle read-side tuning for the data transfer SELECTs.
+ *
+ * Depending on the row estimate of a table this adds FULL and PARALLEL hints,
+ * an optional ORDER BY of the primary key (so the target is loaded in key order)
+ * and sizes the row prefetch (fetch size) and LOB prefetch of the statement.
+ * When disabled the strategies behave exactly like before: plain serial SELECT
+ * with their default fetch size.
+ */
+public class OracleReadTuning {
+
+  private static final Logger log = LoggerFactory.getLogger(OracleReadTuning.class);
+
+  private static final Set<String> LOB_TYPES = Set.of("CLOB", "NCLOB", "BLOB", "BFILE", "XMLTYPE");
+
+  // Upper bound of column values held in one prefetch round trip
+  private static final int PREFETCH_VALUE_BUDGET = 200000;
+  private static final int MIN_ROW_PREFETCH = 500;
+  private static final int MAX_ROW_PREFETCH = 20000;
+  private static final int LOB_ROW_PREFETCH = 100;
+
+  private final boolean enabled;
+  private final long parallelThresholdRows;
+  private final int maxParallelDegree;
+  private final boolean orderByPrimaryKey;
+  private final int lobPrefetchSize;
+
+  public OracleReadTuning(boolean enabled, long parallelThresholdRows, int maxParallelDegree,
+                          boolean orderByPrimaryKey, int lobPrefetchSize) {
+    this.enabled = enabled;
+    this.parallelThresholdRows = parallelThresholdRows;
+    this.maxParallelDegree = maxParallelDegree;
+    this.orderByPrimaryKey = orderByPrimaryKey;
+    this.lobPrefetchSize = lobPrefetchSize;
+  }
+
+  /**
+   * No tuning: serial SELECT without hints and the default fetch size of the strategy.
+   */
+  public static OracleReadTuning disabled() {
+    return new OracleReadTuning(false, Long.MAX_VALUE, 1, false, 0);
+  }
+
+  public static OracleReadTuning fromConfig(Config config) {
+    if (config == null || !config.isDoOracleReadTuning()) {
+      return disabled();
+    }
+    return new OracleReadTuning(true,
+            config.getOracleParallelThresholdRows(),
+            config.getOracleMaxParallelDegree(),
+            config.isDoOrderByPrimaryKey(),
+            config.getOracleLobPrefetchSize());
+  }
+
+  public boolean isEnabled() { return enabled; }
+
+  /**
+   * Returns the optimizer hint to place directly after SELECT, or an empty string.
+   * Large tables are read with a full scan and a degree of parallelism growing
+   * with the estimated size (one more server per threshold of rows, at most maxParallelDegree).
+   */
+  public String buildHint(TableMetadata table) {
+    int degree = parallelDegree(table);
+    if (degree <= 1) {
+      return "";
+    }
+    return "/*+ FULL(" + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()) + ") PARALLEL(" + degree + ") */ ";
+  }
+
+  int parallelDegree(TableMetadata table) {
+    if (!enabled || maxParallelDegree <= 1) {
+      return 1;
+    }
+    long estimatedRows = TableAnalyzer.estimateRowCount(table);
+    if (estimatedRows < parallelThresholdRows) {
+      return 1;
+    }
+    long degree = Math.max(2, 1 + estimatedRows / Math.max(1, parallelThresholdRows));
+    return (int) Math.min(maxParallelDegree, degree);
+  }
+
+  /**
+   * Returns " ORDER BY pk columns" when ordering by primary key is enabled and the table has one.
+   */
+  public String buildOrderBy(TableMetadata table) {
+    if (!enabled || !orderByPrimaryKey) {
+      return "";
+    }
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (constraint.isPrimaryKey() && !constraint.getColumnNames().isEmpty()) {
+        List<String> columns = new ArrayList<>();
+        for (String column : constraint.getColumnNames()) {
+          columns.add(PostgreSqlIdentifierUtils.quoteIdentifier(column));
+        }
+        return " ORDER BY " + String.join(", ", columns);
+      }
+    }
+    return "";
+  }
+
+  /**
+   * Sets row prefetch (fetch size) and LOB prefetch on the Oracle SELECT statement.
+   * Row prefetch is sized by the number of columns, tables with LOB columns use a small
+   * row prefetch combined with LOB prefetch so LOB values arrive with the rows.
+   */
+  public void applyTo(PreparedStatement selectStmt, TableMetadata table, int defaultFetchSize) throws SQLException {
+    if (!enabled) {
+      selectStmt.setFetchSize(defaultFetchSize);
+      return;
+    }
+
+    boolean hasLobs = hasLobColumns(table);
+    int fetchSize = rowPrefetch(table, hasLobs);
+    selectStmt.setFetchSize(fetchSize);
+
+    if (hasLobs && lobPrefetchSize > 0 && selectStmt.isWrapperFor(OracleStatement.class)) {
+      selectStmt.unwrap(OracleStatement.class).setLobPrefetchSize(lobPrefetchSize);
+    }
+    log.debug("Read tuning for {}.{}: fetch size {}, LOB prefetch {}",
+            table.getSchema(), table.getTableName(), fetchSize, hasLobs ? lobPrefetchSize : 0);
+  }
+
+  int rowPrefetch(TableMetadata table, boolean hasLobs) {
+    if (hasLobs) {
+      return LOB_ROW_PREFETCH;
+    }
+    int columns = Math.max(1, table.getColumns().size());
+    int prefetch = PREFETCH_VALUE_BUDGET / columns;
+    long estimatedRows = TableAnalyzer.estimateRowCount(table);
+    if (estimatedRows > 0 && estimatedRows < prefetch) {
+      // No need to allocate buffers for more rows than the table holds
+      prefetch = (int) estimatedRows;
+    }
+    return Math.max(MIN_ROW_PREFETCH, Math.min(MAX_ROW_PREFETCH, prefetch));
+  }
+
+  private static boolean hasLobColumns(TableMetadata table) {
+    for (ColumnMetadata column : table.getColumns()) {
+      if (LOB_TYPES.contains(column.getDataType().toUpperCase())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
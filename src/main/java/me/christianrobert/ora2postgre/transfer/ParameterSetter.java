@@ -372,7 +372,7 @@ public class ParameterSetter {
 
     } else {
       // Unknown/other types - treat as string
-      log.debug("Unknown Oracle data type '{}' for column '{}', treating as string", oracleDataType, columnName);
+      TransferLogging.rowDebug(log, "Unknown Oracle data type '{}' for column '{}', treating as string", oracleDataType, columnName);
       String stringValue = rs.getString(columnName);
       stmt.setString(paramIndex, stringValue);
     }
@@ -0,0 +1,160 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.SequenceMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.OracleFunctionMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Moves the PostgreSQL sequences past the transferred data (high-water mark), so that
+ * the first nextval() after the migration does not collide with a loaded key.
+ *
+ * A sequence is set to max(key) + increment of the columns it feeds, but never below
+ * Oracle's last_number. The columns are found through the Oracle triggers that use the
+ * sequence (the single column numeric primary key of their table) and through column
+ * defaults referencing it. Identity columns are set through pg_get_serial_sequence.
+ * Every sequence is an independent statement, they are executed in parallel.
+ */
+public class SequenceSynchronizer {
+
+  private static final Logger log = LoggerFactory.getLogger(SequenceSynchronizer.class);
+
+  /**
+   * Builds one setval statement per sequence and identity column that feeds a loaded table.
+   */
+  public static List<String> buildSetvalStatements(Everything data) {
+    List<String> statements = new ArrayList<>();
+
+    for (SequenceMetadata sequence : data.getSequences()) {
+      if (sequence.getIncrementBy() <= 0) {
+        log.debug("Skipping descending sequence {}", sequence.getQualifiedPostgreName());
+        continue;
+      }
+      List<String> keyMaxima = new ArrayList<>();
+      for (TableMetadata table : data.getTableSql()) {
+        for (String column : findFedColumns(sequence, table, data)) {
+          keyMaxima.add("(SELECT MAX(" + column + ") FROM " + qualifiedTableName(table) + ") + " + sequence.getIncrementBy());
+        }
+      }
+      if (keyMaxima.isEmpty()) {
+        continue; // created with START WITH last_number, nothing to move
+      }
+      BigInteger floor = sequence.getLastNumber() != null ? sequence.getLastNumber() : BigInteger.ONE;
+      statements.add("SELECT setval('" + sequence.getQualifiedPostgreName() + "', GREATEST(" +
+              String.join(", ", keyMaxima) + ", " + floor + ")::bigint, false)");
+    }
+
+    for (TableMetadata table : data.getTableSql()) {
+      for (ColumnMetadata column : table.getColumns()) {
+        if (column.isIdentity()) {
+          String quoted = PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName());
+          // The column argument of pg_get_serial_sequence is taken literally, not case folded
+          String literal = quoted.startsWith("\"") ? column.getColumnName() : column.getColumnName().toLowerCase();
+          statements.add("SELECT setval(pg_get_serial_sequence('" + qualifiedTableName(table) + "', '" + literal +
+                  "'), GREATEST(MAX(" + quoted + ") + 1, 1)::bigint, false) FROM " + qualifiedTableName(table));
+        }
+      }
+    }
+    return statements;
+  }
+
+  /**
+   * Executes the setval statements on up to parallelism connections at the same time.
+   * A failing statement is logged and does not stop the others.
+   *
+   * @return the number of statements that failed
+   */
+  public static int synchronize(Everything data, ConnectionFactory postgresConnections, int parallelism) throws InterruptedException {
+    List<String> statements = buildSetvalStatements(data);
+    if (statements.isEmpty()) {
+      return 0;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, statements.size())));
+    int failures = 0;
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (String sql : statements) {
+        futures.add(executor.submit(MigrationMetrics.propagate(() -> {
+          try (Connection conn = postgresConnections.open();
+               Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+          }
+          return null;
+        })));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          failures++;
+          log.warn("Sequence synchronization failed: {} - {}", statements.get(i), e.getCause().getMessage());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    log.info("Synchronized {} of {} sequences with the transferred data", statements.size() - failures, statements.size());
+    return failures;
+  }
+
+  private static List<String> findFedColumns(SequenceMetadata sequence, TableMetadata table, Everything data) {
+    List<String> columns = new ArrayList<>(findDefaultColumns(sequence, table, data));
+    String qualified = table.getSchema() + "." + table.getTableName();
+    if (columns.isEmpty() && sequence.getUsingTables().stream().anyMatch(t -> t.equalsIgnoreCase(qualified))) {
+      String primaryKey = findNumericPrimaryKeyColumn(table);
+      if (primaryKey != null) {
+        columns.add(PostgreSqlIdentifierUtils.quoteIdentifier(primaryKey));
+      }
+    }
+    return columns;
+  }
+
+  private static List<String> findDefaultColumns(SequenceMetadata sequence, TableMetadata table, Everything data) {
+    List<String> columns = new ArrayList<>();
+    String expected = "nextval('" + sequence.getQualifiedPostgreName() + "')";
+    for (ColumnMetadata column : table.getColumns()) {
+      String defaultValue = column.getDefaultValue();
+      if (defaultValue != null && OracleFunctionMapper.isSequenceReference(defaultValue) &&
+              expected.equals(OracleFunctionMapper.transformSequenceFunctions(defaultValue.trim(), data, table.getSchema()))) {
+        columns.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+      }
+    }
+    return columns;
+  }
+
+  private static String findNumericPrimaryKeyColumn(TableMetadata table) {
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (constraint.isPrimaryKey() && constraint.getColumnNames().size() == 1) {
+        String columnName = constraint.getColumnNames().get(0);
+        for (ColumnMetadata column : table.getColumns()) {
+          if (column.getColumnName().equalsIgnoreCase(columnName) &&
+                  (column.getDataType().equalsIgnoreCase("NUMBER") || column.getDataType().equalsIgnoreCase("INTEGER"))) {
+            return columnName;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static String qualifiedTableName(TableMetadata table) {
+    return table.getSchema().toLowerCase() + "." + table.getTableName().toLowerCase();
+  }
+}
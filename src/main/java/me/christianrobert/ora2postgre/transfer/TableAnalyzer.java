@@ -376,6 +376,58 @@ public class TableAnalyzer {
     return null;
   }
 
+  /**
+   * Estimates the row count of a table without scanning it.
+   * Uses the optimizer statistics (all_tables.num_rows) captured during extraction and
+   * falls back to guesses based on the table name for tables without statistics.
+   * The estimate is only used for progress reporting, so it may be off in both directions.
+   */
+  public static long estimateRowCount(TableMetadata table) {
+    if (table.hasRowCountEstimate()) {
+      return table.getEstimatedRowCount();
+    }
+
+    // Use table name patterns to make educated guesses
+    String tableName = table.getTableName().toLowerCase();
+
+    // Configuration/reference tables - typically small
+    if (tableName.contains("config") || tableName.contains("setting") ||
+            tableName.contains("lookup") || tableName.contains("ref") ||
+            tableName.startsWith("cfg_") || tableName.endsWith("_config")) {
+      return 100;
+    }
+
+    // Log/audit tables - typically large
+    if (tableName.contains("log") || tableName.contains("audit") ||
+            tableName.contains("history") || tableName.contains("trace") ||
+            tableName.startsWith("log_") || tableName.endsWith("_log") ||
+            tableName.endsWith("_audit") || tableName.endsWith("_history")) {
+      return 100000;
+    }
+
+    // Transaction/data tables - medium to large
+    if (tableName.contains("transaction") || tableName.contains("order") ||
+            tableName.contains("payment") || tableName.contains("invoice") ||
+            tableName.contains("data") || tableName.startsWith("t_")) {
+      return 10000;
+    }
+
+    // User/customer tables - medium size
+    if (tableName.contains("user") || tableName.contains("customer") ||
+            tableName.contains("account") || tableName.contains("person")) {
+      return 5000;
+    }
+
+    // Junction/mapping tables - small to medium
+    if (tableName.contains("_") && (tableName.contains("map") ||
+            tableName.matches(".*_[a-z]+_[a-z]+.*"))) { // Pattern like table_other_mapping
+      return 1000;
+    }
+
+    // Default estimate for unknown tables
+    return 2000;
+  }
+
   /**
    * Estimates the transfer time for a table based on row count and complexity.
    * This is a rough estimate for planning purposes.
@@ -0,0 +1,76 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Debug logging of the per row and per value work in the transfer loops.
+ *
+ * With row details switched off (logging.transfer-row-details=false) these messages are not
+ * formatted or written. Their occurrences are counted per message template instead, and
+ * DataTransferService writes one summary line per template after each table.
+ *
+ * Transfers of concurrent jobs have their own setting and counts, keyed by the job bound to
+ * the thread (see {@link MigrationMetrics#getJobId()}).
+ */
+public final class TransferLogging {
+
+  private static final Map<String, JobState> states = new ConcurrentHashMap<>();
+
+  private static final class JobState {
+    volatile boolean rowDetails = true;
+    final Map<String, LongAdder> suppressed = new ConcurrentHashMap<>();
+  }
+
+  private TransferLogging() {
+  }
+
+  public static void setRowDetails(boolean enabled) {
+    states.computeIfAbsent(MigrationMetrics.getJobId(), k -> new JobState()).rowDetails = enabled;
+  }
+
+  public static boolean isRowDetails() {
+    JobState state = states.get(MigrationMetrics.getJobId());
+    return state == null || state.rowDetails;
+  }
+
+  /**
+   * Forgets the setting and the counts of the job running on this thread.
+   */
+  public static void clear() {
+    states.remove(MigrationMetrics.getJobId());
+  }
+
+  /**
+   * Logs a per row debug message, or only counts it when row details are off.
+   */
+  public static void rowDebug(Logger log, String format, Object... args) {
+    if (!log.isDebugEnabled()) {
+      return;
+    }
+    JobState state = states.get(MigrationMetrics.getJobId());
+    if (state == null || state.rowDetails) {
+      log.debug(format, args);
+    } else {
+      state.suppressed.computeIfAbsent(format, k -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * Writes the counts of the suppressed messages for a table and starts counting anew.
+   */
+  public static void logTableSummary(Logger log, String tableName) {
+    JobState state = states.get(MigrationMetrics.getJobId());
+    if (state == null || state.suppressed.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<String, LongAdder> entry : state.suppressed.entrySet()) {
+      log.debug("{}: {} x \"{}\"", tableName, entry.getValue().sum(), entry.getKey());
+    }
+    state.suppressed.clear();
+  }
+}
@@ -0,0 +1,318 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Trigger;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.MaterializedViewTransformer;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.SetBasedTriggerTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the migrated triggers from firing while rows are loaded into their tables, and
+ * records the tables whose triggers were bypassed.
+ *
+ * For the bulk load the triggers stay off for the whole session. For the delta sync they
+ * are switched off inside the transaction of each table, so other sessions never see
+ * the triggers disabled.
+ *
+ * Only the triggers migrated from Oracle are disabled, by name. The statement level triggers
+ * maintaining summary tables must keep firing, so the replication role, which would switch
+ * them off as well, is not used for loads writing to their base tables.
+ */
+public class TriggerBypass {
+
+  private static final Logger log = LoggerFactory.getLogger(TriggerBypass.class);
+
+  private final TriggerBypassMode mode;
+  private final Everything data;
+  private final List<String> bypassedTables = new ArrayList<>();
+  private final Map<String, List<String>> disabledTriggers = new LinkedHashMap<>();
+  private boolean sessionRoleActive;
+
+  public TriggerBypass(TriggerBypassMode mode, Everything data) {
+    this.mode = mode != null ? mode : TriggerBypassMode.NONE;
+    this.data = data;
+  }
+
+  public TriggerBypassMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Qualified names (SCHEMA.TABLE) of the tables whose triggers were bypassed.
+   */
+  public List<String> getBypassedTables() {
+    return bypassedTables;
+  }
+
+  /**
+   * Whether an Oracle trigger was migrated for the table.
+   */
+  public boolean hasTriggers(TableMetadata table) {
+    return !findTriggers(table).isEmpty();
+  }
+
+  private List<Trigger> findTriggers(TableMetadata table) {
+    List<Trigger> triggers = new ArrayList<>();
+    if (data == null) {
+      return triggers;
+    }
+    for (Trigger trigger : data.getTriggerAst()) {
+      if (table.getSchema().equalsIgnoreCase(trigger.getTableOwner())
+              && table.getTableName().equalsIgnoreCase(trigger.getTableName())) {
+        triggers.add(trigger);
+      }
+    }
+    return triggers;
+  }
+
+  /**
+   * Names of the PostgreSQL triggers created for the Oracle trigger, one per event for a
+   * set-based translation of a trigger with several events (see StatementLevelTriggerStrategy).
+   */
+  private List<String> postgresTriggerNames(Trigger trigger) {
+    List<String> events = trigger.getTriggeringEvents();
+    if (events.size() > 1 && SetBasedTriggerTransformer.transform(trigger, data) != null) {
+      return events.stream().map(event -> trigger.getPostgreTriggerName() + "_" + event.toLowerCase()).toList();
+    }
+    return List.of(trigger.getPostgreTriggerName());
+  }
+
+  private boolean hasSummaryTriggers(TableMetadata table) {
+    return data != null && MaterializedViewTransformer.hasSummaryTriggers(table, data);
+  }
+
+  /**
+   * Disables the migrated triggers of the table that exist in PostgreSQL. Every trigger is
+   * recorded as soon as it is disabled, so a failure leaves nothing disabled that
+   * {@link #restore(Connection)} would not enable again.
+   *
+   * @return true if at least one trigger was disabled
+   */
+  private boolean disableByName(Connection postgresConn, Statement stmt, TableMetadata table) throws SQLException {
+    Set<String> existing = existingTriggers(postgresConn, table);
+    boolean disabled = false;
+    for (Trigger trigger : findTriggers(table)) {
+      for (String name : postgresTriggerNames(trigger)) {
+        if (!existing.contains(name)) {
+          log.debug("Trigger {} of {} does not exist in PostgreSQL, nothing to disable", name, qualifiedName(table));
+          continue;
+        }
+        stmt.execute("ALTER TABLE " + qualifiedName(table) + " DISABLE TRIGGER " + PostgreSqlIdentifierUtils.quoteIdentifier(name));
+        disabledTriggers.computeIfAbsent(qualifiedName(table), k -> new ArrayList<>()).add(name);
+        disabled = true;
+      }
+    }
+    return disabled;
+  }
+
+  private Set<String> existingTriggers(Connection postgresConn, TableMetadata table) throws SQLException {
+    Set<String> names = new HashSet<>();
+    try (PreparedStatement ps = postgresConn.prepareStatement(
+            "SELECT tgname FROM pg_trigger WHERE tgrelid = to_regclass(?) AND NOT tgisinternal")) {
+      ps.setString(1, qualifiedName(table));
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          names.add(rs.getString(1));
+        }
+      }
+    }
+    return names;
+  }
+
+  private void enableByName(Statement stmt, String table) throws SQLException {
+    for (String name : disabledTriggers.getOrDefault(table, List.of())) {
+      stmt.execute("ALTER TABLE " + table + " ENABLE TRIGGER " + PostgreSqlIdentifierUtils.quoteIdentifier(name));
+    }
+  }
+
+  /**
+   * Disables the triggers of the tables for a load that commits as it goes.
+   * Call {@link #restore(Connection)} when the load is finished.
+   */
+  public void disableForLoad(Connection postgresConn, List<TableMetadata> tables) {
+    if (mode == TriggerBypassMode.NONE) {
+      return;
+    }
+    List<TableMetadata> triggered = tables.stream().filter(this::hasTriggers).toList();
+    if (triggered.isEmpty()) {
+      return;
+    }
+
+    boolean useReplicationRole = mode == TriggerBypassMode.REPLICATION_ROLE;
+    if (useReplicationRole && tables.stream().anyMatch(this::hasSummaryTriggers)) {
+      log.warn("Summary table triggers must fire during the load, disabling the migrated triggers by name instead of {}", mode);
+      useReplicationRole = false;
+    }
+
+    try (Statement stmt = postgresConn.createStatement()) {
+      if (useReplicationRole) {
+        stmt.execute("SET session_replication_role = replica");
+        sessionRoleActive = true;
+        triggered.forEach(table -> bypassedTables.add(qualifiedName(table)));
+      } else {
+        for (TableMetadata table : triggered) {
+          try {
+            disableByName(postgresConn, stmt, table);
+          } catch (SQLException e) {
+            log.warn("Could not disable all triggers of {}, the others fire during the load: {}", qualifiedName(table), e.getMessage());
+          }
+          if (disabledTriggers.containsKey(qualifiedName(table))) {
+            bypassedTables.add(qualifiedName(table));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      log.warn("Could not bypass triggers ({}), they fire during the load: {}", mode, e.getMessage());
+    }
+    if (!bypassedTables.isEmpty()) {
+      log.info("Triggers bypassed during the load ({}): {}", mode, String.join(", ", bypassedTables));
+    }
+  }
+
+  /**
+   * Applies the session setting to an additional load connection (REPLICATION_ROLE only).
+   */
+  public void applyToSession(Connection conn) throws SQLException {
+    if (sessionRoleActive) {
+      try (Statement stmt = conn.createStatement()) {
+        stmt.execute("SET session_replication_role = replica");
+      }
+    }
+  }
+
+  /**
+   * Enables the triggers disabled by {@link #disableForLoad(Connection, List)} again.
+   */
+  public void restore(Connection postgresConn) {
+    try (Statement stmt = postgresConn.createStatement()) {
+      if (sessionRoleActive) {
+        stmt.execute("RESET session_replication_role");
+        sessionRoleActive = false;
+      } else {
+        for (String table : disabledTriggers.keySet()) {
+          try {
+            enableByName(stmt, table);
+          } catch (SQLException e) {
+            log.error("Could not enable the triggers {} of {} again, run ALTER TABLE {} ENABLE TRIGGER for them: {}",
+                    disabledTriggers.get(table), table, table, e.getMessage());
+          }
+        }
+        disabledTriggers.clear();
+      }
+    } catch (SQLException e) {
+      log.error("Could not restore the triggers after the load: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Disables the triggers of one table inside the current transaction. The setting ends with
+   * the transaction (REPLICATION_ROLE without summary triggers on the table) or is undone by
+   * {@link #enableInTransaction}.
+   *
+   * @return true if the triggers of the table are bypassed
+   */
+  public boolean disableInTransaction(Connection postgresConn, TableMetadata table) throws SQLException {
+    if (mode == TriggerBypassMode.NONE || !hasTriggers(table)) {
+      return false;
+    }
+    try (Statement stmt = postgresConn.createStatement()) {
+      if (usesReplicationRole(table)) {
+        stmt.execute("SET LOCAL session_replication_role = replica");
+      } else {
+        try {
+          if (!disableByName(postgresConn, stmt, table)) {
+            return false;
+          }
+        } catch (SQLException e) {
+          // The failed transaction is rolled back, and with it the triggers disabled so far
+          disabledTriggers.remove(qualifiedName(table));
+          throw e;
+        }
+      }
+    }
+    if (!bypassedTables.contains(qualifiedName(table))) {
+      bypassedTables.add(qualifiedName(table));
+    }
+    return true;
+  }
+
+  /**
+   * Enables the triggers disabled by name again before the transaction commits.
+   */
+  public void enableInTransaction(Connection postgresConn, TableMetadata table) throws SQLException {
+    if (mode != TriggerBypassMode.NONE && !usesReplicationRole(table)) {
+      try (Statement stmt = postgresConn.createStatement()) {
+        enableByName(stmt, qualifiedName(table));
+      }
+      disabledTriggers.remove(qualifiedName(table));
+    }
+  }
+
+  private boolean usesReplicationRole(TableMetadata table) {
+    return mode == TriggerBypassMode.REPLICATION_ROLE && !hasSummaryTriggers(table);
+  }
+
+  /**
+   * Builds a script that replays the INSERT side effects of the bypassed triggers for all rows
+   * of their tables, from the set-based trigger translation. Triggers that are not set-based
+   * are listed as comments. The script is not executed: for data that came from Oracle the
+   * derived rows were usually transferred as well.
+   */
+  public String buildReplayScript() {
+    if (bypassedTables.isEmpty()) {
+      return "";
+    }
+    StringBuilder script = new StringBuilder();
+    script.append("-- Replays the side effects of triggers bypassed during the load, review before running\n");
+    for (String tableName : bypassedTables) {
+      TableMetadata table = findTable(tableName);
+      if (table == null) {
+        continue;
+      }
+      for (Trigger trigger : findTriggers(table)) {
+        Map<String, List<String>> statements = SetBasedTriggerTransformer.transform(trigger, data);
+        if (statements == null || !statements.containsKey("INSERT")) {
+          script.append("-- ").append(trigger.getTriggerName()).append(" on ").append(tableName)
+                  .append(": no set-based INSERT logic, replay manually\n");
+          continue;
+        }
+        script.append("-- ").append(trigger.getTriggerName()).append(" on ").append(tableName).append("\n");
+        for (String statement : statements.get("INSERT")) {
+          // All rows of the table take the place of the inserted rows
+          script.append(statement.replace(SetBasedTriggerTransformer.NEW_ROWS + " n", qualifiedName(table) + " n"))
+                  .append("\n");
+        }
+      }
+    }
+    return script.toString();
+  }
+
+  private TableMetadata findTable(String tableName) {
+    for (TableMetadata table : data.getTableSql()) {
+      if (qualifiedName(table).equals(tableName)) {
+        return table;
+      }
+    }
+    return null;
+  }
+
+  private static String qualifiedName(TableMetadata table) {
+    return PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+  }
+}
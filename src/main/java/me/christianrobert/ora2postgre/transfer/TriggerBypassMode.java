@@ -0,0 +1,25 @@
+package me.christianrobert.ora2postgre.transfer;
+
+/**
+ * How the migrated PostgreSQL triggers are kept from firing while data is loaded.
+ * Oracle never fired them for the historic rows, so they must not fire for the copies.
+ */
+public enum TriggerBypassMode {
+  /**
+   * Triggers fire for every loaded row.
+   */
+  NONE,
+
+  /**
+   * ALTER TABLE ... DISABLE TRIGGER for each migrated trigger by name, enabled again after
+   * the load. Needs table ownership. Foreign key and summary table triggers stay active.
+   */
+  DISABLE_TRIGGER,
+
+  /**
+   * SET session_replication_role = replica on the load connections. No table locks, but
+   * needs superuser (or the SET privilege on the parameter) and also skips foreign key checks.
+   * Loads writing to the base table of a summary table disable the triggers by name instead.
+   */
+  REPLICATION_ROLE
+}
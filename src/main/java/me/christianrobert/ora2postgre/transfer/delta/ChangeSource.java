@@ -0,0 +1,37 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+
+import java.sql.SQLException;
+
+/**
+ * Source of row changes between two SCNs.
+ * The Oracle implementation uses flashback queries, tests use a local stand-in.
+ */
+public interface ChangeSource {
+
+  /**
+   * Handler for changes, called in the order the changes happened.
+   */
+  @FunctionalInterface
+  interface ChangeHandler {
+    void accept(RowChange change) throws SQLException;
+  }
+
+  /**
+   * @return the current SCN of the source, used as upper bound of a sync round
+   */
+  long getCurrentScn() throws SQLException;
+
+  /**
+   * Reads all changes of a table after fromScn up to and including toScn.
+   */
+  void readChanges(TableMetadata table, long fromScn, long toScn, ChangeHandler handler) throws SQLException;
+
+  /**
+   * @return the reason why changes of the table cannot be detected, or null if they can
+   */
+  default String getUnsupportedReason(TableMetadata table) {
+    return null;
+  }
+}
@@ -0,0 +1,30 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import io.smallrye.config.ConfigMapping;
+
+import java.util.Optional;
+
+/**
+ * Configuration properties for the delta sync after the initial bulk load.
+ */
+@ConfigMapping(prefix = "delta-sync")
+public interface DeltaSyncConfig {
+
+  /**
+   * How changed rows are detected in Oracle.
+   * @return the delta sync method
+   */
+  DeltaSyncMethod method();
+
+  /**
+   * Modification timestamp column used with TIMESTAMP_COLUMN.
+   * @return the column name
+   */
+  Optional<String> timestampColumn();
+
+  /**
+   * Number of changes per JDBC batch.
+   * @return the batch size
+   */
+  int batchSize();
+}
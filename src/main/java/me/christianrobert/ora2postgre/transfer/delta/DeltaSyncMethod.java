@@ -0,0 +1,25 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+/**
+ * How changed rows are detected in Oracle since the last synchronized SCN.
+ */
+public enum DeltaSyncMethod {
+  /**
+   * Flashback version query (VERSIONS BETWEEN SCN). Detects inserts, updates and deletes,
+   * including updates of the primary key, limited by the undo retention of the source database.
+   */
+  FLASHBACK_VERSIONS,
+
+  /**
+   * ORA_ROWSCN pseudo column. Detects inserts and updates, no deletes. After an update of the
+   * primary key the row with the old key stays.
+   * Without ROWDEPENDENCIES the SCN is tracked per block, so unchanged rows of a changed block are re-sent.
+   */
+  ORA_ROWSCN,
+
+  /**
+   * A modification timestamp column maintained by the application. Detects inserts and updates, no deletes.
+   * After an update of the primary key the row with the old key stays.
+   */
+  TIMESTAMP_COLUMN
+}
@@ -0,0 +1,89 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of one delta sync round between two SCNs.
+ * The toScn is the fromScn of the next round.
+ */
+public class DeltaSyncResult {
+
+  /**
+   * Changes applied to one table, or the reason it was skipped or failed.
+   */
+  public static class TableDelta {
+    private final String tableName;
+    private final long upserts;
+    private final long deletes;
+    private final String skippedReason;
+    private final String errorMessage;
+
+    TableDelta(String tableName, long upserts, long deletes, String skippedReason, String errorMessage) {
+      this.tableName = tableName;
+      this.upserts = upserts;
+      this.deletes = deletes;
+      this.skippedReason = skippedReason;
+      this.errorMessage = errorMessage;
+    }
+
+    public String getTableName() { return tableName; }
+    public long getUpserts() { return upserts; }
+    public long getDeletes() { return deletes; }
+    public String getSkippedReason() { return skippedReason; }
+    public String getErrorMessage() { return errorMessage; }
+    public boolean isSkipped() { return skippedReason != null; }
+    public boolean isSuccessful() { return errorMessage == null; }
+  }
+
+  private final long fromScn;
+  private final long toScn;
+  private final List<TableDelta> tables = new ArrayList<>();
+  private List<String> triggerBypassedTables = List.of();
+
+  public DeltaSyncResult(long fromScn, long toScn) {
+    this.fromScn = fromScn;
+    this.toScn = toScn;
+  }
+
+  void addTable(TableDelta delta) {
+    tables.add(delta);
+  }
+
+  public long getFromScn() { return fromScn; }
+  public long getToScn() { return toScn; }
+  public List<TableDelta> getTables() { return tables; }
+  public List<String> getTriggerBypassedTables() { return triggerBypassedTables; }
+
+  void setTriggerBypassedTables(List<String> triggerBypassedTables) {
+    this.triggerBypassedTables = List.copyOf(triggerBypassedTables);
+  }
+
+  public boolean isSuccessful() {
+    return tables.stream().allMatch(TableDelta::isSuccessful);
+  }
+
+  public long getTotalUpserts() {
+    return tables.stream().mapToLong(TableDelta::getUpserts).sum();
+  }
+
+  public long getTotalDeletes() {
+    return tables.stream().mapToLong(TableDelta::getDeletes).sum();
+  }
+
+  public String getSummary() {
+    long skipped = tables.stream().filter(TableDelta::isSkipped).count();
+    long failed = tables.stream().filter(t -> !t.isSuccessful()).count();
+    String summary = String.format("Delta sync SCN %d -> %d: %d upserts, %d deletes in %d tables (%d skipped, %d failed)",
+            fromScn, toScn, getTotalUpserts(), getTotalDeletes(), tables.size(), skipped, failed);
+    if (!triggerBypassedTables.isEmpty()) {
+      summary += ", triggers bypassed on " + triggerBypassedTables.size() + " tables";
+    }
+    return summary;
+  }
+
+  @Override
+  public String toString() {
+    return getSummary();
+  }
+}
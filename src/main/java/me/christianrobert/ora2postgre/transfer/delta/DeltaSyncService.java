@@ -0,0 +1,239 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
+import me.christianrobert.ora2postgre.transfer.TriggerBypass;
+import me.christianrobert.ora2postgre.transfer.TriggerBypassMode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies the changes made in Oracle since a known SCN to PostgreSQL.
+ *
+ * After an initial bulk load at a snapshot SCN, sync rounds are repeated until cutover,
+ * each round covering the changes between the previous round's SCN and the current SCN.
+ * Changes are applied with batched INSERT ... ON CONFLICT (pk) DO UPDATE and DELETE
+ * statements keyed by the primary key, so applying a change twice is harmless.
+ * Each table is committed separately. The migrated triggers of a table are bypassed
+ * inside its transaction, the changes made by the Oracle triggers arrive with the sync.
+ */
+public class DeltaSyncService {
+
+  private static final Logger log = LoggerFactory.getLogger(DeltaSyncService.class);
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final int batchSize;
+  private TriggerBypass triggerBypass = new TriggerBypass(TriggerBypassMode.NONE, null);
+
+  public DeltaSyncService() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  public DeltaSyncService(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Bypasses the migrated triggers of the synchronized tables, see {@link TriggerBypass}.
+   */
+  public DeltaSyncService withTriggerBypass(TriggerBypass triggerBypass) {
+    this.triggerBypass = triggerBypass;
+    return this;
+  }
+
+  /**
+   * Runs one sync round for all tables, from fromScn up to the current SCN of the source.
+   *
+   * @param tables Tables to synchronize
+   * @param source Source of changed rows
+   * @param postgresConn Target connection
+   * @param fromScn SCN of the initial load or of the previous round
+   * @return the applied changes, getToScn() is the fromScn of the next round
+   */
+  public DeltaSyncResult syncTables(List<TableMetadata> tables, ChangeSource source,
+                                    Connection postgresConn, long fromScn) throws SQLException {
+    long toScn = source.getCurrentScn();
+    DeltaSyncResult result = new DeltaSyncResult(fromScn, toScn);
+    log.info("Starting delta sync of {} tables from SCN {} to SCN {}", tables.size(), fromScn, toScn);
+
+    boolean autoCommit = postgresConn.getAutoCommit();
+    postgresConn.setAutoCommit(false);
+    try {
+      for (TableMetadata table : tables) {
+        result.addTable(syncTable(table, source, postgresConn, fromScn, toScn));
+      }
+    } finally {
+      postgresConn.setAutoCommit(autoCommit);
+    }
+
+    result.setTriggerBypassedTables(triggerBypass.getBypassedTables());
+    log.info(result.getSummary());
+    return result;
+  }
+
+  private DeltaSyncResult.TableDelta syncTable(TableMetadata table, ChangeSource source, Connection postgresConn,
+                                               long fromScn, long toScn) {
+    String fullName = table.getSchema() + "." + table.getTableName();
+
+    List<Integer> keyIndexes = findPrimaryKeyIndexes(table);
+    String skippedReason = null;
+    if (keyIndexes.isEmpty()) {
+      skippedReason = "no primary key";
+    } else if (!TableAnalyzer.hasOnlyPrimitiveTypes(table)) {
+      skippedReason = "complex column types";
+    } else {
+      skippedReason = source.getUnsupportedReason(table);
+    }
+    if (skippedReason != null) {
+      log.warn("Skipping delta sync of {}: {}", fullName, skippedReason);
+      return new DeltaSyncResult.TableDelta(fullName, 0, 0, skippedReason, null);
+    }
+
+    try (PreparedStatement upsertStmt = postgresConn.prepareStatement(buildUpsertSql(table, keyIndexes));
+         PreparedStatement deleteStmt = postgresConn.prepareStatement(buildDeleteSql(table, keyIndexes))) {
+
+      boolean bypassed = triggerBypass.disableInTransaction(postgresConn, table);
+      ChangeApplier applier = new ChangeApplier(upsertStmt, deleteStmt, keyIndexes);
+      source.readChanges(table, fromScn, toScn, applier::apply);
+      applier.flush();
+      if (bypassed) {
+        triggerBypass.enableInTransaction(postgresConn, table);
+      }
+      postgresConn.commit();
+
+      log.debug("Delta sync of {}: {} upserts, {} deletes", fullName, applier.upserts, applier.deletes);
+      return new DeltaSyncResult.TableDelta(fullName, applier.upserts, applier.deletes, null, null);
+
+    } catch (Exception e) {
+      log.error("Delta sync of {} failed: {}", fullName, e.getMessage(), e);
+      try {
+        postgresConn.rollback();
+      } catch (SQLException rollbackError) {
+        log.warn("Rollback after failed delta sync of {} failed: {}", fullName, rollbackError.getMessage());
+      }
+      return new DeltaSyncResult.TableDelta(fullName, 0, 0, null, e.getMessage());
+    }
+  }
+
+  /**
+   * Batches upserts and deletes. Changes of one kind are flushed before a change of
+   * the other kind is queued, so the order of changes to the same row is preserved.
+   */
+  private class ChangeApplier {
+    private final PreparedStatement upsertStmt;
+    private final PreparedStatement deleteStmt;
+    private final List<Integer> keyIndexes;
+    private RowChange.Operation pendingOperation;
+    private int pending;
+    long upserts;
+    long deletes;
+
+    ChangeApplier(PreparedStatement upsertStmt, PreparedStatement deleteStmt, List<Integer> keyIndexes) {
+      this.upsertStmt = upsertStmt;
+      this.deleteStmt = deleteStmt;
+      this.keyIndexes = keyIndexes;
+    }
+
+    void apply(RowChange change) throws SQLException {
+      if (pendingOperation != null && pendingOperation != change.getOperation()) {
+        flush();
+      }
+      pendingOperation = change.getOperation();
+
+      Object[] values = change.getValues();
+      if (change.getOperation() == RowChange.Operation.DELETE) {
+        for (int i = 0; i < keyIndexes.size(); i++) {
+          deleteStmt.setObject(i + 1, values[keyIndexes.get(i)]);
+        }
+        deleteStmt.addBatch();
+        deletes++;
+      } else {
+        for (int i = 0; i < values.length; i++) {
+          upsertStmt.setObject(i + 1, values[i]);
+        }
+        upsertStmt.addBatch();
+        upserts++;
+      }
+
+      if (++pending >= batchSize) {
+        flush();
+      }
+    }
+
+    void flush() throws SQLException {
+      if (pending > 0) {
+        (pendingOperation == RowChange.Operation.DELETE ? deleteStmt : upsertStmt).executeBatch();
+      }
+      pending = 0;
+      pendingOperation = null;
+    }
+  }
+
+  static List<Integer> findPrimaryKeyIndexes(TableMetadata table) {
+    List<Integer> indexes = new ArrayList<>();
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (!constraint.isPrimaryKey()) {
+        continue;
+      }
+      for (String keyColumn : constraint.getColumnNames()) {
+        for (int i = 0; i < table.getColumns().size(); i++) {
+          if (table.getColumns().get(i).getColumnName().equalsIgnoreCase(keyColumn)) {
+            indexes.add(i);
+          }
+        }
+      }
+      if (indexes.size() != constraint.getColumnNames().size()) {
+        indexes.clear(); // key column not among the transferred columns
+      }
+      break;
+    }
+    return indexes;
+  }
+
+  static String buildUpsertSql(TableMetadata table, List<Integer> keyIndexes) {
+    List<String> columns = new ArrayList<>();
+    List<String> placeholders = new ArrayList<>();
+    List<String> updates = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+
+    for (int i = 0; i < table.getColumns().size(); i++) {
+      ColumnMetadata column = table.getColumns().get(i);
+      String name = PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName());
+      columns.add(name);
+      placeholders.add("?");
+      if (keyIndexes.contains(i)) {
+        keys.add(name);
+      } else {
+        updates.add(name + " = EXCLUDED." + name);
+      }
+    }
+
+    return "INSERT INTO " + qualifiedName(table) + " (" + String.join(", ", columns) + ")" +
+            " VALUES (" + String.join(", ", placeholders) + ")" +
+            " ON CONFLICT (" + String.join(", ", keys) + ")" +
+            (updates.isEmpty() ? " DO NOTHING" : " DO UPDATE SET " + String.join(", ", updates));
+  }
+
+  static String buildDeleteSql(TableMetadata table, List<Integer> keyIndexes) {
+    List<String> conditions = new ArrayList<>();
+    for (int index : keyIndexes) {
+      conditions.add(PostgreSqlIdentifierUtils.quoteIdentifier(table.getColumns().get(index).getColumnName()) + " = ?");
+    }
+    return "DELETE FROM " + qualifiedName(table) + " WHERE " + String.join(" AND ", conditions);
+  }
+
+  private static String qualifiedName(TableMetadata table) {
+    return PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+  }
+}
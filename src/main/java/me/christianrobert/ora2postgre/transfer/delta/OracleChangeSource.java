@@ -0,0 +1,179 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ScnExtractor;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Reads changed rows from Oracle with flashback queries.
+ * All queries are bounded by toScn, so rows changed while a sync round runs are picked up by the next round.
+ */
+public class OracleChangeSource implements ChangeSource {
+
+  private static final Logger log = LoggerFactory.getLogger(OracleChangeSource.class);
+  private static final int FETCH_SIZE = 1000;
+  private static final Set<String> EXACT_NUMERIC_TYPES = Set.of(
+          "NUMBER", "INTEGER", "INT", "SMALLINT", "DECIMAL", "NUMERIC", "FLOAT");
+  private static final Set<String> BINARY_NUMERIC_TYPES = Set.of(
+          "BINARY_FLOAT", "BINARY_DOUBLE", "DOUBLE PRECISION", "DOUBLE", "REAL");
+
+  private final Connection oracleConn;
+  private final DeltaSyncMethod method;
+  private final String timestampColumn;
+
+  public OracleChangeSource(Connection oracleConn, DeltaSyncMethod method, String timestampColumn) {
+    this.oracleConn = oracleConn;
+    this.method = method;
+    this.timestampColumn = timestampColumn;
+  }
+
+  @Override
+  public long getCurrentScn() throws SQLException {
+    return ScnExtractor.getCurrentScn(oracleConn);
+  }
+
+  @Override
+  public String getUnsupportedReason(TableMetadata table) {
+    if (method != DeltaSyncMethod.TIMESTAMP_COLUMN) {
+      return null;
+    }
+    for (ColumnMetadata column : table.getColumns()) {
+      if (column.getColumnName().equalsIgnoreCase(timestampColumn)) {
+        return null;
+      }
+    }
+    return "no timestamp column " + timestampColumn;
+  }
+
+  @Override
+  public void readChanges(TableMetadata table, long fromScn, long toScn, ChangeHandler handler) throws SQLException {
+    String sql = buildChangeQuery(table, fromScn, toScn);
+    log.debug("Delta query for {}.{}: {}", table.getSchema(), table.getTableName(), sql);
+
+    boolean hasOperationColumn = method == DeltaSyncMethod.FLASHBACK_VERSIONS;
+    List<ColumnMetadata> columns = table.getColumns();
+    List<Integer> keyIndexes = hasOperationColumn ? DeltaSyncService.findPrimaryKeyIndexes(table) : List.of();
+
+    try (PreparedStatement stmt = oracleConn.prepareStatement(sql)) {
+      stmt.setFetchSize(FETCH_SIZE);
+      try (ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          int offset = hasOperationColumn ? 1 : 0;
+          Object[] values = new Object[columns.size()];
+          for (int i = 0; i < columns.size(); i++) {
+            values[i] = readValue(rs, i + 1 + offset, columns.get(i));
+          }
+          String operation = hasOperationColumn ? rs.getString(1) : null;
+          if ("U".equals(operation) && !keyIndexes.isEmpty()) {
+            // An update of the primary key leaves the row with the old key behind
+            Object[] oldKey = new Object[columns.size()];
+            for (int k = 0; k < keyIndexes.size(); k++) {
+              int index = keyIndexes.get(k);
+              oldKey[index] = readValue(rs, columns.size() + 2 + k, columns.get(index));
+            }
+            if (keyChanged(keyIndexes, oldKey, values)) {
+              handler.accept(RowChange.delete(oldKey));
+            }
+          }
+          handler.accept("D".equals(operation) ? RowChange.delete(values) : RowChange.upsert(values));
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds the Oracle query returning the changed rows between the two SCNs.
+   */
+  String buildChangeQuery(TableMetadata table, long fromScn, long toScn) {
+    List<String> columnNames = new ArrayList<>();
+    for (ColumnMetadata column : table.getColumns()) {
+      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+    }
+    String tableRef = PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+    String columnList = String.join(", ", columnNames);
+
+    switch (method) {
+      case FLASHBACK_VERSIONS:
+        // Every version created in the range, in change order; the last version of a row wins.
+        // The key of the previous version of the same row is selected as well, so a primary key
+        // update can delete the old row. Versions that ended in the range are read for that only.
+        List<String> oldKeys = new ArrayList<>();
+        List<String> oldKeyAliases = new ArrayList<>();
+        List<Integer> keyIndexes = DeltaSyncService.findPrimaryKeyIndexes(table);
+        for (int k = 0; k < keyIndexes.size(); k++) {
+          String alias = "ORA2PG_OLD_KEY_" + (k + 1);
+          oldKeys.add(", LAG(" + columnNames.get(keyIndexes.get(k)) +
+                  ") OVER (PARTITION BY ROWID ORDER BY versions_startscn NULLS FIRST) " + alias);
+          oldKeyAliases.add(", " + alias);
+        }
+        return "SELECT versions_operation, " + columnList + String.join("", oldKeyAliases) +
+                " FROM (SELECT versions_operation, versions_startscn, " + columnList + String.join("", oldKeys) +
+                " FROM " + tableRef + " VERSIONS BETWEEN SCN " + fromScn + " AND " + toScn +
+                " WHERE versions_startscn > " + fromScn + " OR versions_endscn IS NOT NULL)" +
+                " WHERE versions_operation IS NOT NULL AND versions_startscn > " + fromScn +
+                " ORDER BY versions_startscn";
+      case ORA_ROWSCN:
+        return "SELECT " + columnList + " FROM " + tableRef + ScnExtractor.asOfScnClause(toScn) +
+                " WHERE ORA_ROWSCN > " + fromScn;
+      case TIMESTAMP_COLUMN:
+        if (timestampColumn == null || timestampColumn.isBlank()) {
+          throw new IllegalStateException("Delta sync by timestamp column requires delta-sync.timestamp-column");
+        }
+        return "SELECT " + columnList + " FROM " + tableRef + ScnExtractor.asOfScnClause(toScn) +
+                " WHERE " + PostgreSqlIdentifierUtils.quoteIdentifier(timestampColumn) +
+                " > SCN_TO_TIMESTAMP(" + fromScn + ")";
+      default:
+        throw new IllegalStateException("Unsupported delta sync method: " + method);
+    }
+  }
+
+  /**
+   * Reads a value with a Java type PgJDBC binds with a matching parameter type.
+   * Numbers bound as strings would be rejected for numeric columns.
+   */
+  static Object readValue(ResultSet rs, int index, ColumnMetadata column) throws SQLException {
+    String dataType = column.getDataType().toUpperCase();
+    if (dataType.equals("DATE") || dataType.startsWith("TIMESTAMP")) {
+      return rs.getTimestamp(index);
+    } else if (EXACT_NUMERIC_TYPES.contains(dataType)) {
+      return rs.getBigDecimal(index);
+    } else if (BINARY_NUMERIC_TYPES.contains(dataType)) {
+      // NaN and infinity have no BigDecimal
+      double value = rs.getDouble(index);
+      return rs.wasNull() ? null : value;
+    }
+    return rs.getString(index);
+  }
+
+  private static boolean keyChanged(List<Integer> keyIndexes, Object[] oldKey, Object[] values) {
+    for (int index : keyIndexes) {
+      Object before = oldKey[index];
+      Object after = values[index];
+      if (before == null) {
+        return false; // no previous version of the row in the range
+      }
+      boolean same = before instanceof BigDecimal && after instanceof BigDecimal
+              ? ((BigDecimal) before).compareTo((BigDecimal) after) == 0
+              : Objects.equals(before, after);
+      if (!same) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,28 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+/**
+ * A changed source row. Values are in the column order of the table metadata.
+ */
+public class RowChange {
+
+  public enum Operation { UPSERT, DELETE }
+
+  private final Operation operation;
+  private final Object[] values;
+
+  public RowChange(Operation operation, Object[] values) {
+    this.operation = operation;
+    this.values = values;
+  }
+
+  public static RowChange upsert(Object... values) {
+    return new RowChange(Operation.UPSERT, values);
+  }
+
+  public static RowChange delete(Object... values) {
+    return new RowChange(Operation.DELETE, values);
+  }
+
+  public Operation getOperation() { return operation; }
+  public Object[] getValues() { return values; }
+}
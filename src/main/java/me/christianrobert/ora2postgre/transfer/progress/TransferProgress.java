@@ -24,6 +24,9 @@ public class TransferProgress {
   private final AtomicLong currentTableTransferredRows = new AtomicLong(0);
   private final AtomicReference<String> currentStatus = new AtomicReference<>("Initializing");
 
+  // Oracle SCN all SELECTs of this session read as of, -1 if reads are not pinned to a snapshot
+  private volatile long snapshotScn = -1;
+
   public TransferProgress(String sessionId) {
     this.sessionId = sessionId;
     this.startTime = System.currentTimeMillis();
@@ -40,6 +43,9 @@ public class TransferProgress {
   public long getCurrentTableTotalRows() { return currentTableTotalRows.get(); }
   public long getCurrentTableTransferredRows() { return currentTableTransferredRows.get(); }
   public String getCurrentStatus() { return currentStatus.get(); }
+  public long getSnapshotScn() { return snapshotScn; }
+  public boolean hasSnapshotScn() { return snapshotScn >= 0; }
+  public void setSnapshotScn(long snapshotScn) { this.snapshotScn = snapshotScn; }
 
   // Calculated progress values
   public double getOverallProgressPercent() {
@@ -91,11 +97,22 @@ public class TransferProgress {
     this.currentStatus.set("Transferring " + schemaName + "." + tableName);
   }
 
+  /**
+   * Updates the transferred rows of the current table.
+   * Table sizes are estimates, so the denominators grow when more rows arrive than expected.
+   */
   public void updateCurrentTableProgress(long transferredRows) {
     this.currentTableTransferredRows.set(transferredRows);
+    long estimate = currentTableTotalRows.get();
+    if (transferredRows > estimate && currentTableTotalRows.compareAndSet(estimate, transferredRows)) {
+      this.totalEstimatedRows.addAndGet(transferredRows - estimate);
+    }
   }
 
   public void completeTable(long actualRowsTransferred) {
+    // Replace the estimate of the finished table by its actual row count
+    long estimate = currentTableTotalRows.getAndSet(actualRowsTransferred);
+    this.totalEstimatedRows.addAndGet(actualRowsTransferred - estimate);
     this.completedTables.incrementAndGet();
     this.totalTransferredRows.addAndGet(actualRowsTransferred);
     this.currentTableTransferredRows.set(actualRowsTransferred);
@@ -15,6 +15,7 @@ public class TransferResult {
   private final String strategyUsed;
   private final String errorMessage;
   private final Exception exception;
+  private final long snapshotScn;
 
   private TransferResult(Builder builder) {
     this.schemaName = builder.schemaName;
@@ -26,6 +27,7 @@ public class TransferResult {
     this.strategyUsed = builder.strategyUsed;
     this.errorMessage = builder.errorMessage;
     this.exception = builder.exception;
+    this.snapshotScn = builder.snapshotScn;
   }
 
   // Getters
@@ -38,6 +40,7 @@ public class TransferResult {
   public String getStrategyUsed() { return strategyUsed; }
   public String getErrorMessage() { return errorMessage; }
   public Exception getException() { return exception; }
+  public long getSnapshotScn() { return snapshotScn; }
 
   public String getFullTableName() {
     return schemaName + "." + tableName;
@@ -55,9 +58,10 @@ public class TransferResult {
   @Override
   public String toString() {
     if (successful) {
-      return String.format("SUCCESS: %s - %d/%d rows in %dms using %s (%.1f rows/sec)",
+      String result = String.format("SUCCESS: %s - %d/%d rows in %dms using %s (%.1f rows/sec)",
               getFullTableName(), rowsTransferred, sourceRowCount, transferTimeMs,
               strategyUsed, getTransferRateRowsPerSecond());
+      return snapshotScn >= 0 ? result + " as of SCN " + snapshotScn : result;
     } else {
       return String.format("FAILED: %s - %s", getFullTableName(), errorMessage);
     }
@@ -74,6 +78,7 @@ public class TransferResult {
     private String strategyUsed;
     private String errorMessage;
     private Exception exception;
+    private long snapshotScn = -1;
 
     public Builder(String schemaName, String tableName) {
       this.schemaName = schemaName;
@@ -116,11 +121,32 @@ public class TransferResult {
       return this;
     }
 
+    public Builder snapshotScn(long snapshotScn) {
+      this.snapshotScn = snapshotScn;
+      return this;
+    }
+
     public TransferResult build() {
       return new TransferResult(this);
     }
   }
 
+  /**
+   * Returns a copy of this result recording the Oracle SCN the data was read as of.
+   */
+  public TransferResult withSnapshotScn(long scn) {
+    Builder builder = new Builder(schemaName, tableName)
+            .successful(successful)
+            .rowsTransferred(rowsTransferred)
+            .sourceRowCount(sourceRowCount)
+            .transferTimeMs(transferTimeMs)
+            .strategyUsed(strategyUsed)
+            .errorMessage(errorMessage)
+            .snapshotScn(scn);
+    builder.exception = exception;
+    return builder.build();
+  }
+
   // Static factory methods for common cases
   public static TransferResult success(String schema, String table, long rowsTransferred,
                                        long sourceRowCount, long transferTimeMs, String strategy) {
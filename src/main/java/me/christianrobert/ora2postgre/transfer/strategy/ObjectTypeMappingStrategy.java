@@ -3,10 +3,13 @@ package me.christianrobert.ora2postgre.transfer.strategy;
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.SchemaResolutionUtils;
 import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ScnExtractor;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
 import me.christianrobert.ora2postgre.transfer.ObjectTypeMapper;
+import me.christianrobert.ora2postgre.transfer.OracleReadTuning;
 import me.christianrobert.ora2postgre.transfer.ParameterSetter;
 import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
@@ -40,10 +43,17 @@ import java.util.List;
 public class ObjectTypeMappingStrategy implements TransferStrategy {
 
   private static final Logger log = LoggerFactory.getLogger(ObjectTypeMappingStrategy.class);
+  private static final int FETCH_SIZE = 1000; // Reasonable fetch size for object types
   private final ObjectTypeMapper mapper;
+  private final OracleReadTuning readTuning;
 
   public ObjectTypeMappingStrategy() {
+    this(OracleReadTuning.disabled());
+  }
+
+  public ObjectTypeMappingStrategy(OracleReadTuning readTuning) {
     this.mapper = new ObjectTypeMapper();
+    this.readTuning = readTuning;
   }
 
   @Override
@@ -65,11 +75,10 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
             table.getSchema(), table.getTableName(), canHandle, hasObjectTypes, hasComplexTypes, hasAnydataColumns,
             everything.getObjectTypeSpecAst().size());
 
-    // Additional debugging for columns
-    if (log.isDebugEnabled()) {
+    // Column details only at TRACE, this runs for every table while selecting strategies
+    if (log.isTraceEnabled()) {
       for (ColumnMetadata column : table.getColumns()) {
-        String dataType = column.getDataType().toUpperCase();
-        log.debug("  Column {}: type '{}'", column.getColumnName(), dataType);
+        log.trace("  Column {}: type '{}'", column.getColumnName(), column.getDataType());
       }
     }
 
@@ -95,8 +104,8 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     log.info("Starting object type mapping transfer for {}.{}", schema, tableName);
 
     try {
-      // Start progress tracking
-      long estimatedRows = estimateRowCount(oracleConn, table);
+      // Start progress tracking, based on the extracted statistics instead of a COUNT(*) scan
+      long estimatedRows = TableAnalyzer.estimateRowCount(table);
       progress.startTable(schema, tableName, estimatedRows);
 
       // Build column information
@@ -104,7 +113,7 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
       List<ObjectTypeColumnInfo> objectTypeColumns = analyzeObjectTypeColumns(columns, schema, everything);
 
       // Build SELECT and INSERT queries
-      String selectSql = buildSelectQuery(table);
+      String selectSql = buildSelectQuery(table, progress.getSnapshotScn());
       String insertSql = buildInsertQuery(table, objectTypeColumns);
 
       log.debug("Oracle SELECT: {}", selectSql);
@@ -116,11 +125,12 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
 
       long endTime = System.currentTimeMillis();
       long transferTime = endTime - startTime;
+      progress.completeTable(transferredRows);
 
       log.info("Object type mapping transfer completed for {}.{}: {} rows in {} ms",
               schema, tableName, transferredRows, transferTime);
 
-      return TransferResult.success(schema, tableName, transferredRows, estimatedRows,
+      return TransferResult.success(schema, tableName, transferredRows, transferredRows,
               transferTime, getStrategyName());
 
     } catch (Exception e) {
@@ -156,9 +166,9 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
   /**
    * Builds the Oracle SELECT query for extracting data.
    */
-  private String buildSelectQuery(TableMetadata table) {
+  private String buildSelectQuery(TableMetadata table, long snapshotScn) {
     StringBuilder sql = new StringBuilder();
-    sql.append("SELECT ");
+    sql.append("SELECT ").append(readTuning.buildHint(table));
 
     List<String> columnNames = new ArrayList<>();
     for (ColumnMetadata column : table.getColumns()) {
@@ -167,7 +177,9 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
 
     sql.append(String.join(", ", columnNames));
     sql.append(" FROM ").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()))
-            .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()));
+            .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()))
+            .append(ScnExtractor.asOfScnClause(snapshotScn))
+            .append(readTuning.buildOrderBy(table));
 
     return sql.toString();
   }
@@ -211,11 +223,14 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     long rowCount = 0;
 
     try (PreparedStatement selectStmt = oracleConn.prepareStatement(selectSql)) {
-      selectStmt.setFetchSize(1000); // Reasonable fetch size for object types
+      readTuning.applyTo(selectStmt, table, FETCH_SIZE);
 
       try (ResultSet rs = selectStmt.executeQuery();
            PreparedStatement insertStmt = postgresConn.prepareStatement(insertSql)) {
 
+        String tableName = table.getSchema() + "." + table.getTableName();
+        long fetchStart = System.nanoTime();
+
         while (rs.next()) {
 
           try {
@@ -268,7 +283,8 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
 
           if (rowCount % 1000 == 0) {
             try {
-              insertStmt.executeBatch();
+              executeBatchWithMetrics(insertStmt, tableName, 1000, fetchStart);
+              fetchStart = System.nanoTime();
               progress.updateCurrentTableProgress(rowCount);
               log.debug("Transferred {} rows for object type table", rowCount);
             } catch (SQLException e) {
@@ -283,7 +299,7 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
         // Execute final batch
         if (rowCount % 1000 != 0) {
           try {
-            insertStmt.executeBatch();
+            executeBatchWithMetrics(insertStmt, tableName, rowCount % 1000, fetchStart);
             progress.updateCurrentTableProgress(rowCount);
           } catch (SQLException e) {
             log.error("Failed to execute final batch for table {}.{}: {}", 
@@ -298,6 +314,18 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     return rowCount;
   }
 
+  /**
+   * Executes the pending batch and records the time spent reading it from Oracle and writing it to PostgreSQL.
+   */
+  private void executeBatchWithMetrics(PreparedStatement insertStmt, String tableName, long batchRows,
+                                       long fetchStart) throws SQLException {
+    long writeStart = System.nanoTime();
+    MigrationMetrics.recordOracleFetch(tableName, getStrategyName(), writeStart - fetchStart);
+    insertStmt.executeBatch();
+    MigrationMetrics.recordPostgresWrite(tableName, getStrategyName(), System.nanoTime() - writeStart);
+    MigrationMetrics.recordTransferred(tableName, getStrategyName(), batchRows, 0);
+  }
+
   /**
    * Sets a regular (non-object-type) parameter in the PreparedStatement.
    * Now uses the unified ParameterSetter to handle both primitive and complex types.
@@ -318,29 +346,6 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
             .orElse(null);
   }
 
-  /**
-   * Estimates row count for progress tracking.
-   */
-  private long estimateRowCount(Connection oracleConn, TableMetadata table) throws SQLException {
-    try (PreparedStatement stmt = oracleConn.prepareStatement(
-            "SELECT COUNT(*) FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
-                    "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()))) {
-
-      try (ResultSet rs = stmt.executeQuery()) {
-        if (rs.next()) {
-          return rs.getLong(1);
-        }
-      }
-    } catch (SQLException e) {
-      log.error("Failed to estimate row count for {}.{}: {}",
-              table.getSchema(), table.getTableName(), e.getMessage(), e);
-      throw new SQLException("Failed to estimate row count for " + table.getSchema() + "." + table.getTableName(), e);
-    }
-
-    return 1000; // Default estimate
-  }
-
-
   /**
    * Helper method to find an ObjectType by schema and name.
    * Uses normalized names for consistent matching.
@@ -349,7 +354,7 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     String normalizedSchema = NameNormalizer.normalizeIdentifier(schema);
     String normalizedTypeName = NameNormalizer.normalizeObjectTypeName(typeName);
     
-    log.debug("Looking for object type: schema='{}', typeName='{}' (normalized: {}.{})", 
+    log.trace("Looking for object type: schema='{}', typeName='{}' (normalized: {}.{})", 
             schema, typeName, normalizedSchema, normalizedTypeName);
 
     ObjectType result = everything.getObjectTypeSpecAst().stream()
@@ -365,7 +370,7 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
             .findFirst()
             .orElse(null);
 
-    log.debug("Found object type: {}", result != null ? result.getName() : "null");
+    log.trace("Found object type: {}", result != null ? result.getName() : "null");
     return result;
   }
 
@@ -0,0 +1,150 @@
+package me.christianrobert.ora2postgre.transfer.strategy;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
+import me.christianrobert.ora2postgre.oracledb.PartitionMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.ConnectionFactory;
+import me.christianrobert.ora2postgre.transfer.OracleReadTuning;
+import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CSV streaming for partitioned tables: every Oracle partition is read with a
+ * PARTITION (name) SELECT and copied straight into its PostgreSQL child table,
+ * so no row goes through the partition routing of the parent.
+ * HASH partitions are the exception: PostgreSQL hashes keys differently from Oracle,
+ * so their rows are copied into the parent table and routed by PostgreSQL.
+ *
+ * Without connection factories the partitions are loaded one after another on the
+ * transfer connections. With factories, up to partitionParallelism partitions are
+ * loaded at the same time, each on its own pair of connections. Reads of different
+ * partitions are only consistent with each other when a snapshot SCN is used.
+ */
+public class PartitionedCsvStrategy extends StreamingCsvStrategy {
+
+  private static final Logger log = LoggerFactory.getLogger(PartitionedCsvStrategy.class);
+
+  private int partitionParallelism = 1;
+  private ConnectionFactory oracleConnections;
+  private ConnectionFactory postgresConnections;
+
+  public PartitionedCsvStrategy(OracleReadTuning readTuning) {
+    super(readTuning);
+  }
+
+  /**
+   * Loads partitions in parallel on connections opened by the given factories.
+   */
+  public void setPartitionConnections(int partitionParallelism, ConnectionFactory oracleConnections,
+                                      ConnectionFactory postgresConnections) {
+    this.partitionParallelism = Math.max(1, partitionParallelism);
+    this.oracleConnections = oracleConnections;
+    this.postgresConnections = postgresConnections;
+  }
+
+  @Override
+  public boolean canHandle(TableMetadata table, Everything everything) {
+    // Same condition as the DDL, otherwise there are no child tables to copy into
+    return table.isPartitioned() && table.getPartitioning().isSupportedInPostgre() && super.canHandle(table, everything);
+  }
+
+  @Override
+  public String getStrategyName() {
+    return "Partitioned CSV Streaming";
+  }
+
+  @Override
+  public TransferResult transferTable(TableMetadata table, Connection oracleConn,
+                                      Connection postgresConn, TransferProgress progress, Everything everything) throws Exception {
+
+    long startTime = System.currentTimeMillis();
+    String schemaName = table.getSchema();
+    String tableName = table.getTableName();
+    List<PartitionMetadata.Partition> partitions = table.getPartitioning().getPartitions();
+
+    try {
+      progress.startTable(schemaName, tableName, TableAnalyzer.estimateRowCount(table));
+      AtomicLong transferred = new AtomicLong();
+      long snapshotScn = progress.getSnapshotScn();
+
+      boolean parallel = partitionParallelism > 1 && partitions.size() > 1 &&
+              oracleConnections != null && postgresConnections != null;
+      if (parallel) {
+        transferInParallel(table, partitions, snapshotScn, progress, transferred);
+      } else {
+        for (PartitionMetadata.Partition partition : partitions) {
+          transferDataInBatches(table, partition.getPartitionName(),
+                  targetTableName(table, partition),
+                  oracleConn, postgresConn, snapshotScn,
+                  batchRows -> progress.updateCurrentTableProgress(transferred.addAndGet(batchRows)));
+        }
+      }
+
+      long totalTransferred = transferred.get();
+      long transferTime = System.currentTimeMillis() - startTime;
+      progress.completeTable(totalTransferred);
+      log.debug("Transferred {} rows of {}.{} from {} partitions{}", totalTransferred, schemaName, tableName,
+              partitions.size(), parallel ? " in parallel" : "");
+
+      return TransferResult.success(schemaName, tableName, totalTransferred, totalTransferred,
+              transferTime, getStrategyName());
+
+    } catch (Exception e) {
+      return TransferResult.failure(schemaName, tableName, getStrategyName(),
+              "Transfer failed: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * The child table of the partition, or the parent table for HASH partitioning: Oracle partition k
+   * holds different keys than the PostgreSQL child with remainder k-1.
+   */
+  static String targetTableName(TableMetadata table, PartitionMetadata.Partition partition) {
+    if ("HASH".equals(table.getPartitioning().getPartitioningType())) {
+      return table.getTableName();
+    }
+    return PartitionMetadata.childTableName(table.getTableName(), partition.getPartitionName());
+  }
+
+  private void transferInParallel(TableMetadata table, List<PartitionMetadata.Partition> partitions,
+                                  long snapshotScn, TransferProgress progress, AtomicLong transferred) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(partitionParallelism, partitions.size()));
+    try {
+      List<Future<Long>> futures = new ArrayList<>();
+      for (PartitionMetadata.Partition partition : partitions) {
+        futures.add(executor.submit(MigrationMetrics.propagate(() -> {
+          try (Connection oracleConn = oracleConnections.open();
+               Connection postgresConn = postgresConnections.open()) {
+            return transferDataInBatches(table, partition.getPartitionName(),
+                    targetTableName(table, partition),
+                    oracleConn, postgresConn, snapshotScn,
+                    batchRows -> progress.updateCurrentTableProgress(transferred.addAndGet(batchRows)));
+          }
+        })));
+      }
+      for (Future<Long> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          futures.forEach(f -> f.cancel(true));
+          throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -2,8 +2,11 @@ package me.christianrobert.ora2postgre.transfer.strategy;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ScnExtractor;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.OracleReadTuning;
 import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
@@ -12,6 +15,8 @@ import java.io.StringReader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
 /**
  * Transfer strategy that uses CSV streaming for tables with only primitive data types.
@@ -28,13 +33,23 @@ public class StreamingCsvStrategy implements TransferStrategy {
   private static final int DEFAULT_BATCH_SIZE = 10000;
   private static final int FETCH_SIZE = 5000;
   private final int batchSize;
+  private final OracleReadTuning readTuning;
 
   public StreamingCsvStrategy() {
     this(DEFAULT_BATCH_SIZE);
   }
 
+  public StreamingCsvStrategy(OracleReadTuning readTuning) {
+    this(DEFAULT_BATCH_SIZE, readTuning);
+  }
+
   public StreamingCsvStrategy(int batchSize) {
+    this(batchSize, OracleReadTuning.disabled());
+  }
+
+  public StreamingCsvStrategy(int batchSize, OracleReadTuning readTuning) {
     this.batchSize = batchSize;
+    this.readTuning = readTuning;
   }
 
   @Override
@@ -57,23 +72,19 @@ public class StreamingCsvStrategy implements TransferStrategy {
     String tableName = table.getTableName();
 
     try {
-      // Count total rows for progress tracking
-      long totalRows = countTableRows(oracleConn, table);
-      progress.startTable(schemaName, tableName, totalRows);
-
-      if (totalRows == 0) {
-        progress.completeTable(0);
-        return TransferResult.success(schemaName, tableName, 0, 0,
-                System.currentTimeMillis() - startTime, getStrategyName());
-      }
+      // Progress is based on the extracted statistics, counting the table would mean an extra full scan
+      long estimatedRows = TableAnalyzer.estimateRowCount(table);
+      progress.startTable(schemaName, tableName, estimatedRows);
 
       // Transfer data in batches
-      long totalTransferred = transferDataInBatches(table, oracleConn, postgresConn, progress, totalRows);
+      AtomicLong transferred = new AtomicLong();
+      long totalTransferred = transferDataInBatches(table, null, table.getTableName(), oracleConn, postgresConn,
+              progress.getSnapshotScn(), batchRows -> progress.updateCurrentTableProgress(transferred.addAndGet(batchRows)));
 
       long transferTime = System.currentTimeMillis() - startTime;
       progress.completeTable(totalTransferred);
 
-      return TransferResult.success(schemaName, tableName, totalTransferred, totalRows,
+      return TransferResult.success(schemaName, tableName, totalTransferred, totalTransferred,
               transferTime, getStrategyName());
 
     } catch (Exception e) {
@@ -82,35 +93,31 @@ public class StreamingCsvStrategy implements TransferStrategy {
     }
   }
 
-  private long countTableRows(Connection oracleConn, TableMetadata table) throws SQLException {
-    String countSql = "SELECT COUNT(*) FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
-            "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
-
-    try (PreparedStatement ps = oracleConn.prepareStatement(countSql);
-         ResultSet rs = ps.executeQuery()) {
-
-      if (rs.next()) {
-        return rs.getLong(1);
-      }
-      return 0;
-    }
-  }
-
-  private long transferDataInBatches(TableMetadata table, Connection oracleConn,
-                                     Connection postgresConn, TransferProgress progress,
-                                     long totalRows) throws Exception {
+  /**
+   * Streams the rows of a table, or of one of its partitions, into a PostgreSQL table with COPY.
+   *
+   * @param partitionName Oracle partition to read, or null for the whole table
+   * @param targetTableName PostgreSQL table in the table's schema to copy into
+   * @param snapshotScn SCN to read as of, or -1 for the current data
+   * @param onBatchCopied Receives the row count of every copied batch
+   * @return the number of rows copied
+   */
+  protected long transferDataInBatches(TableMetadata table, String partitionName, String targetTableName,
+                                       Connection oracleConn, Connection postgresConn, long snapshotScn,
+                                       LongConsumer onBatchCopied) throws Exception {
 
     List<ColumnMetadata> columns = table.getColumns();
-    String selectSql = buildSelectQuery(table);
+    String selectSql = buildSelectQuery(table, partitionName, snapshotScn);
     String copyColumns = buildCopyColumnList(columns);
 
     long totalTransferred = 0;
 
     try (PreparedStatement selectStmt = oracleConn.prepareStatement(selectSql)) {
-      selectStmt.setFetchSize(FETCH_SIZE);
+      readTuning.applyTo(selectStmt, table, FETCH_SIZE);
 
       try (ResultSet rs = selectStmt.executeQuery()) {
         List<String> csvBatch = new ArrayList<>();
+        long fetchStart = System.nanoTime();
 
         while (rs.next()) {
           String csvRow = convertRowToCsv(rs, columns);
@@ -118,18 +125,21 @@ public class StreamingCsvStrategy implements TransferStrategy {
 
           // Process batch when full
           if (csvBatch.size() >= batchSize) {
-            long batchTransferred = executeCopyFromBatch(postgresConn, table, copyColumns, csvBatch);
+            long batchTransferred = executeCopyFromBatch(postgresConn, table, targetTableName, copyColumns, csvBatch,
+                    fetchStart);
             totalTransferred += batchTransferred;
-            progress.updateCurrentTableProgress(totalTransferred);
+            onBatchCopied.accept(batchTransferred);
             csvBatch.clear();
+            fetchStart = System.nanoTime();
           }
         }
 
         // Process remaining rows
         if (!csvBatch.isEmpty()) {
-          long batchTransferred = executeCopyFromBatch(postgresConn, table, copyColumns, csvBatch);
+          long batchTransferred = executeCopyFromBatch(postgresConn, table, targetTableName, copyColumns, csvBatch,
+                  fetchStart);
           totalTransferred += batchTransferred;
-          progress.updateCurrentTableProgress(totalTransferred);
+          onBatchCopied.accept(batchTransferred);
         }
       }
     }
@@ -137,7 +147,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
     return totalTransferred;
   }
 
-  private String buildSelectQuery(TableMetadata table) {
+  private String buildSelectQuery(TableMetadata table, String partitionName, long snapshotScn) {
     List<ColumnMetadata> columns = table.getColumns();
     List<String> columnNames = new ArrayList<>();
 
@@ -145,8 +155,11 @@ public class StreamingCsvStrategy implements TransferStrategy {
       columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
     }
 
-    return "SELECT " + String.join(", ", columnNames) +
-            " FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+    return "SELECT " + readTuning.buildHint(table) + String.join(", ", columnNames) +
+            " FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()) +
+            (partitionName != null ? " PARTITION (" + PostgreSqlIdentifierUtils.quoteIdentifier(partitionName) + ")" : "") +
+            ScnExtractor.asOfScnClause(snapshotScn) +
+            readTuning.buildOrderBy(table);
   }
 
   private String buildCopyColumnList(List<ColumnMetadata> columns) {
@@ -157,7 +170,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
     return String.join(", ", columnNames);
   }
 
-  private String convertRowToCsv(ResultSet rs, List<ColumnMetadata> columns) throws SQLException {
+  String convertRowToCsv(ResultSet rs, List<ColumnMetadata> columns) throws SQLException {
     List<String> values = new ArrayList<>();
 
     for (ColumnMetadata column : columns) {
@@ -168,7 +181,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
     return String.join("\t", values); // Using tab-separated values for PostgreSQL COPY
   }
 
-  private String formatValueForCsv(ResultSet rs, ColumnMetadata column) throws SQLException {
+  String formatValueForCsv(ResultSet rs, ColumnMetadata column) throws SQLException {
     String columnName = column.getColumnName();
     String dataType = column.getDataType().toUpperCase();
 
@@ -196,7 +209,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
     }
   }
 
-  private String escapeForCsv(String value) {
+  String escapeForCsv(String value) {
     if (value == null) {
       return "\\N";
     }
@@ -208,41 +221,55 @@ public class StreamingCsvStrategy implements TransferStrategy {
             .replace("\r", "\\r");
   }
 
-  private long executeCopyFromBatch(Connection postgresConn, TableMetadata table,
-                                    String copyColumns, List<String> csvBatch) throws SQLException {
+  /**
+   * Copies one batch and records its rows, bytes, and the Oracle fetch and PostgreSQL write time.
+   *
+   * @param fetchStart System.nanoTime() when reading the batch from Oracle started
+   */
+  private long executeCopyFromBatch(Connection postgresConn, TableMetadata table, String targetTableName,
+                                    String copyColumns, List<String> csvBatch, long fetchStart) throws SQLException {
 
     String copyQuery = String.format("COPY %s.%s (%s) FROM STDIN",
             PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()),
-            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()),
+            PostgreSqlIdentifierUtils.quoteIdentifier(targetTableName),
             copyColumns);
 
     // Join all CSV rows with newlines
     String csvData = String.join("\n", csvBatch);
 
+    String tableName = table.getSchema() + "." + targetTableName;
+    long writeStart = System.nanoTime();
+    MigrationMetrics.recordOracleFetch(tableName, getStrategyName(), writeStart - fetchStart);
+
     // Use PostgreSQL CopyManager for efficient bulk insert
     try {
-      if (postgresConn instanceof org.postgresql.PGConnection) {
+      long copied;
+      // Pooled connections are wrappers, the driver connection is reached through unwrap()
+      if (postgresConn.isWrapperFor(org.postgresql.PGConnection.class)) {
         org.postgresql.copy.CopyManager copyManager =
-                ((org.postgresql.PGConnection) postgresConn).getCopyAPI();
+                postgresConn.unwrap(org.postgresql.PGConnection.class).getCopyAPI();
 
         StringReader reader = new StringReader(csvData);
-        return copyManager.copyIn(copyQuery, reader);
+        copied = copyManager.copyIn(copyQuery, reader);
       } else {
         // Fallback: use regular INSERT statements if COPY is not available
-        return executeBatchInsert(postgresConn, table, csvBatch);
+        copied = executeBatchInsert(postgresConn, table, targetTableName, csvBatch);
       }
+      MigrationMetrics.recordPostgresWrite(tableName, getStrategyName(), System.nanoTime() - writeStart);
+      MigrationMetrics.recordTransferred(tableName, getStrategyName(), copied, csvData.length());
+      return copied;
     } catch (Exception e) {
       throw new SQLException("COPY operation failed: " + e.getMessage(), e);
     }
   }
 
-  private long executeBatchInsert(Connection postgresConn, TableMetadata table,
+  private long executeBatchInsert(Connection postgresConn, TableMetadata table, String targetTableName,
                                   List<String> csvBatch) throws SQLException {
     // Fallback method using regular INSERT statements
     // This is less efficient but more compatible
 
     List<ColumnMetadata> columns = table.getColumns();
-    String insertSql = buildInsertStatement(table, columns);
+    String insertSql = buildInsertStatement(table, targetTableName, columns);
 
     try (PreparedStatement ps = postgresConn.prepareStatement(insertSql)) {
       for (String csvRow : csvBatch) {
@@ -262,7 +289,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
     }
   }
 
-  private String buildInsertStatement(TableMetadata table, List<ColumnMetadata> columns) {
+  private String buildInsertStatement(TableMetadata table, String targetTableName, List<ColumnMetadata> columns) {
     List<String> columnNames = new ArrayList<>();
     List<String> placeholders = new ArrayList<>();
 
@@ -273,7 +300,7 @@ public class StreamingCsvStrategy implements TransferStrategy {
 
     return String.format("INSERT INTO %s.%s (%s) VALUES (%s)",
             PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()),
-            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()),
+            PostgreSqlIdentifierUtils.quoteIdentifier(targetTableName),
             String.join(", ", columnNames),
             String.join(", ", placeholders));
   }
@@ -284,6 +284,17 @@ public class ExportConstraint {
     }
     ddl.append("\n");
 
+    String missingKeyColumns = getMissingPartitionKeyColumns(constraint, everything);
+    if (missingKeyColumns != null) {
+      // PostgreSQL only enforces uniqueness on a partitioned table per partition
+      log.warn("Skipping constraint {}: partitioned table {}.{} requires partition key columns {} in the constraint",
+              constraint.getConstraintName(), schema, tableName, missingKeyColumns);
+      ddl.append("-- NOT CREATED: ").append(schema).append(".").append(tableName)
+              .append(" is partitioned and PostgreSQL requires PRIMARY KEY and UNIQUE constraints\n")
+              .append("-- to include all partition key columns, missing: ").append(missingKeyColumns).append("\n");
+      return ddl.toString();
+    }
+
     // Generate ALTER TABLE statement using transformation manager
     ddl.append(constraintManager.transformAlterTableDDL(constraint, schema, tableName, everything));
 
@@ -329,6 +340,23 @@ public class ExportConstraint {
     return null;
   }
 
+  /**
+   * Partition key columns missing from a PRIMARY KEY or UNIQUE constraint of a partitioned table,
+   * or null if the constraint can be created.
+   */
+  private static String getMissingPartitionKeyColumns(ConstraintMetadata constraint, Everything everything) {
+    if (!constraint.isPrimaryKey() && !constraint.isUniqueConstraint()) {
+      return null;
+    }
+    for (TableMetadata table : everything.getTableSql()) {
+      if (table.getConstraints().contains(constraint)) {
+        List<String> missing = table.getMissingPartitionKeyColumns(constraint.getColumnNames());
+        return missing.isEmpty() ? null : String.join(", ", missing);
+      }
+    }
+    return null;
+  }
+
   /**
    * Finds the table name for a constraint by looking through all tables.
    *
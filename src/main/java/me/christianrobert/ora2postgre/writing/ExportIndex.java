@@ -30,7 +30,6 @@ import java.util.stream.Collectors;
 public class ExportIndex {
 
   private static final Logger log = LoggerFactory.getLogger(ExportIndex.class);
-  private static final IndexMigrationStrategyManager strategyManager = new IndexMigrationStrategyManager();
 
   /**
    * Main entry point for index export. Converts Oracle indexes to PostgreSQL
@@ -51,15 +50,20 @@ public class ExportIndex {
 
     log.info("Exporting {} indexes", indexes.size());
 
-    // Convert all indexes using strategy manager with constraint deduplication
+    // Convert all indexes using strategy manager with constraint deduplication.
+    // The manager is created per export, its strategies look up expressions and statistics in the context.
+    IndexMigrationStrategyManager strategyManager = new IndexMigrationStrategyManager(everything);
     IndexConversionResult conversionResult = strategyManager.convertIndexes(indexes, everything);
 
     // Export supported indexes
     exportSupportedIndexes(basePath, conversionResult.getSupportedIndexes());
 
-    // Log unsupported indexes (simple logging, no complex reporting)
+    // Log unsupported indexes
     logUnsupportedIndexes(conversionResult.getUnsupportedIndexes());
 
+    // Report what each Oracle index became
+    exportConversionReports(basePath, indexes, conversionResult);
+
     // Log conversion statistics
     logConversionStatistics(conversionResult);
 
@@ -163,6 +167,50 @@ public class ExportIndex {
     }
   }
 
+  /**
+   * Writes one report per schema listing every Oracle index with its type and what it became.
+   * The report is a .txt file, so it is not picked up by the SQL execution.
+   *
+   * @param basePath Base path for file generation
+   * @param indexes Extracted Oracle indexes
+   * @param conversionResult Result from index conversion process
+   */
+  private static void exportConversionReports(String basePath, List<IndexMetadata> indexes,
+                                              IndexConversionResult conversionResult) {
+    Map<String, PostgreSQLIndexDDL> results = new HashMap<>();
+    for (PostgreSQLIndexDDL result : conversionResult.getSupportedIndexes()) {
+      results.put(result.getSchemaName() + "." + result.getOriginalIndexName(), result);
+    }
+    for (PostgreSQLIndexDDL result : conversionResult.getUnsupportedIndexes()) {
+      results.put(result.getSchemaName() + "." + result.getOriginalIndexName(), result);
+    }
+
+    Map<String, List<IndexMetadata>> indexesBySchema = indexes.stream()
+            .collect(Collectors.groupingBy(index -> index.getSchemaName().toLowerCase()));
+
+    for (Map.Entry<String, List<IndexMetadata>> entry : indexesBySchema.entrySet()) {
+      StringBuilder report = new StringBuilder();
+      report.append("Index conversion report for schema ").append(entry.getKey().toUpperCase()).append("\n\n");
+
+      for (IndexMetadata index : entry.getValue()) {
+        PostgreSQLIndexDDL result = results.get(index.getSchemaName() + "." + index.getIndexName());
+        report.append(index.getIndexName()).append(" (").append(index.getIndexType()).append(") on ")
+                .append(index.getFullTableName()).append("\n");
+        if (result == null) {
+          report.append("  -> not created, covered by a PRIMARY KEY or UNIQUE constraint\n");
+        } else if (result.isExecutable()) {
+          report.append("  -> ").append(result.getCreateIndexSQL()).append("\n");
+          report.append("     ").append(result.getConversionNotes()).append("\n");
+        } else {
+          report.append("  -> not converted: ").append(result.getConversionNotes()).append("\n");
+        }
+      }
+
+      FileWriter.write(Paths.get(getIndexPath(basePath, entry.getKey())),
+              entry.getKey() + "_index_report.txt", report.toString());
+    }
+  }
+
   /**
    * Gets the full directory path for index files.
    *
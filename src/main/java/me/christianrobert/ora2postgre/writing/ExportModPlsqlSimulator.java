@@ -25,12 +25,29 @@ public class ExportModPlsqlSimulator {
   public static void setupTargetProject(String rootPath, String pathJava, String pathResources,
                                         String javaPackageName, String postgreUrl,
                                         String postgreUserName, String postgrePassword) {
+    setupTargetProject(rootPath, pathJava, pathResources, javaPackageName, postgreUrl,
+            postgreUserName, postgrePassword, ModPlsqlExecutionMode.WORKER_THREADS, 20, 20);
+  }
+
+  /**
+   * Sets up the target project for the given execution mode. The connection pool is sized
+   * from the expected number of concurrent page requests, bounded by maxConnections.
+   */
+  public static void setupTargetProject(String rootPath, String pathJava, String pathResources,
+                                        String javaPackageName, String postgreUrl,
+                                        String postgreUserName, String postgrePassword,
+                                        ModPlsqlExecutionMode executionMode,
+                                        int expectedConcurrency, int maxConnections) {
     // Create pom.xml in root directory
-    FileWriter.write(Paths.get(rootPath), "pom.xml", generatePom());
+    FileWriter.write(Paths.get(rootPath), "pom.xml", generatePom(executionMode));
 
     // Create application.properties in resources directory
     FileWriter.write(Paths.get(pathResources), "application.properties",
-            generateApplicationProperties(postgreUrl, postgreUserName, postgrePassword));
+            generateApplicationProperties(postgreUrl, postgreUserName, postgrePassword,
+                    calculatePoolMaxSize(expectedConcurrency, maxConnections)));
+
+    // Create load test script in root directory
+    FileWriter.write(Paths.get(rootPath), "loadtest.sh", generateLoadTestScript());
   }
 
   /**
@@ -40,6 +57,15 @@ public class ExportModPlsqlSimulator {
   public static void generateSimulators(String path, String javaPackageName,
                                         List<OraclePackage> specs, List<OraclePackage> bodies,
                                         Everything data) {
+    generateSimulators(path, javaPackageName, specs, bodies, data, ModPlsqlExecutionMode.WORKER_THREADS);
+  }
+
+  /**
+   * Generates mod-plsql simulator controllers for Oracle packages using the given execution mode.
+   */
+  public static void generateSimulators(String path, String javaPackageName,
+                                        List<OraclePackage> specs, List<OraclePackage> bodies,
+                                        Everything data, ModPlsqlExecutionMode executionMode) {
     // Generate the ModPlsqlExecutor utility class first
     generateModPlsqlExecutor(path, javaPackageName);
     
@@ -58,7 +84,7 @@ public class ExportModPlsqlSimulator {
               "modplsql";
 
       String className = StringAux.capitalizeFirst(pkg.getName()) + "ModPlsqlController.java";
-      String content = ModPlsqlSimulatorGenerator.generateSimulator(pkg, javaPackageName, data);
+      String content = ModPlsqlSimulatorGenerator.generateSimulator(pkg, javaPackageName, data, executionMode);
 
       FileWriter.write(Paths.get(fullPathAsString), className, content);
     }
@@ -100,11 +126,22 @@ public class ExportModPlsqlSimulator {
     return merged;
   }
 
+  /**
+   * Calculates the maximum connection pool size of the target project.
+   * Every page request holds one connection while its procedure runs and its output
+   * is streamed, so the pool follows the expected concurrency up to maxConnections.
+   */
+  static int calculatePoolMaxSize(int expectedConcurrency, int maxConnections) {
+    return Math.max(1, Math.min(expectedConcurrency, maxConnections));
+  }
+
   /**
    * Generates the pom.xml content for the mod-plsql simulator target project.
    * Updated with dependencies optimized for mod-plsql functionality.
+   * Virtual thread controllers need Java 21.
    */
-  private static String generatePom() {
+  private static String generatePom(ModPlsqlExecutionMode executionMode) {
+    String javaVersion = executionMode == ModPlsqlExecutionMode.VIRTUAL_THREADS ? "21" : "17";
     return """
             <?xml version="1.0" encoding="UTF-8"?>
             <project xmlns="http://maven.apache.org/POM/4.0.0"
@@ -117,8 +154,8 @@ public class ExportModPlsqlSimulator {
                 <version>1.0-SNAPSHOT</version>
 
                 <properties>
-                    <maven.compiler.source>17</maven.compiler.source>
-                    <maven.compiler.target>17</maven.compiler.target>
+                    <maven.compiler.source>%1$s</maven.compiler.source>
+                    <maven.compiler.target>%1$s</maven.compiler.target>
                     <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>
                     <quarkus.platform.version>3.15.1</quarkus.platform.version>
                 </properties>
@@ -185,14 +222,15 @@ public class ExportModPlsqlSimulator {
                     </plugins>
                 </build>
             </project>
-            """;
+            """.formatted(javaVersion);
   }
 
   /**
    * Generates the application.properties content for the mod-plsql simulator project.
    * Optimized for HTML content serving and database connectivity.
    */
-  private static String generateApplicationProperties(String postgreUrl, String postgreUserName, String postgrePassword) {
+  private static String generateApplicationProperties(String postgreUrl, String postgreUserName, String postgrePassword,
+                                                      int poolMaxSize) {
     return new StringBuilder()
             .append("# Mod-PLSQL Simulator Configuration\n")
             .append("quarkus.http.port=8080\n")
@@ -210,10 +248,15 @@ public class ExportModPlsqlSimulator {
             .append(postgrePassword)
             .append("\n\n")
             
-            .append("# Connection Pool Settings for Mod-PLSQL\n")
-            .append("quarkus.datasource.jdbc.min-size=5\n")
-            .append("quarkus.datasource.jdbc.max-size=20\n")
-            .append("quarkus.datasource.jdbc.acquisition-timeout=30s\n\n")
+            .append("# Connection Pool Settings for Mod-PLSQL (sized from the expected concurrency)\n")
+            .append("quarkus.datasource.jdbc.min-size=").append(Math.max(1, poolMaxSize / 4)).append("\n")
+            .append("quarkus.datasource.jdbc.max-size=").append(poolMaxSize).append("\n")
+            .append("quarkus.datasource.jdbc.acquisition-timeout=30s\n")
+            .append("# Connections are reused across requests (SYS.reset_session() resets their state),\n")
+            .append("# validation evicts broken connections and max-lifetime bounds any leftover session state\n")
+            .append("quarkus.datasource.jdbc.validation-query-sql=SELECT 1\n")
+            .append("quarkus.datasource.jdbc.background-validation-interval=2M\n")
+            .append("quarkus.datasource.jdbc.max-lifetime=30M\n\n")
             
             .append("# HTTP Configuration for HTML Content\n")
             .append("quarkus.http.body.handle-file-uploads=false\n")
@@ -226,6 +269,32 @@ public class ExportModPlsqlSimulator {
             .toString();
   }
 
+  /**
+   * Generates a load test script for the mod-plsql simulator project.
+   * It uses ApacheBench to measure the request throughput of a single endpoint,
+   * e.g. to compare the session reset protocol against DISCARD ALL per request.
+   */
+  private static String generateLoadTestScript() {
+    return """
+            #!/bin/sh
+            # Load test for a mod-plsql simulator endpoint (requires ApacheBench 'ab')
+            # Usage: ./loadtest.sh /modplsql/{schema}/{package}/{procedure}?param=value [requests] [concurrency]
+            #
+            # Run it once against the current build and once against a build that executes DISCARD ALL
+            # per request to see the throughput difference of keeping the plan caches warm.
+
+            ENDPOINT=${1:?endpoint path required}
+            REQUESTS=${2:-5000}
+            CONCURRENCY=${3:-20}
+            BASE_URL=${BASE_URL:-http://localhost:8080}
+
+            # Warm up the connection pool and the plan caches
+            ab -q -n "$CONCURRENCY" -c "$CONCURRENCY" "$BASE_URL$ENDPOINT" > /dev/null
+
+            ab -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL$ENDPOINT" | grep -E "Requests per second|Time per request|Failed requests|Percentage"
+            """;
+  }
+
   /**
    * Generates a README.md file with usage instructions for the mod-plsql simulator.
    */
@@ -302,6 +371,11 @@ public class ExportModPlsqlSimulator {
     
     sb.append("package ").append(javaPackageName).append(".utils;\n\n");
     
+    sb.append("import java.io.IOException;\n");
+    sb.append("import java.io.OutputStream;\n");
+    sb.append("import java.io.OutputStreamWriter;\n");
+    sb.append("import java.io.Writer;\n");
+    sb.append("import java.nio.charset.StandardCharsets;\n");
     sb.append("import java.sql.CallableStatement;\n");
     sb.append("import java.sql.Connection;\n");
     sb.append("import java.sql.PreparedStatement;\n");
@@ -318,19 +392,30 @@ public class ExportModPlsqlSimulator {
     sb.append(" * 1. Initializing the HTP buffer before procedure execution\n");
     sb.append(" * 2. Initializing package variables if needed (session-specific cache)\n");
     sb.append(" * 3. Executing the target procedure with parameters\n");
-    sb.append(" * 4. Retrieving the generated HTML content from the HTP buffer\n");
+    sb.append(" * 4. Retrieving or streaming the generated HTML content from the HTP buffer\n");
     sb.append(" */\n");
     sb.append("public class ModPlsqlExecutor {\n\n");
     
     sb.append("  /**\n");
-    sb.append("   * Session isolation: Each connection gets fresh package variable state.\n");
-    sb.append("   * Since we use forced connection closure per request, we always initialize\n");
-    sb.append("   * package variables for each fresh connection without caching.\n");
+    sb.append("   * Session isolation: Each request gets fresh package variable state.\n");
+    sb.append("   * SYS.reset_session() empties the package variable tables of the pooled\n");
+    sb.append("   * connection, and we always initialize package variables without caching.\n");
     sb.append("   */\n\n");
     
+    sb.append("  /**\n");
+    sb.append("   * Resets the session state of a pooled connection by calling SYS.reset_session().\n");
+    sb.append("   * Package variables, the HTP buffer and session settings are reset, while cached\n");
+    sb.append("   * plans and prepared statements survive (as opposed to DISCARD ALL).\n");
+    sb.append("   */\n");
+    sb.append("  public static void resetSession(Connection conn) throws SQLException {\n");
+    sb.append("    try (CallableStatement stmt = conn.prepareCall(\"CALL SYS.reset_session()\")) {\n");
+    sb.append("      stmt.execute();\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+    
     sb.append("  /**\n");
     sb.append("   * Initializes the HTP buffer by calling SYS.HTP_init().\n");
-    sb.append("   * This creates a fresh temporary table for HTML content generation.\n");
+    sb.append("   * This clears the session-local buffer for HTML content generation.\n");
     sb.append("   */\n");
     sb.append("  public static void initializeHtpBuffer(Connection conn) throws SQLException {\n");
     sb.append("    try (CallableStatement stmt = conn.prepareCall(\"CALL SYS.HTP_init()\")) {\n");
@@ -349,14 +434,28 @@ public class ExportModPlsqlSimulator {
     sb.append("   */\n");
     sb.append("  public static String executeProcedureWithHtp(Connection conn, String procedureName, \n");
     sb.append("                                               Map<String, String> parameters) throws SQLException {\n");
+    sb.append("    executeProcedureIntoHtpBuffer(conn, procedureName, parameters);\n");
+    sb.append("    \n");
+    sb.append("    // Retrieve and return the generated HTML\n");
+    sb.append("    return getHtmlFromBuffer(conn);\n");
+    sb.append("  }\n\n");
+    
+    sb.append("  /**\n");
+    sb.append("   * Executes a PostgreSQL procedure with HTP support and leaves the generated HTML\n");
+    sb.append("   * in the HTP buffer, to be streamed with writeHtmlFromBuffer().\n");
+    sb.append("   * \n");
+    sb.append("   * @param conn Database connection\n");
+    sb.append("   * @param procedureName Fully qualified PostgreSQL procedure name (e.g., \"SCHEMA.PACKAGE_procedure\")\n");
+    sb.append("   * @param parameters Map of parameter names to values\n");
+    sb.append("   * @throws SQLException If database operation fails\n");
+    sb.append("   */\n");
+    sb.append("  public static void executeProcedureIntoHtpBuffer(Connection conn, String procedureName, \n");
+    sb.append("                                                   Map<String, String> parameters) throws SQLException {\n");
     sb.append("    // Initialize package variables if this is a package procedure\n");
     sb.append("    initializePackageVariables(conn, procedureName);\n");
     sb.append("    \n");
     sb.append("    // Execute the procedure with parameters\n");
     sb.append("    executeProcedure(conn, procedureName, parameters);\n");
-    sb.append("    \n");
-    sb.append("    // Retrieve and return the generated HTML\n");
-    sb.append("    return getHtmlFromBuffer(conn);\n");
     sb.append("  }\n\n");
     
     sb.append("  /**\n");
@@ -412,6 +511,44 @@ public class ExportModPlsqlSimulator {
     sb.append("    }\n");
     sb.append("  }\n\n");
     
+    sb.append("  /**\n");
+    sb.append("   * Streams the HTML content of the HTP buffer to the given output stream.\n");
+    sb.append("   * SYS.HTP_page_chunks() is read through a server-side cursor (fetch size 1, which\n");
+    sb.append("   * requires auto-commit to be off), so only one chunk is held in memory at a time and\n");
+    sb.append("   * the client receives the first bytes before the whole page has been read.\n");
+    sb.append("   */\n");
+    sb.append("  public static void writeHtmlFromBuffer(Connection conn, OutputStream output) throws SQLException, IOException {\n");
+    sb.append("    Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);\n");
+    sb.append("    try (PreparedStatement stmt = conn.prepareStatement(\"SELECT SYS.HTP_page_chunks()\")) {\n");
+    sb.append("      stmt.setFetchSize(1);\n");
+    sb.append("      try (ResultSet rs = stmt.executeQuery()) {\n");
+    sb.append("        while (rs.next()) {\n");
+    sb.append("          String chunk = rs.getString(1);\n");
+    sb.append("          if (chunk != null && !chunk.isEmpty()) {\n");
+    sb.append("            writer.write(chunk);\n");
+    sb.append("            writer.flush();\n");
+    sb.append("          }\n");
+    sb.append("        }\n");
+    sb.append("      }\n");
+    sb.append("    }\n");
+    sb.append("    writer.flush();\n");
+    sb.append("  }\n\n");
+    
+    sb.append("  /**\n");
+    sb.append("   * Closes a connection and ignores errors, used on error paths where the\n");
+    sb.append("   * connection was not handed over to a streaming response.\n");
+    sb.append("   */\n");
+    sb.append("  public static void closeQuietly(Connection conn) {\n");
+    sb.append("    if (conn == null) {\n");
+    sb.append("      return;\n");
+    sb.append("    }\n");
+    sb.append("    try {\n");
+    sb.append("      conn.close();\n");
+    sb.append("    } catch (SQLException e) {\n");
+    sb.append("      // Nothing left to do, the pool discards the broken connection\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+    
     sb.append("  /**\n");
     sb.append("   * Utility method to flush the HTP buffer (clear contents).\n");
     sb.append("   * Useful for testing or error recovery scenarios.\n");
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
 
 import java.io.File;
@@ -18,6 +19,7 @@ public class ExportObjectType {
 
   public static void saveObjectTypeSpecToPostgre(String path, List<ObjectType> specs, List<ObjectType> bodies, Everything data) {
     for (ObjectType o : mergeObjectSpecAndBody(specs, bodies)) {
+      long start = System.nanoTime();
       String fullPathAsString = path +
               File.separator +
               o.getSchema().toLowerCase() +
@@ -31,11 +33,13 @@ public class ExportObjectType {
       ) {
         FileWriter.write(Paths.get(fullPathAsString), o.getName() + "OBJECTTYPESPEC.sql", postgreType);
       }
+      MigrationMetrics.recordExport("object_type_spec", start);
     }
   }
 
   public static void saveObjectTypeBodyToPostgre(String path, List<ObjectType> specs, List<ObjectType> bodies, Everything data) {
     for (ObjectType o : mergeObjectSpecAndBody(specs, bodies)) {
+      long start = System.nanoTime();
       String fullPathAsString = path +
               File.separator +
               o.getSchema().toLowerCase() +
@@ -49,6 +53,7 @@ public class ExportObjectType {
         FileWriter.write(Paths.get(fullPathAsString), o.getName() + ".sql", postgreFunctions);
 
       }
+      MigrationMetrics.recordExport("object_type_body", start);
     }
   }
 
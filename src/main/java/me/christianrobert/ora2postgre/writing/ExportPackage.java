@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.*;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.PackageTransformationManager;
 
@@ -23,6 +24,7 @@ public class ExportPackage {
 
   public static void savePackageSpecToPostgre(String path, List<OraclePackage> specs, List<OraclePackage> bodies, Everything data) {
     for (OraclePackage o : mergeSpecAndBody(specs, bodies)) {
+      long start = System.nanoTime();
       String fullPathAsString = path +
               File.separator +
               o.getSchema().toLowerCase() +
@@ -31,11 +33,13 @@ public class ExportPackage {
       // TODO name
       String transformedContent = packageManager.transform(o, data, true);
       FileWriter.write(Paths.get(fullPathAsString), o.getName() + ".sql", transformedContent);
+      MigrationMetrics.recordExport("package_spec", start);
     }
   }
 
   public static void savePackageBodyToPostgre(String path, List<OraclePackage> specs, List<OraclePackage> bodies, Everything data) {
     for (OraclePackage o : mergeSpecAndBody(specs, bodies)) {
+      long start = System.nanoTime();
       String fullPathAsString = path +
               File.separator +
               o.getSchema().toLowerCase() +
@@ -44,6 +48,7 @@ public class ExportPackage {
       // TODO name
       String transformedContent = packageManager.transform(o, data, false);
       FileWriter.write(Paths.get(fullPathAsString), o.getName() + ".sql", transformedContent);
+      MigrationMetrics.recordExport("package_body", start);
     }
   }
 
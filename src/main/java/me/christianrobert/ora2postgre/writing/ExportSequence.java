@@ -0,0 +1,30 @@
+package me.christianrobert.ora2postgre.writing;
+
+import me.christianrobert.ora2postgre.oracledb.SequenceMetadata;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ExportSequence {
+
+  /**
+   * Writes one ALLSEQUENCE.sql per schema. The sequences are created before the
+   * tables, as column defaults may reference them.
+   */
+  public static void saveSql(String path, List<SequenceMetadata> sequences) {
+    Map<String, List<SequenceMetadata>> bySchema = sequences.stream()
+            .collect(Collectors.groupingBy(s -> s.getSchema().toLowerCase(), LinkedHashMap::new, Collectors.toList()));
+
+    for (Map.Entry<String, List<SequenceMetadata>> entry : bySchema.entrySet()) {
+      FileWriter.write(
+              Paths.get(path + File.separator + entry.getKey()),
+              "ALLSEQUENCE.sql",
+              entry.getValue().stream().map(SequenceMetadata::toPostgre).collect(Collectors.joining("\n"))
+      );
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.Function;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.FunctionTransformationManager;
 
@@ -28,10 +29,12 @@ public class ExportStandaloneFunction {
               File.separator + 
               "step3afunctions";
       
+      long start = System.nanoTime();
       String fileName = function.getName().toLowerCase() + ".sql";
       String transformedContent = functionManager.transform(function, data, false);
       
       FileWriter.write(Paths.get(fullPathAsString), fileName, transformedContent);
+      MigrationMetrics.recordExport("function", start);
     }
   }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.Procedure;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.ProcedureTransformationManager;
 
@@ -28,10 +29,12 @@ public class ExportStandaloneProcedure {
               File.separator + 
               "step3bprocedures";
       
+      long start = System.nanoTime();
       String fileName = procedure.getName().toLowerCase() + ".sql";
       String transformedContent = procedureManager.transform(procedure, data, false);
       
       FileWriter.write(Paths.get(fullPathAsString), fileName, transformedContent);
+      MigrationMetrics.recordExport("procedure", start);
     }
   }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.global.StringAux;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.TableTransformationManager;
@@ -28,11 +29,13 @@ public class ExportTable {
 
   public static void saveSql(String path, List<TableMetadata> tables, Everything data) {
     for (TableMetadata t : tables) {
+      long start = System.nanoTime();
       FileWriter.write(
               Paths.get(path + File.separator + t.getSchema().toLowerCase()),
               StringAux.capitalizeFirst(t.getTableName()) + "TABLE.sql",
               String.join("\n", tableManager.transform(t, data))
       );
+      MigrationMetrics.recordExport("table", start);
     }
   }
 }
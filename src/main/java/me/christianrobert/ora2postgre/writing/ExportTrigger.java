@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.plsql.ast.Trigger;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.TriggerTransformationManager;
 
@@ -65,11 +66,13 @@ public class ExportTrigger {
     Map<String, Integer> schemaFunctionCounts = new HashMap<>();
 
     for (Trigger trigger : triggers) {
+      long start = System.nanoTime();
       String functionContent = generateTriggerFunction(trigger, everything);
       String functionFileName = getTriggerFunctionFileName(trigger);
       String fullPath = getTriggerFunctionPath(basePath, trigger.getSchema());
 
       FileWriter.write(Paths.get(fullPath), functionFileName, functionContent);
+      MigrationMetrics.recordExport("trigger_function", start);
 
       // Track statistics
       schemaFunctionCounts.merge(trigger.getSchema(), 1, Integer::sum);
@@ -95,11 +98,13 @@ public class ExportTrigger {
     Map<String, Integer> schemaDefinitionCounts = new HashMap<>();
 
     for (Trigger trigger : triggers) {
+      long start = System.nanoTime();
       String definitionContent = generateTriggerDefinition(trigger, everything);
       String definitionFileName = getTriggerDefinitionFileName(trigger);
       String fullPath = getTriggerDefinitionPath(basePath, trigger.getSchema());
 
       FileWriter.write(Paths.get(fullPath), definitionFileName, definitionContent);
+      MigrationMetrics.recordExport("trigger_definition", start);
 
       // Track statistics
       schemaDefinitionCounts.merge(trigger.getSchema(), 1, Integer::sum);
@@ -1,14 +1,19 @@
 package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
 import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
 import me.christianrobert.ora2postgre.global.StringAux;
 import me.christianrobert.ora2postgre.global.ViewSpecAndQuery;
 import me.christianrobert.ora2postgre.plsql.ast.tools.managers.ViewTransformationManager;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.MaterializedViewTransformer;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ExportView {
 
@@ -16,6 +21,9 @@ public class ExportView {
 
   public static void saveEmptyViews(String path, List<ViewMetadata> views) {
     for (ViewMetadata v : views) {
+      if (v.isMaterialized()) {
+        continue; // Created with their query in saveFullViews, nothing can depend on them before
+      }
       FileWriter.write(
               Paths.get(path +
                       File.separator +
@@ -29,20 +37,86 @@ public class ExportView {
   }
 
   public static void saveFullViews(String path, List<ViewSpecAndQuery> views, Everything data) {
+    List<ViewSpecAndQuery> materializedViews = new ArrayList<>();
     for (ViewSpecAndQuery v : views) {
+      if (v.spec.isMaterialized()) {
+        materializedViews.add(v);
+      }
+    }
+
+    // Materialized views and the views reading them are created after the functions and package bodies
+    Map<String, List<ViewSpecAndQuery>> lateViewsBySchema = new LinkedHashMap<>();
+    for (ViewSpecAndQuery v : views) {
+      if (v.spec.isMaterialized() || readsAny(v, materializedViews)) {
+        lateViewsBySchema.computeIfAbsent(v.spec.getSchema().toLowerCase(), k -> new ArrayList<>()).add(v);
+        continue;
+      }
+      long start = System.nanoTime();
       FileWriter.write(
               Paths.get(path + File.separator + v.spec.getSchema().toLowerCase() +
                       File.separator +
                       "step4viewbody"),
               StringAux.capitalizeFirst(v.spec.getViewName()) + "VIEW.sql",
-              viewManager.transformViewMetadata(v.spec, false, data) +
-                      "\n" +
-                      v.query.toPostgre(data) +
-                      // The view Manager only deals with the metadata part, the
-                      // query is a "simple ast" element, and does not follow the manager-strategy pattern
-                      //viewManager.transformSelectStatement(v.query, data, v.spec.getSchema()) +
-                      "\n;\n"
+              fullViewDdl(v, data)
       );
+      MigrationMetrics.recordExport("view", start);
+    }
+
+    for (Map.Entry<String, List<ViewSpecAndQuery>> entry : lateViewsBySchema.entrySet()) {
+      // Files run in name order, the number puts every view after the views it reads
+      List<ViewSpecAndQuery> ordered = MaterializedViewTransformer.orderByDependencies(entry.getValue());
+      List<ViewSpecAndQuery> schemaMaterializedViews = new ArrayList<>();
+      for (int i = 0; i < ordered.size(); i++) {
+        ViewSpecAndQuery v = ordered.get(i);
+        long start = System.nanoTime();
+        String prefix = String.format("%03d_", i + 1) + StringAux.capitalizeFirst(v.spec.getViewName());
+        if (v.spec.isMaterialized()) {
+          schemaMaterializedViews.add(v);
+          FileWriter.write(
+                  Paths.get(path + File.separator + entry.getKey() + File.separator + "step7materializedviews"),
+                  prefix + "MVIEW.sql",
+                  MaterializedViewTransformer.transform(v, data)
+          );
+          MigrationMetrics.recordExport("materialized_view", start);
+        } else {
+          FileWriter.write(
+                  Paths.get(path + File.separator + entry.getKey() + File.separator + "step7materializedviews"),
+                  prefix + "VIEW.sql",
+                  fullViewDdl(v, data)
+          );
+          MigrationMetrics.recordExport("view", start);
+        }
+      }
+
+      // Populated after all views and the data exist
+      if (!schemaMaterializedViews.isEmpty()) {
+        FileWriter.write(
+                Paths.get(path + File.separator + entry.getKey() +
+                        File.separator +
+                        "step9mviewrefresh"),
+                StringAux.capitalizeFirst(entry.getKey()) + "MVIEWREFRESH.sql",
+                MaterializedViewTransformer.buildRefreshScript(schemaMaterializedViews, data)
+        );
+      }
     }
   }
+
+  private static boolean readsAny(ViewSpecAndQuery view, List<ViewSpecAndQuery> materializedViews) {
+    for (ViewSpecAndQuery materializedView : materializedViews) {
+      if (MaterializedViewTransformer.readsView(view.spec, materializedView.spec)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String fullViewDdl(ViewSpecAndQuery v, Everything data) {
+    return viewManager.transformViewMetadata(v.spec, false, data) +
+            "\n" +
+            v.query.toPostgre(data) +
+            // The view Manager only deals with the metadata part, the
+            // query is a "simple ast" element, and does not follow the manager-strategy pattern
+            //viewManager.transformSelectStatement(v.query, data, v.spec.getSchema()) +
+            "\n;\n";
+  }
 }
@@ -6,18 +6,45 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class FileWriter {
 
   private static final Logger log = LoggerFactory.getLogger(FileWriter.class);
+
+  // Files written per target directory since the last summary, logged once per export instead of once per file
+  private static final Map<Path, LongAdder> writtenFiles = new ConcurrentHashMap<>();
+
   public static void write(Path targetDir, String filename, String content) {
     try {
       Files.createDirectories(targetDir);
       Path file = targetDir.resolve(filename);
       Files.writeString(file, content);
-      log.info("File written: {} {}", targetDir, filename);
+      writtenFiles.computeIfAbsent(targetDir, k -> new LongAdder()).increment();
+      log.debug("File written: {} {}", targetDir, filename);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Logs how many files were written into each directory since the last call and resets the counts.
+   *
+   * @return the total number of files written
+   */
+  public static long logSummary() {
+    Map<Path, Long> perDirectory = new TreeMap<>();
+    writtenFiles.forEach((dir, count) -> perDirectory.put(dir, count.sum()));
+    writtenFiles.clear();
+
+    long total = 0;
+    for (Map.Entry<Path, Long> entry : perDirectory.entrySet()) {
+      log.info("Files written: {} in {}", entry.getValue(), entry.getKey());
+      total += entry.getValue();
+    }
+    return total;
+  }
 }
@@ -0,0 +1,19 @@
+package me.christianrobert.ora2postgre.writing;
+
+/**
+ * Enumeration of the request execution models for the generated mod-plsql simulator controllers.
+ */
+public enum ModPlsqlExecutionMode {
+  /**
+   * Blocking JDBC on Quarkus worker threads.
+   * Concurrent page requests are limited by the worker pool.
+   */
+  WORKER_THREADS,
+
+  /**
+   * Blocking JDBC on virtual threads (@RunOnVirtualThread, requires Java 21).
+   * A waiting request does not occupy a platform thread, so concurrency is only
+   * limited by the connection pool.
+   */
+  VIRTUAL_THREADS
+}
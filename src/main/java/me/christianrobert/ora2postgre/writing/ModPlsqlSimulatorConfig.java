@@ -0,0 +1,33 @@
+package me.christianrobert.ora2postgre.writing;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration properties for the generated mod-plsql simulator project.
+ */
+@ConfigMapping(prefix = "mod-plsql-simulator")
+public interface ModPlsqlSimulatorConfig {
+
+  /**
+   * The execution model of the generated controllers.
+   * @return the execution mode
+   */
+  @WithDefault("WORKER_THREADS")
+  ModPlsqlExecutionMode executionMode();
+
+  /**
+   * Number of page requests one application instance is expected to serve concurrently.
+   * The connection pool of the generated project is sized from this value.
+   * @return the expected concurrency
+   */
+  @WithDefault("20")
+  int expectedConcurrency();
+
+  /**
+   * Upper bound of PostgreSQL connections one application instance may open.
+   * @return the maximum pool size
+   */
+  @WithDefault("100")
+  int maxConnections();
+}
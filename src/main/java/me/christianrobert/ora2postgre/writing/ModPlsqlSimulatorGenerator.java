@@ -23,6 +23,17 @@ public class ModPlsqlSimulatorGenerator {
    * The controller executes procedures that generate HTML via HTP calls.
    */
   public static String generateSimulator(OraclePackage pkg, String javaPackageName, Everything data) {
+    return generateSimulator(pkg, javaPackageName, data, ModPlsqlExecutionMode.WORKER_THREADS);
+  }
+
+  /**
+   * Generates a mod-plsql simulator controller for an Oracle package using the given execution mode.
+   * With VIRTUAL_THREADS every endpoint is annotated with @RunOnVirtualThread, so blocked JDBC
+   * calls do not hold a worker thread.
+   */
+  public static String generateSimulator(OraclePackage pkg, String javaPackageName, Everything data,
+                                         ModPlsqlExecutionMode executionMode) {
+    boolean virtualThreads = executionMode == ModPlsqlExecutionMode.VIRTUAL_THREADS;
     StringBuilder sb = new StringBuilder();
 
     // Package declaration
@@ -35,14 +46,17 @@ public class ModPlsqlSimulatorGenerator {
     sb.append("import jakarta.ws.rs.*;\n");
     sb.append("import jakarta.ws.rs.core.MediaType;\n");
     sb.append("import jakarta.ws.rs.core.Response;\n");
+    sb.append("import jakarta.ws.rs.core.StreamingOutput;\n");
     sb.append("import jakarta.ws.rs.core.UriInfo;\n");
     sb.append("import jakarta.ws.rs.core.Context;\n");
     sb.append("import java.sql.Connection;\n");
     sb.append("import java.sql.SQLException;\n");
-    sb.append("import java.sql.Statement;\n");
     sb.append("import java.util.Map;\n");
     sb.append("import java.util.stream.Collectors;\n");
     sb.append("import io.agroal.api.AgroalDataSource;\n");
+    if (virtualThreads) {
+      sb.append("import io.smallrye.common.annotation.RunOnVirtualThread;\n");
+    }
     sb.append("import ").append(javaPackageName).append(".utils.ModPlsqlExecutor;\n\n");
 
     // Class declaration
@@ -59,16 +73,17 @@ public class ModPlsqlSimulatorGenerator {
     
     sb.append("  /**\n");
     sb.append("   * Session Isolation Strategy:\n");
-    sb.append("   * Each web request executes DISCARD ALL to completely reset the session state.\n");
-    sb.append("   * This drops all temporary tables (including package variables), deallocates\n");
-    sb.append("   * prepared statements, and resets session-local state, ensuring no state\n");
-    sb.append("   * leakage between requests. This replicates Oracle's session-scoped behavior\n");
-    sb.append("   * even with connection pooling.\n");
+    sb.append("   * Each web request calls SYS.reset_session() to reset the session state.\n");
+    sb.append("   * This empties the temporary tables (including package variables), clears the\n");
+    sb.append("   * HTP buffer and resets session settings, ensuring no state leakage between\n");
+    sb.append("   * requests. Unlike DISCARD ALL it keeps cached plans and prepared statements,\n");
+    sb.append("   * so PL/pgSQL functions are not re-planned on every request. This replicates\n");
+    sb.append("   * Oracle's session-scoped behavior even with connection pooling.\n");
     sb.append("   */\n\n");
 
     // Generate methods for procedures only (mod-plsql doesn't support functions)
     for (Procedure procedure : pkg.getProcedures()) {
-      sb.append(generateProcedureEndpoint(procedure, pkg, data));
+      sb.append(generateProcedureEndpoint(procedure, pkg, data, virtualThreads));
       sb.append("\n\n");
     }
 
@@ -78,9 +93,10 @@ public class ModPlsqlSimulatorGenerator {
 
   /**
    * Generates a mod-plsql endpoint that executes a PostgreSQL procedure
-   * and returns the generated HTML content.
+   * and streams the generated HTML content from the HTP buffer.
    */
-  private static String generateProcedureEndpoint(Procedure procedure, OraclePackage pkg, Everything data) {
+  private static String generateProcedureEndpoint(Procedure procedure, OraclePackage pkg, Everything data,
+                                                  boolean virtualThreads) {
     StringBuilder sb = new StringBuilder();
 
     String methodName = StringAux.lowerCaseFirst(procedure.getName());
@@ -88,19 +104,20 @@ public class ModPlsqlSimulatorGenerator {
 
     // Method annotation and signature
     sb.append("  @GET\n");
+    if (virtualThreads) {
+      sb.append("  @RunOnVirtualThread\n");
+    }
     sb.append("  @Path(\"/").append(procedure.getName().toLowerCase()).append("\")\n");
     sb.append("  public Response ").append(methodName).append("(@Context UriInfo uriInfo) {\n");
 
     // Method body
-    sb.append("    try (Connection conn = dataSource.getConnection()) {\n");
-    sb.append("      // Ensure fresh session isolation by resetting all session state\n");
-    sb.append("      // This drops all temporary tables (package variables) from previous requests\n");
-    sb.append("      try (Statement stmt = conn.createStatement()) {\n");
-    sb.append("        stmt.execute(\"DISCARD ALL\");\n");
-    sb.append("      }\n");
+    sb.append("    Connection conn = null;\n");
+    sb.append("    try {\n");
+    sb.append("      conn = dataSource.getConnection();\n");
     sb.append("      conn.setAutoCommit(false);\n\n");
-    sb.append("      // Initialize HTP buffer\n");
-    sb.append("      ModPlsqlExecutor.initializeHtpBuffer(conn);\n\n");
+    sb.append("      // Ensure fresh session isolation by resetting package state and the HTP buffer\n");
+    sb.append("      // Cached plans of the PL/pgSQL functions stay warm for the next request\n");
+    sb.append("      ModPlsqlExecutor.resetSession(conn);\n\n");
 
     sb.append("      // Extract query parameters\n");
     sb.append("      Map<String, String> params = uriInfo.getQueryParameters().entrySet().stream()\n");
@@ -109,20 +126,29 @@ public class ModPlsqlSimulatorGenerator {
     sb.append("          entry -> entry.getValue().isEmpty() ? \"\" : entry.getValue().get(0)\n");
     sb.append("        ));\n\n");
 
-    sb.append("      // Execute procedure with parameters\n");
-    sb.append("      String html = ModPlsqlExecutor.executeProcedureWithHtp(\n");
+    sb.append("      // Execute procedure with parameters, the HTML stays in the HTP buffer\n");
+    sb.append("      ModPlsqlExecutor.executeProcedureIntoHtpBuffer(\n");
     sb.append("        conn, \"").append(pgProcedureName).append("\", params);\n\n");
 
-    sb.append("      // Commit transaction and return HTML response\n");
-    sb.append("      conn.commit();\n");
+    sb.append("      // Stream the HTP buffer chunk by chunk instead of building the page in memory\n");
+    sb.append("      // The streaming output owns the connection: it commits and closes it once the page is written\n");
+    sb.append("      Connection streamConn = conn;\n");
+    sb.append("      conn = null;\n");
+    sb.append("      StreamingOutput html = output -> {\n");
+    sb.append("        try (Connection c = streamConn) {\n");
+    sb.append("          ModPlsqlExecutor.writeHtmlFromBuffer(c, output);\n");
+    sb.append("          c.commit();\n");
+    sb.append("        } catch (SQLException e) {\n");
+    sb.append("          throw new WebApplicationException(e);\n");
+    sb.append("        }\n");
+    sb.append("      };\n");
     sb.append("      return Response.ok(html)\n");
     sb.append("        .type(MediaType.TEXT_HTML)\n");
     sb.append("        .header(\"Cache-Control\", \"no-cache\")\n");
     sb.append("        .build();\n\n");
 
     sb.append("    } catch (SQLException e) {\n");
-    sb.append("      // Transaction will be automatically rolled back when connection closes\n");
-    sb.append("      // Session state was already reset by DISCARD ALL at the beginning\n");
+    sb.append("      // Session state is reset by SYS.reset_session() at the beginning of every request\n");
     sb.append("      // Return error page with proper HTML structure\n");
     sb.append("      String errorHtml = \"<html><head><title>Error</title></head><body>\" +\n");
     sb.append("        \"<h1>Database Error</h1>\" +\n");
@@ -133,6 +159,10 @@ public class ModPlsqlSimulatorGenerator {
     sb.append("        .entity(errorHtml)\n");
     sb.append("        .type(MediaType.TEXT_HTML)\n");
     sb.append("        .build();\n");
+    sb.append("    } finally {\n");
+    sb.append("      // Still set unless the streaming output took the connection over, also on runtime exceptions\n");
+    sb.append("      // Transaction will be automatically rolled back when connection closes\n");
+    sb.append("      ModPlsqlExecutor.closeQuietly(conn);\n");
     sb.append("    }\n");
     sb.append("  }");
 
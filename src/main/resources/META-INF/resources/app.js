@@ -2,6 +2,10 @@
 let autoRefreshInterval = null;
 let isAutoRefreshEnabled = false;
 let lastKnownExecuteJobState = null;
+let logText = '';
+let logOffset = null;
+let jobsById = {};
+const progressStreams = {};
 
 // Initialize the dashboard
 document.addEventListener('DOMContentLoaded', function() {
@@ -15,7 +19,7 @@ document.addEventListener('DOMContentLoaded', function() {
   // Start periodic updates
   setInterval(refreshSystemStatus, 10000); // Every 10 seconds
   setInterval(refreshDataOverview, 15000); // Every 15 seconds
-  setInterval(refreshJobs, 4000); // Every 4 seconds
+  setInterval(refreshJobs, 15000); // Every 15 seconds, running jobs push their progress
   // Note: Target stats are only refreshed manually or when execute job completes
 });
 
@@ -111,8 +115,18 @@ async function refreshJobs() {
     const response = await fetch('/migration/jobs');
     if (response.ok) {
       const jobs = await response.json();
-      updateJobsList(jobs);
-      updateJobStatuses(jobs);
+      const jobsArray = Array.isArray(jobs) ? jobs : Object.values(jobs);
+      // Keep the transfer details of the progress stream, the job list does not carry them
+      const known = jobsById;
+      jobsById = {};
+      jobsArray.forEach(job => {
+        jobsById[job.jobId] = Object.assign(known[job.jobId] || {}, job);
+        if (job.state === 'RUNNING') {
+          openProgressStream(job.jobId);
+        }
+      });
+      updateJobsList(Object.values(jobsById));
+      updateJobStatuses(Object.values(jobsById));
     } else {
       // Clear jobs if service is unavailable
       updateJobsList([]);
@@ -125,12 +139,56 @@ async function refreshJobs() {
   }
 }
 
-async function refreshLogs() {
+function openProgressStream(jobId) {
+  if (progressStreams[jobId] || typeof EventSource === 'undefined') {
+    return;
+  }
+  const source = new EventSource(`/migration/jobs/${encodeURIComponent(jobId)}/progress/stream`);
+  progressStreams[jobId] = source;
+
+  source.onmessage = function(event) {
+    const snapshot = JSON.parse(event.data);
+    jobsById[jobId] = Object.assign(jobsById[jobId] || {}, snapshot);
+    updateJobsList(Object.values(jobsById));
+    if (snapshot.final) {
+      closeProgressStream(jobId);
+      refreshJobs();
+    }
+  };
+  // The server ends the stream after the final state, do not let the browser reconnect
+  source.onerror = function() {
+    closeProgressStream(jobId);
+  };
+}
+
+function closeProgressStream(jobId) {
+  const source = progressStreams[jobId];
+  if (source) {
+    source.close();
+    delete progressStreams[jobId];
+  }
+}
+
+async function refreshLogs(incremental) {
   try {
-    const response = await fetch('/migration/logs');
+    // Auto-refresh only fetches the lines appended since the last offset
+    const since = incremental === true && logOffset !== null;
+    const response = await fetch(since ? `/migration/logs?since=${logOffset}` : '/migration/logs');
     if (response.ok) {
       const logs = await response.text();
-      updateLogs(logs);
+      const offset = response.headers.get('X-Log-Offset');
+      logOffset = offset !== null ? Number(offset) : null;
+      if (since && response.headers.get('X-Log-Rotated') !== 'true') {
+        if (logs) {
+          logText = logText ? logText + '\n' + logs : logs;
+          if (logText.length > 1024 * 1024) {
+            logText = logText.substring(logText.indexOf('\n', logText.length - 1024 * 1024) + 1);
+          }
+        }
+      } else {
+        logText = logs;
+      }
+      updateLogs(logText);
     } else {
       document.getElementById('log-content').textContent = 'Service unavailable - cannot load logs';
     }
@@ -331,6 +389,18 @@ function renderJobProgress(job) {
     }
   }
 
+  // Rows of the table being transferred, only known from the progress stream
+  let tableText = '';
+  if (job.currentTable && job.state === 'RUNNING') {
+    const estimate = job.currentTableEstimatedRows ? ` / ~${job.currentTableEstimatedRows.toLocaleString()}` : '';
+    tableText = `
+                <div class="progress-step" style="color: #aaa; font-size: 0.7rem;">
+                    ${job.currentTable}: ${(job.currentTableRows || 0).toLocaleString()}${estimate} rows,
+                    ${(job.rowsPerSecond || 0).toLocaleString()} rows/s
+                </div>
+            `;
+  }
+
   return `
         <div class="progress-container">
             <div class="progress-bar">
@@ -350,6 +420,7 @@ function renderJobProgress(job) {
                     ${subStepDetails}
                 </div>
             ` : ''}
+            ${tableText}
         </div>
     `;
 }
@@ -426,7 +497,7 @@ function toggleAutoRefresh() {
     button.textContent = 'Start Auto-Refresh';
     isAutoRefreshEnabled = false;
   } else {
-    autoRefreshInterval = setInterval(refreshLogs, 3000); // Every 3 seconds
+    autoRefreshInterval = setInterval(() => refreshLogs(true), 3000); // Every 3 seconds
     button.textContent = 'Stop Auto-Refresh';
     isAutoRefreshEnabled = true;
   }
@@ -461,7 +532,7 @@ function showNotification(message, type) {
 // Log filter functionality
 document.addEventListener('DOMContentLoaded', function() {
   document.getElementById('log-filter').addEventListener('input', function() {
-    refreshLogs();
+    updateLogs(logText);
   });
 });
 
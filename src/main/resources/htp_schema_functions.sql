@@ -1,5 +1,10 @@
 -- PostgreSQL implementation of Oracle HTP (Hypertext Procedures) package
 -- This provides equivalent functionality to Oracle's HTP package for generating HTML output
+--
+-- The HTP buffer lives in session-local custom settings (htp.buffer, htp.lines, htp.chunks)
+-- instead of a temp table, so printing a fragment does not cost a heap insert.
+-- Once the in-memory buffer reaches 32kB it is spilled as one chunk into temp_htp_chunks,
+-- which keeps every append cheap for large pages while small pages never touch a table.
 
 CREATE SCHEMA IF NOT EXISTS SYS
 ;
@@ -8,20 +13,52 @@ CREATE SCHEMA IF NOT EXISTS SYS
 CREATE OR REPLACE PROCEDURE SYS.HTP_init()
 AS $$
 BEGIN
-    DROP TABLE IF EXISTS temp_htp_buffer;
-    CREATE TEMP TABLE temp_htp_buffer (
-        line_no SERIAL,
-        content TEXT
-    );
+    IF COALESCE(NULLIF(current_setting('htp.chunks', true), ''), '0')::INTEGER > 0 THEN
+        DELETE FROM temp_htp_chunks;
+    END IF;
+    PERFORM set_config('htp.buffer', '', false);
+    PERFORM set_config('htp.lines', '0', false);
+    PERFORM set_config('htp.chunks', '0', false);
 END;
 $$ LANGUAGE plpgsql
 ;
 
 -- Print content to HTP buffer - equivalent to Oracle's HTP.p
+-- Lines are separated by chr(10), the same output the former string_agg over the buffer table produced
 CREATE OR REPLACE PROCEDURE SYS.HTP_p(content TEXT)
 AS $$
+DECLARE
+    buffer TEXT;
+    line_count INTEGER;
+    chunk_count INTEGER;
 BEGIN
-    INSERT INTO temp_htp_buffer (content) VALUES (content);
+    IF content IS NULL THEN
+        RETURN;
+    END IF;
+
+    line_count := COALESCE(NULLIF(current_setting('htp.lines', true), ''), '0')::INTEGER;
+    buffer := COALESCE(current_setting('htp.buffer', true), '');
+    IF line_count > 0 THEN
+        buffer := buffer || chr(10);
+    END IF;
+    buffer := buffer || content;
+    PERFORM set_config('htp.lines', (line_count + 1)::TEXT, false);
+
+    -- Spill the accumulated text as one chunk so appends never copy more than 32kB
+    IF octet_length(buffer) >= 32768 THEN
+        chunk_count := COALESCE(NULLIF(current_setting('htp.chunks', true), ''), '0')::INTEGER;
+        IF chunk_count = 0 THEN
+            CREATE TEMP TABLE IF NOT EXISTS temp_htp_chunks (
+                chunk_no INTEGER,
+                content TEXT
+            );
+        END IF;
+        INSERT INTO temp_htp_chunks (chunk_no, content) VALUES (chunk_count + 1, buffer);
+        PERFORM set_config('htp.chunks', (chunk_count + 1)::TEXT, false);
+        buffer := '';
+    END IF;
+
+    PERFORM set_config('htp.buffer', buffer, false);
 END;
 $$ LANGUAGE plpgsql
 ;
@@ -30,7 +67,7 @@ $$ LANGUAGE plpgsql
 CREATE OR REPLACE PROCEDURE SYS.HTP_p(content NUMERIC)
 AS $$
 BEGIN
-INSERT INTO temp_htp_buffer (content) VALUES (TO_CHAR(content, 'FM999999999.99'));
+CALL SYS.HTP_p(TO_CHAR(content, 'FM999999999.99')::TEXT);
 END;
 $$ LANGUAGE plpgsql;
 
@@ -38,7 +75,7 @@ $$ LANGUAGE plpgsql;
 CREATE OR REPLACE PROCEDURE SYS.HTP_p(content INTEGER)
 AS $$
 BEGIN
-INSERT INTO temp_htp_buffer (content) VALUES (content::TEXT);
+CALL SYS.HTP_p(content::TEXT);
 END;
 $$ LANGUAGE plpgsql;
 
@@ -46,7 +83,7 @@ $$ LANGUAGE plpgsql;
 CREATE OR REPLACE PROCEDURE SYS.HTP_p(content VARCHAR)
 AS $$
 BEGIN
-INSERT INTO temp_htp_buffer (content) VALUES (content);
+CALL SYS.HTP_p(content::TEXT);
 END;
 $$ LANGUAGE plpgsql;
 
@@ -54,7 +91,7 @@ $$ LANGUAGE plpgsql;
 CREATE OR REPLACE PROCEDURE SYS.HTP_p(content DATE)
 AS $$
 BEGIN
-INSERT INTO temp_htp_buffer (content) VALUES (TO_CHAR(content, 'YYYY-MM-DD'));
+CALL SYS.HTP_p(TO_CHAR(content, 'YYYY-MM-DD')::TEXT);
 END;
 $$ LANGUAGE plpgsql;
 
@@ -64,11 +101,26 @@ RETURNS TEXT AS $$
 DECLARE
     html_output TEXT := '';
 BEGIN
-    SELECT string_agg(content, chr(10) ORDER BY line_no)
-    INTO html_output
-    FROM temp_htp_buffer;
-   
-    RETURN COALESCE(html_output, '');
+    IF COALESCE(NULLIF(current_setting('htp.chunks', true), ''), '0')::INTEGER > 0 THEN
+        SELECT string_agg(content, '' ORDER BY chunk_no)
+        INTO html_output
+        FROM temp_htp_chunks;
+    END IF;
+
+    RETURN COALESCE(html_output, '') || COALESCE(current_setting('htp.buffer', true), '');
+END;
+$$ LANGUAGE plpgsql;
+
+-- Get the HTML page chunk by chunk, used by the mod-plsql simulator to stream large pages
+-- through a server-side cursor instead of transferring one huge value
+CREATE OR REPLACE FUNCTION SYS.HTP_page_chunks()
+RETURNS SETOF TEXT AS $$
+BEGIN
+    IF COALESCE(NULLIF(current_setting('htp.chunks', true), ''), '0')::INTEGER > 0 THEN
+        RETURN QUERY SELECT content FROM temp_htp_chunks ORDER BY chunk_no;
+    END IF;
+
+    RETURN NEXT COALESCE(current_setting('htp.buffer', true), '');
 END;
 $$ LANGUAGE plpgsql;
 
@@ -78,7 +130,7 @@ $$ LANGUAGE plpgsql;
 CREATE OR REPLACE PROCEDURE SYS.HTP_prn(content TEXT)
 AS $$
 BEGIN
-    INSERT INTO temp_htp_buffer (content) VALUES (content || chr(10));
+    CALL SYS.HTP_p(content || chr(10));
 END;
 $$ LANGUAGE plpgsql
 ;
@@ -96,16 +148,51 @@ $$ LANGUAGE plpgsql
 CREATE OR REPLACE PROCEDURE SYS.HTP_flush()
 AS $$
 BEGIN
-    DELETE FROM temp_htp_buffer;
+    CALL SYS.HTP_init();
 END;
 $$ LANGUAGE plpgsql
 ;
 
--- Get buffer size
+-- Get buffer size (number of printed fragments)
 CREATE OR REPLACE FUNCTION SYS.HTP_buffer_size()
 RETURNS INTEGER AS $$
 BEGIN
-    RETURN (SELECT COUNT(*) FROM temp_htp_buffer);
+    RETURN COALESCE(NULLIF(current_setting('htp.lines', true), ''), '0')::INTEGER;
+END;
+$$ LANGUAGE plpgsql
+;
+
+-- Reset the session state between mod-plsql requests on a pooled connection
+-- Lighter than DISCARD ALL: cached plans and prepared statements are kept, so PL/pgSQL
+-- functions are not re-planned on every request. Package variable tables (single "value"
+-- column) are emptied instead of dropped, the *_init_variables functions refill them with
+-- their defaults without creating catalog entries again. The HTP chunk table is emptied
+-- as well, other temp tables are dropped.
+CREATE OR REPLACE PROCEDURE SYS.reset_session()
+AS $$
+DECLARE
+    temp_table RECORD;
+BEGIN
+    RESET ALL;
+    UNLISTEN *;
+    PERFORM pg_advisory_unlock_all();
+
+    FOR temp_table IN
+        SELECT c.relname,
+               (SELECT array_agg(a.attname::TEXT) FROM pg_attribute a
+                WHERE a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped) AS columns
+        FROM pg_class c
+        WHERE c.relnamespace = pg_my_temp_schema()
+          AND c.relkind = 'r'
+    LOOP
+        IF temp_table.columns = ARRAY['value'] OR temp_table.relname = 'temp_htp_chunks' THEN
+            EXECUTE format('DELETE FROM pg_temp.%I', temp_table.relname);
+        ELSE
+            EXECUTE format('DROP TABLE pg_temp.%I', temp_table.relname);
+        END IF;
+    END LOOP;
+
+    CALL SYS.HTP_init();
 END;
 $$ LANGUAGE plpgsql
 ;
@@ -562,6 +649,23 @@ BEGIN
 END;
 $$;
 
+-- Page render benchmark: prints 10000 fragments and reads the page back
+-- (run with \timing; the former temp_htp_buffer table needed 10000 heap inserts for this)
+DO $$
+DECLARE
+    started TIMESTAMPTZ := clock_timestamp();
+    page TEXT;
+BEGIN
+    CALL SYS.HTP_init();
+    FOR i IN 1..10000 LOOP
+        CALL SYS.HTP_p('<tr><td>' || i || '</td><td>row content</td></tr>');
+    END LOOP;
+    page := SYS.HTP_page();
+    RAISE NOTICE 'Rendered % fragments (% bytes) in %',
+        SYS.HTP_buffer_size(), octet_length(page), clock_timestamp() - started;
+END;
+$$;
+
 -- Example of using package variable functions
 DO $$
 BEGIN
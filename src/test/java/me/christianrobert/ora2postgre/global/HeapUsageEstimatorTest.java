@@ -0,0 +1,58 @@
+package me.christianrobert.ora2postgre.global;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the sampled heap estimate of the model lists.
+ */
+public class HeapUsageEstimatorTest {
+
+  @Test
+  public void testSharedObjectsCountOnce() {
+    String name = "CUSTOMER_ID";
+    List<String> twice = new ArrayList<>(List.of(name, name));
+    List<String> distinct = new ArrayList<>(List.of(name, new String(name)));
+    assertTrue(HeapUsageEstimator.deepSize(twice) < HeapUsageEstimator.deepSize(distinct));
+  }
+
+  @Test
+  public void testSampleIsExtrapolated() {
+    List<PlsqlCode> small = new ArrayList<>();
+    List<PlsqlCode> large = new ArrayList<>();
+    for (int i = 0; i < 10 * HeapUsageEstimator.SAMPLE_SIZE; i++) {
+      PlsqlCode unit = new PlsqlCode("SHOP", "BEGIN NULL; END; -- " + "x".repeat(100));
+      large.add(unit);
+      if (i < HeapUsageEstimator.SAMPLE_SIZE) {
+        small.add(unit);
+      }
+    }
+    long smallBytes = HeapUsageEstimator.estimate(small);
+    long largeBytes = HeapUsageEstimator.estimate(large);
+    assertTrue(smallBytes > HeapUsageEstimator.SAMPLE_SIZE * 100);
+    assertTrue(largeBytes > 9 * smallBytes && largeBytes < 11 * smallBytes);
+    assertEquals(0, HeapUsageEstimator.estimate(List.of()));
+  }
+
+  @Test
+  public void testMemoryUsageReportsSourceCategories() throws Exception {
+    Everything data = new Everything();
+    data.getPackageBodyPlsql().add(new PlsqlCode("SHOP", "x".repeat(10_000)));
+
+    Map<String, Object> before = data.getMemoryUsage();
+    assertTrue((Long) before.get("plsqlSourceBytes") >= 10_000);
+    assertEquals(0L, before.get("plsqlSourceSpilledBytes"));
+
+    data.retainRawSource(RawSourceRetention.SPILL, java.nio.file.Files.createTempDirectory("spill-test"));
+    Map<String, Object> after = data.getMemoryUsage();
+    assertTrue((Long) after.get("plsqlSourceBytes") < 1_000);
+    assertEquals(10_000L, after.get("plsqlSourceSpilledBytes"));
+    assertTrue(after.containsKey("jvmHeapUsedBytes"));
+    data.discardRawSource();
+  }
+}
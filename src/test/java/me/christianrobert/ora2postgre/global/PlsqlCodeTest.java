@@ -0,0 +1,82 @@
+package me.christianrobert.ora2postgre.global;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests spilling and releasing the PL/SQL source after parsing.
+ */
+public class PlsqlCodeTest {
+
+  private static final String SPEC = "CREATE OR REPLACE PACKAGE shop AS\n  -- Größe in €\n  PROCEDURE ship(p_id NUMBER);\nEND shop;";
+  private static final String BODY = "CREATE OR REPLACE PACKAGE BODY shop AS\n  PROCEDURE ship(p_id NUMBER) IS BEGIN NULL; END;\nEND shop;";
+
+  @Test
+  public void testSpilledSourceIsReadBack() throws Exception {
+    Path dir = Files.createTempDirectory("spill-test");
+    Everything data = new Everything();
+    data.getPackageSpecPlsql().add(new PlsqlCode("SHOP", SPEC));
+    data.getPackageBodyPlsql().add(new PlsqlCode("SHOP", BODY));
+
+    data.retainRawSource(RawSourceRetention.SPILL, dir);
+
+    PlsqlCode spec = data.getPackageSpecPlsql().get(0);
+    assertFalse(spec.isInMemory());
+    assertEquals(0, spec.getInMemoryLength());
+    assertEquals(SPEC, spec.getCode());
+    assertEquals(BODY, data.getPackageBodyPlsql().get(0).getCode());
+    assertFalse(data.isRawSourceReleased());
+
+    // Spilling again leaves the spilled units alone
+    data.retainRawSource(RawSourceRetention.SPILL, dir);
+    assertEquals(SPEC, spec.getCode());
+
+    data.discardRawSource();
+    try (var files = Files.list(dir)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  public void testReleasedSourceCannotBeParsedAgain() throws Exception {
+    Everything data = new Everything();
+    data.getTriggerPlsql().add(new PlsqlCode("SHOP", "CREATE TRIGGER t BEFORE INSERT ON orders BEGIN NULL; END;"));
+
+    data.retainRawSource(RawSourceRetention.RELEASE, null);
+
+    assertTrue(data.isRawSourceReleased());
+    PlsqlCode trigger = data.getTriggerPlsql().get(0);
+    assertTrue(trigger.isReleased());
+    try {
+      trigger.getCode();
+      fail("released source must not be returned");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("extract again"));
+    }
+  }
+
+  @Test
+  public void testExtractionReplacesReleasedSource() throws Exception {
+    Everything data = new Everything();
+    data.getTriggerPlsql().add(new PlsqlCode("SHOP", "CREATE TRIGGER t BEFORE INSERT ON orders BEGIN NULL; END;"));
+    data.retainRawSource(RawSourceRetention.RELEASE, null);
+
+    data.replaceRawSource();
+
+    assertFalse(data.isRawSourceReleased());
+    assertTrue(data.getTriggerPlsql().isEmpty());
+  }
+
+  @Test
+  public void testKeepLeavesSourceOnHeap() throws Exception {
+    Everything data = new Everything();
+    data.getStandaloneFunctionPlsql().add(new PlsqlCode("SHOP", BODY));
+    data.retainRawSource(RawSourceRetention.KEEP, null);
+    assertTrue(data.getStandaloneFunctionPlsql().get(0).isInMemory());
+    assertEquals(BODY.length(), data.getStandaloneFunctionPlsql().get(0).getInMemoryLength());
+  }
+}
@@ -0,0 +1,102 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import me.christianrobert.ora2postgre.jobs.JobAdmission.Access;
+import me.christianrobert.ora2postgre.jobs.JobAdmission.Demand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests which jobs JobAdmission lets run side by side.
+ */
+public class JobAdmissionTest {
+
+  private static final Demand TRANSFER = new Demand(3, 3, 256, Access.READ, Access.NONE, Access.WRITE);
+  private static final Demand READER = new Demand(3, 3, 256, Access.READ, Access.NONE, Access.NONE);
+  private static final Demand EXTRACT = new Demand(1, 0, 256, Access.WRITE, Access.NONE, Access.NONE);
+  private static final Demand EXPORT = new Demand(0, 0, 256, Access.READ, Access.WRITE, Access.NONE);
+  private static final Demand EXECUTE = new Demand(0, 1, 64, Access.READ, Access.READ, Access.WRITE);
+
+  @Test
+  public void testReadersOfAScopeShareIt() {
+    JobAdmission admission = new JobAdmission(5, 8, 12, 4096);
+    assertTrue(admission.tryAdmit("r1", "default", READER));
+    assertTrue(admission.tryAdmit("r2", "default", READER));
+    assertEquals(6, admission.getUsedOracleConnections());
+    assertEquals(512, admission.getUsedHeapMb());
+  }
+
+  @Test
+  public void testWritersOfOverlappingTargetsRunOneAtATime() {
+    JobAdmission admission = new JobAdmission(5, 12, 12, 4096);
+    assertTrue(admission.tryAdmit("t1", "HR", TRANSFER));
+    assertTrue(admission.blockingReason("HR", TRANSFER).startsWith("another job uses the target schemas"));
+    // The default scope covers the configured schemas, HR among them
+    assertFalse(admission.tryAdmit("x1", "default", EXECUTE));
+    assertFalse(admission.tryAdmit("t2", "HR,PAYROLL", TRANSFER));
+    assertTrue(admission.tryAdmit("t3", "PAYROLL", TRANSFER));
+
+    admission.release("t1");
+    assertTrue(admission.tryAdmit("x1", "HR", EXECUTE));
+  }
+
+  @Test
+  public void testWriterNeedsItsScopeAlone() {
+    JobAdmission admission = new JobAdmission(5, 8, 12, 4096);
+    assertTrue(admission.tryAdmit("t1", "default", READER));
+    assertNotNull(admission.blockingReason("default", EXTRACT));
+    assertFalse(admission.tryAdmit("e1", "default", EXTRACT));
+
+    // A different scope is independent
+    assertTrue(admission.tryAdmit("e2", "HR", EXTRACT));
+
+    admission.release("t1");
+    assertTrue(admission.tryAdmit("e1", "default", EXTRACT));
+  }
+
+  @Test
+  public void testGeneratedFilesAreWrittenExclusively() {
+    JobAdmission admission = new JobAdmission(5, 8, 12, 4096);
+    assertTrue(admission.tryAdmit("x1", "default", EXECUTE));
+    assertFalse(admission.tryAdmit("p1", "HR", EXPORT));
+    admission.release("x1");
+    assertTrue(admission.tryAdmit("p1", "HR", EXPORT));
+    assertFalse(admission.tryAdmit("x2", "default", EXECUTE));
+  }
+
+  @Test
+  public void testConnectionAndHeapBudgets() {
+    JobAdmission admission = new JobAdmission(5, 5, 12, 4096);
+    assertTrue(admission.tryAdmit("t1", "default", READER));
+    assertTrue(admission.blockingReason("default", READER).startsWith("Oracle connection budget"));
+
+    JobAdmission small = new JobAdmission(5, 8, 12, 400);
+    assertTrue(small.tryAdmit("t1", "default", READER));
+    assertTrue(small.blockingReason("HR", READER).startsWith("heap budget"));
+  }
+
+  @Test
+  public void testJobSlotsAndSoleJob() {
+    JobAdmission admission = new JobAdmission(1, 1, 1, 100);
+    // Larger than every budget, but nothing else runs
+    assertTrue(admission.tryAdmit("t1", "default", TRANSFER));
+    assertFalse(admission.tryAdmit("x1", "HR", new Demand(0, 0, 0, Access.NONE, Access.NONE, Access.NONE)));
+
+    admission.release("t1");
+    admission.release("unknown");
+    assertEquals(0, admission.getRunningCount());
+    assertEquals(0, admission.getUsedPostgresConnections());
+  }
+
+  @Test
+  public void testQueuedJobsKeepTheirOrderOnConflicts() {
+    assertTrue(JobAdmission.mustRunInOrder("default", EXTRACT, "default", TRANSFER));
+    assertFalse(JobAdmission.mustRunInOrder("default", READER, "default", READER));
+    assertFalse(JobAdmission.mustRunInOrder("HR", EXTRACT, "default", TRANSFER));
+    assertTrue(JobAdmission.mustRunInOrder("HR", EXPORT, "default", EXECUTE));
+    // execute-pre, transferdata and execute-post all write the target
+    assertTrue(JobAdmission.mustRunInOrder("HR", EXECUTE, "HR", TRANSFER));
+    assertTrue(JobAdmission.mustRunInOrder("HR", TRANSFER, "default", EXECUTE));
+    assertFalse(JobAdmission.mustRunInOrder("HR", TRANSFER, "PAYROLL", EXECUTE));
+  }
+}
@@ -0,0 +1,78 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that migration meters are tagged with the running job and its phase.
+ */
+public class MigrationMetricsTest {
+
+  @Test
+  public void testMetersAreTaggedWithJobAndPhase() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      MigrationMetrics.jobStarted("job-1", "full");
+      MigrationMetrics.phaseStarted("job-1", MigrationStep.TRANSFERDATA);
+      MigrationMetrics.recordTransferred("SHOP.ORDERS", "CSV Streaming", 10000, 250000);
+      MigrationMetrics.recordTransferred("SHOP.ORDERS", "CSV Streaming", 500, 12500);
+      MigrationMetrics.recordOracleFetch("SHOP.ORDERS", "CSV Streaming", 2_000_000);
+
+      assertEquals(10500, registry.get("migration.transfer.rows")
+              .tags("job", "job-1", "phase", "transferdata", "table", "SHOP.ORDERS").counter().count());
+      assertEquals(262500, registry.get("migration.transfer.bytes").tag("job", "job-1").counter().count());
+      assertEquals(1, registry.get("migration.transfer.oracle.fetch").tag("phase", "transferdata").timer().count());
+
+      MigrationMetrics.jobFinished("other-job");
+      assertEquals("job-1", MigrationMetrics.getJobId());
+      MigrationMetrics.jobFinished("job-1");
+      assertEquals(MigrationMetrics.NO_JOB, MigrationMetrics.getJobId());
+      assertEquals(MigrationMetrics.IDLE_PHASE, MigrationMetrics.getPhase());
+    } finally {
+      Metrics.removeRegistry(registry);
+      registry.close();
+    }
+  }
+
+  @Test
+  public void testMetersOfFinishedJobAreRemoved() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      MigrationMetrics.jobStarted("job-3", "execute");
+      MigrationMetrics.recordDdlExecution("schema/tables/orders.sql", true, System.nanoTime());
+      MigrationMetrics.recordTransferred("SHOP.ORDERS", "CSV Streaming", 100, 2500);
+      MigrationMetrics.jobFinished("job-3");
+      MigrationMetrics.recordTransferred("SHOP.ORDERS", "CSV Streaming", 5, 0);
+
+      assertTrue(registry.find("migration.ddl.execution").tag("job", "job-3").meters().isEmpty());
+      assertTrue(registry.find("migration.transfer.rows").tag("job", "job-3").meters().isEmpty());
+      assertTrue(Metrics.globalRegistry.find("migration.transfer.bytes").tag("job", "job-3").meters().isEmpty());
+      assertEquals(5, registry.get("migration.transfer.rows").tag("job", MigrationMetrics.NO_JOB).counter().count());
+    } finally {
+      Metrics.removeRegistry(registry);
+      registry.close();
+    }
+  }
+
+  @Test
+  public void testBatchInsertsRecordNoBytes() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      MigrationMetrics.jobStarted("job-2", "transfer");
+      MigrationMetrics.recordTransferred("SHOP.ITEMS", "Object Type Mapping", 1000, 0);
+
+      assertEquals(1000, registry.get("migration.transfer.rows").tag("phase", "transfer").counter().count());
+      assertNull(registry.find("migration.transfer.bytes").tag("job", "job-2").counter());
+    } finally {
+      MigrationMetrics.jobFinished("job-2");
+      Metrics.removeRegistry(registry);
+      registry.close();
+    }
+  }
+}
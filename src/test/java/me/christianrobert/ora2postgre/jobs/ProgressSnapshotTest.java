@@ -0,0 +1,101 @@
+package me.christianrobert.ora2postgre.jobs;
+
+import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the snapshots pushed by the job progress stream.
+ */
+public class ProgressSnapshotTest {
+
+  @Test
+  public void testUnchangedJobGivesEqualSnapshots() {
+    JobStatus status = runningJob();
+    TransferProgress transfer = new TransferProgress("s1");
+    transfer.initializeTransfer(2, 1000);
+    transfer.startTable("SHOP", "ORDERS", 600);
+
+    ProgressSnapshot first = ProgressSnapshot.of(status, transfer, null);
+    ProgressSnapshot second = ProgressSnapshot.of(status, transfer, first);
+    assertEquals(first, second);
+    assertEquals(0, second.getRowsPerSecond());
+  }
+
+  @Test
+  public void testTableRowsAreReportedWhileTransferring() throws InterruptedException {
+    JobStatus status = runningJob();
+    TransferProgress transfer = new TransferProgress("s1");
+    transfer.initializeTransfer(2, 1000);
+    transfer.startTable("SHOP", "ORDERS", 600);
+    ProgressSnapshot first = ProgressSnapshot.of(status, transfer, null);
+
+    Thread.sleep(5);
+    transfer.updateCurrentTableProgress(300);
+    ProgressSnapshot second = ProgressSnapshot.of(status, transfer, first);
+
+    assertFalse(first.equals(second));
+    assertEquals("SHOP.ORDERS", second.getCurrentTable());
+    assertEquals(300, second.getCurrentTableRows());
+    assertEquals(600, second.getCurrentTableEstimatedRows());
+    assertEquals(300, second.getTransferredRows());
+    assertTrue(second.getRowsPerSecond() > 0);
+  }
+
+  @Test
+  public void testCompletedTableIsNotCountedTwice() {
+    JobStatus status = runningJob();
+    TransferProgress transfer = new TransferProgress("s1");
+    transfer.initializeTransfer(1, 500);
+    transfer.startTable("SHOP", "ITEMS", 500);
+    transfer.updateCurrentTableProgress(500);
+    transfer.completeTable(500);
+
+    ProgressSnapshot snapshot = ProgressSnapshot.of(status, transfer, null);
+    assertEquals(500, snapshot.getTransferredRows());
+    assertEquals(1, snapshot.getCompletedTables());
+  }
+
+  @Test
+  public void testFinalStates() {
+    JobStatus status = runningJob();
+    assertFalse(ProgressSnapshot.of(status, null, null).isFinal());
+    assertEquals("", ProgressSnapshot.of(status, null, null).getCurrentTable());
+
+    status.setState(JobState.FAILED);
+    status.setError("ORA-01017");
+    ProgressSnapshot failed = ProgressSnapshot.of(status, null, null);
+    assertTrue(failed.isFinal());
+    assertEquals("ORA-01017", failed.getError());
+  }
+
+  @Test
+  public void testStreamCompletesWhenTheJobIsCleared() {
+    MigrationProgressService service = new MigrationProgressService();
+    service.jobManager = mock(JobManager.class);
+    service.config = mock(Config.class);
+    when(service.config.getProgressStreamIntervalMs()).thenReturn(10L);
+    JobStatus status = runningJob();
+    when(service.jobManager.getJobStatus("full-1")).thenReturn(status, status, null);
+
+    List<ProgressSnapshot> snapshots = service.streamProgress("full-1").collect().asList()
+            .await().atMost(Duration.ofSeconds(5));
+
+    assertEquals(1, snapshots.size());
+  }
+
+  private static JobStatus runningJob() {
+    JobStatus status = new JobStatus("full-1", "full", JobState.RUNNING, LocalDateTime.now());
+    status.setCurrentStep(MigrationStep.TRANSFERDATA.getDisplayName());
+    status.setCurrentStepNumber(MigrationStep.TRANSFERDATA.getStepNumber());
+    status.setStepProgress(0.5);
+    return status;
+  }
+}
@@ -0,0 +1,91 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.OracleFunctionMapper;
+import me.christianrobert.ora2postgre.transfer.SequenceSynchronizer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests sequence DDL generation, sequence reference mapping and the post-transfer setval statements.
+ */
+public class SequenceMetadataTest {
+
+  private static SequenceMetadata createSequence(String schema, String name, long cache) {
+    return new SequenceMetadata(schema, name, BigInteger.ONE, new BigInteger("9999999999999999999999999999"),
+            1, false, cache, BigInteger.valueOf(1041));
+  }
+
+  @Test
+  public void testCreateSequenceKeepsCacheAndStartsAtLastNumber() {
+    assertEquals("CREATE SEQUENCE IF NOT EXISTS shop.order_seq INCREMENT BY 1 MINVALUE 1 " +
+                    "MAXVALUE 9223372036854775807 START WITH 1041 CACHE 20 NO CYCLE;",
+            createSequence("SHOP", "ORDER_SEQ", 20).toPostgre());
+    assertTrue(createSequence("SHOP", "ORDER_SEQ", 0).toPostgre().contains(" CACHE 1 "));
+  }
+
+  @Test
+  public void testSequenceReferencesAreQualifiedWithTheirSchema() {
+    Everything data = new Everything();
+    data.getSequences().add(createSequence("SHOP", "ORDER_SEQ", 20));
+
+    assertEquals("NEW.order_id := nextval('shop.order_seq');",
+            OracleFunctionMapper.transformSequenceFunctions("NEW.order_id := order_seq.NEXTVAL;", data, null));
+    assertEquals("currval('shop.order_seq')",
+            OracleFunctionMapper.transformSequenceFunctions("\"SHOP\".\"ORDER_SEQ\".\"CURRVAL\"", data, "SHOP"));
+    assertEquals("nextval('other_seq')", OracleFunctionMapper.transformSequenceFunctions("OTHER_SEQ.nextval"));
+    assertTrue(OracleFunctionMapper.isSequenceReference("\"SHOP\".\"ORDER_SEQ\".\"NEXTVAL\""));
+    assertFalse(OracleFunctionMapper.isSequenceReference("SYSDATE"));
+  }
+
+  @Test
+  public void testColumnDefaultAndIdentityColumns() {
+    Everything data = new Everything();
+    data.getSequences().add(createSequence("SHOP", "ORDER_SEQ", 20));
+
+    ColumnMetadata withDefault = new ColumnMetadata("ORDER_ID", "NUMBER", 22, 10, 0, false, "\"SHOP\".\"ORDER_SEQ\".\"NEXTVAL\"");
+    assertTrue(withDefault.toPostgre(data, "SHOP", "ORDERS").endsWith(" DEFAULT nextval('shop.order_seq')"));
+
+    ColumnMetadata identity = new ColumnMetadata("ITEM_ID", "NUMBER", 22, 10, 0, false, "\"SHOP\".\"ISEQ$$_7342\".nextval");
+    identity.setIdentity(true);
+    assertEquals("ITEM_ID bigint NOT NULL GENERATED BY DEFAULT AS IDENTITY", identity.toPostgre(data, "SHOP", "ITEMS").trim());
+
+    ColumnMetadata smallIdentity = new ColumnMetadata("LINE_ID", "NUMBER", 22, 9, 0, false, null);
+    smallIdentity.setIdentity(true);
+    assertEquals("LINE_ID integer NOT NULL GENERATED BY DEFAULT AS IDENTITY", smallIdentity.toPostgre(data, "SHOP", "ITEMS").trim());
+  }
+
+  @Test
+  public void testSetvalStatementsForTriggerIdentityAndDefaultColumns() {
+    Everything data = new Everything();
+    SequenceMetadata orderSeq = createSequence("SHOP", "ORDER_SEQ", 20);
+    orderSeq.addUsingTable("SHOP", "ORDERS");
+    data.getSequences().add(orderSeq);
+    data.getSequences().add(createSequence("SHOP", "UNUSED_SEQ", 20));
+
+    TableMetadata orders = new TableMetadata("SHOP", "ORDERS");
+    orders.addColumn(new ColumnMetadata("ORDER_ID", "NUMBER", 22, 10, 0, false, null));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_ORDERS", "P");
+    primaryKey.addColumnName("ORDER_ID");
+    orders.addConstraint(primaryKey);
+    data.getTableSql().add(orders);
+
+    TableMetadata items = new TableMetadata("SHOP", "ITEMS");
+    ColumnMetadata itemId = new ColumnMetadata("ITEM_ID", "NUMBER", 22, 10, 0, false, null);
+    itemId.setIdentity(true);
+    items.addColumn(itemId);
+    data.getTableSql().add(items);
+
+    List<String> statements = SequenceSynchronizer.buildSetvalStatements(data);
+
+    assertEquals(2, statements.size());
+    assertEquals("SELECT setval('shop.order_seq', GREATEST((SELECT MAX(ORDER_ID) FROM shop.orders) + 1, 1041)::bigint, false)",
+            statements.get(0));
+    assertEquals("SELECT setval(pg_get_serial_sequence('shop.items', 'item_id'), GREATEST(MAX(ITEM_ID) + 1, 1)::bigint, false) " +
+            "FROM shop.items", statements.get(1));
+  }
+}
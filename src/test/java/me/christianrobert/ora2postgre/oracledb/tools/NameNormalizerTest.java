@@ -98,4 +98,16 @@ class NameNormalizerTest {
     assertEquals("MYSCHEMA.LANGDATA2", NameNormalizer.normalizeDataType("MYSCHEMA.\"langdata2\""));
     assertEquals("TESTSCHEMA.PERSON_TYPE", NameNormalizer.normalizeDataType("\"TestSchema\".person_type"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void testNormalizedNamesAreShared() {
+    String first = NameNormalizer.normalizeIdentifier("\"Customer_Id\"");
+    String second = NameNormalizer.normalizeIdentifier(new String("customer_id"));
+    assertEquals("CUSTOMER_ID", first);
+    assertSame(first, second);
+
+    assertSame(NameNormalizer.normalizeDataType("hr.address_t"), NameNormalizer.normalizeDataType("\"HR\".\"ADDRESS_T\""));
+    assertSame(NameNormalizer.intern(new String("VARCHAR2")), NameNormalizer.intern(new String("VARCHAR2")));
+    assertNull(NameNormalizer.intern(null));
+  }
+}
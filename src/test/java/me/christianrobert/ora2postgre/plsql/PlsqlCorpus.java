@@ -0,0 +1,120 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.OraclePackage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Package bodies in src/test/resources/plsql-corpus, taken from the PL/SQL used by the parser tests.
+ * Shared by the corpus smoke test and the parser benchmark so both work on the same input.
+ */
+public final class PlsqlCorpus {
+
+  public static final String SCHEMA = "TEST_SCHEMA";
+
+  private static final String CORPUS_DIR = "/plsql-corpus/";
+  private static final Pattern PACKAGE_HEADER =
+          Pattern.compile("(?i)CREATE\\s+(?:OR\\s+REPLACE\\s+)?PACKAGE\\s+BODY\\s+(\\w+)\\.");
+
+  private PlsqlCorpus() {
+  }
+
+  /**
+   * Loads the corpus. The file list is read from index.txt so loading works from a jar as well.
+   */
+  public static List<PlsqlCode> load() {
+    List<PlsqlCode> corpus = new ArrayList<>();
+    for (String file : readResource(CORPUS_DIR + "index.txt").split("\\R")) {
+      if (file.isBlank()) {
+        continue;
+      }
+      String code = readResource(CORPUS_DIR + file.trim());
+      Matcher header = PACKAGE_HEADER.matcher(code);
+      String schema = header.find() ? header.group(1).toUpperCase() : SCHEMA;
+      corpus.add(new PlsqlCode(schema, code));
+    }
+    return corpus;
+  }
+
+  /**
+   * Metadata for transpiling the corpus: the parsed package bodies and the tables they reference.
+   */
+  public static Everything everything(List<PlsqlCode> corpus) {
+    Everything data = new Everything();
+    data.getUserNames().add(SCHEMA);
+    data.getTableSql().addAll(tables());
+    for (PlsqlCode code : corpus) {
+      data.getPackageBodyAst().add((OraclePackage) PlSqlAstMain.processPlsqlCode(code));
+    }
+    return data;
+  }
+
+  private static List<TableMetadata> tables() {
+    List<TableMetadata> tables = new ArrayList<>();
+    tables.add(table("EMPLOYEES",
+            number("ID"), number("EMPLOYEE_ID"), varchar("FIRST_NAME"), varchar("LAST_NAME"),
+            varchar("STATUS"), number("SALARY"), number("DEPARTMENT_ID")));
+    tables.add(table("DEPARTMENTS", number("DEPARTMENT_ID"), varchar("DEPARTMENT_NAME")));
+    tables.add(table("TESTTABLE", number("NR")));
+    tables.add(table("ERROR_LOG", date("LOGGED_AT"), varchar("MESSAGE")));
+    tables.add(table("LOG_TABLE", number("ID"), varchar("STATUS")));
+    tables.add(table("AUDIT_TABLE",
+            varchar("ACTION"), number("TABLE_ID"), varchar("TABLE_NAME"), date("TIMESTAMP")));
+    tables.add(table("STATUS_TABLE",
+            number("ID"), varchar("STATUS"), date("UPDATED_AT"), date("ARCHIVED_AT")));
+    tables.add(table("USERS", varchar("NAME"), number("AGE")));
+    tables.add(table("JOBS", varchar("TITLE"), number("ACTIVE")));
+    return tables;
+  }
+
+  private static TableMetadata table(String name, ColumnMetadata... columns) {
+    TableMetadata table = new TableMetadata(SCHEMA, name);
+    for (ColumnMetadata column : columns) {
+      table.addColumn(column);
+    }
+    return table;
+  }
+
+  private static ColumnMetadata number(String name) {
+    return new ColumnMetadata(name, "NUMBER", null, 10, 0, true, null);
+  }
+
+  private static ColumnMetadata varchar(String name) {
+    return new ColumnMetadata(name, "VARCHAR2", 100, null, null, true, null);
+  }
+
+  private static ColumnMetadata date(String name) {
+    return new ColumnMetadata(name, "DATE", null, null, null, true, null);
+  }
+
+  private static String readResource(String name) {
+    try (InputStream in = PlsqlCorpus.class.getResourceAsStream(name)) {
+      if (in == null) {
+        throw new IllegalStateException("Corpus resource not found: " + name);
+      }
+      StringBuilder b = new StringBuilder();
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          b.append(line).append('\n');
+        }
+      }
+      return b.toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.plsql.ast.OraclePackage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Smoke test for the corpus used by ParserBenchmark: runs what one transpile invocation does.
+ */
+public class PlsqlCorpusTest {
+
+  @Test
+  public void testCorpusTranspiles() {
+    List<PlsqlCode> corpus = PlsqlCorpus.load();
+    assertFalse(corpus.isEmpty());
+
+    Everything data = PlsqlCorpus.everything(corpus);
+    assertEquals(corpus.size(), data.getPackageBodyAst().size());
+
+    for (OraclePackage pkg : data.getPackageBodyAst()) {
+      assertNotNull(pkg.toPostgre(data, false), pkg.getName());
+    }
+  }
+}
@@ -2,9 +2,13 @@ package me.christianrobert.ora2postgre.plsql.ast;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class BulkCollectStatementTest {
 
   @Test
@@ -39,10 +43,9 @@ end;
     String postgreSql = o.getFunctions().get(0).toPostgre(data, false);
 
     // Basic validation - should contain key PostgreSQL BULK COLLECT elements
-    assert postgreSql.contains("vNames := ARRAY(") : "Should contain array assignment with ARRAY()";
-    assert postgreSql.contains("SELECT first_name") : "Should contain SELECT column";
-    assert postgreSql.contains("FROM") : "Should contain FROM keyword";
-    assert postgreSql.contains("EMPLOYEES") : "Should contain table name";
+    assertTrue(postgreSql.contains("SELECT COALESCE(array_agg(first_name), '{}') INTO vNames"), "Should aggregate the column into the array");
+    assertTrue(postgreSql.contains("FROM"), "Should contain FROM keyword");
+    assertTrue(postgreSql.contains("EMPLOYEES"), "Should contain table name");
     
     System.out.println("Generated PostgreSQL:");
     System.out.println(postgreSql);
@@ -80,13 +83,12 @@ end;
     // Convert to PostgreSQL
     String postgreSql = o.getFunctions().get(0).toPostgre(data, false);
 
-    // Basic validation - should contain separate array assignments
-    assert postgreSql.contains("vNames := ARRAY(") : "Should contain first array assignment";
-    assert postgreSql.contains("vSalaries := ARRAY(") : "Should contain second array assignment";
-    assert postgreSql.contains("SELECT first_name") : "Should contain first column";
-    assert postgreSql.contains("SELECT salary") : "Should contain second column";
-    assert postgreSql.contains("WHERE") : "Should contain WHERE keyword";
-    assert postgreSql.contains("department_id = 10") : "Should contain WHERE condition";
+    // Basic validation - both arrays are filled by a single scan
+    assertTrue(postgreSql.contains("SELECT COALESCE(array_agg(first_name), '{}'), COALESCE(array_agg(salary), '{}') INTO vNames, vSalaries FROM"),
+            "Should aggregate all columns in one SELECT");
+    assertFalse(postgreSql.contains("ARRAY("), "Should not scan the table once per array");
+    assertTrue(postgreSql.contains("WHERE"), "Should contain WHERE keyword");
+    assertTrue(postgreSql.contains("department_id = 10"), "Should contain WHERE condition");
     
     System.out.println("Generated PostgreSQL:");
     System.out.println(postgreSql);
@@ -124,17 +126,83 @@ end;
     String postgreSql = o.getFunctions().get(0).toPostgre(data, false);
 
     // Basic validation - should contain key PostgreSQL BULK COLLECT elements
-    assert postgreSql.contains("vKeys := ARRAY(") : "Should contain array assignment";
-    assert postgreSql.contains("SELECT config_key") : "Should contain column name";
-    assert postgreSql.contains("FROM") : "Should contain FROM keyword";
-    assert postgreSql.contains("TEST_SCHEMA.CONFIG_TABLE") : "Should contain schema and table name";
-    assert postgreSql.contains("WHERE") : "Should contain WHERE keyword";
-    assert postgreSql.contains("status = 'ACTIVE'") : "Should contain WHERE condition";
+    assertTrue(postgreSql.contains("COALESCE(array_agg(config_key), '{}') INTO vKeys"), "Should aggregate the column into the array");
+    assertTrue(postgreSql.contains("FROM"), "Should contain FROM keyword");
+    assertTrue(postgreSql.contains("TEST_SCHEMA.CONFIG_TABLE"), "Should contain schema and table name");
+    assertTrue(postgreSql.contains("WHERE"), "Should contain WHERE keyword");
+    assertTrue(postgreSql.contains("status = 'ACTIVE'"), "Should contain WHERE condition");
     
     System.out.println("Generated PostgreSQL:");
     System.out.println(postgreSql);
   }
 
+  @Test
+  public void testBulkCollectSelectStarWithOrderByToPostgre() {
+    String oracleSql = """
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION getemployees 
+    return number
+  is 
+    vRows employee_table;
+  begin 
+    select * bulk collect into vRows from employees where department_id = 10 order by hire_date desc;
+    return vRows.COUNT;
+  end;
+end;
+/
+""";
+
+    Everything data = new Everything();
+    data.getUserNames().add("TEST_SCHEMA");
+
+    PlSqlAst ast = PlSqlAstMain.processPlsqlCode(new PlsqlCode("TEST_SCHEMA", oracleSql));
+    String postgreSql = ((OraclePackage) ast).getFunctions().get(0).toPostgre(data, false);
+
+    assertTrue(postgreSql.contains("SELECT COALESCE(array_agg(EMPLOYEES ORDER BY hire_date DESC), '{}') INTO vRows FROM"),
+            "Should aggregate whole rows in query order");
+    assertFalse(postgreSql.contains("manual conversion"), "SELECT * should be converted");
+  }
+
+  @Test
+  public void testFetchBulkCollectWithLimitToPostgre() {
+    String oracleSql = """
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  PROCEDURE processnames 
+  is 
+    CURSOR c_emp IS SELECT first_name, salary FROM employees;
+    vNames string_array;
+    vSalaries number_table;
+  begin 
+    OPEN c_emp;
+    LOOP
+      FETCH c_emp BULK COLLECT INTO vNames, vSalaries LIMIT 500;
+      EXIT WHEN vNames.COUNT = 0;
+    END LOOP;
+    CLOSE c_emp;
+  end;
+end;
+/
+""";
+
+    Everything data = new Everything();
+    data.getUserNames().add("TEST_SCHEMA");
+
+    // The cursor query is resolved against the table metadata
+    TableMetadata employees = new TableMetadata("TEST_SCHEMA", "EMPLOYEES");
+    employees.addColumn(new ColumnMetadata("FIRST_NAME", "VARCHAR2", 50, null, null, true, null));
+    employees.addColumn(new ColumnMetadata("SALARY", "NUMBER", 22, 10, 2, true, null));
+    data.getTableSql().add(employees);
+
+    PlSqlAst ast = PlSqlAstMain.processPlsqlCode(new PlsqlCode("TEST_SCHEMA", oracleSql));
+    String postgreSql = ((OraclePackage) ast).getProcedures().get(0).toPostgre(data, false);
+
+    assertTrue(postgreSql.contains("EXIT WHEN bulk_count >= 500;"), "Should stop after LIMIT rows");
+    assertTrue(postgreSql.contains("FETCH c_emp INTO bulk_row;"), "Should fetch row by row");
+    assertTrue(postgreSql.contains("vNames[bulk_count] := bulk_values[1];"), "Should fill the first array");
+    assertTrue(postgreSql.contains("vSalaries[bulk_count] := bulk_values[2];"), "Should fill the second array");
+    assertFalse(postgreSql.contains("LIMIT"), "LIMIT is not valid in a PostgreSQL FETCH");
+  }
+
   @Test
   public void testBulkCollectDebugStatementParsing() {
     // Debug test to see what statement type is being created
@@ -0,0 +1,77 @@
+package me.christianrobert.ora2postgre.plsql.ast;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ForallStatementTest {
+
+  private static String convertProcedure(String body) {
+    String oracleSql = """
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  PROCEDURE bulkdml 
+  is 
+    vIds number_table;
+    vNames string_array;
+  begin 
+""" + body + """
+  end;
+end;
+/
+""";
+    Everything data = new Everything();
+    data.getUserNames().add("TEST_SCHEMA");
+
+    PlSqlAst ast = PlSqlAstMain.processPlsqlCode(new PlsqlCode("TEST_SCHEMA", oracleSql));
+    OraclePackage pkg = (OraclePackage) ast;
+    assertTrue(pkg.getProcedures().get(0).getStatements().get(0) instanceof ForallStatement);
+    return pkg.getProcedures().get(0).toPostgre(data, false);
+  }
+
+  @Test
+  public void testForallInsertBecomesInsertSelect() {
+    String postgreSql = convertProcedure(
+            "    FORALL i IN 1..100 INSERT INTO employees (employee_id, first_name) VALUES (vIds(i), vNames(i));\n");
+
+    assertTrue(postgreSql.contains("INSERT INTO TEST_SCHEMA.EMPLOYEES (employee_id, first_name) SELECT " +
+            "vIds[forall_rows.i], vNames[forall_rows.i] FROM generate_series(1, 100) AS forall_rows(i);"), postgreSql);
+    assertFalse(postgreSql.contains("LOOP"), "The FORALL must not become a loop");
+  }
+
+  @Test
+  public void testForallUpdateJoinsRowSource() {
+    String postgreSql = convertProcedure(
+            "    FORALL i IN 1..100 UPDATE employees SET first_name = vNames(i) WHERE employee_id = vIds(i);\n");
+
+    assertTrue(postgreSql.contains("UPDATE TEST_SCHEMA.EMPLOYEES SET first_name = vNames[forall_rows.i] " +
+            "FROM generate_series(1, 100) AS forall_rows(i) WHERE employee_id = vIds[forall_rows.i];"), postgreSql);
+  }
+
+  @Test
+  public void testTargetColumnsNamedLikeTheIndexStayUnqualified() {
+    String insertSql = convertProcedure(
+            "    FORALL seq IN 1..100 INSERT INTO employees (seq, first_name) VALUES (seq, vNames(seq));\n");
+    assertTrue(insertSql.contains("INSERT INTO TEST_SCHEMA.EMPLOYEES (seq, first_name) SELECT " +
+            "forall_rows.seq, vNames[forall_rows.seq] FROM generate_series(1, 100) AS forall_rows(seq);"), insertSql);
+
+    String updateSql = convertProcedure(
+            "    FORALL seq IN 1..100 UPDATE employees SET seq = vIds(seq), first_name = vNames(seq) WHERE employee_id = seq;\n");
+    assertTrue(updateSql.contains("UPDATE TEST_SCHEMA.EMPLOYEES SET seq = vIds[forall_rows.seq], first_name = vNames[forall_rows.seq] " +
+            "FROM generate_series(1, 100) AS forall_rows(seq) WHERE employee_id = forall_rows.seq;"), updateSql);
+  }
+
+  @Test
+  public void testForallDeleteWithSaveExceptionsFallsBackRowByRow() {
+    String postgreSql = convertProcedure(
+            "    FORALL i IN INDICES OF vIds SAVE EXCEPTIONS DELETE FROM employees WHERE employee_id = vIds(i);\n");
+
+    assertTrue(postgreSql.contains("DELETE FROM TEST_SCHEMA.EMPLOYEES USING generate_subscripts(vIds, 1) AS forall_rows(i) " +
+            "WHERE employee_id = vIds[forall_rows.i];"), postgreSql);
+    assertTrue(postgreSql.contains("FOR i IN COALESCE(array_lower(vIds, 1), 1)..COALESCE(array_upper(vIds, 1), 0) LOOP"), postgreSql);
+    assertTrue(postgreSql.contains("DELETE FROM TEST_SCHEMA.EMPLOYEES WHERE employee_id = vIds[i];"), postgreSql);
+    assertTrue(postgreSql.contains("RAISE EXCEPTION 'ORA-24381"), postgreSql);
+  }
+}
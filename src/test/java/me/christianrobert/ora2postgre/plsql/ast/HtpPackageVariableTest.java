@@ -3,6 +3,8 @@ package me.christianrobert.ora2postgre.plsql.ast;
 import me.christianrobert.ora2postgre.global.Everything;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -94,4 +96,35 @@ public class HtpPackageVariableTest {
         assertTrue(result.contains("CALL SYS.HTP_p(gX)"), 
                    "Should contain HTP call with variable name");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAdjacentConstantHtpCallsAreCoalesced() {
+        Everything data = new Everything();
+
+        List<Statement> statements = List.of(
+                new HtpStatement("'<table>'"),
+                new HtpStatement("'<tr>'"),
+                new HtpStatement(new Expression(new LogicalExpression(new UnaryLogicalExpression("gX")))),
+                new HtpStatement("'</tr>'"),
+                new HtpStatement("'</table>'"));
+
+        List<Statement> result = HtpStatement.coalesceConstantCalls(statements, data);
+
+        // Constant runs are merged, the variable argument stays a separate call
+        assertEquals(3, result.size(), "Adjacent constant HTP calls should be merged");
+        assertEquals("CALL SYS.HTP_p('<table>\n<tr>');\n", result.get(0).toPostgre(data));
+        assertEquals("CALL SYS.HTP_p(gX);\n", result.get(1).toPostgre(data));
+        assertEquals("CALL SYS.HTP_p('</tr>\n</table>');\n", result.get(2).toPostgre(data));
+    }
+
+    @Test
+    public void testSingleConstantHtpCallIsKeptAsIs() {
+        Everything data = new Everything();
+
+        HtpStatement htpStmt = new HtpStatement("'it''s'");
+        List<Statement> result = HtpStatement.coalesceConstantCalls(List.of(htpStmt), data);
+
+        assertEquals(1, result.size());
+        assertSame(htpStmt, result.get(0), "A single HTP call should not be rebuilt");
+    }
+}
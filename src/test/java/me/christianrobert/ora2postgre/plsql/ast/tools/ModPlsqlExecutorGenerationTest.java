@@ -105,6 +105,8 @@ public class ModPlsqlExecutorGenerationTest {
     // Verify essential methods are present
     assertTrue(generatedCode.contains("public static void initializeHtpBuffer"), 
               "Should contain initializeHtpBuffer method");
+    assertTrue(generatedCode.contains("public static void resetSession"), 
+              "Should contain resetSession method");
     assertTrue(generatedCode.contains("public static String executeProcedureWithHtp"), 
               "Should contain executeProcedureWithHtp method");
     assertTrue(generatedCode.contains("private static String getPackageInitializationProcedure"), 
@@ -17,6 +17,7 @@ import me.christianrobert.ora2postgre.plsql.ast.VarrayType;
 import me.christianrobert.ora2postgre.plsql.ast.NestedTableType;
 import me.christianrobert.ora2postgre.plsql.ast.Function;
 import me.christianrobert.ora2postgre.writing.ExportModPlsqlSimulator;
+import me.christianrobert.ora2postgre.writing.ModPlsqlExecutionMode;
 import me.christianrobert.ora2postgre.writing.ModPlsqlSimulatorGenerator;
 
 import org.junit.jupiter.api.Test;
@@ -48,27 +49,31 @@ public class SessionIsolationTest {
         // Verify session isolation strategy is documented
         assertTrue(controllerCode.contains("Session Isolation Strategy:"), 
                    "Controller should document session isolation strategy");
-        assertTrue(controllerCode.contains("Each web request executes DISCARD ALL"), 
-                   "Controller should explain DISCARD ALL for session reset");
+        assertTrue(controllerCode.contains("Each web request calls SYS.reset_session()"), 
+                   "Controller should explain SYS.reset_session() for session reset");
         assertTrue(controllerCode.contains("temporary tables (including package variables)"), 
                    "Controller should mention package variable isolation");
         assertTrue(controllerCode.contains("even with connection pooling"), 
                    "Controller should mention connection pooling handling");
         
-        // Verify DISCARD ALL implementation
-        assertTrue(controllerCode.contains("stmt.execute(\"DISCARD ALL\")"), 
-                   "Controller should execute DISCARD ALL to reset session state");
-        assertTrue(controllerCode.contains("try (Statement stmt = conn.createStatement())"), 
-                   "Controller should use Statement for DISCARD ALL");
+        // Verify session reset implementation keeps plan caches warm
+        assertTrue(controllerCode.contains("ModPlsqlExecutor.resetSession(conn)"), 
+                   "Controller should reset package state and HTP buffer per request");
+        assertFalse(controllerCode.contains("stmt.execute(\"DISCARD ALL\")"), 
+                   "Controller should not discard cached plans on every request");
         
-        // Verify try-with-resources pattern for connection closure
-        assertTrue(controllerCode.contains("try (Connection conn = dataSource.getConnection())"), 
-                   "Controller should use try-with-resources for automatic connection closure");
+        // Verify the connection is closed after streaming, or right away on errors
+        assertTrue(controllerCode.contains("try (Connection c = streamConn)"), 
+                   "Streaming output should use try-with-resources for automatic connection closure");
+        assertTrue(controllerCode.contains("ModPlsqlExecutor.closeQuietly(conn)"), 
+                   "Controller should close the connection when the request fails");
+        assertTrue(controllerCode.contains("} finally {"), 
+                   "Controller should close the connection on any exception before streaming starts");
         
         // Verify transaction control
         assertTrue(controllerCode.contains("conn.setAutoCommit(false)"), 
                    "Controller should disable auto-commit for explicit transaction control");
-        assertTrue(controllerCode.contains("conn.commit()"), 
+        assertTrue(controllerCode.contains("c.commit()"), 
                    "Controller should explicitly commit successful transactions");
         
         // Verify error handling mentions session reset
@@ -76,6 +81,23 @@ public class SessionIsolationTest {
                    "Error handling should mention session state reset");
     }
     
+    @Test
+    public void testControllerRunsOnVirtualThreadsWhenConfigured() {
+        OraclePackage pkg = createTestPackageWithVariables();
+        Everything data = new Everything();
+
+        String workerCode = ModPlsqlSimulatorGenerator.generateSimulator(pkg, "com.test.generated", data);
+        String virtualCode = ModPlsqlSimulatorGenerator.generateSimulator(pkg, "com.test.generated", data,
+                ModPlsqlExecutionMode.VIRTUAL_THREADS);
+
+        assertFalse(workerCode.contains("@RunOnVirtualThread"),
+                   "Default controllers should run on worker threads");
+        assertTrue(virtualCode.contains("import io.smallrye.common.annotation.RunOnVirtualThread;"),
+                   "Virtual thread controllers should import RunOnVirtualThread");
+        assertTrue(virtualCode.contains("  @GET\n  @RunOnVirtualThread\n"),
+                   "Every endpoint should be annotated with @RunOnVirtualThread");
+    }
+
     @Test
     public void testModPlsqlExecutorImplementsSessionIsolation() {
         // Generate the ModPlsqlExecutor utility class
@@ -0,0 +1,125 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.managers.IndexMigrationStrategyManager;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.IndexExpressionTransformer;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.PostgreSQLIndexDDL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the conversion of Oracle bitmap and function-based indexes.
+ */
+public class BitmapAndFunctionBasedIndexStrategyTest {
+
+  private Everything everything;
+
+  @BeforeEach
+  public void setUp() {
+    everything = new Everything();
+    TableMetadata table = new TableMetadata("HR", "ORDERS");
+    table.setEstimatedRowCount(5_000_000);
+
+    ColumnMetadata orderDate = new ColumnMetadata("ORDER_DATE", "DATE", 7, null, null, false, null);
+    orderDate.setNumDistinct(3000);
+    table.addColumn(orderDate);
+
+    ColumnMetadata status = new ColumnMetadata("STATUS", "VARCHAR2", 10, null, null, false, null);
+    status.setNumDistinct(4);
+    status.setNumNulls(0);
+    table.addColumn(status);
+
+    ColumnMetadata errorFlag = new ColumnMetadata("ERROR_FLAG", "CHAR", 1, null, null, true, null);
+    errorFlag.setNumDistinct(1);
+    errorFlag.setNumNulls(4_990_000);
+    table.addColumn(errorFlag);
+
+    ColumnMetadata region = new ColumnMetadata("REGION", "VARCHAR2", 10, null, null, false, null);
+    region.setNumDistinct(50);
+    table.addColumn(region);
+
+    ColumnMetadata lastName = new ColumnMetadata("LAST_NAME", "VARCHAR2", 100, null, null, true, null);
+    table.addColumn(lastName);
+
+    everything.getTableSql().add(table);
+  }
+
+  private static IndexMetadata createIndex(String name, String type, String... columns) {
+    IndexMetadata index = new IndexMetadata(name, "ORDERS", "HR", type, false, false, null, null, "VALID", false);
+    for (int i = 0; i < columns.length; i++) {
+      index.addColumn(new IndexColumn(columns[i], "ASC", i + 1, false));
+    }
+    return index;
+  }
+
+  @Test
+  public void testBitmapOnDateColumnOfLargeTableBecomesBrin() {
+    PostgreSQLIndexDDL ddl = new BitmapIndexStrategy(everything).convert(createIndex("ORD_DATE_BIX", "BITMAP", "ORDER_DATE"));
+
+    assertEquals("CREATE INDEX ord_date_bix ON hr.orders USING brin (order_date)", ddl.getCreateIndexSQL());
+    assertTrue(ddl.getConversionNotes().contains("BRIN"));
+  }
+
+  @Test
+  public void testBitmapOnMostlyNullFlagBecomesPartialIndex() {
+    PostgreSQLIndexDDL ddl = new BitmapIndexStrategy(everything).convert(createIndex("ORD_ERR_BIX", "BITMAP", "ERROR_FLAG"));
+
+    assertEquals("CREATE INDEX ord_err_bix ON hr.orders (error_flag) WHERE error_flag IS NOT NULL", ddl.getCreateIndexSQL());
+  }
+
+  @Test
+  public void testMultiColumnBitmapBecomesBtreeOrderedByCardinality() {
+    PostgreSQLIndexDDL ddl = new BitmapIndexStrategy(everything).convert(createIndex("ORD_ST_REG_BIX", "BITMAP", "STATUS", "REGION"));
+
+    assertEquals("CREATE INDEX ord_st_reg_bix ON hr.orders (region, status)", ddl.getCreateIndexSQL());
+  }
+
+  @Test
+  public void testLowCardinalityBitmapSuggestsAlternatives() {
+    IndexMetadata statusIndex = createIndex("ORD_STATUS_BIX", "BITMAP", "STATUS");
+    everything.getIndexes().add(statusIndex);
+    everything.getIndexes().add(createIndex("ORD_REGION_BIX", "BITMAP", "REGION"));
+
+    PostgreSQLIndexDDL ddl = new BitmapIndexStrategy(everything).convert(statusIndex);
+
+    assertEquals("CREATE INDEX ord_status_bix ON hr.orders (status)", ddl.getCreateIndexSQL());
+    assertTrue(ddl.getConversionNotes().contains("partial index"));
+    assertTrue(ddl.getConversionNotes().contains("region"));
+  }
+
+  @Test
+  public void testFunctionBasedIndexBecomesExpressionIndex() {
+    IndexMetadata index = new IndexMetadata("ORD_NAME_UPPER_IX", "ORDERS", "HR", "FUNCTION-BASED NORMAL",
+            false, false, null, null, "VALID", false);
+    index.addColumn(new IndexColumn("SYS_NC00006$", "UPPER(\"LAST_NAME\")", "ASC", 1, false));
+
+    IndexMigrationStrategyManager manager = new IndexMigrationStrategyManager(everything);
+    PostgreSQLIndexDDL ddl = manager.convertIndex(index);
+
+    assertEquals("Function-Based Index", manager.selectStrategy(index).getStrategyName());
+    assertTrue(ddl.isExecutable(), ddl.getConversionNotes());
+    String sql = ddl.getCreateIndexSQL().toLowerCase();
+    assertTrue(sql.startsWith("create index ord_name_upper_ix on hr.orders (("), sql);
+    assertTrue(sql.contains("upper("), sql);
+    assertTrue(sql.contains("last_name"), sql);
+  }
+
+  @Test
+  public void testNonImmutableExpressionIsNotConverted() {
+    IndexMetadata index = new IndexMetadata("ORD_YEAR_IX", "ORDERS", "HR", "FUNCTION-BASED NORMAL",
+            false, false, null, null, "VALID", false);
+    index.addColumn(new IndexColumn("SYS_NC00007$", "TO_CHAR(\"ORDER_DATE\",'YYYY')", "ASC", 1, false));
+
+    PostgreSQLIndexDDL ddl = new FunctionBasedIndexStrategy(everything).convert(index);
+
+    assertFalse(ddl.isSupported());
+    assertEquals("to_char", IndexExpressionTransformer.findNonImmutableFunction("TO_CHAR(order_date, 'YYYY')"));
+    assertNull(IndexExpressionTransformer.findNonImmutableFunction("UPPER(last_name)"));
+  }
+}
@@ -0,0 +1,140 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.strategies;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.PartitionMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.managers.IndexMigrationStrategyManager;
+import me.christianrobert.ora2postgre.plsql.ast.tools.managers.TableTransformationManager;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.PostgreSQLIndexDDL;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the conversion of Oracle partitioned tables to PostgreSQL declarative partitioning.
+ */
+public class PartitionedTableStrategyTest {
+
+  private final PartitionedTableStrategy strategy = new PartitionedTableStrategy();
+
+  private static TableMetadata createTable(PartitionMetadata partitioning) {
+    TableMetadata table = new TableMetadata("SHOP", "SALES");
+    table.addColumn(new ColumnMetadata("SALE_ID", "NUMBER", 22, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("SALE_DATE", "DATE", 7, null, null, false, null));
+    table.addColumn(new ColumnMetadata("REGION", "VARCHAR2", 10, null, null, true, null));
+    table.setPartitioning(partitioning);
+    return table;
+  }
+
+  @Test
+  public void testRangePartitionsChainTheirBounds() {
+    PartitionMetadata partitioning = new PartitionMetadata("RANGE", "NONE");
+    partitioning.addKeyColumn("SALE_DATE");
+    partitioning.addPartition(new PartitionMetadata.Partition("P2023", 1,
+            "TO_DATE(' 2024-01-01 00:00:00', 'SYYYY-MM-DD HH24:MI:SS', 'NLS_CALENDAR=GREGORIAN')"));
+    partitioning.addPartition(new PartitionMetadata.Partition("P2024", 2, "TIMESTAMP' 2025-01-01 00:00:00'"));
+    partitioning.addPartition(new PartitionMetadata.Partition("PMAX", 3, "MAXVALUE"));
+
+    List<String> ddl = strategy.transform(createTable(partitioning), new Everything());
+
+    assertEquals(4, ddl.size());
+    assertTrue(ddl.get(0).startsWith("CREATE TABLE SHOP.SALES ("));
+    assertTrue(ddl.get(0).endsWith("\nPARTITION BY RANGE (SALE_DATE);"));
+    assertEquals("CREATE TABLE SHOP.SALES_P2023 PARTITION OF SHOP.SALES FOR VALUES FROM (MINVALUE) TO ('2024-01-01 00:00:00');", ddl.get(1));
+    assertEquals("CREATE TABLE SHOP.SALES_P2024 PARTITION OF SHOP.SALES FOR VALUES FROM ('2024-01-01 00:00:00') TO ('2025-01-01 00:00:00');", ddl.get(2));
+    assertEquals("CREATE TABLE SHOP.SALES_PMAX PARTITION OF SHOP.SALES FOR VALUES FROM ('2025-01-01 00:00:00') TO (MAXVALUE);", ddl.get(3));
+  }
+
+  @Test
+  public void testListPartitionsWithDefault() {
+    PartitionMetadata partitioning = new PartitionMetadata("LIST", "NONE");
+    partitioning.addKeyColumn("REGION");
+    partitioning.addPartition(new PartitionMetadata.Partition("P_EU", 1, "'DE', 'FR', 'IT'"));
+    partitioning.addPartition(new PartitionMetadata.Partition("P_OTHER", 2, "DEFAULT"));
+
+    List<String> ddl = strategy.transform(createTable(partitioning), new Everything());
+
+    assertTrue(ddl.get(0).endsWith("PARTITION BY LIST (REGION);"));
+    assertEquals("CREATE TABLE SHOP.SALES_P_EU PARTITION OF SHOP.SALES FOR VALUES IN ('DE', 'FR', 'IT');", ddl.get(1));
+    assertEquals("CREATE TABLE SHOP.SALES_P_OTHER PARTITION OF SHOP.SALES DEFAULT;", ddl.get(2));
+  }
+
+  @Test
+  public void testHashPartitionsUseModulusAndRemainder() {
+    PartitionMetadata partitioning = new PartitionMetadata("HASH", "NONE");
+    partitioning.addKeyColumn("SALE_ID");
+    for (int i = 1; i <= 4; i++) {
+      partitioning.addPartition(new PartitionMetadata.Partition("SYS_P" + i, i, ""));
+    }
+
+    List<String> ddl = strategy.transform(createTable(partitioning), new Everything());
+
+    assertEquals(5, ddl.size());
+    assertEquals("CREATE TABLE SHOP.SALES_SYS_P3 PARTITION OF SHOP.SALES FOR VALUES WITH (MODULUS 4, REMAINDER 2);", ddl.get(3));
+  }
+
+  @Test
+  public void testManagerFallsBackToStandardTableForUnsupportedPartitioning() {
+    PartitionMetadata reference = new PartitionMetadata("REFERENCE", "NONE");
+    reference.addPartition(new PartitionMetadata.Partition("P1", 1, null));
+    TableMetadata table = createTable(reference);
+
+    TableTransformationManager manager = new TableTransformationManager();
+
+    assertFalse(strategy.supports(table));
+    assertEquals("Standard Table", manager.selectStrategy(table).getStrategyName());
+    assertFalse(manager.transform(table, new Everything()).get(0).contains("PARTITION BY"));
+  }
+
+  @Test
+  public void testLongChildTableNamesAreShortened() {
+    String name = PartitionMetadata.childTableName("A_VERY_LONG_TABLE_NAME_FOR_ORDER_HISTORY_ITEMS", "SYS_P123456789012345");
+
+    assertEquals(63, name.length());
+    assertEquals(name, PartitionMetadata.childTableName("A_VERY_LONG_TABLE_NAME_FOR_ORDER_HISTORY_ITEMS", "SYS_P123456789012345"));
+    assertEquals("SALES_P1", PartitionMetadata.childTableName("SALES", "P1"));
+  }
+
+  @Test
+  public void testLocalPartitionedIndexIsCreatedOnTheParent() {
+    // Oracle reports N/A as status of a partitioned index, the partitions carry the real status
+    IndexMetadata index = new IndexMetadata("SALES_REGION_IX", "SALES", "SHOP", "NORMAL",
+            false, false, null, null, "N/A", true);
+    index.addColumn(new IndexColumn("REGION", "ASC", 1, false));
+
+    PostgreSQLIndexDDL ddl = new IndexMigrationStrategyManager().convertIndex(index);
+
+    assertTrue(ddl.isExecutable(), ddl.getConversionNotes());
+    assertEquals("CREATE INDEX sales_region_ix ON shop.sales (region)", ddl.getCreateIndexSQL());
+  }
+
+  @Test
+  public void testUniqueIndexWithoutPartitionKeyIsNotCreated() {
+    PartitionMetadata partitioning = new PartitionMetadata("RANGE", "NONE");
+    partitioning.addKeyColumn("SALE_DATE");
+    partitioning.addPartition(new PartitionMetadata.Partition("PMAX", 1, "MAXVALUE"));
+    Everything data = new Everything();
+    data.getTableSql().add(createTable(partitioning));
+
+    IndexMetadata withoutKey = new IndexMetadata("SALES_ID_UX", "SALES", "SHOP", "NORMAL",
+            true, false, null, null, "N/A", true);
+    withoutKey.addColumn(new IndexColumn("SALE_ID", "ASC", 1, false));
+    IndexMetadata withKey = new IndexMetadata("SALES_ID_DATE_UX", "SALES", "SHOP", "NORMAL",
+            true, false, null, null, "N/A", true);
+    withKey.addColumn(new IndexColumn("SALE_ID", "ASC", 1, false));
+    withKey.addColumn(new IndexColumn("SALE_DATE", "ASC", 2, false));
+
+    IndexMigrationStrategyManager.IndexConversionResult result =
+            new IndexMigrationStrategyManager(data).convertIndexes(List.of(withoutKey, withKey), data);
+
+    assertEquals(1, result.getSupportedIndexes().size());
+    assertEquals("SALES_ID_DATE_UX", result.getSupportedIndexes().get(0).getOriginalIndexName());
+    assertEquals(1, result.getUnsupportedIndexes().size());
+    assertTrue(result.getUnsupportedIndexes().get(0).getConversionNotes().contains("missing: SALE_DATE"));
+  }
+}
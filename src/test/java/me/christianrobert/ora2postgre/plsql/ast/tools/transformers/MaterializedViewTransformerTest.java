@@ -0,0 +1,146 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.global.ViewSpecAndQuery;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
+import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the conversion of Oracle materialized views: incremental summary tables,
+ * unique keys for concurrent refresh and the refresh schedule.
+ */
+public class MaterializedViewTransformerTest {
+
+  private static Everything createData() {
+    Everything data = new Everything();
+    TableMetadata orders = new TableMetadata("SHOP", "ORDERS");
+    orders.addColumn(new ColumnMetadata("ORDER_ID", "NUMBER", 22, 10, 0, false, null));
+    orders.addColumn(new ColumnMetadata("CUSTOMER_ID", "NUMBER", 22, 10, 0, true, null));
+    orders.addColumn(new ColumnMetadata("AMOUNT", "NUMBER", 22, 12, 2, true, null));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_ORDERS", "P");
+    primaryKey.addColumnName("ORDER_ID");
+    orders.addConstraint(primaryKey);
+    data.getTableSql().add(orders);
+    return data;
+  }
+
+  private static ViewSpecAndQuery createMaterializedView(String name, String query, boolean fastRefreshable, String... columns) {
+    ViewMetadata spec = new ViewMetadata("SHOP", name);
+    spec.setRawQuery(query);
+    spec.setMaterialized(true);
+    spec.setRefreshMethod("FAST");
+    spec.setRefreshMode("DEMAND");
+    spec.setFastRefreshable(fastRefreshable);
+    spec.setRefreshInterval("SYSDATE + 1/24");
+    for (String column : columns) {
+      spec.addColumn(new ColumnMetadata(column, "NUMBER", 22, null, null, true, null));
+    }
+    SelectStatement select = (SelectStatement) PlSqlAstMain.processPlsqlCode(new PlsqlCode("SHOP", query));
+    return new ViewSpecAndQuery(spec, select);
+  }
+
+  @Test
+  public void testFastRefreshAggregateBecomesTriggerMaintainedSummaryTable() {
+    Everything data = createData();
+    ViewSpecAndQuery mview = createMaterializedView("CUSTOMER_TOTALS",
+            "SELECT customer_id, SUM(amount) total, COUNT(amount) amounts, COUNT(*) cnt FROM orders GROUP BY customer_id",
+            true, "CUSTOMER_ID", "TOTAL", "AMOUNTS", "CNT");
+
+    String ddl = MaterializedViewTransformer.transform(mview, data);
+
+    assertTrue(ddl.contains("CREATE TABLE IF NOT EXISTS shop.CUSTOMER_TOTALS ("));
+    assertTrue(ddl.contains("CREATE UNIQUE INDEX IF NOT EXISTS customer_totals_key ON shop.CUSTOMER_TOTALS (CUSTOMER_ID) NULLS NOT DISTINCT"));
+    assertTrue(ddl.contains("GROUP BY"));
+    assertTrue(ddl.contains("ON CONFLICT (CUSTOMER_ID) DO UPDATE SET TOTAL = COALESCE(mv.TOTAL + EXCLUDED.TOTAL, mv.TOTAL, EXCLUDED.TOTAL)"));
+    // A group whose remaining amounts are all NULL has a NULL sum, as in Oracle
+    assertTrue(ddl.contains("TOTAL = CASE WHEN mv.AMOUNTS - d.AMOUNTS = 0 THEN NULL ELSE COALESCE(mv.TOTAL, 0) - COALESCE(d.TOTAL, 0) END"));
+    // The initial population can be run again
+    assertTrue(ddl.indexOf("TRUNCATE shop.CUSTOMER_TOTALS\n;\n") < ddl.indexOf("INSERT INTO shop.CUSTOMER_TOTALS"));
+    assertTrue(ddl.contains("DELETE FROM shop.CUSTOMER_TOTALS WHERE CNT = 0;"));
+    assertTrue(ddl.contains("AFTER INSERT ON shop.orders REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT"));
+    assertTrue(ddl.contains("AFTER UPDATE ON shop.orders REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT"));
+    assertTrue(ddl.contains("AFTER DELETE ON shop.orders REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT"));
+    assertFalse(ddl.contains("MATERIALIZED VIEW"));
+
+    // Kept current by the triggers, neither populated nor scheduled
+    assertFalse(MaterializedViewTransformer.buildRefreshScript(List.of(mview), data).contains("CUSTOMER_TOTALS"));
+  }
+
+  @Test
+  public void testSumOfNullableColumnWithoutCountIsNotMaintainedIncrementally() {
+    Everything data = createData();
+    ViewSpecAndQuery mview = createMaterializedView("CUSTOMER_SUMS",
+            "SELECT customer_id, SUM(amount) total, COUNT(*) cnt FROM orders GROUP BY customer_id",
+            true, "CUSTOMER_ID", "TOTAL", "CNT");
+
+    assertTrue(MaterializedViewTransformer.transform(mview, data).startsWith("CREATE MATERIALIZED VIEW"));
+  }
+
+  @Test
+  public void testMaterializedViewsAreRefreshedAfterTheViewsTheyRead() {
+    Everything data = createData();
+    ViewSpecAndQuery top = createMaterializedView("TOP_ORDERS",
+            "SELECT order_id, amount FROM big_orders WHERE amount > 5000", false, "ORDER_ID", "AMOUNT");
+    ViewSpecAndQuery big = createMaterializedView("BIG_ORDERS",
+            "SELECT o.order_id, o.amount FROM orders o WHERE o.amount > 1000", true, "ORDER_ID", "AMOUNT");
+
+    assertTrue(MaterializedViewTransformer.readsView(top.spec, big.spec));
+    assertFalse(MaterializedViewTransformer.readsView(big.spec, top.spec));
+    assertEquals(List.of(big, top), MaterializedViewTransformer.orderByDependencies(List.of(top, big)));
+
+    String script = MaterializedViewTransformer.buildRefreshScript(List.of(top, big), data);
+    assertTrue(script.indexOf("REFRESH MATERIALIZED VIEW shop.BIG_ORDERS\n") < script.indexOf("REFRESH MATERIALIZED VIEW shop.TOP_ORDERS\n"));
+  }
+
+  @Test
+  public void testMaterializedViewGetsUniqueIndexFromBaseTablePrimaryKey() {
+    Everything data = createData();
+    ViewSpecAndQuery mview = createMaterializedView("BIG_ORDERS",
+            "SELECT o.order_id, o.amount FROM orders o WHERE o.amount > 1000",
+            true, "ORDER_ID", "AMOUNT");
+
+    String ddl = MaterializedViewTransformer.transform(mview, data);
+    assertTrue(ddl.startsWith("CREATE MATERIALIZED VIEW IF NOT EXISTS shop.BIG_ORDERS (ORDER_ID, AMOUNT) AS\n"));
+    assertTrue(ddl.contains("WITH NO DATA\n;\n"));
+    assertTrue(ddl.contains("CREATE UNIQUE INDEX IF NOT EXISTS big_orders_key ON shop.BIG_ORDERS (ORDER_ID)"));
+
+    String script = MaterializedViewTransformer.buildRefreshScript(List.of(mview), data);
+    assertTrue(script.contains("REFRESH MATERIALIZED VIEW shop.BIG_ORDERS\n;\n"));
+    assertTrue(script.contains("PERFORM cron.schedule('refresh shop.BIG_ORDERS', '0 * * * *', " +
+            "'REFRESH MATERIALIZED VIEW CONCURRENTLY shop.BIG_ORDERS');"));
+  }
+
+  @Test
+  public void testJoinWithoutKnownKeyIsRefreshedNonConcurrently() {
+    Everything data = createData();
+    ViewSpecAndQuery mview = createMaterializedView("ORDER_CUSTOMERS",
+            "SELECT o.order_id, c.customer_id FROM orders o JOIN customers c ON c.customer_id = o.customer_id",
+            false, "ORDER_ID", "CUSTOMER_ID");
+
+    assertNull(MaterializedViewTransformer.analyzeQuery(mview.spec.getRawQuery()));
+    assertTrue(MaterializedViewTransformer.transform(mview, data).contains("REFRESH MATERIALIZED VIEW CONCURRENTLY is not possible"));
+    assertTrue(MaterializedViewTransformer.buildRefreshScript(List.of(mview), data)
+            .contains("'REFRESH MATERIALIZED VIEW shop.ORDER_CUSTOMERS'"));
+  }
+
+  @Test
+  public void testRefreshIntervalsAreConvertedToCron() {
+    assertEquals("0 * * * *", MaterializedViewTransformer.toCronExpression("SYSDATE + 1/24"));
+    assertEquals("0 */6 * * *", MaterializedViewTransformer.toCronExpression("sysdate+6/24"));
+    assertEquals("*/15 * * * *", MaterializedViewTransformer.toCronExpression("SYSDATE + 15/1440"));
+    assertEquals("0 0 * * *", MaterializedViewTransformer.toCronExpression("TRUNC(SYSDATE) + 1"));
+    assertEquals("0 3 * * *", MaterializedViewTransformer.toCronExpression("TRUNC(SYSDATE + 1) + 3/24"));
+    assertEquals("0 0 * * 0", MaterializedViewTransformer.toCronExpression("SYSDATE + 7"));
+    assertNull(MaterializedViewTransformer.toCronExpression("NEXT_DAY(TRUNC(SYSDATE), 'MONDAY')"));
+  }
+}
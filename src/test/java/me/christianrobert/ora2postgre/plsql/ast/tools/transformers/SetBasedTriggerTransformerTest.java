@@ -0,0 +1,152 @@
+package me.christianrobert.ora2postgre.plsql.ast.tools.transformers;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Trigger;
+import me.christianrobert.ora2postgre.plsql.ast.tools.strategies.StatementLevelTriggerStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the translation of row-level triggers into set-based statement-level triggers.
+ */
+public class SetBasedTriggerTransformerTest {
+
+  private static Trigger createTrigger(String timing, String events, String body) {
+    Trigger trigger = new Trigger("ORDERS_TRG", "ORDERS", "SHOP", "SHOP");
+    trigger.setTriggerType(timing);
+    trigger.setTriggeringEvent(events);
+    trigger.setOracleBody(body);
+    return trigger;
+  }
+
+  @Test
+  public void testAuditInsertsReadTheTransitionTables() {
+    Trigger trigger = createTrigger("AFTER", "INSERT,UPDATE,DELETE", """
+            BEGIN
+              IF INSERTING OR UPDATING THEN
+                INSERT INTO order_audit (order_id, amount, changed_at) VALUES (:NEW.order_id, :NEW.amount, SYSDATE);
+              ELSE
+                INSERT INTO order_audit (order_id, amount, changed_at) VALUES (:OLD.order_id, -:OLD.amount, SYSDATE);
+              END IF;
+            END;""");
+
+    Map<String, List<String>> statements = SetBasedTriggerTransformer.transform(trigger, new Everything());
+
+    assertNotNull(statements);
+    assertEquals(List.of("INSERT INTO shop.order_audit (order_id, amount, changed_at) " +
+            "SELECT n.order_id, n.amount, CURRENT_TIMESTAMP FROM new_rows n;"), statements.get("INSERT"));
+    assertEquals(statements.get("INSERT"), statements.get("UPDATE"));
+    assertEquals(List.of("INSERT INTO shop.order_audit (order_id, amount, changed_at) " +
+            "SELECT o.order_id, -o.amount, CURRENT_TIMESTAMP FROM old_rows o;"), statements.get("DELETE"));
+  }
+
+  @Test
+  public void testCounterMaintenanceIsAggregatedPerKey() {
+    Trigger trigger = createTrigger("AFTER", "INSERT", """
+            BEGIN
+              UPDATE customer_totals
+                 SET order_count = order_count + 1, total_amount = total_amount + :NEW.amount
+               WHERE customer_id = :NEW.customer_id;
+            END;""");
+
+    Map<String, List<String>> statements = SetBasedTriggerTransformer.transform(trigger, new Everything());
+
+    assertNotNull(statements);
+    assertEquals("UPDATE shop.customer_totals AS trg SET order_count = trg.order_count + d.delta1, " +
+                    "total_amount = trg.total_amount + d.delta2 FROM (SELECT n.customer_id AS key1, SUM(1) AS delta1, " +
+                    "SUM(n.amount) AS delta2 FROM new_rows n GROUP BY key1 HAVING COUNT(*) > 0) d " +
+                    "WHERE trg.customer_id = d.key1;",
+            statements.get("INSERT").get(0));
+  }
+
+  @Test
+  public void testMixedSignIncrementKeepsEverySign() {
+    Trigger trigger = createTrigger("AFTER", "UPDATE", """
+            BEGIN
+              UPDATE customer_totals SET total_amount = total_amount - :OLD.amount + :NEW.amount
+               WHERE customer_id = :NEW.customer_id;
+            END;""");
+    Everything data = new Everything();
+    TableMetadata orders = new TableMetadata("SHOP", "ORDERS");
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_ORDERS", "P");
+    primaryKey.addColumnName("ORDER_ID");
+    orders.addConstraint(primaryKey);
+    data.getTableSql().add(orders);
+
+    assertEquals("UPDATE shop.customer_totals AS trg SET total_amount = trg.total_amount + d.delta1 " +
+                    "FROM (SELECT n.customer_id AS key1, SUM(0 - o.amount + n.amount) AS delta1 " +
+                    "FROM new_rows n JOIN old_rows o ON o.ORDER_ID = n.ORDER_ID GROUP BY key1 HAVING COUNT(*) > 0) d " +
+                    "WHERE trg.customer_id = d.key1;",
+            SetBasedTriggerTransformer.transform(trigger, data).get("UPDATE").get(0));
+  }
+
+  @Test
+  public void testUpdateOfOldAndNewValuesNeedsThePrimaryKey() {
+    Trigger trigger = createTrigger("AFTER", "UPDATE", """
+            BEGIN
+              INSERT INTO price_history (order_id, old_amount, new_amount) VALUES (:NEW.order_id, :OLD.amount, :NEW.amount);
+            END;""");
+
+    assertNull(SetBasedTriggerTransformer.transform(trigger, new Everything()));
+
+    Everything data = new Everything();
+    TableMetadata orders = new TableMetadata("SHOP", "ORDERS");
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_ORDERS", "P");
+    primaryKey.addColumnName("ORDER_ID");
+    orders.addConstraint(primaryKey);
+    data.getTableSql().add(orders);
+
+    assertEquals("INSERT INTO shop.price_history (order_id, old_amount, new_amount) SELECT n.order_id, o.amount, n.amount " +
+                    "FROM new_rows n JOIN old_rows o ON o.ORDER_ID = n.ORDER_ID;",
+            SetBasedTriggerTransformer.transform(trigger, data).get("UPDATE").get(0));
+  }
+
+  @Test
+  public void testProceduralTriggersStayRowLevel() {
+    assertNull(SetBasedTriggerTransformer.transform(createTrigger("BEFORE", "INSERT",
+            "BEGIN :NEW.created_at := SYSDATE; END;"), new Everything()));
+    assertNull(SetBasedTriggerTransformer.transform(createTrigger("AFTER", "INSERT",
+            "DECLARE v NUMBER; BEGIN v := 1; END;"), new Everything()));
+    assertNull(SetBasedTriggerTransformer.transform(createTrigger("AFTER", "UPDATE",
+            "BEGIN IF UPDATING('AMOUNT') THEN DELETE FROM cache WHERE id = :NEW.order_id; END IF; END;"), new Everything()));
+    assertNull(SetBasedTriggerTransformer.transform(createTrigger("AFTER", "INSERT",
+            "BEGIN UPDATE stats SET last_value = last_value * 2 WHERE id = :NEW.order_id; END;"), new Everything()));
+  }
+
+  @Test
+  public void testStrategyCreatesOneStatementTriggerPerEvent() {
+    Trigger trigger = createTrigger("AFTER", "INSERT,DELETE", """
+            BEGIN
+              DELETE FROM order_cache WHERE order_id = :NEW.order_id OR order_id = :OLD.order_id;
+            END;""");
+    StatementLevelTriggerStrategy strategy = new StatementLevelTriggerStrategy();
+
+    assertTrue(strategy.supports(trigger));
+    String definition = strategy.transformTriggerDefinition(trigger, new Everything());
+    assertTrue(definition.contains("CREATE TRIGGER orders_trg_pg_insert\n  AFTER INSERT\n  ON shop.ORDERS\n" +
+            "  REFERENCING NEW TABLE AS new_rows\n  FOR EACH STATEMENT\n"));
+    assertTrue(definition.contains("CREATE TRIGGER orders_trg_pg_delete\n  AFTER DELETE\n  ON shop.ORDERS\n" +
+            "  REFERENCING OLD TABLE AS old_rows\n  FOR EACH STATEMENT\n"));
+
+    String function = strategy.transformTriggerFunction(trigger, new Everything());
+    assertTrue(function.contains("DELETE FROM shop.order_cache USING new_rows n " +
+            "WHERE order_id = n.order_id OR order_id = NULL;"));
+    assertTrue(function.contains("  RETURN NULL;\n"));
+  }
+
+  @Test
+  public void testOracleStatementTriggerIsCreatedForEachStatement() {
+    Trigger trigger = createTrigger("AFTER", "INSERT", "BEGIN refresh_summary; END;");
+    trigger.setRowLevel(false);
+
+    assertTrue(trigger.toPostgreTriggerDefinition(new Everything()).contains("\n  FOR EACH STATEMENT\n"));
+    assertTrue(trigger.toPostgreTriggerFunction(new Everything()).contains("  RETURN NULL;\n"));
+    assertFalse(new StatementLevelTriggerStrategy().supports(trigger));
+  }
+}
@@ -0,0 +1,101 @@
+package me.christianrobert.ora2postgre.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests reading the end of a log file and the incremental reads after an offset.
+ */
+public class LogTailReaderTest {
+
+  private static Path logWithLines(int count) throws IOException {
+    Path file = Files.createTempFile("migration", ".log");
+    file.toFile().deleteOnExit();
+    StringBuilder b = new StringBuilder();
+    for (int i = 1; i <= count; i++) {
+      b.append("2024-03-15 10:30:00,000 INFO  [m.c.o.Test] (main) line ").append(i).append('\n');
+    }
+    Files.writeString(file, b.toString());
+    return file;
+  }
+
+  @Test
+  public void testTailReturnsLastLinesAcrossBlocks() throws IOException {
+    // About 60 bytes per line, the requested lines span several blocks
+    Path file = logWithLines(2000);
+
+    LogTailReader.LogChunk chunk = LogTailReader.tail(file, 300);
+
+    List<String> lines = chunk.getLines();
+    assertEquals(300, lines.size());
+    assertTrue(lines.get(0).endsWith("line 1701"));
+    assertTrue(lines.get(299).endsWith("line 2000"));
+    assertEquals(Files.size(file), chunk.getNextOffset());
+  }
+
+  @Test
+  public void testTailOfShortFileReturnsEverything() throws IOException {
+    Path file = logWithLines(3);
+
+    LogTailReader.LogChunk chunk = LogTailReader.tail(file, 100);
+
+    assertEquals(3, chunk.getLines().size());
+    assertTrue(chunk.getLines().get(0).endsWith("line 1"));
+  }
+
+  @Test
+  public void testReadFromReturnsOnlyCompleteNewLines() throws IOException {
+    Path file = logWithLines(5);
+    long offset = LogTailReader.tail(file, 10).getNextOffset();
+
+    assertEquals("", LogTailReader.readFrom(file, offset).getContent());
+
+    Files.writeString(file, "new line 1\nnew line 2\npartial", StandardOpenOption.APPEND);
+    LogTailReader.LogChunk chunk = LogTailReader.readFrom(file, offset);
+    assertEquals(List.of("new line 1", "new line 2"), chunk.getLines());
+    assertFalse(chunk.isRotated());
+
+    Files.writeString(file, " line\n", StandardOpenOption.APPEND);
+    assertEquals(List.of("partial line"), LogTailReader.readFrom(file, chunk.getNextOffset()).getLines());
+  }
+
+  @Test
+  public void testReadFromStartsOverAfterRotation() throws IOException {
+    Path file = logWithLines(50);
+    long offset = Files.size(file);
+
+    Files.writeString(file, "first line after rotation\n");
+    LogTailReader.LogChunk chunk = LogTailReader.readFrom(file, offset);
+
+    assertTrue(chunk.isRotated());
+    assertEquals(List.of("first line after rotation"), chunk.getLines());
+    assertEquals(Files.size(file), chunk.getNextOffset());
+  }
+
+  @Test
+  public void testClampedReadsStartAtALineBoundary() throws IOException {
+    Path file = Files.createTempFile("migration", ".log");
+    file.toFile().deleteOnExit();
+    StringBuilder b = new StringBuilder();
+    for (int i = 1; i <= 40000; i++) {
+      // Multi byte characters, so a cut at MAX_BYTES can also split a character
+      b.append("Übertragung läuft für Zeile ").append(i).append('\n');
+    }
+    Files.writeString(file, b.toString());
+    assertTrue(Files.size(file) > LogTailReader.MAX_BYTES);
+
+    for (LogTailReader.LogChunk chunk : List.of(LogTailReader.tail(file, 40000), LogTailReader.readFrom(file, 0))) {
+      List<String> lines = chunk.getLines();
+      assertTrue(lines.get(0).matches("Übertragung läuft für Zeile \\d+"), lines.get(0));
+      assertTrue(lines.get(lines.size() - 1).endsWith("Zeile 40000"));
+      assertEquals(Files.size(file), chunk.getNextOffset());
+    }
+  }
+}
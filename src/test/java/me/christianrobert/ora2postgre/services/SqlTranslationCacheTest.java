@@ -0,0 +1,74 @@
+package me.christianrobert.ora2postgre.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SqlTranslationCache covering key normalization, LRU eviction
+ * and invalidation when the migration model is reloaded.
+ */
+public class SqlTranslationCacheTest {
+
+  @Test
+  public void testRepeatedStatementIsTranslatedOnce() {
+    SqlTranslationCache cache = new SqlTranslationCache(10);
+    AtomicInteger translations = new AtomicInteger();
+
+    String first = cache.getOrTranslate("hr", "SELECT 1 FROM dual", 0, () -> "pg" + translations.incrementAndGet());
+    String second = cache.getOrTranslate("HR", "SELECT   1\n  FROM dual;", 0, () -> "pg" + translations.incrementAndGet());
+
+    assertEquals("pg1", first);
+    assertEquals("pg1", second, "Whitespace and schema case should not create a new cache entry");
+    assertEquals(1, translations.get());
+    assertEquals(1L, cache.getStatistics().get("hits"));
+    assertEquals(1L, cache.getStatistics().get("misses"));
+  }
+
+  @Test
+  public void testLiteralWhitespaceIsSignificant() {
+    assertEquals("SELECT 'a  b' FROM dual", SqlTranslationCache.normalizeSql("SELECT  'a  b'\tFROM dual ;"));
+    assertEquals("SELECT 'it''s  x' FROM dual", SqlTranslationCache.normalizeSql("SELECT 'it''s  x'  FROM dual"));
+    assertNotEquals(SqlTranslationCache.normalizeSql("SELECT 'a b' FROM dual"),
+            SqlTranslationCache.normalizeSql("SELECT 'a  b' FROM dual"));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEntryIsEvicted() {
+    SqlTranslationCache cache = new SqlTranslationCache(2);
+
+    cache.getOrTranslate("HR", "SELECT 1 FROM dual", 0, () -> "one");
+    cache.getOrTranslate("HR", "SELECT 2 FROM dual", 0, () -> "two");
+    // Touch the first entry so the second one becomes the eldest
+    cache.getOrTranslate("HR", "SELECT 1 FROM dual", 0, () -> "changed");
+    cache.getOrTranslate("HR", "SELECT 3 FROM dual", 0, () -> "three");
+
+    assertEquals("one", cache.getOrTranslate("HR", "SELECT 1 FROM dual", 0, () -> "changed"));
+    assertEquals("two again", cache.getOrTranslate("HR", "SELECT 2 FROM dual", 0, () -> "two again"));
+    assertTrue((Long) cache.getStatistics().get("evictions") >= 1L);
+  }
+
+  @Test
+  public void testModelReloadInvalidatesCache() {
+    SqlTranslationCache cache = new SqlTranslationCache(10);
+
+    cache.getOrTranslate("HR", "SELECT * FROM emp", 1, () -> "old");
+    String afterReload = cache.getOrTranslate("HR", "SELECT * FROM emp", 2, () -> "new");
+
+    assertEquals("new", afterReload, "Translations of an older model version must not be served");
+    assertEquals(1L, cache.getStatistics().get("invalidations"));
+  }
+
+  @Test
+  public void testFailedTranslationIsNotCached() {
+    SqlTranslationCache cache = new SqlTranslationCache(10);
+
+    assertThrows(IllegalStateException.class, () ->
+            cache.getOrTranslate("HR", "SELECT broken", 0, () -> {
+              throw new IllegalStateException("parse error");
+            }));
+    assertEquals("fixed", cache.getOrTranslate("HR", "SELECT broken", 0, () -> "fixed"));
+  }
+}
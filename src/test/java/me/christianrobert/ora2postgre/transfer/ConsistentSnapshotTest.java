@@ -0,0 +1,75 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.ScnExtractor;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import me.christianrobert.ora2postgre.transfer.strategy.StreamingCsvStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that transfer SELECTs are pinned to one Oracle SCN and that the SCN is recorded.
+ */
+public class ConsistentSnapshotTest {
+
+  @Test
+  public void testAsOfScnClause() {
+    assertEquals(" AS OF SCN 4711", ScnExtractor.asOfScnClause(4711));
+    assertEquals("", ScnExtractor.asOfScnClause(-1));
+  }
+
+  @Test
+  public void testCurrentScnFallsBackToDbmsFlashback() throws Exception {
+    Connection conn = mock(Connection.class);
+    PreparedStatement flashbackStmt = mock(PreparedStatement.class);
+    ResultSet rs = mock(ResultSet.class);
+    when(conn.prepareStatement(contains("v$database"))).thenThrow(new SQLException("ORA-00942"));
+    when(conn.prepareStatement(contains("DBMS_FLASHBACK"))).thenReturn(flashbackStmt);
+    when(flashbackStmt.executeQuery()).thenReturn(rs);
+    when(rs.next()).thenReturn(true);
+    when(rs.getLong(1)).thenReturn(123456L);
+
+    assertEquals(123456L, ScnExtractor.getCurrentScn(conn));
+  }
+
+  @Test
+  public void testSelectReadsAsOfSnapshotScn() throws Exception {
+    TableMetadata table = MockDataFactory.createSimpleTableMetadata();
+
+    Connection oracleConn = mock(Connection.class);
+    PreparedStatement selectStmt = mock(PreparedStatement.class);
+    ResultSet emptyResult = mock(ResultSet.class);
+    when(oracleConn.prepareStatement(anyString())).thenReturn(selectStmt);
+    when(selectStmt.executeQuery()).thenReturn(emptyResult);
+
+    TransferProgress progress = new TransferProgress("test");
+    progress.initializeTransfer(1, 0);
+    progress.setSnapshotScn(987654L);
+
+    TransferResult result = new StreamingCsvStrategy().transferTable(table, oracleConn, mock(Connection.class), progress, null);
+
+    assertTrue(result.isSuccessful());
+    verify(oracleConn).prepareStatement(contains(" AS OF SCN 987654"));
+  }
+
+  @Test
+  public void testScnIsRecordedInResult() {
+    TransferResult result = TransferResult.success("HR", "EMP", 10, 10, 5, "CSV Streaming")
+            .withSnapshotScn(42L);
+
+    assertEquals(42L, result.getSnapshotScn());
+    assertEquals(10, result.getRowsTransferred());
+    assertTrue(result.isSuccessful());
+    assertTrue(result.toString().endsWith("as of SCN 42"));
+  }
+}
@@ -41,10 +41,10 @@ public class ObjectTypeSqlGenerationTest {
   @DisplayName("Should generate SELECT query with quoted identifiers")
   void testSelectQueryGeneration() throws Exception {
     // Use reflection to access the private buildSelectQuery method
-    Method buildSelectQuery = ObjectTypeMappingStrategy.class.getDeclaredMethod("buildSelectQuery", TableMetadata.class);
+    Method buildSelectQuery = ObjectTypeMappingStrategy.class.getDeclaredMethod("buildSelectQuery", TableMetadata.class, long.class);
     buildSelectQuery.setAccessible(true);
 
-    String selectSql = (String) buildSelectQuery.invoke(strategy, testTable);
+    String selectSql = (String) buildSelectQuery.invoke(strategy, testTable, -1L);
 
     // Should look like: SELECT NR, "TEXT", LANGY FROM USER_ROBERT.LANGTABLE
     // Only reserved words like TEXT are quoted
@@ -0,0 +1,79 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the Oracle read-side tuning chosen from table metadata and row estimates.
+ */
+public class OracleReadTuningTest {
+
+  private static TableMetadata createTable(long estimatedRows) {
+    TableMetadata table = new TableMetadata("HR", "EMPLOYEES");
+    table.addColumn(new ColumnMetadata("ID", "NUMBER", 22, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+    ConstraintMetadata pk = new ConstraintMetadata("EMP_PK", ConstraintMetadata.PRIMARY_KEY);
+    pk.addColumnName("ID");
+    table.addConstraint(pk);
+    table.setEstimatedRowCount(estimatedRows);
+    return table;
+  }
+
+  @Test
+  public void testDisabledTuningKeepsPlainSelect() throws Exception {
+    OracleReadTuning tuning = OracleReadTuning.disabled();
+    TableMetadata table = createTable(50_000_000);
+
+    assertEquals("", tuning.buildHint(table));
+    assertEquals("", tuning.buildOrderBy(table));
+
+    PreparedStatement stmt = mock(PreparedStatement.class);
+    tuning.applyTo(stmt, table, 5000);
+    verify(stmt).setFetchSize(5000);
+  }
+
+  @Test
+  public void testSmallTablesAreReadSerially() {
+    OracleReadTuning tuning = new OracleReadTuning(true, 1_000_000, 8, false, 32768);
+
+    assertEquals("", tuning.buildHint(createTable(10_000)));
+  }
+
+  @Test
+  public void testParallelDegreeGrowsWithSizeAndIsCapped() {
+    OracleReadTuning tuning = new OracleReadTuning(true, 1_000_000, 8, false, 32768);
+
+    assertEquals(2, tuning.parallelDegree(createTable(1_000_000)));
+    assertEquals(4, tuning.parallelDegree(createTable(3_500_000)));
+    assertEquals(8, tuning.parallelDegree(createTable(500_000_000)));
+    assertEquals("/*+ FULL(EMPLOYEES) PARALLEL(4) */ ", tuning.buildHint(createTable(3_500_000)));
+  }
+
+  @Test
+  public void testOrderByPrimaryKey() {
+    OracleReadTuning tuning = new OracleReadTuning(true, 1_000_000, 8, true, 32768);
+
+    assertEquals(" ORDER BY ID", tuning.buildOrderBy(createTable(100)));
+    assertEquals("", tuning.buildOrderBy(new TableMetadata("HR", "NO_PK")));
+  }
+
+  @Test
+  public void testRowPrefetchFollowsTableShape() {
+    OracleReadTuning tuning = new OracleReadTuning(true, 1_000_000, 8, false, 32768);
+
+    // Two columns on a large table: bounded by the maximum prefetch
+    assertEquals(20000, tuning.rowPrefetch(createTable(10_000_000), false));
+    // Small tables do not need more rows than they hold, but keep a sane minimum
+    assertEquals(500, tuning.rowPrefetch(createTable(10), false));
+    // LOB tables fetch few rows per round trip
+    assertEquals(100, tuning.rowPrefetch(createTable(10_000_000), true));
+  }
+}
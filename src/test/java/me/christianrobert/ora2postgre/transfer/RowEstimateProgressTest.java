@@ -0,0 +1,88 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import me.christianrobert.ora2postgre.transfer.strategy.StreamingCsvStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that transfers rely on row estimates instead of COUNT(*) scans
+ * and that progress denominators follow the actual row counts.
+ */
+public class RowEstimateProgressTest {
+
+  @Test
+  public void testStatisticsAreUsedAsEstimate() {
+    TableMetadata table = MockDataFactory.createSimpleTableMetadata();
+    long heuristic = TableAnalyzer.estimateRowCount(table);
+
+    table.setEstimatedRowCount(42);
+
+    assertTrue(table.hasRowCountEstimate());
+    assertEquals(42, TableAnalyzer.estimateRowCount(table));
+    assertNotEquals(42, heuristic);
+  }
+
+  @Test
+  public void testDenominatorGrowsWhenEstimateIsExceeded() {
+    TransferProgress progress = new TransferProgress("test");
+    progress.initializeTransfer(2, 150);
+
+    progress.startTable("HR", "EMP", 100);
+    progress.updateCurrentTableProgress(80);
+    assertEquals(100, progress.getCurrentTableTotalRows());
+
+    progress.updateCurrentTableProgress(130);
+    assertEquals(130, progress.getCurrentTableTotalRows());
+    assertEquals(180, progress.getTotalEstimatedRows());
+
+    progress.completeTable(140);
+    assertEquals(190, progress.getTotalEstimatedRows());
+    assertEquals(140, progress.getTotalTransferredRows());
+  }
+
+  @Test
+  public void testOverestimateIsCorrectedOnCompletion() {
+    TransferProgress progress = new TransferProgress("test");
+    progress.initializeTransfer(1, 1000);
+
+    progress.startTable("HR", "EMP", 1000);
+    progress.completeTable(10);
+
+    assertEquals(10, progress.getTotalEstimatedRows());
+    assertEquals(100.0, progress.getOverallProgressPercent(), 0.001);
+  }
+
+  @Test
+  public void testCsvStrategyDoesNotCountRows() throws Exception {
+    TableMetadata table = MockDataFactory.createSimpleTableMetadata();
+    table.setEstimatedRowCount(0);
+
+    Connection oracleConn = mock(Connection.class);
+    Connection postgresConn = mock(Connection.class);
+    PreparedStatement selectStmt = mock(PreparedStatement.class);
+    ResultSet emptyResult = mock(ResultSet.class);
+    when(oracleConn.prepareStatement(anyString())).thenReturn(selectStmt);
+    when(selectStmt.executeQuery()).thenReturn(emptyResult);
+    when(emptyResult.next()).thenReturn(false);
+
+    TransferProgress progress = new TransferProgress("test");
+    progress.initializeTransfer(1, 0);
+    TransferResult result = new StreamingCsvStrategy().transferTable(table, oracleConn, postgresConn, progress, null);
+
+    assertTrue(result.isSuccessful());
+    assertEquals(0, result.getRowsTransferred());
+    verify(oracleConn, never()).prepareStatement(contains("COUNT(*)"));
+    verify(oracleConn, times(1)).prepareStatement(anyString());
+  }
+}
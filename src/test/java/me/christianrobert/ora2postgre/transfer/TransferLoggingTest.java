@@ -0,0 +1,110 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.jobs.MigrationMetrics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that per row debug lines are written with row details on and summarized per table with row details off.
+ */
+public class TransferLoggingTest {
+
+  private static Logger recordingLogger(List<String> lines) {
+    return (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(), new Class<?>[]{Logger.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("isDebugEnabled")) {
+                return true;
+              }
+              if (method.getName().equals("debug")) {
+                StringBuilder line = new StringBuilder(String.valueOf(args[0]));
+                for (int i = 1; i < args.length; i++) {
+                  Object arg = args[i];
+                  if (arg instanceof Object[]) {
+                    for (Object o : (Object[]) arg) {
+                      line.append("|").append(o);
+                    }
+                  } else {
+                    line.append("|").append(arg);
+                  }
+                }
+                lines.add(line.toString());
+              }
+              return method.getReturnType() == boolean.class ? false : null;
+            });
+  }
+
+  @Test
+  public void testRowDetailsAreWrittenWhenEnabled() {
+    List<String> lines = new ArrayList<>();
+    Logger log = recordingLogger(lines);
+    TransferLogging.setRowDetails(true);
+
+    TransferLogging.rowDebug(log, "Converting column {}", "PAYLOAD");
+    TransferLogging.logTableSummary(log, "SHOP.ORDERS");
+
+    assertEquals(List.of("Converting column {}|PAYLOAD"), lines);
+  }
+
+  @Test
+  public void testRowDetailsAreSummarizedPerTableWhenDisabled() {
+    List<String> lines = new ArrayList<>();
+    Logger log = recordingLogger(lines);
+    TransferLogging.setRowDetails(false);
+    try {
+      for (int i = 0; i < 3; i++) {
+        TransferLogging.rowDebug(log, "Converting column {}", "PAYLOAD");
+      }
+      assertTrue(lines.isEmpty());
+
+      TransferLogging.logTableSummary(log, "SHOP.ORDERS");
+      assertEquals(List.of("{}: {} x \"{}\"|SHOP.ORDERS|3|Converting column {}"), lines);
+
+      // Counts start anew for the next table
+      TransferLogging.logTableSummary(log, "SHOP.ITEMS");
+      assertEquals(1, lines.size());
+    } finally {
+      TransferLogging.setRowDetails(true);
+    }
+  }
+
+  @Test
+  public void testSettingAndCountsArePerJob() throws Exception {
+    List<String> lines = new ArrayList<>();
+    Logger log = recordingLogger(lines);
+
+    Thread quiet = new Thread(() -> {
+      MigrationMetrics.jobStarted("job-quiet", "transferdata");
+      try {
+        TransferLogging.setRowDetails(false);
+        TransferLogging.rowDebug(log, "Converting column {}", "PAYLOAD");
+      } finally {
+        MigrationMetrics.jobFinished("job-quiet");
+      }
+    });
+    quiet.start();
+    quiet.join();
+
+    Thread verbose = new Thread(() -> {
+      MigrationMetrics.jobStarted("job-verbose", "transferdata");
+      try {
+        TransferLogging.setRowDetails(true);
+        TransferLogging.rowDebug(log, "Converting column {}", "PAYLOAD");
+        TransferLogging.logTableSummary(log, "SHOP.ORDERS");
+        TransferLogging.clear();
+      } finally {
+        MigrationMetrics.jobFinished("job-verbose");
+      }
+    });
+    verbose.start();
+    verbose.join();
+
+    // The other job's setting does not silence this one, nor are its counts written here
+    assertEquals(List.of("Converting column {}|PAYLOAD"), lines);
+  }
+}
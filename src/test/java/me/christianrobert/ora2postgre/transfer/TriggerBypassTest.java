@@ -0,0 +1,187 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.Trigger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that the migrated triggers are bypassed only on tables that have them, and restored afterwards.
+ */
+public class TriggerBypassTest {
+
+  private Everything data;
+  private TableMetadata orders;
+  private TableMetadata customers;
+  private Connection postgresConn;
+  private Statement stmt;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = new Everything();
+    orders = new TableMetadata("SHOP", "ORDERS");
+    customers = new TableMetadata("SHOP", "CUSTOMERS");
+    data.getTableSql().add(orders);
+    data.getTableSql().add(customers);
+
+    Trigger audit = new Trigger("ORDERS_AUDIT", "ORDERS", "SHOP", "SHOP");
+    audit.setTriggerType("AFTER");
+    audit.setTriggeringEvent("INSERT");
+    audit.setOracleBody("BEGIN INSERT INTO order_audit (order_id) VALUES (:NEW.order_id); END;");
+    data.getTriggerAst().add(audit);
+
+    postgresConn = mock(Connection.class);
+    stmt = mock(Statement.class);
+    when(postgresConn.createStatement()).thenReturn(stmt);
+    existingTriggers("orders_audit_pg");
+  }
+
+  /**
+   * Lets pg_trigger return the given trigger names.
+   */
+  private void existingTriggers(String... names) throws SQLException {
+    PreparedStatement query = mock(PreparedStatement.class);
+    when(postgresConn.prepareStatement(contains("pg_trigger"))).thenReturn(query);
+    when(query.executeQuery()).thenAnswer(invocation -> {
+      Iterator<String> rows = List.of(names).iterator();
+      ResultSet rs = mock(ResultSet.class);
+      String[] current = new String[1];
+      when(rs.next()).thenAnswer(next -> {
+        current[0] = rows.hasNext() ? rows.next() : null;
+        return current[0] != null;
+      });
+      when(rs.getString(1)).thenAnswer(get -> current[0]);
+      return rs;
+    });
+  }
+
+  @Test
+  public void testDisableTriggerOnlyTouchesTablesWithTriggers() throws Exception {
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.DISABLE_TRIGGER, data);
+
+    bypass.disableForLoad(postgresConn, List.of(orders, customers));
+    bypass.restore(postgresConn);
+
+    InOrder inOrder = inOrder(stmt);
+    inOrder.verify(stmt).execute("ALTER TABLE SHOP.ORDERS DISABLE TRIGGER orders_audit_pg");
+    inOrder.verify(stmt).execute("ALTER TABLE SHOP.ORDERS ENABLE TRIGGER orders_audit_pg");
+    verify(stmt, times(2)).execute(anyString());
+    assertEquals(List.of("SHOP.ORDERS"), bypass.getBypassedTables());
+  }
+
+  @Test
+  public void testTriggersDisabledBeforeAFailureAreRestored() throws Exception {
+    Trigger history = new Trigger("ORDERS_HISTORY", "ORDERS", "SHOP", "SHOP");
+    history.setTriggerType("AFTER");
+    history.setTriggeringEvent("UPDATE");
+    history.setOracleBody("BEGIN INSERT INTO order_history (order_id) VALUES (:NEW.order_id); END;");
+    data.getTriggerAst().add(history);
+    existingTriggers("orders_audit_pg", "orders_history_pg");
+    when(stmt.execute("ALTER TABLE SHOP.ORDERS DISABLE TRIGGER orders_history_pg")).thenThrow(new SQLException("lock timeout"));
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.DISABLE_TRIGGER, data);
+
+    bypass.disableForLoad(postgresConn, List.of(orders));
+    bypass.restore(postgresConn);
+
+    verify(stmt).execute("ALTER TABLE SHOP.ORDERS ENABLE TRIGGER orders_audit_pg");
+    verify(stmt, never()).execute("ALTER TABLE SHOP.ORDERS ENABLE TRIGGER orders_history_pg");
+  }
+
+  @Test
+  public void testTriggersMissingInPostgresAreSkipped() throws Exception {
+    existingTriggers();
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.DISABLE_TRIGGER, data);
+
+    bypass.disableForLoad(postgresConn, List.of(orders));
+    assertFalse(bypass.disableInTransaction(postgresConn, orders));
+
+    verify(stmt, never()).execute(anyString());
+    assertTrue(bypass.getBypassedTables().isEmpty());
+  }
+
+  @Test
+  public void testReplicationRoleIsSetOnEveryLoadConnection() throws Exception {
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.REPLICATION_ROLE, data);
+    Connection partitionConn = mock(Connection.class);
+    Statement partitionStmt = mock(Statement.class);
+    when(partitionConn.createStatement()).thenReturn(partitionStmt);
+
+    bypass.disableForLoad(postgresConn, List.of(orders, customers));
+    bypass.applyToSession(partitionConn);
+    bypass.restore(postgresConn);
+
+    verify(stmt).execute("SET session_replication_role = replica");
+    verify(partitionStmt).execute("SET session_replication_role = replica");
+    verify(stmt).execute("RESET session_replication_role");
+  }
+
+  @Test
+  public void testSummaryTriggersKeepFiringWithReplicationRole() throws Exception {
+    orders.addColumn(new ColumnMetadata("CUSTOMER_ID", "NUMBER", 22, 10, 0, false, null));
+    ViewMetadata summary = new ViewMetadata("SHOP", "CUSTOMER_ORDERS");
+    summary.setRawQuery("SELECT customer_id, COUNT(*) cnt FROM orders GROUP BY customer_id");
+    summary.setMaterialized(true);
+    summary.setRefreshMethod("FAST");
+    summary.setFastRefreshable(true);
+    summary.addColumn(new ColumnMetadata("CUSTOMER_ID", "NUMBER", 22, null, null, true, null));
+    summary.addColumn(new ColumnMetadata("CNT", "NUMBER", 22, null, null, true, null));
+    data.getViewDefinition().add(summary);
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.REPLICATION_ROLE, data);
+
+    bypass.disableForLoad(postgresConn, List.of(orders, customers));
+    bypass.restore(postgresConn);
+    assertTrue(bypass.disableInTransaction(postgresConn, orders));
+
+    verify(stmt, never()).execute("SET session_replication_role = replica");
+    verify(stmt, never()).execute("SET LOCAL session_replication_role = replica");
+    verify(stmt, times(2)).execute("ALTER TABLE SHOP.ORDERS DISABLE TRIGGER orders_audit_pg");
+    verify(stmt).execute("ALTER TABLE SHOP.ORDERS ENABLE TRIGGER orders_audit_pg");
+  }
+
+  @Test
+  public void testNothingIsBypassedWithoutTriggersOrWithModeNone() throws Exception {
+    new TriggerBypass(TriggerBypassMode.DISABLE_TRIGGER, data).disableForLoad(postgresConn, List.of(customers));
+    new TriggerBypass(TriggerBypassMode.NONE, data).disableForLoad(postgresConn, List.of(orders));
+
+    verify(postgresConn, never()).createStatement();
+  }
+
+  @Test
+  public void testDeltaSyncTogglesTriggersInsideTheTransaction() throws Exception {
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.REPLICATION_ROLE, data);
+
+    assertTrue(bypass.disableInTransaction(postgresConn, orders));
+    assertFalse(bypass.disableInTransaction(postgresConn, customers));
+
+    verify(stmt).execute("SET LOCAL session_replication_role = replica");
+    verify(stmt, times(1)).execute(anyString());
+  }
+
+  @Test
+  public void testReplayScriptUsesTheSetBasedTriggerTranslation() throws Exception {
+    TriggerBypass bypass = new TriggerBypass(TriggerBypassMode.DISABLE_TRIGGER, data);
+    bypass.disableForLoad(postgresConn, List.of(orders));
+
+    String script = bypass.buildReplayScript();
+
+    assertTrue(script.contains("-- ORDERS_AUDIT on SHOP.ORDERS\n" +
+            "INSERT INTO shop.order_audit (order_id) SELECT n.order_id FROM SHOP.ORDERS n;\n"));
+  }
+}
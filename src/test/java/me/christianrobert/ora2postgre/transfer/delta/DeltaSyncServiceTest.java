@@ -0,0 +1,212 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the delta sync against a local stand-in change source and a mocked PostgreSQL connection.
+ */
+public class DeltaSyncServiceTest {
+
+  /**
+   * In-memory stand-in for the Oracle change source.
+   */
+  private static class StandInChangeSource implements ChangeSource {
+    private final long currentScn;
+    private final List<RowChange> changes = new ArrayList<>();
+    long requestedFromScn = -1;
+    long requestedToScn = -1;
+
+    StandInChangeSource(long currentScn) {
+      this.currentScn = currentScn;
+    }
+
+    @Override
+    public long getCurrentScn() {
+      return currentScn;
+    }
+
+    @Override
+    public void readChanges(TableMetadata table, long fromScn, long toScn, ChangeHandler handler) throws java.sql.SQLException {
+      requestedFromScn = fromScn;
+      requestedToScn = toScn;
+      for (RowChange change : changes) {
+        handler.accept(change);
+      }
+    }
+  }
+
+  private Connection postgresConn;
+  private PreparedStatement upsertStmt;
+  private PreparedStatement deleteStmt;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    postgresConn = mock(Connection.class);
+    upsertStmt = mock(PreparedStatement.class);
+    deleteStmt = mock(PreparedStatement.class);
+    when(postgresConn.getAutoCommit()).thenReturn(true);
+    when(postgresConn.prepareStatement(startsWith("INSERT"))).thenReturn(upsertStmt);
+    when(postgresConn.prepareStatement(startsWith("DELETE"))).thenReturn(deleteStmt);
+  }
+
+  private static TableMetadata createTable(boolean withPrimaryKey) {
+    TableMetadata table = new TableMetadata("HR", "EMP");
+    table.addColumn(new ColumnMetadata("ID", "NUMBER", 22, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+    if (withPrimaryKey) {
+      ConstraintMetadata pk = new ConstraintMetadata("EMP_PK", ConstraintMetadata.PRIMARY_KEY);
+      pk.addColumnName("ID");
+      table.addConstraint(pk);
+    }
+    return table;
+  }
+
+  @Test
+  public void testUpsertAndDeleteStatements() {
+    TableMetadata table = createTable(true);
+
+    assertEquals("INSERT INTO HR.EMP (ID, \"NAME\") VALUES (?, ?) ON CONFLICT (ID) DO UPDATE SET \"NAME\" = EXCLUDED.\"NAME\"",
+            DeltaSyncService.buildUpsertSql(table, List.of(0)));
+    assertEquals("DELETE FROM HR.EMP WHERE ID = ?", DeltaSyncService.buildDeleteSql(table, List.of(0)));
+  }
+
+  @Test
+  public void testChangesAreAppliedInOrderAndCommitted() throws Exception {
+    StandInChangeSource source = new StandInChangeSource(200);
+    source.changes.add(RowChange.upsert(new BigDecimal(1), "Alice"));
+    source.changes.add(RowChange.upsert(new BigDecimal(2), "Bob"));
+    source.changes.add(RowChange.delete(new BigDecimal(1), "Alice"));
+    source.changes.add(RowChange.upsert(new BigDecimal(1), "Alice again"));
+
+    DeltaSyncResult result = new DeltaSyncService(100)
+            .syncTables(List.of(createTable(true)), source, postgresConn, 100);
+
+    assertTrue(result.isSuccessful());
+    assertEquals(100, result.getFromScn());
+    assertEquals(200, result.getToScn());
+    assertEquals(100, source.requestedFromScn);
+    assertEquals(200, source.requestedToScn);
+    assertEquals(3, result.getTotalUpserts());
+    assertEquals(1, result.getTotalDeletes());
+
+    // The delete must be executed between the two upsert batches
+    InOrder order = inOrder(upsertStmt, deleteStmt, postgresConn);
+    order.verify(upsertStmt).executeBatch();
+    order.verify(deleteStmt).executeBatch();
+    order.verify(upsertStmt).executeBatch();
+    order.verify(postgresConn).commit();
+    verify(postgresConn).setAutoCommit(true);
+  }
+
+  @Test
+  public void testBatchesAreFlushedAtBatchSize() throws Exception {
+    StandInChangeSource source = new StandInChangeSource(10);
+    for (int i = 0; i < 5; i++) {
+      source.changes.add(RowChange.upsert(new BigDecimal(i), "name" + i));
+    }
+
+    new DeltaSyncService(2).syncTables(List.of(createTable(true)), source, postgresConn, 1);
+
+    verify(upsertStmt, times(5)).addBatch();
+    verify(upsertStmt, times(3)).executeBatch();
+  }
+
+  @Test
+  public void testTableWithoutPrimaryKeyIsSkipped() throws Exception {
+    StandInChangeSource source = new StandInChangeSource(10);
+    source.changes.add(RowChange.upsert(new BigDecimal(1), "Alice"));
+
+    DeltaSyncResult result = new DeltaSyncService().syncTables(List.of(createTable(false)), source, postgresConn, 1);
+
+    assertTrue(result.getTables().get(0).isSkipped());
+    assertEquals("no primary key", result.getTables().get(0).getSkippedReason());
+    verify(upsertStmt, never()).executeBatch();
+  }
+
+  @Test
+  public void testFailedTableIsRolledBack() throws Exception {
+    StandInChangeSource source = new StandInChangeSource(10);
+    source.changes.add(RowChange.upsert(new BigDecimal(1), "Alice"));
+    when(upsertStmt.executeBatch()).thenThrow(new java.sql.SQLException("duplicate"));
+
+    DeltaSyncResult result = new DeltaSyncService().syncTables(List.of(createTable(true)), source, postgresConn, 1);
+
+    assertFalse(result.isSuccessful());
+    verify(postgresConn).rollback();
+    verify(postgresConn, never()).commit();
+  }
+
+  @Test
+  public void testOracleChangeQueries() {
+    TableMetadata table = createTable(true);
+
+    String versions = new OracleChangeSource(null, DeltaSyncMethod.FLASHBACK_VERSIONS, null)
+            .buildChangeQuery(table, 100, 200);
+    assertTrue(versions.contains("VERSIONS BETWEEN SCN 100 AND 200"));
+    assertTrue(versions.startsWith("SELECT versions_operation, ID, \"NAME\""));
+    assertTrue(versions.endsWith("ORDER BY versions_startscn"));
+    assertTrue(versions.contains("LAG(ID) OVER (PARTITION BY ROWID ORDER BY versions_startscn NULLS FIRST) ORA2PG_OLD_KEY_1"));
+
+    String rowScn = new OracleChangeSource(null, DeltaSyncMethod.ORA_ROWSCN, null)
+            .buildChangeQuery(table, 100, 200);
+    assertEquals("SELECT ID, \"NAME\" FROM HR.EMP AS OF SCN 200 WHERE ORA_ROWSCN > 100", rowScn);
+
+    OracleChangeSource byTimestamp = new OracleChangeSource(null, DeltaSyncMethod.TIMESTAMP_COLUMN, "LAST_MODIFIED");
+    assertEquals("no timestamp column LAST_MODIFIED", byTimestamp.getUnsupportedReason(table));
+  }
+
+  @Test
+  public void testPrimaryKeyUpdateDeletesTheOldRow() throws Exception {
+    Connection oracleConn = mock(Connection.class);
+    PreparedStatement stmt = mock(PreparedStatement.class);
+    ResultSet rs = mock(ResultSet.class);
+    when(oracleConn.prepareStatement(anyString())).thenReturn(stmt);
+    when(stmt.executeQuery()).thenReturn(rs);
+    // versions_operation, ID, NAME, old ID: key 1 renamed to 2, then a plain update of key 2
+    when(rs.next()).thenReturn(true, true, false);
+    when(rs.getString(1)).thenReturn("U", "U");
+    when(rs.getBigDecimal(2)).thenReturn(new BigDecimal(2), new BigDecimal(2));
+    when(rs.getString(3)).thenReturn("Alice", "Alicia");
+    when(rs.getBigDecimal(4)).thenReturn(new BigDecimal(1), new BigDecimal("2.0"));
+
+    List<RowChange> changes = new ArrayList<>();
+    new OracleChangeSource(oracleConn, DeltaSyncMethod.FLASHBACK_VERSIONS, null)
+            .readChanges(createTable(true), 100, 200, changes::add);
+
+    assertEquals(3, changes.size());
+    assertEquals(RowChange.Operation.DELETE, changes.get(0).getOperation());
+    assertEquals(new BigDecimal(1), changes.get(0).getValues()[0]);
+    assertEquals(RowChange.Operation.UPSERT, changes.get(1).getOperation());
+    assertEquals(new BigDecimal(2), changes.get(1).getValues()[0]);
+    assertEquals(RowChange.Operation.UPSERT, changes.get(2).getOperation());
+  }
+
+  @Test
+  public void testNumericValuesAreNotReadAsStrings() throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getBigDecimal(1)).thenReturn(new BigDecimal("12.5"));
+    when(rs.getDouble(2)).thenReturn(0.25);
+
+    assertEquals(new BigDecimal("12.5"), OracleChangeSource.readValue(rs, 1,
+            new ColumnMetadata("AMOUNT", "DECIMAL", 22, 10, 2, true, null)));
+    assertEquals(0.25, OracleChangeSource.readValue(rs, 2,
+            new ColumnMetadata("RATIO", "BINARY_DOUBLE", 8, null, null, true, null)));
+    verify(rs, never()).getString(anyInt());
+  }
+}
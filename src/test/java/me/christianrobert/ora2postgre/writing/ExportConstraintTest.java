@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.writing;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.PartitionMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -174,6 +175,29 @@ class ExportConstraintTest {
     }
   }
 
+  @Test
+  void testPrimaryKeyWithoutPartitionKeyIsReported() throws IOException {
+    Everything partitionedEverything = new Everything();
+    TableMetadata table = new TableMetadata("testschema", "sales");
+    PartitionMetadata partitioning = new PartitionMetadata("RANGE", "NONE");
+    partitioning.addKeyColumn("sale_date");
+    partitioning.addPartition(new PartitionMetadata.Partition("p2024", 1, "TO_DATE(' 2025-01-01 00:00:00', 'SYYYY-MM-DD HH24:MI:SS')"));
+    table.setPartitioning(partitioning);
+
+    ConstraintMetadata primaryKey = new ConstraintMetadata("pk_sales", "P");
+    primaryKey.addColumnName("sale_id");
+    table.addConstraint(primaryKey);
+    partitionedEverything.getTableSql().add(table);
+
+    ExportConstraint.savePrimaryKeyConstraints(tempDir.toString(), partitionedEverything);
+
+    String content = Files.readString(tempDir.resolve("testschema").resolve("step8constraints")
+            .resolve("primary_keys").resolve("pk_sales.sql"));
+    assertTrue(content.contains("-- NOT CREATED: testschema.sales is partitioned"));
+    assertTrue(content.contains("missing: sale_date"));
+    assertFalse(content.contains("ALTER TABLE"));
+  }
+
   // Helper methods to create test data
 
   private TableMetadata createEmployeeTable() {
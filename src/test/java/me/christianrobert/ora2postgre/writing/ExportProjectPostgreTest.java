@@ -47,6 +47,8 @@ public class ExportProjectPostgreTest {
             "Should contain HTP_p procedure");
     assertTrue(content.contains("SYS.HTP_page()"),
             "Should contain HTP_page function");
+    assertTrue(content.contains("SYS.HTP_page_chunks()"),
+            "Should contain HTP_page_chunks function for streaming");
 
     // Check for enhanced HTP functions (from resource file)
     assertTrue(content.contains("SYS.HTP_prn") || content.contains("SYS.HTP_print"),
@@ -0,0 +1,13 @@
+CREATE PACKAGE BODY TEST_SCHEMA.MIXED_COLLECTION_PKG is  
+  TYPE pkg_string_array IS VARRAY(10) OF VARCHAR2(100);
+
+  FUNCTION test_function RETURN NUMBER IS
+    TYPE local_number_table IS TABLE OF NUMBER;
+
+    v_pkg_strings pkg_string_array := pkg_string_array('a','b');
+    v_local_numbers local_number_table := local_number_table(1, 2, 3);
+  BEGIN
+    RETURN v_pkg_strings.COUNT + v_local_numbers.COUNT;
+  END;
+end;
+/
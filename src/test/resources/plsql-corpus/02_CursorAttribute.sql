@@ -0,0 +1,23 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION complex_cursor_logic RETURN NUMBER IS
+    CURSOR emp_cursor IS SELECT id FROM employees;
+    v_id NUMBER;
+    v_count NUMBER := 0;
+  BEGIN
+    IF NOT emp_cursor%ISOPEN THEN
+      OPEN emp_cursor;
+    END IF;
+
+    LOOP
+      FETCH emp_cursor INTO v_id;
+      IF emp_cursor%FOUND THEN
+        v_count := v_count + 1;
+      END IF;
+      EXIT WHEN emp_cursor%NOTFOUND;
+    END LOOP;
+
+    CLOSE emp_cursor;
+    RETURN v_count;
+  END;
+end;
+/
@@ -0,0 +1,17 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  PROCEDURE update_salaries IS
+    CURSOR sal_cursor IS SELECT 1 as employee_id, 50000 as salary FROM testtable where nr = 1;
+    v_emp_id NUMBER;
+    v_salary NUMBER;
+  BEGIN
+    OPEN sal_cursor;
+    LOOP
+      FETCH sal_cursor INTO v_emp_id, v_salary;
+      EXIT WHEN sal_cursor%NOTFOUND;
+      -- Simulate UPDATE without table dependency
+      v_salary := v_salary * 1.1;
+    END LOOP;
+    CLOSE sal_cursor;
+  END;
+end;
+/
@@ -0,0 +1,14 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  PROCEDURE log_error(error_msg VARCHAR2) IS
+    v_count NUMBER;
+  BEGIN
+    INSERT INTO error_log VALUES (SYSDATE, error_msg);
+    SELECT COUNT(*) INTO v_count FROM error_log;
+  EXCEPTION
+    WHEN DUP_VAL_ON_INDEX THEN
+      UPDATE error_log SET message = error_msg || ' (duplicate)' WHERE ROWNUM = 1;
+    WHEN OTHERS THEN
+      NULL; -- Ignore all other errors
+  END;
+end;
+/
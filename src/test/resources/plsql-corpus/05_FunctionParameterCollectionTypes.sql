@@ -0,0 +1,20 @@
+CREATE PACKAGE TEST_SCHEMA.TESTPACKAGE is  
+  TYPE global_string_array IS VARRAY(100) OF VARCHAR2(200);
+  TYPE global_number_table IS TABLE OF NUMBER;
+
+  FUNCTION process_global_data(input_names global_string_array, input_numbers global_number_table) 
+    return number;
+end;
+/
+
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION process_global_data(input_names global_string_array, input_numbers global_number_table) 
+    return number
+  is 
+    result_count number := 0;
+  begin 
+    result_count := input_names.COUNT + input_numbers.COUNT;
+    return result_count;
+  end;
+end;
+/
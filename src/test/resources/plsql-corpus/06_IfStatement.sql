@@ -0,0 +1,14 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION audittrigger( pAction varchar2, pId number ) 
+    return varchar2
+  is 
+  begin 
+    if pAction = 'INSERT' then
+      insert into audit_table (action, table_id, timestamp) values ('INSERT', pId, sysdate);
+    elsif pAction = 'UPDATE' then
+      insert into audit_table (action, table_id, timestamp) values ('UPDATE', pId, sysdate);
+    end if;
+    return 'OK';
+  end;
+end;
+/
@@ -0,0 +1,16 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION triggerfunc( pAction varchar2, pId number, pName varchar2 ) 
+    return varchar2
+  is 
+  begin 
+    if pAction = 'INSERT' then
+      insert into audit_table (action, table_id, table_name, timestamp) 
+      values ('INSERT', pId, pName, sysdate);
+    elsif pAction = 'UPDATE' then
+      insert into audit_table (action, table_id, table_name, timestamp) 
+      values ('UPDATE', pId, pName, sysdate);
+    end if;
+    return 'OK';
+  end;
+end;
+/
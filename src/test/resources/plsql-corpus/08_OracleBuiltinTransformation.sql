@@ -0,0 +1,23 @@
+CREATE OR REPLACE PACKAGE BODY test_schema.error_test AS
+  PROCEDURE test_errors IS
+  BEGIN
+    -- Test RAISE_APPLICATION_ERROR with error code and message
+    IF some_condition THEN
+      RAISE_APPLICATION_ERROR(-20001, 'Custom error message');
+    END IF;
+
+    -- Test RAISE_APPLICATION_ERROR with just message
+    IF other_condition THEN
+      RAISE_APPLICATION_ERROR('Simple error');
+    END IF;
+
+    -- Test nested in complex statement
+    BEGIN
+      some_operation();
+    EXCEPTION
+      WHEN OTHERS THEN
+        RAISE_APPLICATION_ERROR(-20999, 'Nested error in exception handler');
+    END;
+  END test_errors;
+END error_test;
+/
@@ -0,0 +1,25 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  PROCEDURE test_procedure(p_id NUMBER) IS
+    v_count NUMBER;
+  BEGIN
+    SELECT COUNT(*) INTO v_count FROM dual WHERE 1 = p_id;
+
+    IF v_count = 0 THEN
+      RAISE NO_DATA_FOUND;
+    ELSIF v_count > 1 THEN
+      RAISE TOO_MANY_ROWS;  
+    END IF;
+
+    INSERT INTO log_table VALUES (p_id, 'SUCCESS');
+  EXCEPTION
+    WHEN NO_DATA_FOUND THEN
+      INSERT INTO log_table VALUES (p_id, 'NO_DATA');
+      RAISE;  -- Re-raise to caller
+    WHEN TOO_MANY_ROWS THEN  
+      RAISE PROGRAM_ERROR;  -- Raise different exception
+    WHEN OTHERS THEN
+      INSERT INTO log_table VALUES (p_id, 'ERROR');
+      RAISE;  -- Re-raise any other exception
+  END;
+end;
+/
@@ -0,0 +1,57 @@
+CREATE PACKAGE BODY TEST_SCHEMA.INTEGRATION_TEST_PKG is  
+
+  -- Package-level record type
+  TYPE employee_record IS RECORD (
+    emp_id NUMBER,
+    emp_name VARCHAR2(100),
+    hire_date DATE DEFAULT SYSDATE,
+    is_active BOOLEAN DEFAULT TRUE
+  );
+
+  TYPE department_record IS RECORD (
+    dept_id NUMBER,
+    dept_name VARCHAR2(50),
+    emp_count NUMBER DEFAULT 0
+  );
+
+  FUNCTION get_employee_info(p_emp_id NUMBER) RETURN NUMBER IS
+    -- Function-level record type
+    TYPE temp_record IS RECORD (
+      temp_id NUMBER,
+      temp_value VARCHAR2(50)
+    );
+
+    v_emp employee_record;
+    v_temp temp_record;
+    v_dept_info departments%ROWTYPE;
+  BEGIN
+    v_emp.emp_id := p_emp_id;
+    v_emp.emp_name := 'Test Employee';
+    v_temp.temp_id := 1;
+    v_temp.temp_value := 'Temporary';
+
+    SELECT * INTO v_dept_info FROM departments WHERE department_id = 10;
+
+    RETURN v_emp.emp_id;
+  END;
+
+  PROCEDURE update_employee_data(p_emp_id NUMBER) IS
+    -- Procedure-level record type
+    TYPE audit_record IS RECORD (
+      audit_id NUMBER,
+      operation VARCHAR2(20),
+      timestamp DATE DEFAULT SYSDATE
+    );
+
+    v_emp employee_record;
+    v_audit audit_record;
+  BEGIN
+    v_emp.emp_id := p_emp_id;
+    v_audit.audit_id := 1001;
+    v_audit.operation := 'UPDATE';
+
+    UPDATE employees SET last_name = v_emp.emp_name WHERE employee_id = p_emp_id;
+  END;
+
+end;
+/
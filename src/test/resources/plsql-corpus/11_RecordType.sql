@@ -0,0 +1,28 @@
+CREATE PACKAGE BODY TEST_SCHEMA.COMPLEX_RECORD_PKG is  
+  TYPE address_rec IS RECORD (
+    street VARCHAR2(100),
+    city VARCHAR2(50),
+    zip_code VARCHAR2(10)
+  );
+
+  TYPE employee_rec IS RECORD (
+    emp_id NUMBER,
+    name VARCHAR2(100),
+    address address_rec,
+    department departments%ROWTYPE
+  );
+
+  FUNCTION process_employee(p_emp_id NUMBER) RETURN VARCHAR2 IS
+    v_employee employee_rec;
+    v_temp_emp employees%ROWTYPE;
+  BEGIN
+    v_employee.emp_id := p_emp_id;
+    v_employee.name := 'Test Employee';
+    v_employee.address.street := '123 Main St';
+
+    SELECT * INTO v_temp_emp FROM employees WHERE employee_id = p_emp_id;
+
+    RETURN v_employee.name;
+  END;
+end;
+/
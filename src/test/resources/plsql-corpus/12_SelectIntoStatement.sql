@@ -0,0 +1,16 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION getemployeestatus( pId number, pCheckActive varchar2 ) 
+    return varchar2
+  is 
+    vName varchar2(100);
+    vStatus varchar2(50);
+  begin 
+    if pCheckActive = 'Y' then
+      select first_name into vName from employees where employee_id = pId and status = 'ACTIVE';
+    else
+      select first_name into vName from employees where employee_id = pId;
+    end if;
+    return vName;
+  end;
+end;
+/
@@ -0,0 +1,24 @@
+CREATE PACKAGE BODY TEST_SCHEMA.ASSIGNMENT_TEST_PKG AS
+  PROCEDURE test_assignment IS
+    TYPE employee_rec IS RECORD (
+      emp_id NUMBER,
+      emp_name VARCHAR2(100)
+    );
+
+    TYPE employee_tab IS TABLE OF employee_rec INDEX BY PLS_INTEGER;
+    l_employees employee_tab;
+    l_emp employee_rec;
+  BEGIN
+    -- Test individual field assignments - should be JSONB operations
+    l_emp.emp_id := 123;
+    l_emp.emp_name := 'John Doe';
+
+    -- Test table of records assignment - Phase 1.8 transformation
+    l_employees(5) := l_emp;
+    l_employees(1000) := l_emp;
+
+    -- This demonstrates the concatenation parsing issue
+    htp.p('Employee: ID = ' || l_employees(5).emp_id || ', Name = ' || l_employees(5).emp_name);
+  END;
+END;
+/
@@ -0,0 +1,23 @@
+CREATE PACKAGE BODY TEST_SCHEMA.VARIABLE_TRANSFORM_PKG is  
+  PROCEDURE test_variable_declarations IS
+    -- Define record type
+    TYPE employee_rec IS RECORD (
+      emp_id NUMBER,
+      emp_name VARCHAR2(100)
+    );
+
+    -- Test different collection patterns
+    TYPE employee_tab IS TABLE OF employee_rec INDEX BY PLS_INTEGER;
+    TYPE employee_list IS TABLE OF employee_rec;
+    TYPE employee_array IS TABLE OF employee_rec INDEX BY VARCHAR2(50);
+
+    -- Declare variables
+    l_employees employee_tab;
+    l_emp_list employee_list;
+    l_emp_array employee_array;
+    v_regular_var NUMBER;
+  BEGIN
+    NULL;
+  END;
+end;
+/
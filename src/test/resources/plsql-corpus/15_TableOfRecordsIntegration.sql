@@ -0,0 +1,33 @@
+CREATE PACKAGE BODY TEST_SCHEMA.EMPLOYEE_MANAGEMENT_PKG is  
+  PROCEDURE manage_employee_data IS
+    -- Define record type at block level
+    TYPE employee_rec IS RECORD (
+      emp_id NUMBER,
+      emp_name VARCHAR2(100),
+      department VARCHAR2(50),
+      salary NUMBER DEFAULT 0
+    );
+
+    -- Define different collection types
+    TYPE employee_tab IS TABLE OF employee_rec INDEX BY PLS_INTEGER;
+    TYPE employee_list IS TABLE OF employee_rec;
+    TYPE employee_map IS TABLE OF employee_rec INDEX BY VARCHAR2(20);
+
+    -- Declare collection variables
+    l_employees employee_tab;
+    l_emp_list employee_list;
+    l_emp_by_name employee_map;
+
+    -- Regular variables for comparison
+    v_count NUMBER := 0;
+    v_total_salary NUMBER;
+
+    -- Individual record variable
+    l_single_emp employee_rec;
+  BEGIN
+    -- This procedure body will be enhanced in future steps
+    -- For now, just test the declarations
+    NULL;
+  END;
+end;
+/
@@ -0,0 +1,14 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION triggerfunc( pAction varchar2, pId number, pNewStatus varchar2 ) 
+    return varchar2
+  is 
+  begin 
+    if pAction = 'UPDATE' then
+      update status_table set status = pNewStatus, updated_at = sysdate where id = pId;
+    elsif pAction = 'ARCHIVE' then
+      update status_table set status = 'ARCHIVED', archived_at = sysdate where id = pId;
+    end if;
+    return 'OK';
+  end;
+end;
+/
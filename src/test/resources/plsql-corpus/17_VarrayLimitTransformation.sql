@@ -0,0 +1,25 @@
+CREATE OR REPLACE PACKAGE BODY test_schema.limit_test AS
+  PROCEDURE test_right_limit IS
+  BEGIN
+    -- Case 1: something < arr.LIMIT (should become TRUE)
+    IF arr_count < arr.LIMIT THEN
+      result := 'less than limit';
+    END IF;
+
+    -- Case 2: something > arr.LIMIT (should become FALSE) 
+    IF arr_count > arr.LIMIT THEN
+      result := 'greater than limit';
+    END IF;
+
+    -- Case 3: something = arr.LIMIT (should become FALSE)
+    IF arr_count = arr.LIMIT THEN
+      result := 'equals limit';
+    END IF;
+
+    -- Case 4: something >= arr.LIMIT (should become FALSE)
+    IF arr_count >= arr.LIMIT THEN
+      result := 'greater or equal to limit';
+    END IF;
+  END test_right_limit;
+END limit_test;
+/
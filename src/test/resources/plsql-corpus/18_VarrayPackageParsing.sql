@@ -0,0 +1,29 @@
+-- Package body
+CREATE OR REPLACE PACKAGE BODY user_robert.pkg_varray_example AS
+
+  PROCEDURE add_number(p_number IN NUMBER) IS
+  BEGIN
+    IF g_numbers IS NULL THEN
+      g_numbers := t_numbers(4,5,6); -- Initialize varray
+    END IF;
+
+    IF g_numbers.COUNT < g_numbers.LIMIT THEN
+      g_numbers.EXTEND; -- Add new element
+      g_numbers(g_numbers.COUNT) := p_number;
+    ELSE
+      RAISE_APPLICATION_ERROR(-20001, 'Varray limit reached');
+    END IF;
+  END add_number;
+
+  PROCEDURE display_numbers IS
+  BEGIN
+    IF g_numbers IS NOT NULL AND g_numbers.COUNT > 0 THEN
+      FOR i IN 1..g_numbers.COUNT LOOP
+        htp.p('Number ' || i || ': ' || g_numbers(i));
+      END LOOP;
+    ELSE
+      htp.p('No numbers in varray');
+    END IF;
+  END display_numbers;
+END pkg_varray_example;
+/
@@ -0,0 +1,21 @@
+CREATE PACKAGE BODY TEST_SCHEMA.TESTPACKAGE is  
+  FUNCTION processData( pMinAge number ) 
+    return varchar2
+  is 
+  begin 
+    -- First FOR loop with variable "r"
+    for r in ( select name from TEST_SCHEMA.USERS where age > pMinAge )
+    loop
+      return r.name;
+    end loop;
+
+    -- Second FOR loop with the same variable name "r"
+    for r in ( select title from TEST_SCHEMA.JOBS where active = 1 )
+    loop
+      return r.title;
+    end loop;
+
+    return null;
+  end;
+end;
+/